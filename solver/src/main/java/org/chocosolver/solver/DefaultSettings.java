@@ -67,6 +67,14 @@ public class DefaultSettings implements Settings {
 
     private IntPredicate enableIncrementalityOnBoolSum = i -> i > 10;
 
+    private IntPredicate enableIncrementalityOnSum = i -> i > 10;
+
+    private boolean enableLinearPresolve = false;
+
+    private boolean enableExpressionSharing = true;
+
+    private boolean enableLinearRelaxation = false;
+
     private boolean cloneVariableArrayInPropagator = true;
 
     private String defaultPrefix = DEFAULT_PREFIX;
@@ -95,6 +103,8 @@ public class DefaultSettings implements Settings {
 
     private boolean ibexRestoreRounding = Ibex.PRESERVE_ROUNDING;
 
+    private boolean enableNativeRealPropagation = true;
+
     private Function<Model, Solver> initSolver = Solver::new;
 
 
@@ -274,6 +284,50 @@ public class DefaultSettings implements Settings {
         return this;
     }
 
+    @Override
+    public boolean enableIncrementalityOnSum(int nbvars) {
+        return enableIncrementalityOnSum.test(nbvars);
+    }
+
+    @Override
+    public DefaultSettings setEnableIncrementalityOnSum(IntPredicate enableIncrementalityOnSum) {
+        this.enableIncrementalityOnSum = enableIncrementalityOnSum;
+        return this;
+    }
+
+    @Override
+    public boolean enableLinearPresolve() {
+        return enableLinearPresolve;
+    }
+
+    @Override
+    public DefaultSettings setEnableLinearPresolve(boolean enableLinearPresolve) {
+        this.enableLinearPresolve = enableLinearPresolve;
+        return this;
+    }
+
+    @Override
+    public boolean enableExpressionSharing() {
+        return enableExpressionSharing;
+    }
+
+    @Override
+    public DefaultSettings setEnableExpressionSharing(boolean enableExpressionSharing) {
+        this.enableExpressionSharing = enableExpressionSharing;
+        return this;
+    }
+
+    @Override
+    public boolean enableLinearRelaxation() {
+        return enableLinearRelaxation;
+    }
+
+    @Override
+    public DefaultSettings setEnableLinearRelaxation(boolean enableLinearRelaxation) {
+        this.enableLinearRelaxation = enableLinearRelaxation;
+        return this;
+    }
+
     @Override
     public boolean cloneVariableArrayInPropagator() {
         return cloneVariableArrayInPropagator;
@@ -449,4 +503,15 @@ public class DefaultSettings implements Settings {
     public boolean getIbexRestoreRounding() {
         return ibexRestoreRounding;
     }
+
+    @Override
+    public boolean enableNativeRealPropagation() {
+        return enableNativeRealPropagation;
+    }
+
+    @Override
+    public DefaultSettings setEnableNativeRealPropagation(boolean enableNativeRealPropagation) {
+        this.enableNativeRealPropagation = enableNativeRealPropagation;
+        return this;
+    }
 }
@@ -15,6 +15,7 @@ import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.ConstraintsName;
 import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.extension.TuplesStore;
 import org.chocosolver.solver.constraints.nary.clauses.ClauseBuilder;
 import org.chocosolver.solver.constraints.nary.clauses.ClauseConstraint;
 import org.chocosolver.solver.constraints.nary.cnf.PropFalse;
@@ -24,6 +25,7 @@ import org.chocosolver.solver.constraints.nary.nogood.NogoodConstraint;
 import org.chocosolver.solver.constraints.real.IbexHandler;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.expression.ExpressionStore;
 import org.chocosolver.solver.objective.IObjectiveManager;
 import org.chocosolver.solver.objective.ObjectiveFactory;
 import org.chocosolver.solver.propagation.PropagationEngine;
@@ -74,6 +76,16 @@ public class Model implements IModel {
 
     public static final String IBEX_HOOK_NAME = "H_IBEX";
 
+    /**
+     * Name of internal hook dedicated to store the relations of extension constraints.
+     */
+    public static final String TUPLES_STORE_HOOK_NAME = "H_TUPLESSTORE";
+
+    /**
+     * Name of internal hook dedicated to store the variables standing for expressions.
+     */
+    public static final String EXPRESSION_STORE_HOOK_NAME = "H_EXPRESSIONSTORE";
+
     /**
      * Settings to use with this solver
      */
@@ -566,6 +578,32 @@ public class Model implements IModel {
         return (SatConstraint) getHook(MINISAT_HOOK_NAME);
     }
 
+    /**
+     * Returns the store of relations shared among extension constraints of this model.
+     * A call to this method will create the store if it does not exist already.
+     *
+     * @return the store of relations
+     */
+    public TuplesStore getTuplesStore() {
+        if (getHook(TUPLES_STORE_HOOK_NAME) == null) {
+            addHook(TUPLES_STORE_HOOK_NAME, new TuplesStore());
+        }
+        return (TuplesStore) getHook(TUPLES_STORE_HOOK_NAME);
+    }
+
+    /**
+     * Returns the store of variables shared among expressions of this model.
+     * A call to this method will create the store if it does not exist already.
+     *
+     * @return the store of expressions
+     */
+    public ExpressionStore getExpressionStore() {
+        if (getHook(EXPRESSION_STORE_HOOK_NAME) == null) {
+            addHook(EXPRESSION_STORE_HOOK_NAME, new ExpressionStore(settings.enableExpressionSharing()));
+        }
+        return (ExpressionStore) getHook(EXPRESSION_STORE_HOOK_NAME);
+    }
+
     /**
      * Unpost minisat constraint from model, if any.
      */
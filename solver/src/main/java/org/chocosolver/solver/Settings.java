@@ -45,6 +45,7 @@ public interface Settings {
      *    <li>{@link #setInitSolver(Function)}        </li>
      *    <li>{@link #setEnvironmentHistorySimulationCondition(ICondition)}</li>
      *    <li>{@link #setEnableIncrementalityOnBoolSum(IntPredicate)}           </li>
+     *    <li>{@link #setEnableIncrementalityOnSum(IntPredicate)}           </li>
      * </ul>
      * @param properties a property file to load setting from.
      * @return the current instance
@@ -60,6 +61,12 @@ public interface Settings {
                 "sum.decomposition.threshold", this.getMinCardForSumDecomposition()).toString()));
         this.setEnableTableSubstitution(Boolean.parseBoolean(properties.getOrDefault(
                 "table.substitution", enableTableSubstitution()).toString()));
+        this.setEnableLinearPresolve(Boolean.parseBoolean(properties.getOrDefault(
+                "sum.presolve", enableLinearPresolve()).toString()));
+        this.setEnableExpressionSharing(Boolean.parseBoolean(properties.getOrDefault(
+                "expressions.sharing", enableExpressionSharing()).toString()));
+        this.setEnableLinearRelaxation(Boolean.parseBoolean(properties.getOrDefault(
+                "lp.relaxation", enableLinearRelaxation()).toString()));
         this.setMCRDecimalPrecision(Double.parseDouble(properties.getOrDefault(
                 "MCR.precision", this.getMCRDecimalPrecision()).toString()));
         this.setMaxTupleSizeForSubstitution(Integer.parseInt(properties.getOrDefault(
@@ -96,6 +103,8 @@ public interface Settings {
                 "constraints.ibex.contractionRation", this.getIbexContractionRatio()).toString()));
         this.setIbexRestoreRounding(Boolean.parseBoolean(properties.getOrDefault(
                 "constraints.ibex.restoreRounding", this.getIbexRestoreRounding()).toString()));
+        this.setEnableNativeRealPropagation(Boolean.parseBoolean(properties.getOrDefault(
+                "constraints.real.native", this.enableNativeRealPropagation()).toString()));
         return this;
     }
 
@@ -108,6 +117,7 @@ public interface Settings {
      *    <li>{@link #setInitSolver(Function)}        </li>
      *    <li>{@link #setEnvironmentHistorySimulationCondition(ICondition)}</li>
      *    <li>{@link #setEnableIncrementalityOnBoolSum(IntPredicate)}           </li>
+     *    <li>{@link #setEnableIncrementalityOnSum(IntPredicate)}           </li>
      * </ul>
      * @param      inStream   the input stream.
      * @exception IOException  if an error occurred when reading from the
@@ -132,6 +142,7 @@ public interface Settings {
      *    <li>{@link #setInitSolver(Function)}        </li>
      *    <li>{@link #setEnvironmentHistorySimulationCondition(ICondition)}</li>
      *    <li>{@link #setEnableIncrementalityOnBoolSum(IntPredicate)}           </li>
+     *    <li>{@link #setEnableIncrementalityOnSum(IntPredicate)}           </li>
      * </ul>
      * @return the property file
      */
@@ -142,6 +153,9 @@ public interface Settings {
         properties.setProperty("enumerated.threshold", Integer.toString(this.getMaxDomSizeForEnumerated()));
         properties.setProperty("sum.decomposition.threshold", Integer.toString(this.getMinCardForSumDecomposition()));
         properties.setProperty("table.substitution", Boolean.toString(this.enableTableSubstitution()));
+        properties.setProperty("sum.presolve", Boolean.toString(this.enableLinearPresolve()));
+        properties.setProperty("expressions.sharing", Boolean.toString(this.enableExpressionSharing()));
+        properties.setProperty("lp.relaxation", Boolean.toString(this.enableLinearRelaxation()));
         properties.setProperty("MCR.precision", Double.toString(this.getMCRDecimalPrecision()));
         properties.setProperty("tuple.threshold", Integer.toString(this.getMaxTupleSizeForSubstitution()));
         properties.setProperty("propagators.sort", Boolean.toString(this.sortPropagatorActivationWRTPriority()));
@@ -161,6 +175,7 @@ public interface Settings {
         properties.setProperty("learnt.sum.global", Boolean.toString(this.explainGlobalFailureInSum()));
         properties.setProperty("constraints.ibex.contractionRation", Double.toString(this.getIbexContractionRatio()));
         properties.setProperty("constraints.ibex.restoreRounding", Boolean.toString(this.getIbexRestoreRounding()));
+        properties.setProperty("constraints.real.native", Boolean.toString(this.enableNativeRealPropagation()));
         return properties;
     }
 
@@ -173,6 +188,7 @@ public interface Settings {
      *    <li>{@link #setInitSolver(Function)}        </li>
      *    <li>{@link #setEnvironmentHistorySimulationCondition(ICondition)}</li>
      *    <li>{@link #setEnableIncrementalityOnBoolSum(IntPredicate)}           </li>
+     *    <li>{@link #setEnableIncrementalityOnSum(IntPredicate)}           </li>
      * </ul>
      * @param   out      an output stream.
      * @param   comments   a description of the property list.
@@ -383,6 +399,64 @@ public interface Settings {
      */
     Settings setEnableIncrementalityOnBoolSum(IntPredicate enableIncrementalityOnBoolSum);
 
+    /**
+     * @param nbvars number of variables in the constraint
+     * @return {@code true} if the incrementality is enabled on integer sum and scalar product,
+     * based on the number of variables involved.
+     */
+    boolean enableIncrementalityOnSum(int nbvars);
+
+    /**
+     * Define the predicate to choose incremental sum and scalar product, based on number variables declared.
+     * An incremental sum maintains sums of bounds on each bound modification and only filters variables
+     * when one of them may be filtered.
+     * @param enableIncrementalityOnSum predicate to pick declare sum
+     * @return the current instance
+     */
+    Settings setEnableIncrementalityOnSum(IntPredicate enableIncrementalityOnSum);
+
+    /**
+     * @return {@code true} if linear constraints are presolved before the initial propagation
+     */
+    boolean enableLinearPresolve();
+
+    /**
+     * Define whether linear constraints are presolved before the initial propagation,
+     * see {@link org.chocosolver.solver.constraints.nary.sum.LinearPresolver}.
+     * The presolve may replace some linear constraints by equivalent ones, thus constraints should not be
+     * unposted once the resolution started.
+     * @param enableLinearPresolve set to {@code true} to presolve linear constraints
+     * @return the current instance
+     */
+    Settings setEnableLinearPresolve(boolean enableLinearPresolve);
+
+    /**
+     * @return {@code true} if equal subexpressions of a model are represented by a single variable
+     */
+    boolean enableExpressionSharing();
+
+    /**
+     * Define whether equal subexpressions of a model are represented by a single variable,
+     * see {@link org.chocosolver.solver.expression.ExpressionStore}.
+     * @param enableExpressionSharing set to {@code true} to share subexpressions
+     * @return the current instance
+     */
+    Settings setEnableExpressionSharing(boolean enableExpressionSharing);
+
+    /**
+     * @return {@code true} if the linear relaxation of the model bounds the objective variable
+     */
+    boolean enableLinearRelaxation();
+
+    /**
+     * Define whether, in an optimization problem, the linear relaxation of the linear constraints
+     * is solved during search to bound the objective variable and to filter the other ones,
+     * see {@link org.chocosolver.solver.constraints.nary.sum.PropLinearRelaxation}.
+     * @param enableLinearRelaxation set to {@code true} to add the linear relaxation
+     * @return the current instance
+     */
+    Settings setEnableLinearRelaxation(boolean enableLinearRelaxation);
+
     /**
      * @return true if all propagators should clone the input variable array instead of simply referencing it.
      */
@@ -649,4 +723,21 @@ public interface Settings {
      */
     boolean getIbexRestoreRounding();
 
+    /**
+     * @return {@code true} if real expressions are decomposed into equations filtered in pure Java
+     * (HC4) instead of Ibex constraints.
+     */
+    boolean enableNativeRealPropagation();
+
+    /**
+     * Define whether intermediate variables created when decomposing a real expression
+     * (see {@link org.chocosolver.solver.expression.continuous.arithmetic.CArExpression#realVar(double)})
+     * are constrained by an {@link org.chocosolver.solver.expression.continuous.relational.PropEquation}
+     * or by an Ibex constraint.
+     * Operators not supported by the former (TAN, ATAN2 and POW with a non-integer exponent) always rely on Ibex.
+     * @param enableNativeRealPropagation set to {@code true} to avoid calls to Ibex when possible
+     * @return the current instance
+     */
+    Settings setEnableNativeRealPropagation(boolean enableNativeRealPropagation);
+
 }
@@ -11,6 +11,9 @@ package org.chocosolver.solver;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.ConstraintsName;
+import org.chocosolver.solver.constraints.nary.sum.LinearPresolver;
+import org.chocosolver.solver.constraints.nary.sum.PropLinearRelaxation;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.InvalidSolutionException;
 import org.chocosolver.solver.exception.SolverException;
@@ -237,6 +240,16 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
      */
     private Solution lastSol = null;
 
+    /**
+     * What the presolve of linear constraints did, <tt>null</tt> if not run
+     */
+    private LinearPresolver.Report presolveReport = null;
+
+    /**
+     * The linear relaxation of the model, <tt>null</tt> if not added
+     */
+    private Constraint linearRelaxation = null;
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -389,7 +402,7 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
                 }
             }
         }
-        engine.initialize();
+        initializeEngine();
         getMeasures().setReadingTimeCount(System.nanoTime() - mModel.getCreationTime());
         // end note
 
@@ -417,6 +430,7 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         } catch (ContradictionException ce) {
             engine.flush();
             mMeasures.incFailCount();
+            mMeasures.recordLeaf(0);
             searchMonitors.onContradiction(ce);
             L.record(this);
             L.forget(this);
@@ -462,6 +476,7 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         } catch (ContradictionException ce) {
             engine.flush();
             mMeasures.incFailCount();
+            mMeasures.recordLeaf(dpath.size() - 1);
             jumpTo = 1;
             action = repair;
             searchMonitors.onContradiction(ce);
@@ -538,6 +553,7 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         }
         feasible = TRUE;
         mMeasures.incSolutionCount();
+        mMeasures.recordLeaf(dpath.size() - 1);
         if (mModel.getResolutionPolicy() == ResolutionPolicy.SATISFACTION && mMeasures.getSolutionCount() == 1) {
             mMeasures.updateTimeToBestSolution();
         } else if (mModel.getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
@@ -660,7 +676,7 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
      */
     public void propagate() throws ContradictionException {
         if (!engine.isInitialized()) {
-            engine.initialize();
+            initializeEngine();
         }
         if (mModel.getHook(Model.TASK_SET_HOOK_NAME) != null) {
             ArrayList<Task> tset = (ArrayList<Task>) mModel.getHook(Model.TASK_SET_HOOK_NAME);
@@ -698,6 +714,7 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         restoreRootNode();
         mModel.getEnvironment().worldPush();
         getMeasures().incRestartCount();
+        getMeasures().resetTreeSizeEstimates();
         try {
             objectivemanager.postDynamicCut();
             mMeasures.incFixpointCount();
@@ -769,7 +786,7 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
      */
     public boolean moveForward(Decision decision) {
         if (!engine.isInitialized()) {
-            engine.initialize();
+            initializeEngine();
         }
         if (this.getEnvironment().getWorldIndex() == 0) {
             this.getEnvironment().worldPush();
@@ -1001,6 +1018,34 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         return eventObserver;
     }
 
+    /**
+     * Presolve linear constraints and add their linear relaxation, when enabled in settings,
+     * then initialize the propagation engine.
+     */
+    private void initializeEngine() {
+        if (!engine.isInitialized()) {
+            if (mModel.getSettings().enableLinearPresolve()) {
+                presolveReport = new LinearPresolver(mModel).presolve();
+            }
+            if (mModel.getSettings().enableLinearRelaxation() && linearRelaxation == null) {
+                PropLinearRelaxation relaxation = PropLinearRelaxation.build(mModel);
+                if (relaxation != null) {
+                    linearRelaxation = new Constraint(ConstraintsName.LINEARRELAXATION, relaxation);
+                    linearRelaxation.post();
+                }
+            }
+        }
+        engine.initialize();
+    }
+
+    /**
+     * @return what the presolve of linear constraints did, <tt>null</tt> if it was not run
+     * @see Settings#enableLinearPresolve()
+     */
+    public LinearPresolver.Report getPresolveReport() {
+        return presolveReport;
+    }
+
     /**
      * @return the propagation engine used in {@code this}.
      */
@@ -1334,6 +1379,11 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         return getMeasures().getTimeCountInNanoSeconds();
     }
 
+    @Override
+    public long getTimeCountSinceLastRestartInNanoSeconds() {
+        return getMeasures().getTimeCountSinceLastRestartInNanoSeconds();
+    }
+
     @Override
     public long getTimeToBestSolutionInNanoSeconds() {
         return getMeasures().getTimeToBestSolutionInNanoSeconds();
@@ -1399,6 +1449,26 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         return getDecisionPath().size();
     }
 
+    @Override
+    public double getSearchProgress() {
+        return getMeasures().getSearchProgress();
+    }
+
+    @Override
+    public double getTreeSizeEstimate() {
+        return getMeasures().getTreeSizeEstimate();
+    }
+
+    @Override
+    public double getLeafDepthTreeSizeEstimate() {
+        return getMeasures().getLeafDepthTreeSizeEstimate();
+    }
+
+    @Override
+    public long getImplicationGraphPeakSize() {
+        return getMeasures().getImplicationGraphPeakSize();
+    }
+
     @Override
     public boolean hasObjective() {
         return getMeasures().hasObjective();
@@ -16,6 +16,7 @@ import org.chocosolver.solver.constraints.unary.PropGreaterOrEqualXC;
 import org.chocosolver.solver.constraints.unary.PropLessOrEqualXC;
 import org.chocosolver.solver.constraints.unary.PropNotEqualXC;
 import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 
 /**
@@ -175,4 +176,116 @@ public class Arithmetic extends Constraint {
 			}
 		}
 	}
+
+	/**
+	 * @return true if this constraint compares a variable with a constant or with another variable (plus a constant),
+	 * and is neither posted nor reified yet, so that it can be reified by a dedicated propagator
+	 */
+	private boolean isPrimitive() {
+		return boolReif == null && getStatus() == Status.FREE && (vars.length == 1 || op1 != Operator.PL);
+	}
+
+	/**
+	 * @return the comparison operator of <i>X op Y + C</i>, or of <i>X op C</i>
+	 */
+	private Operator comparison() {
+		return op1 == Operator.MN ? op2 : op1;
+	}
+
+	/**
+	 * @return the constant of <i>X op Y + C</i>, or of <i>X op C</i>
+	 */
+	private int offset() {
+		if (vars.length == 1 || op1 == Operator.MN) {
+			return cste;
+		}
+		return op2 == Operator.PL ? cste : -cste;
+	}
+
+	/**
+	 * Reify this constraint with <i>bool</i>, or with a shared variable if <i>bool</i> is null,
+	 * by turning it into either (X = Y + C), (X &lt; Y + C) or their negation.
+	 *
+	 * @return the variable reifying this constraint
+	 */
+	private BoolVar reifyPrimitive(BoolVar bool) {
+		Model model = vars[0].getModel();
+		Operator op = comparison();
+		int c = offset();
+		boolean eq = op == Operator.EQ || op == Operator.NQ;
+		boolean neg = op == Operator.NQ || op == Operator.GT || op == Operator.GE;
+		if (op == Operator.LE || op == Operator.GT) {
+			c++;
+		}
+		BoolVar b = bool == null ? null : neg ? bool.not() : bool;
+		if (vars.length == 1) {
+			if (b == null) {
+				b = eq ? model.reifyXeqC(vars[0], c) : model.reifyXltC(vars[0], c);
+			} else if (eq) {
+				model.reifyXeqC(vars[0], c, b);
+			} else {
+				model.reifyXltC(vars[0], c, b);
+			}
+		} else {
+			if (b == null) {
+				b = eq ? model.reifyXeqYC(vars[0], vars[1], c) : model.reifyXltYC(vars[0], vars[1], c);
+			} else if (eq) {
+				model.reifyXeqYC(vars[0], vars[1], c, b);
+			} else {
+				model.reifyXltYC(vars[0], vars[1], c, b);
+			}
+		}
+		return neg ? b.not() : b;
+	}
+
+	@Override
+	protected void makeReification() {
+		if (isPrimitive()) {
+			declareReification(reifyPrimitive(null));
+		} else {
+			super.makeReification();
+		}
+	}
+
+	@Override
+	public void reifyWith(BoolVar bool) {
+		if (isPrimitive()) {
+			declareReification(reifyPrimitive(bool));
+		} else {
+			super.reifyWith(bool);
+		}
+	}
+
+	@Override
+	public void impliedBy(BoolVar bool) {
+		if (isPrimitive() && vars.length == 1) {
+			Model model = vars[0].getModel();
+			switch (op1) {
+				case EQ:
+					model.impXeqC(vars[0], cste, bool);
+					break;
+				case NQ:
+					model.impXneC(vars[0], cste, bool);
+					break;
+				case LT:
+					model.impXltC(vars[0], cste, bool);
+					break;
+				case LE:
+					model.impXltC(vars[0], cste + 1, bool);
+					break;
+				case GT:
+					model.impXgtC(vars[0], cste, bool);
+					break;
+				case GE:
+					model.impXgtC(vars[0], cste - 1, bool);
+					break;
+				default:
+					throw new SolverException("Incorrect formula; operator should be one of those:{=, !=, >=, >, <=, <}");
+			}
+			// the status is left unchanged, so that this constraint can be half-reified again
+			ignore();
+		} else {
+			super.impliedBy(bool);
+		}
+	}
 }
@@ -66,6 +66,11 @@ public class Constraint {
      */
     protected BoolVar boolReif;
 
+    /**
+     * BoolVar that implies this constraint when it is only half-reified, unique.
+     */
+    private BoolVar halfReif;
+
     /**
      * Opposite constraint of this constraint, unique.
      */
@@ -190,8 +195,11 @@ public class Constraint {
      */
     public void reifyWith(BoolVar bool) {
         Model s = propagators[0].getModel();
-        getOpposite();
         if (boolReif == null) {
+            upgradeHalfReification();
+        }
+        if (boolReif == null) {
+            getOpposite();
             boolReif = bool;
             assert opposite.boolReif == null;
             opposite.boolReif = this.boolReif.not();
@@ -214,12 +222,108 @@ public class Constraint {
      */
     public final BoolVar reify() {
         if (boolReif == null) {
-            Model model = propagators[0].getModel();
-            reifyWith(model.boolVar(model.generateName("REIF_")));
+            upgradeHalfReification();
+        }
+        if (boolReif == null) {
+            makeReification();
         }
         return boolReif;
     }
 
+    /**
+     * Reify this constraint with a new boolean variable, on the first call to {@link #reify()}.
+     * BEWARE: this method should never be called by the user
+     * but it can be overridden to rely on a dedicated propagator, or to share the variable with an equal constraint
+     */
+    protected void makeReification() {
+        Model model = propagators[0].getModel();
+        reifyWith(model.boolVar(model.generateName("REIF_")));
+    }
+
+    /**
+     * Declare <i>bool</i> as the variable reifying this constraint, and its negation as the one reifying the opposite,
+     * when the reification is ensured by a dedicated propagator instead of a {@link ReificationConstraint}.
+     * For internal usage only.
+     *
+     * @param bool the variable reifying this constraint
+     */
+    protected final void declareReification(BoolVar bool) {
+        assert boolReif == null;
+        getOpposite();
+        boolReif = bool;
+        opposite.boolReif = bool.not();
+        declareAs(Status.REIFIED, -1);
+        opposite.declareAs(Status.REIFIED, -1);
+    }
+
+    /**
+     * Half-reifies the constraint with a boolean variable: <i>bool</i> = 1 &rArr; this constraint is satisfied.
+     * <p>
+     * Unlike {@link #reifyWith(BoolVar)}, nothing is required when <i>bool</i> = 0,
+     * so the opposite of this constraint is neither built nor propagated.
+     * The constraint is half-reified once with an internal indicator, and <i>bool</i> &le; indicator is posted,
+     * so that it can be implied by other variables, or reified later on.
+     * If this constraint is already reified, <i>bool</i> &le; {@link #reify()} is posted instead,
+     * and nothing is done if it is already posted.
+     * <p>
+     * BEWARE : it is automatically posted.
+     *
+     * @param bool the variable which implies the constraint
+     */
+    public void impliedBy(BoolVar bool) {
+        Model model = propagators[0].getModel();
+        if (boolReif == null && opposite != null && opposite.halfReif != null) {
+            // this constraint and its opposite are both implied: reify them
+            upgradeHalfReification();
+        }
+        if (boolReif != null) {
+            model.arithm(bool, "<=", boolReif).post();
+        } else if (halfReif != null) {
+            model.arithm(bool, "<=", halfReif).post();
+        } else if (mStatus == Status.POSTED) {
+            // the constraint is satisfied whatever bool is
+        } else if (bool.isInstantiatedTo(1)) {
+            post();
+        } else if (bool.isInstantiatedTo(0)) {
+            if (mStatus == Status.FREE) {
+                ignore();
+            }
+        } else {
+            halfReif = model.boolVar(model.generateName("HREIF_"));
+            new ReificationConstraint(halfReif, this).post();
+            model.arithm(bool, "<=", halfReif).post();
+        }
+    }
+
+    /**
+     * Turn the half-reification of this constraint, or of its opposite, into a full reification:
+     * the indicator now reifies the constraint and its negation half-reifies the opposite.
+     * Does nothing if neither this constraint nor its opposite is half-reified.
+     */
+    private void upgradeHalfReification() {
+        if (halfReif != null) {
+            getOpposite();
+            boolReif = halfReif;
+            opposite.boolReif = halfReif.not();
+            new ReificationConstraint(opposite.boolReif, opposite).post();
+        } else if (opposite != null && opposite.halfReif != null) {
+            opposite.upgradeHalfReification();
+        }
+    }
+
+    /**
+     * Half-reifies the constraint with a boolean variable: this constraint is satisfied &rArr; <i>bool</i> = 1.
+     * This is equivalent to half-reify the opposite of this constraint with <i>bool</i> negation.
+     * <p>
+     * BEWARE : it is automatically posted.
+     *
+     * @param bool the variable implied by the constraint
+     * @see #impliedBy(BoolVar)
+     */
+    public void implies(BoolVar bool) {
+        getOpposite().impliedBy(bool.not());
+    }
+
     /**
      * Posts the constraint to its model so that the constraint must be satisfied.
      * This should not be reified.
@@ -318,6 +422,14 @@ public class Constraint {
         return (mStatus == Status.FREE && opposite != null) ? opposite.mStatus : mStatus;
     }
 
+    /**
+     * @return <tt>true</tt> if this constraint is neither posted nor reified,
+     * regardless of the state of the opposite constraint
+     */
+    final boolean isFree() {
+        return mStatus == Status.FREE;
+    }
+
     /**
      * @return the position of this constraint in the model
      */
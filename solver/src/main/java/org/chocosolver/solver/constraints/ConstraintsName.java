@@ -153,6 +153,8 @@ public class ConstraintsName {
 
     public static final String CUMULATIVE = "CUMULATIVE";
 
+    public static final String DISJUNCTIVE = "DISJUNCTIVE";
+
     public static final String GCC = "GCC";
 
     public static final String NOGOODCONSTRAINT = "NOGOODCONSTRAINT";
@@ -177,4 +179,6 @@ public class ConstraintsName {
 
     public static final String CONDITION = "CONDITION";
 
+    public static final String LINEARRELAXATION = "LINEARRELAXATION";
+
 }
@@ -16,6 +16,7 @@ import org.chocosolver.solver.ISelf;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.binary.*;
 import org.chocosolver.solver.constraints.binary.element.ElementFactory;
+import org.chocosolver.solver.constraints.extension.SmartTuples;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.constraints.extension.TuplesFactory;
 import org.chocosolver.solver.constraints.extension.binary.*;
@@ -44,6 +45,8 @@ import org.chocosolver.solver.constraints.nary.count.PropCountVar;
 import org.chocosolver.solver.constraints.nary.count.PropCount_AC;
 import org.chocosolver.solver.constraints.nary.cumulative.CumulFilter;
 import org.chocosolver.solver.constraints.nary.cumulative.Cumulative;
+import org.chocosolver.solver.constraints.nary.cumulative.PropDisjunctive;
+import org.chocosolver.solver.constraints.nary.cumulative.PropIncrementalCumulative;
 import org.chocosolver.solver.constraints.nary.element.PropElementV_fast;
 import org.chocosolver.solver.constraints.nary.globalcardinality.GlobalCardinality;
 import org.chocosolver.solver.constraints.nary.lex.PropLex;
@@ -682,7 +685,7 @@ public interface IIntConstraintFactory extends ISelf<Model> {
      * The consistency level should be chosen among "BC", "AC" and "DEFAULT".
      *
      * @param vars        list of variables
-     * @param CONSISTENCY consistency level, among {"BC", "AC_REGIN", "AC", "AC_ZHANG", "DEFAULT"}
+     * @param CONSISTENCY consistency level, among {"BC", "AC_REGIN", "AC", "AC_ZHANG", "AC_INCREMENTAL", "DEFAULT"}
      *                    <p>
      *                    <b>BC</b>:
      *                    Based on: "A Fast and Simple Algorithm for Bounds Consistency of the AllDifferent Constraint"</br>
@@ -695,6 +698,11 @@ public interface IIntConstraintFactory extends ISelf<Model> {
      *                    <b>AC, AC_ZHANG</b>:
      *                    Uses Zhang improvement of Regin algorithm
      *                    <p>
+     *                    <b>AC_INCREMENTAL</b>:
+     *                    Uses Regin algorithm without building any graph, keeps the matching across calls
+     *                    and only computes again the strongly connected components impacted by domain modifications.
+     *                    Suited for large domains.
+     *                    <p>
      *                    <b>DEFAULT</b>:
      *                    <br/>
      *                    Uses BC plus a probabilistic AC_ZHANG propagator to get a compromise between BC and AC_ZHANG
@@ -1189,6 +1197,60 @@ public interface IIntConstraintFactory extends ISelf<Model> {
         return new Cumulative(tasks, heights, capacity, incremental, filters);
     }
 
+    /**
+     * Creates a cumulative constraint: Enforces that at each point in time,
+     * the cumulated height of the set of tasks that overlap that point
+     * does not exceed a given limit.
+     * <p>
+     * It is filtered by an incremental time-table algorithm:
+     * compulsory parts are stored in a reversible profile, whose size does not depend on the time horizon,
+     * and only tasks impacted by a modification of the profile are filtered again.
+     * This is advised for resources with many tasks.
+     *
+     * Task duration and height should be >= 0
+     *
+     * @param tasks    Task objects containing start, duration and end variables
+     * @param heights  integer variables representing the resource consumption of each task
+     * @param capacity integer variable representing the resource capacity
+     * @return a cumulative constraint
+     */
+    default Constraint incrementalCumulative(Task[] tasks, IntVar[] heights, IntVar capacity) {
+        if (tasks.length != heights.length) {
+            throw new SolverException("Tasks and heights arrays should have same size");
+        }
+        int n = tasks.length;
+        if (n == 0) {
+            return arithm(capacity, ">=", 0);
+        }
+        IntVar[] vars = Cumulative.extract(tasks, heights, capacity);
+        return new Constraint(ConstraintsName.CUMULATIVE, new PropIncrementalCumulative(
+                Arrays.copyOfRange(vars, 0, n),
+                Arrays.copyOfRange(vars, n, 2 * n),
+                Arrays.copyOfRange(vars, 2 * n, 3 * n),
+                Arrays.copyOfRange(vars, 3 * n, 4 * n),
+                capacity));
+    }
+
+    /**
+     * Creates a disjunctive constraint: Enforces that tasks with a positive duration do not overlap,
+     * that is, they are processed on a unary resource.
+     * It is filtered with overload checking, edge-finding, detectable precedences and not-first/not-last rules.
+     *
+     * @param tasks Task objects containing start, duration and end variables
+     * @return a disjunctive constraint
+     */
+    default Constraint disjunctive(Task[] tasks) {
+        IntVar[] s = new IntVar[tasks.length];
+        IntVar[] d = new IntVar[tasks.length];
+        IntVar[] e = new IntVar[tasks.length];
+        for (int i = 0; i < tasks.length; i++) {
+            s[i] = tasks[i].getStart();
+            d[i] = tasks[i].getDuration();
+            e[i] = tasks[i].getEnd();
+        }
+        return new Constraint(ConstraintsName.DISJUNCTIVE, new PropDisjunctive(s, d, e));
+    }
+
     /**
      * Creates and <b>posts</b> a decomposition of a cumulative constraint:
      * Enforces that at each point in time,
@@ -1307,9 +1369,26 @@ public interface IIntConstraintFactory extends ISelf<Model> {
      * @param closed      restricts domains of vars to values if set to true
      */
     default Constraint globalCardinality(IntVar[] vars, int[] values, IntVar[] occurrences, boolean closed) {
+        return globalCardinality(vars, values, occurrences, closed, false);
+    }
+
+    /**
+     * Creates a global cardinality constraint (GCC):
+     * Each value values[i] should be taken by exactly occurrences[i] variables of vars.
+     * <br/>
+     * When <i>ac</i> is set to true, arc-consistency is achieved on vars, with respect to the bounds of occurrences,
+     * thanks to a flow maintained incrementally.
+     *
+     * @param vars        collection of variables
+     * @param values      collection of constrained values
+     * @param occurrences collection of cardinality variables
+     * @param closed      restricts domains of vars to values if set to true
+     * @param ac          set to true to achieve arc-consistency on vars
+     */
+    default Constraint globalCardinality(IntVar[] vars, int[] values, IntVar[] occurrences, boolean closed, boolean ac) {
         assert values.length == occurrences.length;
         if (!closed) {
-            return new GlobalCardinality(vars, values, occurrences);
+            return new GlobalCardinality(vars, values, occurrences, ac);
         } else {
             TIntArrayList toAdd = new TIntArrayList();
             TIntSet givenValues = new TIntHashSet();
@@ -1337,9 +1416,9 @@ public interface IIntConstraintFactory extends ISelf<Model> {
                     v2[i] = toAdd.get(i - values.length);
                     cards[i] = vars[0].getModel().intVar(0);
                 }
-                return new GlobalCardinality(vars, v2, cards);
+                return new GlobalCardinality(vars, v2, cards, ac);
             } else {
-                return new GlobalCardinality(vars, values, occurrences);
+                return new GlobalCardinality(vars, values, occurrences, ac);
             }
         }
     }
@@ -2196,6 +2275,23 @@ public interface IIntConstraintFactory extends ISelf<Model> {
         return new Constraint(ConstraintsName.TABLE, p);
     }
 
+    /**
+     * Creates a smart table constraint, with the Compact-Table algorithm extended to basic smart tuples:
+     * each cell of a tuple is a restriction over the variable of its column,
+     * for instance a comparison with a constant or with the variable of another column.
+     * A smart table is usually far more compact than the table of the tuples it stands for.
+     *
+     * @param vars   variables forming the tuples
+     * @param tuples the relation between the variables (list of allowed smart tuples). Should not be modified once passed to the constraint.
+     * @see SmartTuples
+     */
+    default Constraint table(IntVar[] vars, SmartTuples tuples) {
+        if (tuples.nbTuples() > 0 && vars.length != tuples.arity()) {
+            throw new SolverException("The given variable array does not match the arity: " + tuples.arity());
+        }
+        return new Constraint(ConstraintsName.TABLE, new PropSmartTable(vars, tuples));
+    }
+
     /**
      * Creates a tree constraint.
      * Partition succs variables into nbTrees (anti) arborescences
@@ -111,7 +111,7 @@ public interface IReificationFactory extends ISelf<Model> {
 			}
 			// END OF PRESOLVE
 			else {
-				ref().arithm(ifVar, "<=", thenCstr.reify()).post();
+				thenCstr.impliedBy(ifVar);
 			}
 		}
 	}
@@ -176,7 +176,24 @@ public interface IReificationFactory extends ISelf<Model> {
                 return;
             }
         }
-		ref().post(new Constraint(ConstraintsName.BASIC_REI, new PropXeqCReif(X, C, B)));
+		shareReification("XeqC," + C, new IntVar[]{X}, B,
+				() -> ref().post(new Constraint(ConstraintsName.BASIC_REI, new PropXeqCReif(X, C, B))));
+	}
+
+	/**
+	 * Returns the boolean variable b such that (x = c) &hArr; b.
+	 * The variable is shared by all reifications of (x = c) in the model,
+	 * see {@link #shareReification(String, IntVar[], BoolVar, Runnable)}.
+	 * @param X a integer variable
+	 * @param C an int
+	 * @return a boolean variable
+	 */
+	default BoolVar reifyXeqC(IntVar X, int C){
+		return ref().getExpressionStore().share("reif.XeqC," + C, false, new IntVar[]{X}, () -> {
+			BoolVar B = ref().boolVar(ref().generateName("REIF_"));
+			reifyXeqC(X, C, B);
+			return B;
+		});
 	}
 
 	/**
@@ -191,6 +208,16 @@ public interface IReificationFactory extends ISelf<Model> {
 		reifyXeqC(X, C, B.not());
 	}
 
+	/**
+	 * Returns the boolean variable b such that (x &ne; c) &hArr; b, that is the negation of {@link #reifyXeqC(IntVar, int)}.
+	 * @param X a integer variable
+	 * @param C an int
+	 * @return a boolean variable
+	 */
+	default BoolVar reifyXneC(IntVar X, int C){
+		return reifyXeqC(X, C).not();
+	}
+
 	/**
 	 * Posts one constraint that expresses : (x = y) &hArr; b.
 	 * Bypasses the reification system.
@@ -205,7 +232,7 @@ public interface IReificationFactory extends ISelf<Model> {
 			reifyXeqC(X, Y.getValue(), B);
 		}else {
 			// no check to allow addition during resolution
-			ref().post(new Constraint(ConstraintsName.BASIC_REI, new PropXeqYCReif(X, Y, 0, B)));
+			reifyXeqYC(X, Y, 0, B);
 		}
 	}
 
@@ -242,10 +269,28 @@ public interface IReificationFactory extends ISelf<Model> {
             reifyXeqC(X, Y.getValue() + C, B);
         }else {
             // no check to allow addition during resolution
-            ref().post(new Constraint(ConstraintsName.BASIC_REI, new PropXeqYCReif(X, Y, C, B)));
+            shareReification("XeqYC," + C, new IntVar[]{X, Y}, B,
+                    () -> ref().post(new Constraint(ConstraintsName.BASIC_REI, new PropXeqYCReif(X, Y, C, B))));
         }
     }
 
+    /**
+     * Returns the boolean variable b such that (x = y + c) &hArr; b.
+     * The variable is shared by all reifications of (x = y + c) in the model,
+     * see {@link #shareReification(String, IntVar[], BoolVar, Runnable)}.
+     * @param X an integer variable
+     * @param Y an integer variable
+     * @param C an int
+     * @return a boolean variable
+     */
+    default BoolVar reifyXeqYC(IntVar X, IntVar Y, int C){
+        return ref().getExpressionStore().share("reif.XeqYC," + C, false, new IntVar[]{X, Y}, () -> {
+            BoolVar B = ref().boolVar(ref().generateName("REIF_"));
+            reifyXeqYC(X, Y, C, B);
+            return B;
+        });
+    }
+
     /**
      * Posts one constraint that expresses : (x &ne; y + c) &hArr; b.
      * Bypasses the reification system.
@@ -283,7 +328,24 @@ public interface IReificationFactory extends ISelf<Model> {
                 return;
             }
         }
-        ref().post(new Constraint(ConstraintsName.BASIC_REI, new PropXltCReif(X, C, B)));
+        shareReification("XltC," + C, new IntVar[]{X}, B,
+                () -> ref().post(new Constraint(ConstraintsName.BASIC_REI, new PropXltCReif(X, C, B))));
+    }
+
+    /**
+     * Returns the boolean variable b such that (x &lt; c) &hArr; b.
+     * The variable is shared by all reifications of (x &lt; c) in the model,
+     * see {@link #shareReification(String, IntVar[], BoolVar, Runnable)}.
+     * @param X a integer variable
+     * @param C an int
+     * @return a boolean variable
+     */
+    default BoolVar reifyXltC(IntVar X, int C){
+        return ref().getExpressionStore().share("reif.XltC," + C, false, new IntVar[]{X}, () -> {
+            BoolVar B = ref().boolVar(ref().generateName("REIF_"));
+            reifyXltC(X, C, B);
+            return B;
+        });
     }
 
     /**
@@ -298,6 +360,17 @@ public interface IReificationFactory extends ISelf<Model> {
         reifyXltC(X, C + 1, B.not());
     }
 
+    /**
+     * Returns the boolean variable b such that (x &gt; c) &hArr; b, that is the negation of (x &lt; c + 1),
+     * see {@link #reifyXltC(IntVar, int)}.
+     * @param X a integer variable
+     * @param C an int
+     * @return a boolean variable
+     */
+    default BoolVar reifyXgtC(IntVar X, int C){
+        return reifyXltC(X, C + 1).not();
+    }
+
 	/**
 	 * Posts one constraint that expresses : (x < y) &hArr; b.
 	 * Bypasses the reification system.
@@ -366,10 +439,28 @@ public interface IReificationFactory extends ISelf<Model> {
         }else if(Y.isAConstant()){
             reifyXltC(X, Y.getValue() + C, B);
         }else {
-            ref().post(new Constraint(ConstraintsName.BASIC_REI, new PropXltYCReif(X, Y, C, B)));
+            shareReification("XltYC," + C, new IntVar[]{X, Y}, B,
+                    () -> ref().post(new Constraint(ConstraintsName.BASIC_REI, new PropXltYCReif(X, Y, C, B))));
         }
 	}
 
+    /**
+     * Returns the boolean variable b such that (x &lt; y + c) &hArr; b.
+     * The variable is shared by all reifications of (x &lt; y + c) in the model,
+     * see {@link #shareReification(String, IntVar[], BoolVar, Runnable)}.
+     * @param X an integer variable
+     * @param Y an integer variable
+     * @param C an int
+     * @return a boolean variable
+     */
+    default BoolVar reifyXltYC(IntVar X, IntVar Y, int C){
+        return ref().getExpressionStore().share("reif.XltYC," + C, false, new IntVar[]{X, Y}, () -> {
+            BoolVar B = ref().boolVar(ref().generateName("REIF_"));
+            reifyXltYC(X, Y, C, B);
+            return B;
+        });
+    }
+
     /**
      * Posts one constraint that expresses : (x > y + c) &hArr; b.
      * Bypasses the reification system.
@@ -408,4 +499,111 @@ public interface IReificationFactory extends ISelf<Model> {
     }
 
 
-}
\ No newline at end of file
+	//***********************************************************************************
+	// Half reification constraints
+	//***********************************************************************************
+
+	/**
+	 * Posts one constraint that expresses : b &rArr; (x = c).
+	 * Unlike {@link #reifyXeqC(IntVar, int, BoolVar)}, nothing is deduced when b = 0.
+	 * Bypasses the reification system.
+	 * @param X a integer variable
+	 * @param C an int
+	 * @param B a boolean variable
+	 */
+	default void impXeqC(IntVar X, int C, BoolVar B){
+		// no check to allow addition during resolution
+		if(ref().getSolver().getSearchState() == SearchState.NEW){
+			if(B.isInstantiatedTo(0) || X.isInstantiatedTo(C)){
+				return;
+			}else if(!X.contains(C)) {
+				ref().arithm(B, "=", 0).post();
+				return;
+			}
+		}
+		ref().post(new Constraint(ConstraintsName.BASIC_REI, new PropXeqCHalfReif(X, C, B)));
+	}
+
+	/**
+	 * Posts one constraint that expresses : b &rArr; (x &ne; c).
+	 * Unlike {@link #reifyXneC(IntVar, int, BoolVar)}, nothing is deduced when b = 0.
+	 * Bypasses the reification system.
+	 * @param X a integer variable
+	 * @param C an int
+	 * @param B a boolean variable
+	 */
+	default void impXneC(IntVar X, int C, BoolVar B){
+		// no check to allow addition during resolution
+		if(ref().getSolver().getSearchState() == SearchState.NEW){
+			if(B.isInstantiatedTo(0) || !X.contains(C)){
+				return;
+			}else if(X.isInstantiatedTo(C)) {
+				ref().arithm(B, "=", 0).post();
+				return;
+			}
+		}
+		ref().post(new Constraint(ConstraintsName.BASIC_REI, new PropXneCHalfReif(X, C, B)));
+	}
+
+	/**
+	 * Posts one constraint that expresses : b &rArr; (x &lt; c).
+	 * Unlike {@link #reifyXltC(IntVar, int, BoolVar)}, nothing is deduced when b = 0.
+	 * Bypasses the reification system.
+	 * @param X a integer variable
+	 * @param C an int
+	 * @param B a boolean variable
+	 */
+	default void impXltC(IntVar X, int C, BoolVar B){
+		// no check to allow addition during resolution
+		if(ref().getSolver().getSearchState() == SearchState.NEW){
+			if(B.isInstantiatedTo(0) || X.getUB() < C){
+				return;
+			}else if(X.getLB() >= C) {
+				ref().arithm(B, "=", 0).post();
+				return;
+			}
+		}
+		ref().post(new Constraint(ConstraintsName.BASIC_REI, new PropXltCHalfReif(X, C, B)));
+	}
+
+	/**
+	 * Posts one constraint that expresses : b &rArr; (x &gt; c).
+	 * Unlike {@link #reifyXgtC(IntVar, int, BoolVar)}, nothing is deduced when b = 0.
+	 * Bypasses the reification system.
+	 * @param X a integer variable
+	 * @param C an int
+	 * @param B a boolean variable
+	 */
+	default void impXgtC(IntVar X, int C, BoolVar B){
+		// no check to allow addition during resolution
+		if(ref().getSolver().getSearchState() == SearchState.NEW){
+			if(B.isInstantiatedTo(0) || X.getLB() > C){
+				return;
+			}else if(X.getUB() <= C) {
+				ref().arithm(B, "=", 0).post();
+				return;
+			}
+		}
+		ref().post(new Constraint(ConstraintsName.BASIC_REI, new PropXgtCHalfReif(X, C, B)));
+	}
+
+	/**
+	 * Reify a primitive constraint with <i>B</i>, unless it was reified before with another variable, say <i>b</i>.
+	 * In that case, (<i>B</i> = <i>b</i>) is posted instead, which is cheaper and makes <i>B</i> and <i>b</i> a single literal.
+	 * The reified constraints are stored in {@link org.chocosolver.solver.Model#getExpressionStore()},
+	 * hence they are only shared when {@link org.chocosolver.solver.Settings#enableExpressionSharing()} is set.
+	 * @param kind identifies the reified constraint, with its constant operands
+	 * @param X the variable operands of the reified constraint
+	 * @param B a boolean variable
+	 * @param poster posts the reified constraint with <i>B</i>, on the first call only
+	 */
+	default void shareReification(String kind, IntVar[] X, BoolVar B, Runnable poster){
+		BoolVar b = ref().getExpressionStore().share("reif." + kind, false, X, () -> {
+			poster.run();
+			return B;
+		});
+		if(b != B){
+			ref().arithm(B, "=", b).post();
+		}
+	}
+}
@@ -375,7 +375,8 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
      * @throws SolverException if the propagator is declared in more than one constraint
      */
     void defineIn(Constraint c) throws SolverException {
-        if ((constraint != null && constraint.getStatus() != Constraint.Status.FREE)
+        // the opposite of a half-reified constraint is free, and can still be reified
+        if ((constraint != null && !constraint.isFree())
                 || (c.getStatus() != Constraint.Status.FREE)) {
             throw new SolverException("This propagator is already defined in a constraint. " +
                     "This happens when a constraint is reified and posted.");
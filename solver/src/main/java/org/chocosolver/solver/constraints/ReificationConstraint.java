@@ -41,7 +41,7 @@ public class ReificationConstraint extends Constraint {
     // constraint to apply if bool = true
     @SuppressWarnings("WeakerAccess") // required visibility to allow exportation
     protected final Constraint trueCons;
-    // constraint to apply if bool = false
+    // constraint to apply if bool = false, null for a half reification
     @SuppressWarnings("WeakerAccess") // required visibility to allow exportation
     protected final Constraint falseCons;
     // indices of propagators
@@ -63,7 +63,7 @@ public class ReificationConstraint extends Constraint {
         indices = new int[3];
         indices[0] = 1;
         indices[1] = indices[0] + trueCons.getPropagators().length;
-        indices[2] = indices[1] + falseCons.getPropagators().length;
+        indices[2] = indices[1] + (falseCons == null ? 0 : falseCons.getPropagators().length);
         for (int p = indices[0]; p < indices[1]; p++) {
             propagators[p].setReifiedSilent(bool);
         }
@@ -71,19 +71,38 @@ public class ReificationConstraint extends Constraint {
             propagators[p].setReifiedSilent(bool.not());
         }
         trueCons.declareAs(Status.REIFIED, -1);
-        falseCons.declareAs(Status.REIFIED, -1);
+        if (falseCons != null) {
+            falseCons.declareAs(Status.REIFIED, -1);
+        }
+    }
+
+    /**
+     * Half reification: <i>consIfBoolTrue</i> is satisfied when <i>bVar</i> = 1,
+     * and nothing is required when <i>bVar</i> = 0.
+     * Hence, the opposite of <i>consIfBoolTrue</i> is neither built nor checked.
+     * Since <i>bVar</i> is set to 1 as soon as <i>consIfBoolTrue</i> is entailed,
+     * and <i>bVar</i> = 0 fails once <i>consIfBoolTrue</i> is entailed,
+     * it is expected to be an internal indicator, see {@link Constraint#impliedBy(BoolVar)}.
+     *
+     * @param bVar           boolean variable of the half reification
+     * @param consIfBoolTrue constraint to apply if <i>bVar</i> = 1
+     */
+    protected ReificationConstraint(BoolVar bVar, Constraint consIfBoolTrue) {
+        this(bVar, consIfBoolTrue, null);
     }
 
     private static Propagator[] createProps(BoolVar bVar, Constraint trueCons, Constraint falseCons) {
         Set<Variable> setOfVars = new HashSet<>();
         prepareConstraint(bVar, trueCons, setOfVars);
-        prepareConstraint(bVar, falseCons, setOfVars);
+        if (falseCons != null) {
+            prepareConstraint(bVar, falseCons, setOfVars);
+        }
         Variable[] allVars = ArrayUtils.append(new Variable[]{bVar}, setOfVars.toArray(
             new Variable[0]));
         PropReif reifProp = new PropReif(allVars, trueCons, falseCons);
         return ArrayUtils.append(new Propagator[]{reifProp},
                 trueCons.getPropagators().clone(),
-                falseCons.getPropagators().clone()
+                falseCons == null ? new Propagator[0] : falseCons.getPropagators().clone()
         );
     }
 
@@ -119,6 +138,9 @@ public class ReificationConstraint extends Constraint {
 
     @Override
     public String toString() {
+        if (falseCons == null) {
+            return bool.toString() + "=>" + trueCons.toString();
+        }
         return bool.toString() + "=>" + trueCons.toString() + ", !" + bool.toString() + "=>" + falseCons.toString();
     }
 
@@ -0,0 +1,336 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension;
+
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A list of basic smart tuples, for smart table constraints [1].
+ * <p>
+ * Each cell of a smart tuple is a restriction over the variable of its column:
+ * {@link #any()}, a comparison with a constant ({@link #eq(int)}, {@link #val(String, int)}),
+ * a membership to a set ({@link #in(int...)}, {@link #notIn(int...)})
+ * or a comparison with the variable of another column ({@link #col(String, int)}).
+ * A smart tuple is basic: a variable appears in at most one restriction,
+ * hence a column compared with another one must be {@link #any()} in this tuple.
+ * A smart tuple stands for all the tuples satisfying its restrictions.
+ * <p>
+ * [1]: H. Verhaeghe, C. Lecoutre, Y. Deville, P. Schaus, Extending Compact-Table to Basic Smart Tables, CP-17.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class SmartTuples {
+
+    /**
+     * Kind of restriction
+     */
+    public enum Kind {
+        ANY, UNARY, IN, NOT_IN, BINARY
+    }
+
+    /**
+     * A restriction over the variable of a column
+     */
+    public static final class Cell {
+        private static final Cell ANY = new Cell(Kind.ANY, Operator.NONE, 0, null);
+
+        private final Kind kind;
+        private final Operator op;
+        // the constant or the other column
+        private final int value;
+        // sorted values
+        private final int[] values;
+
+        private Cell(Kind kind, Operator op, int value, int[] values) {
+            this.kind = kind;
+            this.op = op;
+            this.value = value;
+            this.values = values;
+        }
+
+        /**
+         * @return the kind of restriction
+         */
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * @return the operator of a comparison, {@link Operator#NONE} otherwise
+         */
+        public Operator getOperator() {
+            return op;
+        }
+
+        /**
+         * @return the constant of a comparison with a constant, or the other column of a comparison between columns
+         */
+        public int getValue() {
+            return value;
+        }
+
+        /**
+         * @param v     a value of the variable of this column
+         * @param other a value of the variable of the other column
+         * @return <i>true</i> if <i>v</i> and <i>other</i> satisfy this binary restriction
+         */
+        public boolean accepts(int v, int other) {
+            return compare(v, op, other);
+        }
+
+        /**
+         * @param v a value
+         * @return <i>true</i> if <i>v</i> satisfies this unary restriction
+         */
+        public boolean accepts(int v) {
+            switch (kind) {
+                case ANY:
+                    return true;
+                case UNARY:
+                    return compare(v, op, value);
+                case IN:
+                    return Arrays.binarySearch(values, v) >= 0;
+                case NOT_IN:
+                    return Arrays.binarySearch(values, v) < 0;
+                default:
+                    throw new UnsupportedOperationException();
+            }
+        }
+
+        @Override
+        public String toString() {
+            switch (kind) {
+                case ANY:
+                    return "*";
+                case UNARY:
+                    return op + "" + value;
+                case IN:
+                    return "in" + Arrays.toString(values);
+                case NOT_IN:
+                    return "notin" + Arrays.toString(values);
+                default:
+                    return op + "col" + value;
+            }
+        }
+    }
+
+    private final List<Cell[]> tuples;
+    private int arity;
+
+    /**
+     * Create an empty list of smart tuples, which represents allowed tuples
+     */
+    public SmartTuples() {
+        tuples = new ArrayList<>();
+    }
+
+    /**
+     * @return a restriction satisfied by any value
+     */
+    public static Cell any() {
+        return Cell.ANY;
+    }
+
+    /**
+     * @param value a constant
+     * @return a restriction satisfied by <i>value</i> only
+     */
+    public static Cell eq(int value) {
+        return new Cell(Kind.UNARY, Operator.EQ, value, null);
+    }
+
+    /**
+     * @param op    an operator among {"=", "!=", "<", "<=", ">", ">="}
+     * @param value a constant
+     * @return a restriction satisfied by values <i>v</i> such that <i>v op value</i>
+     */
+    public static Cell val(String op, int value) {
+        return new Cell(Kind.UNARY, operator(op), value, null);
+    }
+
+    /**
+     * @param values a set of values
+     * @return a restriction satisfied by values in <i>values</i>
+     */
+    public static Cell in(int... values) {
+        return new Cell(Kind.IN, Operator.NONE, 0, sorted(values));
+    }
+
+    /**
+     * @param values a set of values
+     * @return a restriction satisfied by values not in <i>values</i>
+     */
+    public static Cell notIn(int... values) {
+        return new Cell(Kind.NOT_IN, Operator.NONE, 0, sorted(values));
+    }
+
+    /**
+     * @param op  an operator among {"=", "!=", "<", "<=", ">", ">="}
+     * @param col index of another column
+     * @return a restriction satisfied when the variable of this column and the variable of <i>col</i>
+     * satisfy <i>op</i>, the cell of <i>col</i> being {@link #any()}
+     */
+    public static Cell col(String op, int col) {
+        return new Cell(Kind.BINARY, operator(op), col, null);
+    }
+
+    private static Operator operator(String op) {
+        Operator o = Operator.get(op);
+        if (o == null || o == Operator.PL || o == Operator.MN || o == Operator.NONE) {
+            throw new SolverException("Unknown operator: " + op);
+        }
+        return o;
+    }
+
+    private static int[] sorted(int[] values) {
+        int[] s = values.clone();
+        Arrays.sort(s);
+        return s;
+    }
+
+    private static boolean compare(int a, Operator op, int b) {
+        switch (op) {
+            case EQ:
+                return a == b;
+            case NQ:
+                return a != b;
+            case LT:
+                return a < b;
+            case LE:
+                return a <= b;
+            case GT:
+                return a > b;
+            case GE:
+                return a >= b;
+            default:
+                throw new UnsupportedOperationException();
+        }
+    }
+
+    private static Operator flip(Operator op) {
+        switch (op) {
+            case LT:
+                return Operator.GT;
+            case LE:
+                return Operator.GE;
+            case GT:
+                return Operator.LT;
+            case GE:
+                return Operator.LE;
+            default:
+                return op;
+        }
+    }
+
+    /**
+     * Add a new smart tuple
+     *
+     * @param tuple a smart tuple
+     * @throws SolverException if the size of the tuple does not correspond to the previous ones (if any)
+     *                         or if the tuple is not basic
+     */
+    public void add(Cell... tuple) {
+        if (tuples.size() == 0) {
+            arity = tuple.length;
+        } else if (arity != tuple.length) {
+            throw new SolverException("The given tuple does not match the arity: " + arity);
+        }
+        Cell[] cells = tuple.clone();
+        for (int i = 0; i < arity; i++) {
+            Cell c = tuple[i];
+            if (c.kind == Kind.BINARY) {
+                int j = c.value;
+                if (j < 0 || j >= arity || j == i || tuple[j].kind != Kind.ANY || cells[j].kind != Kind.ANY) {
+                    throw new SolverException("Invalid restriction " + c + " in column " + i
+                            + ": the other column must exist and be unrestricted");
+                }
+                // the restriction is stated on both columns
+                cells[j] = new Cell(Kind.BINARY, flip(c.op), i, null);
+            }
+        }
+        tuples.add(cells);
+    }
+
+    /**
+     * @return the number of smart tuples
+     */
+    public int nbTuples() {
+        return tuples.size();
+    }
+
+    /**
+     * @return the number of variables of each tuple
+     */
+    public int arity() {
+        return arity;
+    }
+
+    /**
+     * @param t   index of a tuple
+     * @param col index of a column
+     * @return the restriction of the tuple over the column,
+     * a comparison between columns being stated on both columns
+     */
+    public Cell get(int t, int col) {
+        return tuples.get(t)[col];
+    }
+
+    /**
+     * @param values a tuple of values
+     * @return <i>true</i> if at least one smart tuple is satisfied by <i>values</i>
+     */
+    public boolean matches(int... values) {
+        for (Cell[] tuple : tuples) {
+            boolean valid = true;
+            for (int i = 0; i < arity && valid; i++) {
+                Cell c = tuple[i];
+                valid = c.kind == Kind.BINARY ? c.accepts(values[i], values[c.value]) : c.accepts(values[i]);
+            }
+            if (valid) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks entailment of a smart table constraint over vars with this object
+     *
+     * @param vars set of integer variables to test
+     * @return an ESat object indicating the entailment of the table over vars and this
+     */
+    public ESat check(IntVar... vars) {
+        int[] values = new int[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            if (!vars[i].isInstantiated()) {
+                return ESat.UNDEFINED;
+            }
+            values[i] = vars[i].getValue();
+        }
+        return ESat.eval(matches(values));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder st = new StringBuilder("Smart tuples: {");
+        for (Cell[] tuple : tuples) {
+            st.append(Arrays.toString(tuple));
+        }
+        return st.append("}").toString();
+    }
+}
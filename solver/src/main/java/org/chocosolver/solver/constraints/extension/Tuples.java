@@ -12,16 +12,16 @@ package org.chocosolver.solver.constraints.extension;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.sort.ArraySort;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
-import java.util.List;
 
 /**
  * A unique interface to declare tuples for table constraints.
  * Handles both feasible tuples and forbidden tuples.
  * <br/>
+ * Tuples are stored column by column, each value being encoded on as few bits as the range of its column requires.
+ * <br/>
  *
  * @author Charles Prud'homme
  * @since 22/04/2014
@@ -33,11 +33,14 @@ public class Tuples {
 	//***********************************************************************************
 
 	private final boolean feasible;
-	protected final List<int[]> tuples;
+	private Column[] columns;
+	private int size;
 	private int arity;
 	private int[] ranges;
 	private boolean allowStar;
 	private int star;
+	// incremented on each modification
+	private int version;
 
 	//***********************************************************************************
 	// CONSTRUCTOR
@@ -54,7 +57,6 @@ public class Tuples {
      */
     public Tuples(int[][] values, boolean feasible) {
         this.feasible = feasible;
-        tuples = new ArrayList<>();
         for(int[] t : values){
             add(t);
         }
@@ -68,7 +70,6 @@ public class Tuples {
 	 */
 	public Tuples(boolean feasible) {
 		this.feasible = feasible;
-		tuples = new ArrayList<>();
 	}
 
 	/**
@@ -90,6 +91,7 @@ public class Tuples {
 	public void setUniversalValue(int star){
 		this.star = star;
 		this.allowStar = true;
+		version++;
 	}
 
 	/**
@@ -129,10 +131,10 @@ public class Tuples {
 			}
 		}
 		for (int ti = 0; ti < nbTuples(); ti++) {
-			int[] tuple = tuples.get(ti);
 			boolean valid = true;
 			for (int i = 0; i < values.length && valid; i++) {
-				valid = tuple[i] == values[i] || (allowStar && tuple[i] == star);
+				int v = get(ti, i);
+				valid = v == values[i] || (allowStar && v == star);
 			}
 			if (valid) {
 				return isFeasible()? ESat.TRUE: ESat.FALSE;
@@ -148,19 +150,25 @@ public class Tuples {
 	 * @throws org.chocosolver.solver.exception.SolverException if the size of the tuple added does not correspond to a the previous ones (if any).
 	 */
 	public void add(int... tuple) {
-		if (tuples.size() == 0) {
+		if (size == 0) {
 			arity = tuple.length;
 			ranges = new int[2 * arity];
 			Arrays.fill(ranges, 0, arity, Integer.MAX_VALUE);
 			Arrays.fill(ranges, arity, 2 * arity, Integer.MIN_VALUE);
+			columns = new Column[arity];
+			for (int i = 0; i < arity; i++) {
+				columns[i] = new Column();
+			}
 		} else if (arity != tuple.length) {
 			throw new SolverException("The given tuple does not match the arity: " + arity);
 		}
-		tuples.add(tuple.clone());
 		for (int i = 0; i < arity; i++) {
 			ranges[i] = Math.min(ranges[i], tuple[i]);
 			ranges[i + arity] = Math.max(ranges[i + arity], tuple[i]);
+			columns[i].add(size, tuple[i], ranges[i], ranges[i + arity]);
 		}
+		size++;
+		version++;
 	}
 
 	/**
@@ -209,21 +217,57 @@ public class Tuples {
 	 * @return number of tuples stored
 	 */
 	public int nbTuples() {
-		return tuples.size();
+		return size;
 	}
 
 	/**
-	 * Return the idx^th tuple
+	 * Return the idx^th tuple, in a new array
 	 */
 	public int[] get(int idx) {
-		return tuples.get(idx);
+		int[] tuple = new int[arity];
+		for (int i = 0; i < arity; i++) {
+			tuple[i] = columns[i].get(idx);
+		}
+		return tuple;
+	}
+
+	/**
+	 * Copy the idx^th tuple into <i>tuple</i>, whose length is at least {@link #arity()}
+	 *
+	 * @param idx   index of the tuple
+	 * @param tuple array to fill
+	 * @return <i>tuple</i>
+	 */
+	public int[] get(int idx, int[] tuple) {
+		for (int i = 0; i < arity; i++) {
+			tuple[i] = columns[i].get(idx);
+		}
+		return tuple;
+	}
+
+	/**
+	 * Return the value of the col^th column of the idx^th tuple, without building the tuple
+	 *
+	 * @param idx index of the tuple
+	 * @param col index of the column
+	 * @return the value
+	 */
+	public int get(int idx, int col) {
+		return columns[col].get(idx);
+	}
+
+	/**
+	 * @return the number of variables of each tuple
+	 */
+	public int arity() {
+		return arity;
 	}
 
 	@Override
 	public String toString() {
 		StringBuilder st = new StringBuilder(isFeasible() ? "Allowed" : "Fordidden").append(" tuples: {");
-		for (int i = 0; i < tuples.size(); i++) {
-			st.append(Arrays.toString(tuples.get(i)));
+		for (int i = 0; i < size; i++) {
+			st.append(Arrays.toString(get(i)));
 		}
 
 		st.append("}");
@@ -235,28 +279,158 @@ public class Tuples {
 	 * @return an array of tuples, each tuple is an int array
 	 */
 	public int[][] toMatrix() {
-		int i = 0;
-		int[][] matrix = new int[tuples.size()][];
-		for (int[] tuple : tuples) {
-			matrix[i++] = tuple.clone();
+		int[][] matrix = new int[size][];
+		for (int i = 0; i < size; i++) {
+			matrix[i] = get(i);
 		}
 		return matrix;
 	}
 
+	/**
+	 * Sort tuples in lexicographic order
+	 */
 	public void sort() {
-		tuples.sort(new TupleComparator());
+		int[] order = new int[size];
+		for (int i = 0; i < size; i++) {
+			order[i] = i;
+		}
+		new ArraySort<>(size, false, true).sort(order, size, (t1, t2) -> {
+			int i = 0;
+			while (i < arity && get(t1, i) == get(t2, i)) {
+				i++;
+			}
+			return i == arity ? 0 : Integer.compare(get(t1, i), get(t2, i));
+		});
+		for (int i = 0; i < arity; i++) {
+			columns[i] = columns[i].permute(order, size);
+		}
+		version++;
 	}
 
-	private static class TupleComparator implements Comparator<int[]> {
+	/**
+	 * @return the number of modifications of this so far
+	 */
+	int version() {
+		return version;
+	}
 
-		@Override
-		public int compare(int[] o1, int[] o2) {
-			int i = 0;
-			int l = o1.length;
-			while (i < l && o1[i] == o2[i]) {
-				i++;
+	/**
+	 * @return a hash code of the content of this, consistent with {@link #sameAs(Tuples)}
+	 */
+	int contentHash() {
+		int h = Boolean.hashCode(feasible);
+		h = 31 * h + (allowStar ? star : 0);
+		h = 31 * h + arity;
+		h = 31 * h + size;
+		for (int i = 0; i < arity; i++) {
+			for (int t = 0; t < size; t++) {
+				h = 31 * h + columns[i].get(t);
+			}
+		}
+		return h;
+	}
+
+	/**
+	 * @return <i>true</i> if <i>other</i> stores the same tuples, in the same order, with the same meaning
+	 */
+	boolean sameAs(Tuples other) {
+		if (feasible != other.feasible || allowStar != other.allowStar || (allowStar && star != other.star)
+				|| arity != other.arity || size != other.size) {
+			return false;
+		}
+		for (int i = 0; i < arity; i++) {
+			for (int t = 0; t < size; t++) {
+				if (columns[i].get(t) != other.columns[i].get(t)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * A column of values, bit-packed: each value is stored as its difference with a base value,
+	 * on as many bits as the range of the column requires, plus one.
+	 * This extra bit leaves room on both sides of the range, so that adding values out of it
+	 * rarely requires to pack again the column.
+	 */
+	private static final class Column {
+
+		private long[] words = new long[1];
+		private long base;
+		// number of bits per value, 0 when all values are equal to base
+		private int bits;
+
+		int get(int idx) {
+			if (bits == 0) {
+				return (int) base;
+			}
+			long pos = (long) idx * bits;
+			int w = (int) (pos >>> 6);
+			int o = (int) (pos & 63);
+			long v = words[w] >>> o;
+			if (o + bits > 64) {
+				v |= words[w + 1] << (64 - o);
+			}
+			return (int) (base + (v & ((1L << bits) - 1)));
+		}
+
+		private void set(int idx, int value) {
+			long mask = (1L << bits) - 1;
+			long v = value - base;
+			long pos = (long) idx * bits;
+			int w = (int) (pos >>> 6);
+			int o = (int) (pos & 63);
+			words[w] = (words[w] & ~(mask << o)) | (v << o);
+			if (o + bits > 64) {
+				int s = 64 - o;
+				words[w + 1] = (words[w + 1] & ~(mask >>> s)) | (v >>> s);
+			}
+		}
+
+		/**
+		 * Add <i>value</i> at position <i>idx</i>, the column storing <i>idx</i> values, which all are in [lo, hi].
+		 */
+		void add(int idx, int value, int lo, int hi) {
+			if (idx == 0) {
+				base = value;
+			} else if (bits == 0 ? value != base : value < base || value - base >= (1L << bits)) {
+				long span = (long) hi - lo + 1;
+				int nbits = 65 - Long.numberOfLeadingZeros(span - 1);
+				Column packed = new Column();
+				packed.bits = nbits;
+				packed.base = lo - ((1L << nbits) - span) / 2;
+				packed.words = new long[(int) (((long) (idx + 1) * nbits + 63) >>> 6) + 1];
+				for (int i = 0; i < idx; i++) {
+					packed.set(i, get(i));
+				}
+				words = packed.words;
+				base = packed.base;
+				bits = packed.bits;
+			}
+			if (bits > 0) {
+				int need = (int) (((long) (idx + 1) * bits + 63) >>> 6);
+				if (need > words.length) {
+					words = Arrays.copyOf(words, Math.max(need, words.length * 3 / 2 + 1));
+				}
+				set(idx, value);
+			}
+		}
+
+		/**
+		 * @return a copy of the first <i>size</i> values of this column, in the given order
+		 */
+		Column permute(int[] order, int size) {
+			Column permuted = new Column();
+			permuted.base = base;
+			permuted.bits = bits;
+			permuted.words = new long[words.length];
+			if (bits > 0) {
+				for (int i = 0; i < size; i++) {
+					permuted.set(i, get(order[i]));
+				}
 			}
-			return (i == l ? 0 : o1[i] - o2[i]);
+			return permuted;
 		}
 	}
 }
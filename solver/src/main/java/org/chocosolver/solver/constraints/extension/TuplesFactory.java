@@ -377,7 +377,8 @@ public class TuplesFactory {
         Tuples left = generateTuples(TupleValidator.TRUE, true, VARS);
         Tuples tuples = new Tuples(true);
         int n = VARS.length;
-        for (int[] tleft : left.tuples) {
+        for (int ti = 0; ti < left.nbTuples(); ti++) {
+            int[] tleft = left.get(ti);
             int right = 0;
             for (int i = 0; i < n; i++) {
                 right += tleft[i] * COEFFS[i];
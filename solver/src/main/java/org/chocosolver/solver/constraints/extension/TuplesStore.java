@@ -0,0 +1,176 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension;
+
+import gnu.trove.map.hash.TIntObjectHashMap;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A store of the relations declared in a model, to share them among extension constraints.
+ * <p>
+ * Immutable data structures built from a relation, such as supports of Compact-Table,
+ * are built once for all the constraints over this relation and variables with the same bounds.
+ * To do so, equal {@link Tuples} are interned when a structure is shared.
+ * <p>
+ * Tuples may be modified once passed to the store: they are then interned again, on their new content,
+ * and the structures built from their previous content are not shared anymore.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class TuplesStore {
+
+    // interned relations, by content hash
+    private final TIntObjectHashMap<List<Relation>> relations = new TIntObjectHashMap<>();
+    // tuples already interned and their representative
+    private final Map<Tuples, Link> interned = new WeakHashMap<>();
+    // shared structures
+    private final Map<Key, Object> structures = new HashMap<>();
+
+    /**
+     * @param tuples a relation
+     * @return the first relation equal to <i>tuples</i> passed to this store, <i>tuples</i> itself if none
+     */
+    public Tuples intern(Tuples tuples) {
+        return relationOf(tuples).tuples;
+    }
+
+    private Relation relationOf(Tuples tuples) {
+        Link link = interned.get(tuples);
+        // either tuples or its representative may have been modified since interned
+        if (link == null || link.version != tuples.version() || !link.relation.isValid()) {
+            int hash = tuples.contentHash();
+            List<Relation> candidates = relations.get(hash);
+            if (candidates == null) {
+                candidates = new ArrayList<>(1);
+                relations.put(hash, candidates);
+            }
+            Relation representative = null;
+            Iterator<Relation> it = candidates.iterator();
+            while (it.hasNext() && representative == null) {
+                Relation candidate = it.next();
+                if (!candidate.isValid()) {
+                    it.remove();
+                } else if (candidate.tuples.sameAs(tuples)) {
+                    representative = candidate;
+                }
+            }
+            if (representative == null) {
+                representative = new Relation(tuples);
+                candidates.add(representative);
+            }
+            link = new Link(representative, tuples.version());
+            interned.put(tuples, link);
+        }
+        return link.relation;
+    }
+
+    /**
+     * Return the structure of type <i>kind</i> built from <i>tuples</i> for variables with the bounds of <i>vars</i>,
+     * built with <i>builder</i> on the first call.
+     * The structure is shared and must not be modified.
+     *
+     * @param kind    name of the structure
+     * @param tuples  a relation
+     * @param vars    variables of the relation
+     * @param builder builds the structure
+     * @param <T>     type of the structure
+     * @return the shared structure
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T share(String kind, Tuples tuples, IntVar[] vars, Supplier<T> builder) {
+        int[] bounds = new int[2 * vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            bounds[2 * i] = vars[i].getLB();
+            bounds[2 * i + 1] = vars[i].getUB();
+        }
+        return (T) structures.computeIfAbsent(new Key(kind, relationOf(tuples), bounds), k -> builder.get());
+    }
+
+    /**
+     * @return the number of distinct relations in this store
+     */
+    public int getNbRelations() {
+        int n = 0;
+        for (List<Relation> l : relations.valueCollection()) {
+            for (Relation r : l) {
+                if (r.isValid()) {
+                    n++;
+                }
+            }
+        }
+        return n;
+    }
+
+    /**
+     * A representative relation, valid as long as it is not modified
+     */
+    private static final class Relation {
+        private final Tuples tuples;
+        private final int version;
+
+        private Relation(Tuples tuples) {
+            this.tuples = tuples;
+            this.version = tuples.version();
+        }
+
+        private boolean isValid() {
+            return tuples.version() == version;
+        }
+    }
+
+    /**
+     * The representative of a relation, and the version of the relation when interned
+     */
+    private static final class Link {
+        private final Relation relation;
+        private final int version;
+
+        private Link(Relation relation, int version) {
+            this.relation = relation;
+            this.version = version;
+        }
+    }
+
+    private static final class Key {
+        private final String kind;
+        private final Relation relation;
+        private final int[] bounds;
+
+        private Key(String kind, Relation relation, int[] bounds) {
+            this.kind = kind;
+            this.relation = relation;
+            this.bounds = bounds;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return kind.equals(key.kind) && relation == key.relation && Arrays.equals(bounds, key.bounds);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hash(kind, System.identityHashCode(relation)) + Arrays.hashCode(bounds);
+        }
+    }
+}
@@ -57,15 +57,16 @@ class CouplesBitSetTable extends BinRelation {
 
         int nt = tuples.nbTuples();
         for (int i = 0; i < nt; i++) {
-            int[] tuple = tuples.get(i);
-//            setCouple(tuple[0], tuple[1]);
-            if (var1.contains(tuple[0]) && var2.contains(tuple[1])) {
+            int x = tuples.get(i, 0);
+            int y = tuples.get(i, 1);
+//            setCouple(x, y);
+            if (var1.contains(x) && var2.contains(y)) {
                 if (feasible) {
-                    table[0][tuple[0] - offsets[0]].set(tuple[1] - offsets[1]);
-                    table[1][tuple[1] - offsets[1]].set(tuple[0] - offsets[0]);
+                    table[0][x - offsets[0]].set(y - offsets[1]);
+                    table[1][y - offsets[1]].set(x - offsets[0]);
                 } else {
-                    table[0][tuple[0] - offsets[0]].clear(tuple[1] - offsets[1]);
-                    table[1][tuple[1] - offsets[1]].clear(tuple[0] - offsets[0]);
+                    table[0][x - offsets[0]].clear(y - offsets[1]);
+                    table[1][y - offsets[1]].clear(x - offsets[0]);
                 }
             }
         }
@@ -30,6 +30,14 @@ public abstract class LargeRelation  {
      */
     public abstract boolean isConsistent(int[] tuple);
 
+    protected boolean valid(Tuples tuples, int t, IntVar[] vars) {
+        for (int i = 0; i < vars.length; i++) {
+            if (!vars[i].contains(tuples.get(t, i)))
+                return false;
+        }
+        return true;
+    }
+
     protected boolean valid(int[] tuple, IntVar[] vars) {
         for (int i = 0; i < tuple.length; i++) {
             if (!vars[i].contains(tuple[i]))
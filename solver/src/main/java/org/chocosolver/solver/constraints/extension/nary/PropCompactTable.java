@@ -11,17 +11,20 @@ package org.chocosolver.solver.constraints.extension.nary;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
-import org.chocosolver.memory.IStateLong;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.chocosolver.util.procedure.UnaryIntProcedure;
 
+import java.util.Arrays;
+
 /**
  * Propagator for table constraint based on "Compact-Table: Efficiently Filtering Table Constraints
  * with Reversible Sparse Bit-Sets" Only for feasible Tuples
@@ -55,10 +58,20 @@ public class PropCompactTable extends Propagator<IntVar> {
      * @param tuples list of feasible tuples
      */
     public PropCompactTable(IntVar[] vars, Tuples tuples) {
-        super(vars, PropagatorPriority.QUADRATIC, true);
+        this(vars, tuples.nbTuples());
         this.tuples = tuples;
-        this.currTable = new RSparseBitSet(model.getEnvironment(), this.tuples.nbTuples());
-        computeSupports(tuples);
+        computeSupports(this.tuples);
+    }
+
+    /**
+     * Create a propagator for table constraint whose supports are computed by the subclass
+     *
+     * @param vars     scope
+     * @param nbTuples number of tuples
+     */
+    protected PropCompactTable(IntVar[] vars, int nbTuples) {
+        super(vars, PropagatorPriority.QUADRATIC, true);
+        this.currTable = new RSparseBitSet(model.getEnvironment(), nbTuples);
         monitors = new IIntDeltaMonitor[vars.length];
         for (int i = 0; i < vars.length; i++) {
             monitors[i] = vars[i].monitorDelta(this);
@@ -91,35 +104,45 @@ public class PropCompactTable extends Propagator<IntVar> {
     protected void computeSupports(Tuples tuples) {
         int n = vars.length;
         offset = new int[n];
-        supports = new long[n][][];
         residues = new int[n][];
-        long[] tmp;
         for (int i = 0; i < n; i++) {
-            int lb = vars[i].getLB();
-            int ub = vars[i].getUB();
-            offset[i] = lb;
-            supports[i] = new long[ub - lb + 1][currTable.words.length];
-            residues[i] = new int[ub - lb + 1];
+            offset[i] = vars[i].getLB();
+            residues[i] = new int[vars[i].getUB() - offset[i] + 1];
+        }
+        supports = model.getTuplesStore().share("CT+", tuples, vars, () -> buildSupports(tuples));
+    }
+
+    /**
+     * Build the supports of each value, which only depend on the tuples and the bounds of the variables,
+     * so that they can be shared among propagators.
+     * Tuples with a value out of the bounds of a variable are ignored,
+     * those with a value in a hole of a domain are removed on the first propagation.
+     */
+    private long[][][] buildSupports(Tuples tuples) {
+        int n = vars.length;
+        long[][][] supports = new long[n][][];
+        for (int i = 0; i < n; i++) {
+            supports[i] = new long[vars[i].getUB() - offset[i] + 1][currTable.words.length];
         }
         int wI = 0;
         byte bI = 63;
         top:
         for (int ti = 0; ti < tuples.nbTuples(); ti++) {
-            int[] tuple = tuples.get(ti);
-            for (int i = 0; i < tuple.length; i++) {
-                if (!vars[i].contains(tuple[i])) {
+            for (int i = 0; i < n; i++) {
+                int v = tuples.get(ti, i);
+                if (v < offset[i] || v >= offset[i] + supports[i].length) {
                     continue top;
                 }
             }
-            for (int i = 0; i < tuple.length; i++) {
-                tmp = supports[i][tuple[i] - offset[i]];
-                tmp[wI] |= 1L << (bI);
+            for (int i = 0; i < n; i++) {
+                supports[i][tuples.get(ti, i) - offset[i]][wI] |= 1L << (bI);
             }
             if (--bI < 0) {
                 bI = 63;
                 wI++;
             }
         }
+        return supports;
     }
 
     //***********************************************************************************
@@ -160,7 +183,7 @@ public class PropCompactTable extends Propagator<IntVar> {
         forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
     }
 
-    private void filterDomains() throws ContradictionException {
+    protected void filterDomains() throws ContradictionException {
         if (currTable.isEmpty()) {// to keep as we skip instantiated vars
             fails();
         }
@@ -173,37 +196,32 @@ public class PropCompactTable extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * @param i index of a variable
+     * @param v a value of the variable
+     * @return <i>true</i> if at least one valid tuple supports <i>v</i>
+     */
+    protected boolean isSupported(int i, int v) {
+        int index = residues[i][v - offset[i]];
+        if ((currTable.words[index] & supports[i][v - offset[i]][index]) == 0L) {
+            index = currTable.intersectIndex(supports[i][v - offset[i]]);
+            if (index == -1) {
+                return false;
+            }
+            residues[i][v - offset[i]] = index;
+        }
+        return true;
+    }
+
     private void boundFilter(int i) throws ContradictionException {
         int lb = vars[i].getLB();
         int ub = vars[i].getUB();
-        for (int v = lb; v <= ub; v++) {
-            int index = residues[i][v - offset[i]];
-            if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
-                index = currTable.intersectIndex(supports[i][v - offset[i]]);
-                if (index == -1) {
-                    lb++;
-                } else {
-                    residues[i][v - offset[i]] = index;
-                    break;
-                }
-            } else {
-                break;
-            }
+        while (lb <= ub && !isSupported(i, lb)) {
+            lb++;
         }
         vars[i].updateLowerBound(lb, this);
-        for (int v = ub; v >= lb; v--) {
-            int index = residues[i][v - offset[i]];
-            if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
-                index = currTable.intersectIndex(supports[i][v - offset[i]]);
-                if (index == -1) {
-                    ub--;
-                } else {
-                    residues[i][v - offset[i]] = index;
-                    break;
-                }
-            } else {
-                break;
-            }
+        while (ub >= lb && !isSupported(i, ub)) {
+            ub--;
         }
         vars[i].updateUpperBound(ub, this);
     }
@@ -211,14 +229,8 @@ public class PropCompactTable extends Propagator<IntVar> {
     private void enumFilter(int i) throws ContradictionException {
         int ub = vars[i].getUB();
         for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
-            int index = residues[i][v - offset[i]];
-            if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
-                index = currTable.intersectIndex(supports[i][v - offset[i]]);
-                if (index == -1) {
-                    vars[i].removeValue(v, this);
-                } else {
-                    residues[i][v - offset[i]] = index;
-                }
+            if (!isSupported(i, v)) {
+                vars[i].removeValue(v, this);
             }
         }
     }
@@ -229,77 +241,255 @@ public class PropCompactTable extends Propagator<IntVar> {
         return tuples.check(vars);
     }
 
+    /**
+     * @implSpec
+     * Values <i>V</i> are removed from the domain of <i>x</i> when each tuple <i>t</i> with <i>t[x] &isin; V</i>
+     * is invalid, that is when the domain of another variable <i>y</i> does not contain <i>t[y]</i>.
+     * For each of these tuples, such a variable is picked, preferably one already picked for a previous tuple,
+     * and only the values it invalidates, <i>K_y</i>, appear in the explanation:
+     * <pre>
+     *     (x &notin; V &or; y_1 &isin; K_1 &or; ... &or; y_k &isin; K_k)
+     * </pre>
+     * The default explanation is used when <i>x</i> appears more than once in the scope.
+     */
+    @Override
+    public void explain(int p, ExplanationForSignedClause explanation) {
+        IntVar pivot = explanation.readVar(p);
+        int x = -1;
+        for (int i = 0; i < vars.length && x > -2; i++) {
+            if (vars[i] == pivot) {
+                x = x == -1 ? i : -2;
+            }
+        }
+        if (x < 0) {
+            Propagator.defaultExplain(this, p, explanation);
+            return;
+        }
+        IntIterableRangeSet removed = explanation.domain(pivot);
+        removed.removeAll(explanation.readDom(p));
+        IntIterableRangeSet[] picked = new IntIterableRangeSet[vars.length];
+        boolean star = tuples.allowUniversalValue();
+        for (int t = 0; t < tuples.nbTuples(); t++) {
+            int v = tuples.get(t, x);
+            if (star && v == tuples.getStarValue() || removed.contains(v)) {
+                int y = invalidatedBy(t, x, picked, explanation);
+                if (y == -1) {
+                    // the removal does not come from the tuples only
+                    for (int i = 0; i < vars.length; i++) {
+                        if (picked[i] != null) {
+                            explanation.returnSet(picked[i]);
+                        }
+                    }
+                    explanation.returnSet(removed);
+                    Propagator.defaultExplain(this, p, explanation);
+                    return;
+                }
+                if (y >= 0) {
+                    if (picked[y] == null) {
+                        picked[y] = explanation.empty();
+                    }
+                    picked[y].add(tuples.get(t, y));
+                }
+            }
+        }
+        for (int i = 0; i < vars.length; i++) {
+            if (picked[i] != null) {
+                vars[i].unionLit(picked[i], explanation);
+            }
+        }
+        IntIterableRangeSet set = explanation.universe();
+        set.removeAll(removed);
+        explanation.returnSet(removed);
+        pivot.intersectLit(set, explanation);
+    }
+
+    /**
+     * @param t           index of a tuple
+     * @param x           index of the pivot variable
+     * @param picked      values already picked for each variable, <i>null</i> if none
+     * @param explanation the explanation
+     * @return the index of a variable whose domain, before the modification, does not contain its value in <i>t</i>,
+     * preferably one already picked, -2 if <i>t</i> is not valid wrt the root domains and -1 if <i>t</i> is valid
+     */
+    private int invalidatedBy(int t, int x, IntIterableRangeSet[] picked, ExplanationForSignedClause explanation) {
+        int first = -1;
+        for (int i = 0; i < vars.length; i++) {
+            int w = tuples.get(t, i);
+            if (i == x || tuples.allowUniversalValue() && w == tuples.getStarValue()) {
+                continue;
+            }
+            if (!explanation.getImplicationGraph().getRootDomain(vars[i]).contains(w)) {
+                return -2;
+            }
+            if (!explanation.readDom(vars[i]).contains(w)) {
+                if (picked[i] != null) {
+                    return i;
+                }
+                if (first == -1) {
+                    first = i;
+                }
+            }
+        }
+        return first;
+    }
+
 //***********************************************************************************
 // RSparseBitSet
 //***********************************************************************************
 
+    /**
+     * Reversible sparse bitset [1], whose words are stored in a contiguous array.
+     * <p>
+     * Instead of one reversible long per word, words are trailed by the bitset itself:
+     * the first modification of a word since the last world push or pop saves its previous value,
+     * and a single operation per world, registered to the environment, restores the saved words on backtrack.
+     * Since the time stamp of the environment changes on each push and pop, stamps never need to be reset.
+     * As long as no word is empty, operations on the mask loop over the arrays without indirection,
+     * which the JIT compiler can unroll and vectorize.
+     * <p>
+     * [1]: J. Demeulenaere, R. Hartert, C. Lecoutre, G. Perez, L. Perron, J.-C. Régin, P. Schaus,
+     * Compact-Table: Efficiently Filtering Table Constraints with Reversible Sparse Bit-Sets, CP-16.
+     */
     protected class RSparseBitSet {
-        protected IStateLong[] words;
-        private int[] index;
-        private IStateInt limit;
-        private long[] mask;
+        protected final long[] words;
+        private final int[] index;
+        private final IStateInt limit;
+        private final long[] mask;
+        private final IEnvironment environment;
+        // time stamp of the last save of each word
+        private final int[] stamps;
+        // time stamp of the last operation registered to the environment
+        private int stamp;
+        // saved words: offsets and previous values
+        private int[] trailOffsets;
+        private long[] trailWords;
+        private int trailSize;
 
         protected RSparseBitSet(IEnvironment environment, int nbBits) {
             int nw = nbBits / 64;
             if (nw * 64 < nbBits) nw++;
+            this.environment = environment;
             index = new int[nw];
             mask = new long[nw];
             limit = environment.makeInt(nw - 1);
-            words = new IStateLong[nw];
+            words = new long[nw];
+            stamps = new int[nw];
+            Arrays.fill(stamps, -1);
+            stamp = -1;
+            trailOffsets = new int[16];
+            trailWords = new long[16];
             for (int i = 0; i < nw; i++) {
                 index[i] = i;
-                words[i] = environment.makeLong(-1L);
+                words[i] = -1L;
             }
         }
 
-        private boolean isEmpty() {
+        boolean isEmpty() {
             return limit.get() == -1;
         }
 
+        private boolean isDense() {
+            return limit.get() == words.length - 1;
+        }
+
         protected void clearMask() {
-            for (int i = limit.get(); i >= 0; i--) {
-                int offset = index[i];
-                mask[offset] = 0L;
+            if (isDense()) {
+                Arrays.fill(mask, 0L);
+            } else {
+                for (int i = limit.get(); i >= 0; i--) {
+                    mask[index[i]] = 0L;
+                }
             }
         }
 
         protected void reverseMask() {
-            for (int i = limit.get(); i >= 0; i--) {
-                int offset = index[i];
-                mask[offset] = ~mask[offset];
+            long[] m = mask;
+            if (isDense()) {
+                for (int o = 0; o < m.length; o++) {
+                    m[o] = ~m[o];
+                }
+            } else {
+                for (int i = limit.get(); i >= 0; i--) {
+                    int offset = index[i];
+                    m[offset] = ~m[offset];
+                }
             }
         }
 
         protected void addToMask(long[] wordsToAdd) {
-            for (int i = limit.get(); i >= 0; i--) {
-                int offset = index[i];
-                mask[offset] = mask[offset] | wordsToAdd[offset];
+            long[] m = mask;
+            if (isDense()) {
+                for (int o = 0; o < m.length; o++) {
+                    m[o] |= wordsToAdd[o];
+                }
+            } else {
+                for (int i = limit.get(); i >= 0; i--) {
+                    int offset = index[i];
+                    m[offset] |= wordsToAdd[offset];
+                }
             }
         }
 
-        private void intersectWithMask() {
-            for (int i = limit.get(); i >= 0; i--) {
+        void intersectWithMask() {
+            long[] ws = words;
+            long[] m = mask;
+            int l = limit.get();
+            for (int i = l; i >= 0; i--) {
                 int offset = index[i];
-                long w = words[offset].get() & mask[offset];
-                if (words[offset].get() != w) {
-                    words[offset].set(w);
+                long w = ws[offset] & m[offset];
+                if (ws[offset] != w) {
+                    save(offset);
+                    ws[offset] = w;
                     if (w == 0L) {
-                        index[i] = index[limit.get()];
-                        index[limit.get()] = offset;
-                        limit.add(-1);
+                        index[i] = index[l];
+                        index[l] = offset;
+                        l--;
                     }
                 }
             }
+            limit.set(l);
         }
 
-        private int intersectIndex(long[] m) {
+        int intersectIndex(long[] m) {
+            long[] ws = words;
             for (int i = limit.get(); i >= 0; i--) {
                 int offset = index[i];
-                if ((words[offset].get() & m[offset]) != 0L) {
+                if ((ws[offset] & m[offset]) != 0L) {
                     return offset;
                 }
             }
             return -1;
         }
+
+        /**
+         * Save the current value of the word at <i>offset</i>, if not already done in this world
+         */
+        private void save(int offset) {
+            if (environment.getWorldIndex() == 0) {
+                return;
+            }
+            int ts = environment.getTimeStamp();
+            if (stamp != ts) {
+                stamp = ts;
+                int from = trailSize;
+                environment.save(() -> restore(from));
+            }
+            if (stamps[offset] != ts) {
+                stamps[offset] = ts;
+                if (trailSize == trailOffsets.length) {
+                    trailOffsets = Arrays.copyOf(trailOffsets, trailSize * 3 / 2 + 1);
+                    trailWords = Arrays.copyOf(trailWords, trailOffsets.length);
+                }
+                trailOffsets[trailSize] = offset;
+                trailWords[trailSize++] = words[offset];
+            }
+        }
+
+        private void restore(int from) {
+            while (trailSize > from) {
+                trailSize--;
+                words[trailOffsets[trailSize]] = trailWords[trailSize];
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -73,38 +73,49 @@ public class PropCompactTableStar extends PropCompactTable {
     protected void computeSupports(Tuples tuples) {
         int n = vars.length;
         offset = new int[n];
-        supports = new long[n][][];
-        inc_supports = new long[n][][];
         residues = new int[n][];
         for (int i = 0; i < n; i++) {
-            int lb = vars[i].getLB();
-            int ub = vars[i].getUB();
-            offset[i] = lb;
-            supports[i] = new long[ub - lb + 1][currTable.words.length];
-            inc_supports[i] = new long[ub - lb + 1][currTable.words.length];
-            residues[i] = new int[ub - lb + 1];
+            offset[i] = vars[i].getLB();
+            residues[i] = new int[vars[i].getUB() - offset[i] + 1];
+        }
+        long[][][][] both = model.getTuplesStore().share("CT*", tuples, vars, () -> buildSupports(tuples));
+        supports = both[0];
+        inc_supports = both[1];
+    }
+
+    /**
+     * Build the supports and the strict supports of each value, which only depend on the tuples
+     * and the bounds of the variables, so that they can be shared among propagators.
+     */
+    private long[][][][] buildSupports(Tuples tuples) {
+        int n = vars.length;
+        long[][][] supports = new long[n][][];
+        long[][][] inc_supports = new long[n][][];
+        for (int i = 0; i < n; i++) {
+            int size = vars[i].getUB() - offset[i] + 1;
+            supports[i] = new long[size][currTable.words.length];
+            inc_supports[i] = new long[size][currTable.words.length];
         }
         int wI = 0;
         byte bI = 63;
         int star = tuples.getStarValue();
         top:
         for (int ti = 0; ti < tuples.nbTuples(); ti++) {
-            int[] tuple = tuples.get(ti);
-            for (int i = 0; i < tuple.length; i++) {
-                if (!vars[i].contains(tuple[i]) && tuple[i] != star) {
+            for (int i = 0; i < n; i++) {
+                int val = tuples.get(ti, i);
+                if ((val < offset[i] || val >= offset[i] + supports[i].length) && val != star) {
                     continue top;
                 }
             }
             long index = 1L << bI;
-            for (int i = 0; i < tuple.length; i++) {
-                int val = tuple[i];
+            for (int i = 0; i < n; i++) {
+                int val = tuples.get(ti, i);
                 if (val != star) {
                     supports[i][val - offset[i]][wI] |= index;
                     inc_supports[i][val - offset[i]][wI] |= index;
                 } else {
-                    int u = supports[i].length + offset[i];
-                    for (val = offset[i]; val <= u; val = vars[i].nextValue(val)) {
-                        supports[i][val - offset[i]][wI] |= index;
+                    for (int k = 0; k < supports[i].length; k++) {
+                        supports[i][k][wI] |= index;
                     }
                 }
             }
@@ -113,5 +124,6 @@ public class PropCompactTableStar extends PropCompactTable {
                 wI++;
             }
         }
+        return new long[][][][]{supports, inc_supports};
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,388 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension.nary;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.extension.SmartTuples;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.procedure.UnaryIntProcedure;
+
+import java.util.Arrays;
+
+/**
+ * Propagator for smart table constraint based on "Extending Compact-Table to Basic Smart Tables" (CP-17).
+ * <p>
+ * Supports of a value are the smart tuples whose unary restriction over the column accepts the value.
+ * Smart tuples with a comparison between two columns are not in the supports of these columns,
+ * they are checked against the domains of both variables instead,
+ * which also provides the values they support.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class PropSmartTable extends PropCompactTable {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final SmartTuples smartTuples;
+    // supports of a value by "=" restrictions only, to update the table from removed values
+    private long[][][] eqSupports;
+    // set to true when a column only has "=", "*" or binary restrictions
+    private final boolean[] deltaSafe;
+    // for each column, the smart tuples comparing it with another column, null if none
+    private final long[][] binaries;
+    // smart tuples comparing two columns, and their columns
+    private final int[] binTuples;
+    private final int[][] binCols;
+    // smart tuples to remove from the table
+    private final long[] invalid;
+    // values supported by binary restrictions, per column: those not greater than upTo, those not less than from,
+    // those different from neValue (all if neAll) and those in the domains of the columns of eqWith
+    private final int[] upTo, from, neValue;
+    private final boolean[] neAll, neSet;
+    private final TIntArrayList[] eqWith;
+    private final UnaryIntProcedure<Integer> onEqRem;
+
+    //***********************************************************************************
+    // CONSTRUCTOR
+    //***********************************************************************************
+
+    /**
+     * Create a propagator for smart table constraint
+     *
+     * @param vars   scope
+     * @param tuples list of allowed smart tuples
+     */
+    public PropSmartTable(IntVar[] vars, SmartTuples tuples) {
+        super(vars, tuples.nbTuples());
+        this.smartTuples = tuples;
+        int n = vars.length;
+        this.deltaSafe = new boolean[n];
+        this.binaries = new long[n][];
+        this.invalid = new long[currTable.words.length];
+        TIntArrayList bt = new TIntArrayList();
+        for (int t = 0; t < tuples.nbTuples(); t++) {
+            for (int i = 0; i < n; i++) {
+                if (tuples.get(t, i).getKind() == SmartTuples.Kind.BINARY) {
+                    bt.add(t);
+                    break;
+                }
+            }
+        }
+        this.binTuples = bt.toArray();
+        this.binCols = new int[binTuples.length][];
+        this.upTo = new int[n];
+        this.from = new int[n];
+        this.neValue = new int[n];
+        this.neAll = new boolean[n];
+        this.neSet = new boolean[n];
+        this.eqWith = new TIntArrayList[n];
+        for (int i = 0; i < n; i++) {
+            eqWith[i] = new TIntArrayList();
+        }
+        computeSmartSupports();
+        this.onEqRem = makeProcedure();
+    }
+
+    //***********************************************************************************
+    // INITIALIZATION
+    //***********************************************************************************
+
+    @Override
+    protected UnaryIntProcedure<Integer> makeProcedure() {
+        return new UnaryIntProcedure<Integer>() {
+            int var, off;
+
+            @Override
+            public UnaryIntProcedure set(Integer o) {
+                var = o;
+                off = offset[var];
+                return this;
+            }
+
+            @Override
+            public void execute(int i) throws ContradictionException {
+                currTable.addToMask((eqSupports[var][i - off]));
+            }
+        };
+    }
+
+    private void computeSmartSupports() {
+        int n = vars.length;
+        int nw = currTable.words.length;
+        offset = new int[n];
+        supports = new long[n][][];
+        eqSupports = new long[n][][];
+        residues = new int[n][];
+        Arrays.fill(deltaSafe, true);
+        for (int i = 0; i < n; i++) {
+            int lb = vars[i].getLB();
+            int ub = vars[i].getUB();
+            offset[i] = lb;
+            supports[i] = new long[ub - lb + 1][nw];
+            eqSupports[i] = new long[ub - lb + 1][nw];
+            residues[i] = new int[ub - lb + 1];
+        }
+        int b = 0;
+        for (int t = 0; t < smartTuples.nbTuples(); t++) {
+            int w = t >>> 6;
+            long bit = 1L << (63 - (t & 63));
+            if (b < binTuples.length && binTuples[b] == t) {
+                TIntArrayList cols = new TIntArrayList();
+                for (int i = 0; i < n; i++) {
+                    SmartTuples.Cell c = smartTuples.get(t, i);
+                    if (c.getKind() == SmartTuples.Kind.BINARY && i < c.getValue()) {
+                        cols.add(i);
+                        cols.add(c.getValue());
+                    }
+                }
+                binCols[b++] = cols.toArray();
+            }
+            for (int i = 0; i < n; i++) {
+                SmartTuples.Cell c = smartTuples.get(t, i);
+                switch (c.getKind()) {
+                    case BINARY:
+                        if (binaries[i] == null) {
+                            binaries[i] = new long[nw];
+                        }
+                        binaries[i][w] |= bit;
+                        break;
+                    case UNARY:
+                        if (c.getOperator() == Operator.EQ) {
+                            int v = c.getValue() - offset[i];
+                            if (v >= 0 && v < supports[i].length) {
+                                supports[i][v][w] |= bit;
+                                eqSupports[i][v][w] |= bit;
+                            }
+                            break;
+                        }
+                        // otherwise, go through values
+                    default:
+                        deltaSafe[i] &= c.getKind() == SmartTuples.Kind.ANY;
+                        for (int v = 0; v < supports[i].length; v++) {
+                            if (c.accepts(v + offset[i])) {
+                                supports[i][v][w] |= bit;
+                            }
+                        }
+                        break;
+                }
+            }
+        }
+    }
+
+    //***********************************************************************************
+    // FILTERING
+    //***********************************************************************************
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (PropagatorEventType.isFullPropagation(evtmask)) {
+            for (int i = 0; i < vars.length; i++) {
+                resetTable(i);
+            }
+        }
+        removeInvalidBinaries();
+        filterDomains();
+    }
+
+    @Override
+    public void propagate(int vIdx, int mask) throws ContradictionException {
+        if (deltaSafe[vIdx] && vars[vIdx].getDomainSize() > monitors[vIdx].sizeApproximation()) {
+            currTable.clearMask();
+            monitors[vIdx].forEachRemVal(onEqRem.set(vIdx));
+            currTable.reverseMask();
+            currTable.intersectWithMask();
+        } else {
+            resetTable(vIdx);
+        }
+        if (currTable.isEmpty()) { // fail as soon as possible
+            fails();
+        }
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+    }
+
+    /**
+     * Keep in the table the smart tuples whose restriction on <i>vars[i]</i> can still be satisfied
+     */
+    private void resetTable(int i) {
+        currTable.clearMask();
+        int ub = vars[i].getUB();
+        for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
+            currTable.addToMask(supports[i][v - offset[i]]);
+        }
+        if (binaries[i] != null) {
+            currTable.addToMask(binaries[i]);
+        }
+        currTable.intersectWithMask();
+    }
+
+    /**
+     * Remove from the table the smart tuples with an unsatisfiable comparison between two columns
+     */
+    private void removeInvalidBinaries() {
+        boolean found = false;
+        for (int b = 0; b < binTuples.length; b++) {
+            int t = binTuples[b];
+            int w = t >>> 6;
+            long bit = 1L << (63 - (t & 63));
+            if ((currTable.words[w] & bit) != 0) {
+                int[] cols = binCols[b];
+                for (int k = 0; k < cols.length; k += 2) {
+                    if (!satisfiable(t, cols[k], cols[k + 1])) {
+                        invalid[w] |= bit;
+                        found = true;
+                        break;
+                    }
+                }
+            }
+        }
+        if (found) {
+            currTable.clearMask();
+            currTable.addToMask(invalid);
+            currTable.reverseMask();
+            currTable.intersectWithMask();
+            Arrays.fill(invalid, 0L);
+        }
+    }
+
+    private boolean satisfiable(int t, int i, int j) {
+        IntVar x = vars[i];
+        IntVar y = vars[j];
+        switch (smartTuples.get(t, i).getOperator()) {
+            case LT:
+                return x.getLB() < y.getUB();
+            case LE:
+                return x.getLB() <= y.getUB();
+            case GT:
+                return x.getUB() > y.getLB();
+            case GE:
+                return x.getUB() >= y.getLB();
+            case NQ:
+                return !x.isInstantiated() || !y.isInstantiated() || x.getValue() != y.getValue();
+            default: // EQ
+                if (x.getDomainSize() > y.getDomainSize()) {
+                    x = vars[j];
+                    y = vars[i];
+                }
+                int ub = x.getUB();
+                for (int v = x.getLB(); v <= ub; v = x.nextValue(v)) {
+                    if (y.contains(v)) {
+                        return true;
+                    }
+                }
+                return false;
+        }
+    }
+
+    @Override
+    protected void filterDomains() throws ContradictionException {
+        if (binTuples.length > 0) {
+            computeBinarySupports();
+        }
+        super.filterDomains();
+    }
+
+    /**
+     * Compute the values supported by the valid smart tuples comparing two columns
+     */
+    private void computeBinarySupports() {
+        Arrays.fill(upTo, Integer.MIN_VALUE);
+        Arrays.fill(from, Integer.MAX_VALUE);
+        Arrays.fill(neAll, false);
+        Arrays.fill(neSet, false);
+        for (int i = 0; i < vars.length; i++) {
+            eqWith[i].resetQuick();
+        }
+        for (int b = 0; b < binTuples.length; b++) {
+            int t = binTuples[b];
+            if ((currTable.words[t >>> 6] & (1L << (63 - (t & 63)))) != 0) {
+                int[] cols = binCols[b];
+                for (int k = 0; k < cols.length; k += 2) {
+                    int i = cols[k];
+                    int j = cols[k + 1];
+                    binarySupports(i, j, smartTuples.get(t, i));
+                    binarySupports(j, i, smartTuples.get(t, j));
+                }
+            }
+        }
+    }
+
+    private void binarySupports(int i, int j, SmartTuples.Cell c) {
+        IntVar y = vars[j];
+        switch (c.getOperator()) {
+            case LT:
+                upTo[i] = Math.max(upTo[i], y.getUB() - 1);
+                break;
+            case LE:
+                upTo[i] = Math.max(upTo[i], y.getUB());
+                break;
+            case GT:
+                from[i] = Math.min(from[i], y.getLB() + 1);
+                break;
+            case GE:
+                from[i] = Math.min(from[i], y.getLB());
+                break;
+            case NQ:
+                if (!y.isInstantiated() || (neSet[i] && neValue[i] != y.getValue())) {
+                    neAll[i] = true;
+                } else {
+                    neSet[i] = true;
+                    neValue[i] = y.getValue();
+                }
+                break;
+            default: // EQ
+                if (!eqWith[i].contains(j)) {
+                    eqWith[i].add(j);
+                }
+                break;
+        }
+    }
+
+    @Override
+    protected boolean isSupported(int i, int v) {
+        if (super.isSupported(i, v)) {
+            return true;
+        }
+        if (binaries[i] == null) {
+            return false;
+        }
+        if (v <= upTo[i] || v >= from[i] || neAll[i] || (neSet[i] && v != neValue[i])) {
+            return true;
+        }
+        for (int k = 0; k < eqWith[i].size(); k++) {
+            if (vars[eqWith[i].getQuick(k)].contains(v)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public ESat isEntailed() {
+        return smartTuples.check(vars);
+    }
+
+    /**
+     * @implSpec
+     * Smart tuples are not scanned, the default explanation is used.
+     */
+    @Override
+    public void explain(int p, ExplanationForSignedClause explanation) {
+        Propagator.defaultExplain(this, p, explanation);
+    }
+}
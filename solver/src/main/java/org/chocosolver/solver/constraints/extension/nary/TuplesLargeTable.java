@@ -75,10 +75,10 @@ public class TuplesLargeTable extends LargeRelation {
 
         tables = new TIntObjectHashMap<>();
         int nt = tuples.nbTuples();
+        int[] tuple = new int[n];
         for (int i = 0; i < nt; i++) {
-            int[] tuple = tuples.get(i);
-            if (valid(tuple, vars)) {
-                setTuple(tuple);
+            if (valid(tuples, i, vars)) {
+                setTuple(tuples.get(i, tuple));
             }
         }
     }
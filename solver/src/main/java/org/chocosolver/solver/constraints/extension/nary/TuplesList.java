@@ -48,9 +48,8 @@ public class TuplesList extends LargeRelation {
         int[][] _tuplesIndexes = new int[nb][];
         int k = 0;
         for (int i = 0; i < nb; i++) {
-            int[] tuple = tuples.get(i);
-            if (valid(tuple, vars)) {
-                _tuplesIndexes[k++] = tuple;
+            if (valid(tuples, i, vars)) {
+                _tuplesIndexes[k++] = tuples.get(i);
             }
         }
         tuplesIndexes = new int[k][];
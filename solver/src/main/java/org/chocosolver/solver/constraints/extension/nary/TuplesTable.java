@@ -69,10 +69,10 @@ public class TuplesTable extends LargeRelation {
         }
         table = new BitSet(totalSize);
         int nt = tuples.nbTuples();
+        int[] tuple = new int[n];
         for (int i = 0; i < nt; i++) {
-            int[] tuple = tuples.get(i);
-            if (valid(tuple, vars)) {
-                setTuple(tuple);
+            if (valid(tuples, i, vars)) {
+                setTuple(tuples.get(i, tuple));
             }
         }
     }
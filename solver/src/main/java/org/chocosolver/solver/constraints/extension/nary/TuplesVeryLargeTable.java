@@ -37,10 +37,10 @@ public class TuplesVeryLargeTable extends LargeRelation {
         feasible = tuples.isFeasible();
         supports = new TIntObjectHashMap<>();
         int nt = tuples.nbTuples();
+        int[] tuple = new int[n];
         for (int i = 0; i < nt; i++) {
-            int[] tuple = tuples.get(i);
-            if (valid(tuple, vars)) {
-                setTuple(tuple);
+            if (valid(tuples, i, vars)) {
+                setTuple(tuples.get(i, tuple));
             }
         }
     }
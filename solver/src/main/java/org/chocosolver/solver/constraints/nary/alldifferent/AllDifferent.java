@@ -24,6 +24,7 @@ public class AllDifferent extends Constraint {
     public static final String AC= "AC";
     public static final String AC_REGIN= "AC_REGIN";
     public static final String AC_ZHANG = "AC_ZHANG";
+    public static final String AC_INCREMENTAL = "AC_INCREMENTAL";
     public static final String BC= "BC";
     public static final String FC= "FC";
     public static final String NEQS= "NEQS";
@@ -52,6 +53,8 @@ public class AllDifferent extends Constraint {
                 return new Propagator[]{new PropAllDiffInst(VARS), new PropAllDiffBC(VARS)};
             case AC_REGIN:
                 return new Propagator[]{new PropAllDiffInst(VARS), new PropAllDiffAC(VARS, false)};
+            case AC_INCREMENTAL:
+                return new Propagator[]{new PropAllDiffInst(VARS), new PropAllDiffACIncremental(VARS)};
             case AC:
             case AC_ZHANG:
                 return new Propagator[]{new PropAllDiffInst(VARS), new PropAllDiffAC(VARS, true)};
@@ -0,0 +1,67 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.alldifferent;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.nary.alldifferent.algo.AlgoAllDiffACIncremental;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
+
+/**
+ * Propagator for AllDifferent AC constraint for integer variables
+ * <p/>
+ * Uses Regin algorithm, without building any graph,
+ * and only computes again the strongly connected components impacted by domain modifications.
+ * Suited for large domains.
+ * <p/>
+ *
+ * @author Charles Prud'homme
+ * @see AlgoAllDiffACIncremental
+ * @since 18/10/2026
+ */
+public class PropAllDiffACIncremental extends Propagator<IntVar> {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    protected AlgoAllDiffACIncremental filter;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    /**
+     * AllDifferent constraint for integer variables
+     *
+     * @param variables array of integer variables
+     */
+    public PropAllDiffACIncremental(IntVar[] variables) {
+        super(variables, PropagatorPriority.QUADRATIC, false);
+        this.filter = new AlgoAllDiffACIncremental(variables, this);
+    }
+
+    //***********************************************************************************
+    // PROPAGATION
+    //***********************************************************************************
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        filter.propagate();
+    }
+
+    @Override
+    public ESat isEntailed() {
+        return ESat.TRUE; // redundant propagator (used with PropAllDiffInst)
+    }
+
+}
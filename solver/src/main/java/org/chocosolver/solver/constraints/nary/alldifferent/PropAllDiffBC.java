@@ -13,9 +13,11 @@ import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.nary.alldifferent.algo.AlgoAllDiffBC;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 
 /**
  * Based on: </br>
@@ -52,4 +54,94 @@ public class PropAllDiffBC extends Propagator<IntVar> {
         return ESat.TRUE; // redundant propagator (use PropAllDiffInst)
     }
 
+    /**
+     * @implSpec
+     * A bound of a variable <i>x</i> is only updated when the values between its previous and its new bound
+     * are included in a Hall interval [a,b], that is an interval which contains the domains of
+     * <i>b - a + 1</i> other variables <i>y_1, ..., y_k</i>.
+     * Such an interval is computed back from the domains before the modification,
+     * then only the variables of the Hall set appear in the explanation:
+     * <pre>
+     *     (x &notin; [a,b] &or; y_1 &notin; [a,b] &or; ... &or; y_k &notin; [a,b])
+     * </pre>
+     * When both bounds are modified at once, or on failure, the default explanation is used.
+     */
+    @Override
+    public void explain(int p, ExplanationForSignedClause explanation) {
+        IntVar pivot = explanation.readVar(p);
+        IntIterableRangeSet before = explanation.readDom(pivot);
+        IntIterableRangeSet after = explanation.readDom(p);
+        int[] hall = null;
+        if (!after.isEmpty()) {
+            if (after.min() > before.min() && after.max() == before.max()) {
+                hall = findHallInterval(pivot, before.min(), after.min() - 1, true, explanation);
+            } else if (after.max() < before.max() && after.min() == before.min()) {
+                hall = findHallInterval(pivot, after.max() + 1, before.max(), false, explanation);
+            }
+        }
+        if (hall == null) {
+            Propagator.defaultExplain(this, p, explanation);
+            return;
+        }
+        int a = hall[0], b = hall[1];
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i] != pivot) {
+                IntIterableRangeSet dom = explanation.readDom(vars[i]);
+                if (dom.min() >= a && dom.max() <= b) {
+                    vars[i].unionLit(IntIterableRangeSet.MIN, a - 1, explanation);
+                    vars[i].unionLit(b + 1, IntIterableRangeSet.MAX, explanation);
+                }
+            }
+        }
+        IntIterableRangeSet set = explanation.universe();
+        set.removeBetween(a, b);
+        pivot.intersectLit(set, explanation);
+    }
+
+    /**
+     * Look for the smallest Hall interval [a,b] which includes [from,to],
+     * with respect to the domains of the variables but <i>pivot</i> before the current modification.
+     *
+     * @param pivot       the modified variable
+     * @param from        first removed value
+     * @param to          last removed value
+     * @param fixUpper    set to <i>true</i> if b is equal to <i>to</i> (lower bound update),
+     *                    to <i>false</i> if a is equal to <i>from</i> (upper bound update)
+     * @param explanation the explanation
+     * @return the Hall interval as {a, b}, or <i>null</i> if none is found
+     */
+    private int[] findHallInterval(IntVar pivot, int from, int to, boolean fixUpper,
+                                   ExplanationForSignedClause explanation) {
+        int[] lbs = new int[vars.length];
+        int[] ubs = new int[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i] != pivot) {
+                IntIterableRangeSet dom = explanation.readDom(vars[i]);
+                lbs[i] = dom.min();
+                ubs[i] = dom.max();
+            }
+        }
+        int[] best = null;
+        for (int k = 0; k < vars.length; k++) {
+            if (vars[k] == pivot) {
+                continue;
+            }
+            int a = fixUpper ? lbs[k] : from;
+            int b = fixUpper ? to : ubs[k];
+            if (a > from || b < to || (best != null && b - a >= best[1] - best[0])) {
+                continue;
+            }
+            int count = 0;
+            for (int i = 0; i < vars.length; i++) {
+                if (vars[i] != pivot && lbs[i] >= a && ubs[i] <= b) {
+                    count++;
+                }
+            }
+            if (count >= b - a + 1) {
+                best = new int[]{a, b};
+            }
+        }
+        return best;
+    }
+
 }
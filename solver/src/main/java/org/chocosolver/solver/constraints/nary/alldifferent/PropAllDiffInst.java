@@ -154,6 +154,10 @@ public class PropAllDiffInst extends Propagator<IntVar> {
         int[] X = IntStream.rangeClosed(0, vars.length - 1).filter(i->vars[i]!=pivot).toArray();
         switch (e.readMask(p)) {
             case 1://REMOVE
+            case 2://INCLOW
+            case 4://DECUPP
+            case 8://INSTANTIATE
+                // one value is removed at a time, which may modify a bound or instantiate the variable
                 IntIterableRangeSet dbef = e.domain(pivot);
                 dbef.removeAll(e.readDom(p));
                 int t = dbef.min();
@@ -162,9 +166,6 @@ public class PropAllDiffInst extends Propagator<IntVar> {
                 set.remove(t);
                 pivot.intersectLit(set, e);
                 break;
-            case 2://INCLOW
-            case 4://DECUPP
-            case 8://INSTANTIATE
             case 0://VOID
             case 6://BOUND inclow+decup
             default:
@@ -0,0 +1,345 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.alldifferent.algo;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Algorithm of Alldifferent with AC, based on Regin algorithm, designed for large domains.
+ * <p/>
+ * No graph is built: the edges of the residual graph are read from the domains and the matching.
+ * The matching is kept across calls, and only the variables which lost their matched value are matched again.
+ * There is no need to make it reversible: on backtrack, domains grow back, so a matching stays valid.
+ * <p/>
+ * The strongly connected component of each node is stored in a reversible way.
+ * Since removing values can only split components (except the one containing the free values),
+ * the components are only computed again on the nodes of the components where a domain changed,
+ * plus the component containing the free values.
+ * <p/>
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class AlgoAllDiffACIncremental {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final IntVar[] vars;
+    private final Propagator<IntVar> aCause;
+    // number of variables, number of nodes (variables, values and the sink)
+    private final int n, n2, sink;
+    // value to node, either by offset or by hashing
+    private final int offset;
+    private final int[] nodes;
+    private final TIntIntHashMap map;
+    // value of each value node (indexed from n)
+    private final int[] values;
+    // matched value node of each variable, matched variable of each value node (-1 if free)
+    private final int[] matching, mate;
+    // component of each node, as the index of its root
+    private final IStateInt[] comp;
+    // domain sizes at the end of the last call
+    private final IStateInt[] sizes;
+    // nodes on which components are computed again
+    private final BitSet dirty, dirtyComps;
+    // for augmenting paths (BFS)
+    private final int[] father, fifo;
+    private final BitSet in;
+    // for Tarjan algorithm
+    private final int[] index, low, cursor, stack, callStack;
+    private final BitSet onStack;
+    private static final int NONE = Integer.MIN_VALUE;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    public AlgoAllDiffACIncremental(IntVar[] variables, Propagator<IntVar> cause) {
+        this.vars = variables;
+        this.aCause = cause;
+        this.n = vars.length;
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        TIntIntHashMap valueToNode = new TIntIntHashMap();
+        int idx = n;
+        for (IntVar v : vars) {
+            min = Math.min(min, v.getLB());
+            max = Math.max(max, v.getUB());
+            int ub = v.getUB();
+            for (int k = v.getLB(); k <= ub; k = v.nextValue(k)) {
+                if (!valueToNode.containsKey(k)) {
+                    valueToNode.put(k, idx++);
+                }
+            }
+        }
+        this.n2 = idx;
+        this.values = new int[n2 - n];
+        valueToNode.forEachEntry((k, j) -> {
+            values[j - n] = k;
+            return true;
+        });
+        this.sink = n2;
+        long range = (long) max - min + 1;
+        if (range <= 16L * (n2 - n) && range < 1 << 24) {
+            this.offset = min;
+            this.nodes = new int[(int) range];
+            Arrays.fill(nodes, -1);
+            for (int j = n; j < n2; j++) {
+                nodes[values[j - n] - min] = j;
+            }
+            this.map = null;
+        } else {
+            this.offset = 0;
+            this.nodes = null;
+            this.map = valueToNode;
+        }
+        this.matching = new int[n];
+        Arrays.fill(matching, -1);
+        this.mate = new int[n2];
+        Arrays.fill(mate, -1);
+        IEnvironment environment = vars[0].getModel().getEnvironment();
+        this.comp = new IStateInt[n2 + 1];
+        for (int i = 0; i <= n2; i++) {
+            comp[i] = environment.makeInt(0);
+        }
+        this.sizes = new IStateInt[n];
+        for (int i = 0; i < n; i++) {
+            sizes[i] = environment.makeInt(-1);
+        }
+        this.dirty = new BitSet(n2 + 1);
+        this.dirtyComps = new BitSet(n2 + 1);
+        this.father = new int[n2];
+        this.fifo = new int[n2];
+        this.in = new BitSet(n2);
+        this.index = new int[n2 + 1];
+        this.low = new int[n2 + 1];
+        this.cursor = new int[n2 + 1];
+        this.stack = new int[n2 + 1];
+        this.callStack = new int[n2 + 1];
+        this.onStack = new BitSet(n2 + 1);
+    }
+
+    private int node(int value) {
+        return nodes != null ? nodes[value - offset] : map.get(value);
+    }
+
+    //***********************************************************************************
+    // PROPAGATION
+    //***********************************************************************************
+
+    public boolean propagate() throws ContradictionException {
+        dirtyComps.clear();
+        for (int i = 0; i < n; i++) {
+            if (vars[i].getDomainSize() != sizes[i].get()) {
+                dirtyComps.set(comp[i].get());
+            }
+        }
+        if (dirtyComps.isEmpty()) {
+            return false;
+        }
+        repairMatching();
+        // the component containing the free values may merge with others
+        dirtyComps.set(comp[sink].get());
+        dirty.clear();
+        for (int x = 0; x <= n2; x++) {
+            if (dirtyComps.get(comp[x].get())) {
+                dirty.set(x);
+            }
+        }
+        findSCC();
+        boolean filter = false;
+        for (int i = dirty.nextSetBit(0); i >= 0 && i < n; i = dirty.nextSetBit(i + 1)) {
+            filter |= filterVar(i);
+        }
+        for (int i = 0; i < n; i++) {
+            sizes[i].set(vars[i].getDomainSize());
+        }
+        return filter;
+    }
+
+    //***********************************************************************************
+    // MATCHING
+    //***********************************************************************************
+
+    private void repairMatching() throws ContradictionException {
+        for (int i = 0; i < n; i++) {
+            int j = matching[i];
+            if (j != -1 && !vars[i].contains(values[j - n])) {
+                matching[i] = -1;
+                mate[j] = -1;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if (matching[i] == -1) {
+                tryToMatch(i);
+            }
+        }
+    }
+
+    private void tryToMatch(int root) throws ContradictionException {
+        in.clear();
+        int indexFirst = 0, indexLast = 0;
+        fifo[indexLast++] = root;
+        in.set(root);
+        while (indexFirst != indexLast) {
+            int x = fifo[indexFirst++];
+            IntVar v = vars[x];
+            int ub = v.getUB();
+            for (int k = v.getLB(); k <= ub; k = v.nextValue(k)) {
+                int y = node(k);
+                if (y != matching[x] && !in.get(y)) {
+                    in.set(y);
+                    father[y] = x;
+                    if (mate[y] == -1) {
+                        // augment along the path
+                        while (y != -1) {
+                            int i = father[y];
+                            int next = matching[i];
+                            matching[i] = y;
+                            mate[y] = i;
+                            y = i == root ? -1 : next;
+                        }
+                        return;
+                    }
+                    int z = mate[y];
+                    if (!in.get(z)) {
+                        in.set(z);
+                        fifo[indexLast++] = z;
+                    }
+                }
+            }
+        }
+        aCause.fails();
+    }
+
+    //***********************************************************************************
+    // PRUNING
+    //***********************************************************************************
+
+    /**
+     * Tarjan algorithm, restricted to dirty nodes, in the residual graph:
+     * a variable points to the values of its domain except its matched one,
+     * a matched value points to its variable, a free value points to the sink
+     * and the sink points to matched values.
+     */
+    private void findSCC() {
+        for (int x = dirty.nextSetBit(0); x >= 0; x = dirty.nextSetBit(x + 1)) {
+            index[x] = -1;
+            cursor[x] = NONE;
+        }
+        int counter = 0;
+        int top = 0;
+        for (int root = dirty.nextSetBit(0); root >= 0; root = dirty.nextSetBit(root + 1)) {
+            if (index[root] != -1) {
+                continue;
+            }
+            int sp = 0;
+            callStack[sp++] = root;
+            index[root] = low[root] = counter++;
+            stack[top++] = root;
+            onStack.set(root);
+            while (sp > 0) {
+                int x = callStack[sp - 1];
+                int y = nextSuccessor(x);
+                if (y != -1) {
+                    if (index[y] == -1) {
+                        index[y] = low[y] = counter++;
+                        stack[top++] = y;
+                        onStack.set(y);
+                        callStack[sp++] = y;
+                    } else if (onStack.get(y)) {
+                        low[x] = Math.min(low[x], index[y]);
+                    }
+                } else {
+                    sp--;
+                    if (sp > 0) {
+                        int p = callStack[sp - 1];
+                        low[p] = Math.min(low[p], low[x]);
+                    }
+                    if (low[x] == index[x]) {
+                        int z;
+                        do {
+                            z = stack[--top];
+                            onStack.clear(z);
+                            comp[z].set(x);
+                        } while (z != x);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the next dirty successor of node <i>x</i>, -1 if none
+     */
+    private int nextSuccessor(int x) {
+        if (x < n) {
+            IntVar v = vars[x];
+            int ub = v.getUB();
+            int k = cursor[x] == NONE ? v.getLB() : v.nextValue(cursor[x]);
+            while (k <= ub) {
+                cursor[x] = k;
+                int y = node(k);
+                if (y != matching[x] && dirty.get(y)) {
+                    return y;
+                }
+                k = v.nextValue(k);
+            }
+            cursor[x] = Integer.MAX_VALUE;
+        } else if (x < n2) {
+            if (cursor[x] == NONE) {
+                cursor[x] = 0;
+                int y = mate[x] == -1 ? sink : mate[x];
+                if (dirty.get(y)) {
+                    return y;
+                }
+            }
+        } else {
+            int i = cursor[x] == NONE ? 0 : cursor[x] + 1;
+            while (i < n) {
+                cursor[x] = i;
+                int y = matching[i];
+                if (dirty.get(y)) {
+                    return y;
+                }
+                i++;
+            }
+            cursor[x] = n;
+        }
+        return -1;
+    }
+
+    private boolean filterVar(int i) throws ContradictionException {
+        boolean filter = false;
+        IntVar v = vars[i];
+        int c = comp[i].get();
+        int ub = v.getUB();
+        for (int k = v.getLB(); k <= ub; k = v.nextValue(k)) {
+            int j = node(k);
+            if (comp[j].get() != c) {
+                if (matching[i] == j) {
+                    filter |= v.instantiateTo(k, aCause);
+                } else {
+                    filter |= v.removeValue(k, aCause);
+                }
+            }
+        }
+        return filter;
+    }
+}
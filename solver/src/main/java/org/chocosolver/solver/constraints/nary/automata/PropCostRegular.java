@@ -146,29 +146,7 @@ public class PropCostRegular extends Propagator<IntVar> {
 
         vars[zIdx].updateBounds((int) ceil(zinf), (int) floor(zsup), this);
 
-        DisposableIntIterator it = this.graph.inGraph.getIterator();
-        //for (int id = this.graph.inGraph.nextSetBit(0) ; id >=0 ; id = this.graph.inGraph.nextSetBit(id+1))  {
-        while (it.hasNext()) {
-            int id = it.next();
-            int orig = this.graph.GArcs.origs[id];
-            int dest = this.graph.GArcs.dests[id];
-
-            double acost = this.graph.GArcs.costs[id];
-
-            double spfs = this.graph.GNodes.spfs.get(orig);
-            double lpfs = this.graph.GNodes.lpfs.get(orig);
-
-            double spft = this.graph.GNodes.spft.get(dest);
-            double lpft = this.graph.GNodes.lpft.get(dest);
-
-
-            if ((spfs + spft + acost > vars[zIdx].getUB() || lpfs + lpft + acost < vars[zIdx].getLB()) && this.graph.isNotInStack(id)) {
-                this.graph.setInStack(id);
-                this.toRemove.push(id);
-            }
-        }
-
-        it.dispose();
+        this.graph.checkBounds(vars[zIdx].getLB(), vars[zIdx].getUB(), toRemove);
 
         try {
             do {
@@ -213,27 +191,8 @@ public class PropCostRegular extends Propagator<IntVar> {
 
         if (boundChange.get()) {
             boundChange.set(false);
-            DisposableIntIterator it = this.graph.inGraph.getIterator();
-            //for (int id = this.graph.inGraph.nextSetBit(0) ; id >=0 ; id = this.graph.inGraph.nextSetBit(id+1))  {
-            while (it.hasNext()) {
-                int id = it.next();
-                int orig = this.graph.GArcs.origs[id];
-                int dest = this.graph.GArcs.dests[id];
-
-                double acost = this.graph.GArcs.costs[id];
-                double lpfs = this.graph.GNodes.lpfs.get(orig);
-                double lpft = this.graph.GNodes.lpft.get(dest);
-
-                double spfs = this.graph.GNodes.spfs.get(orig);
-                double spft = this.graph.GNodes.spft.get(dest);
-
-
-                if ((lpfs + lpft + acost < vars[zIdx].getLB() || spfs + spft + acost > vars[zIdx].getUB()) && this.graph.isNotInStack(id)) {
-                    this.graph.setInStack(id);
-                    this.toRemove.push(id);
-                }
-            }
-            it.dispose();
+            // only layers modified since their last check, or not fitting the new bounds, are visited
+            this.graph.checkBounds(vars[zIdx].getLB(), vars[zIdx].getUB(), toRemove);
 
         }
 
@@ -51,6 +51,10 @@ public class StoredValuedDirectedMultiGraph {
     public StoredIndexedBipartiteSet inGraph;
     public TIntStack toUpdateLeft;
     public TIntStack toUpdateRight;
+    // for each layer of arcs, an upper bound of the shortest path and a lower bound of the longest path
+    // through any of its arcs, reset to infinity when the path info of a node of the layer changes
+    private final IStateDoubleVector layerMaxSP;
+    private final IStateDoubleVector layerMinLP;
     public Nodes GNodes;
     public Arcs GArcs;
 
@@ -128,6 +132,9 @@ public class StoredValuedDirectedMultiGraph {
         GNodes.spfs = environment.makeDoubleVector(nodes.size(), Double.POSITIVE_INFINITY);
         GNodes.spft = environment.makeDoubleVector(nodes.size(), Double.POSITIVE_INFINITY);
 
+        this.layerMaxSP = environment.makeDoubleVector(layers.length - 1, Double.POSITIVE_INFINITY);
+        this.layerMinLP = environment.makeDoubleVector(layers.length - 1, Double.NEGATIVE_INFINITY);
+
         for (Node n : nodes) {
             GNodes.layers[n.id] = n.layer;
             GNodes.states[n.id] = n.state;
@@ -288,6 +295,7 @@ public class StoredValuedDirectedMultiGraph {
         GNodes.nextLP.quickSet(nid, temp2);
 
         if (nid != sourceIndex && (old != tempPval || old2 != tempPval2)) {
+            touchLayer(GNodes.layers[nid] - 1);
             it = GNodes.inArcs[nid].getIterator();
             while (it.hasNext()) {
                 int arcId = it.next();
@@ -341,6 +349,7 @@ public class StoredValuedDirectedMultiGraph {
         GNodes.prevLP.quickSet(nid, tempP2);
 
         if (nid != tinkIndex && (old != tempPval || old2 != tempPval2)) {
+            touchLayer(GNodes.layers[nid]);
             it = GNodes.outArcs[nid].getIterator();
             while (it.hasNext()) {
                 int arcId = it.next();
@@ -362,6 +371,62 @@ public class StoredValuedDirectedMultiGraph {
         }
     }
 
+    private void touchLayer(int l) {
+        if (layerMaxSP.quickGet(l) != Double.POSITIVE_INFINITY) {
+            layerMaxSP.quickSet(l, Double.POSITIVE_INFINITY);
+        }
+        if (layerMinLP.quickGet(l) != Double.NEGATIVE_INFINITY) {
+            layerMinLP.quickSet(l, Double.NEGATIVE_INFINITY);
+        }
+    }
+
+    /**
+     * Push onto <i>toRemove</i> the arcs whose shortest path is greater than <i>ub</i>
+     * or whose longest path is less than <i>lb</i>.
+     * Only the layers whose shortest and longest paths do not fit in [<i>lb</i>, <i>ub</i>],
+     * or have been modified since their last check, are visited.
+     *
+     * @param lb       lower bound of the cost
+     * @param ub       upper bound of the cost
+     * @param toRemove stack of arcs to remove
+     */
+    public void checkBounds(int lb, int ub, TIntStack toRemove) {
+        for (int l = 0; l < layers.length - 1; l++) {
+            if (layerMaxSP.quickGet(l) <= ub && layerMinLP.quickGet(l) >= lb) {
+                continue;
+            }
+            double maxSP = Double.NEGATIVE_INFINITY;
+            double minLP = Double.POSITIVE_INFINITY;
+            for (int orig : layers[l]) {
+                if (GNodes.outArcs[orig] == null) {
+                    continue;
+                }
+                double spfs = GNodes.spfs.quickGet(orig);
+                double lpfs = GNodes.lpfs.quickGet(orig);
+                DisposableIntIterator it = GNodes.outArcs[orig].getIterator();
+                while (it.hasNext()) {
+                    int id = it.next();
+                    int dest = GArcs.dests[id];
+                    double acost = GArcs.costs[id];
+                    double sp = spfs + GNodes.spft.quickGet(dest) + acost;
+                    double lp = lpfs + GNodes.lpft.quickGet(dest) + acost;
+                    if (sp > ub || lp < lb) {
+                        if (isNotInStack(id)) {
+                            setInStack(id);
+                            toRemove.push(id);
+                        }
+                    } else {
+                        maxSP = Math.max(maxSP, sp);
+                        minLP = Math.min(minLP, lp);
+                    }
+                }
+                it.dispose();
+            }
+            layerMaxSP.quickSet(l, maxSP);
+            layerMinLP.quickSet(l, minLP);
+        }
+    }
+
     /**
      * Getter, the idx th bit of the inStack bitSet
      *
@@ -41,9 +41,13 @@ public class Cumulative extends Constraint {
      * @param filters			Filtering algorithm to use:
      *                         - TIME: filters time-table from considering each point in time
      *                         (efficient in practice as long as the time horizon is not too high)
+     *                         - PROFILE: filters time-table from a profile of compulsory parts
+     *                         (efficient with large time horizons)
      *                         - SWEEP: filters time-table with a sweep-based algorithm
      *                         - NRJ: greedy energy-based filter.
      *                         BEWARE: should not be used alone, use it in addition to either SWEEP or TIME.
+     *                         - EDGE_FINDING, DISJUNCTIVE_EDGE_FINDING, DETECTABLE_PRECEDENCES, NOT_FIRST_NOT_LAST: Θ-Λ tree based filters.
+     *                         BEWARE: should not be used alone, use them in addition to either SWEEP, TIME or PROFILE.
      *
      */
     public Cumulative(Task[] tasks, IntVar[] heights, IntVar capacity, boolean graphBased, Filter... filters) {
@@ -62,6 +66,8 @@ public class Cumulative extends Constraint {
      * @param filters			Filtering algorithm to use:
      *                         - TIME: filters time-table from considering each point in time
      *                         (efficient in practice as long as the time horizon is not too high)
+     *                         - PROFILE: filters time-table from a profile of compulsory parts
+     *                         (efficient with large time horizons)
      *                         - SWEEP: filters time-table with a sweep-based algorithm
      *                         - NRJ: greedy energy-based filter.
      *                         BEWARE: should not be used alone, use it in addition to either SWEEP or TIME.
@@ -146,6 +152,17 @@ public class Cumulative extends Constraint {
 				return new NaiveTimeCumulFilter(n);
 			}
 		},
+		/**
+		 * time-table algorithm based on a profile of compulsory parts,
+		 * independent of the time horizon
+		 * not idempotent
+		 */
+		PROFILE{
+			@Override
+			public CumulFilter make(int n) {
+				return new ProfileCumulFilter(n);
+			}
+		},
 		/**
 		 * time-table algorithm based on a sweep line
 		 * idempotent (on the given set of variables only)
@@ -185,6 +202,47 @@ public class Cumulative extends Constraint {
 				return new DisjunctiveTaskIntervalFilter(n);
 			}
 		},
+		/**
+		 * overload checking on all tasks and unary edge-finding (Θ-Λ tree) on tasks that cannot overlap each other,
+		 * the other tasks being ignored by the edge-finding
+		 * not idempotent
+		 * not enough to ensure correctness (only an additional filtering)
+		 */
+		DISJUNCTIVE_EDGE_FINDING {
+			public CumulFilter make(int n){
+				return new DisjunctiveEdgeFindingCumulFilter(n);
+			}
+		},
+		/**
+		 * cumulative edge-finding (Θ-Λ tree) on all tasks, in O(k.n.log(n)) with k the number of distinct heights
+		 * not idempotent
+		 * not enough to ensure correctness (only an additional filtering)
+		 */
+		EDGE_FINDING {
+			public CumulFilter make(int n){
+				return new EdgeFindingCumulFilter(n);
+			}
+		},
+		/**
+		 * detectable precedences (Θ tree) on tasks that cannot overlap each other
+		 * not idempotent
+		 * not enough to ensure correctness (only an additional filtering)
+		 */
+		DETECTABLE_PRECEDENCES {
+			public CumulFilter make(int n){
+				return new DetectablePrecedenceCumulFilter(n);
+			}
+		},
+		/**
+		 * not-first/not-last rules (Θ tree) on tasks that cannot overlap each other
+		 * not idempotent
+		 * not enough to ensure correctness (only an additional filtering)
+		 */
+		NOT_FIRST_NOT_LAST {
+			public CumulFilter make(int n){
+				return new NotFirstNotLastCumulFilter(n);
+			}
+		},
 		/**
 		 * Combines above filters as a black-box
 		 * not idempotent
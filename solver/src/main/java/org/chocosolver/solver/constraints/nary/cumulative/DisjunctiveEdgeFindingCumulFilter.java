@@ -0,0 +1,62 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+
+/**
+ * Cumulative overload checking and disjunctive edge-finding based on a Θ-Λ tree, in O(n.log(n)).
+ * <p>
+ * The overload checking applies to all tasks, with energies d.h.
+ * The edge-finding is the unary one: it only applies to the tasks that cannot overlap each other,
+ * that is, whose height is greater than half the capacity, and ignores the other tasks.
+ * Hence, this is not the cumulative edge-finding, which reasons on the energy of all tasks.
+ * Earliest starting times are pushed forward, then latest completion times are pushed backward.
+ *
+ * @see ThetaLambdaTree
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class DisjunctiveEdgeFindingCumulFilter extends CumulFilter {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	private final UnaryAlgorithms algo;
+
+	//***********************************************************************************
+	// CONSTRUCTORS
+	//***********************************************************************************
+
+	public DisjunctiveEdgeFindingCumulFilter(int nbMaxTasks) {
+		super(nbMaxTasks);
+		algo = new UnaryAlgorithms(nbMaxTasks);
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		algo.cumulativeOverload(s, d, e, h, capa, tasks, aCause);
+		for (boolean mirror : UnaryAlgorithms.MIRRORS) {
+			if (algo.loadDisjunctive(s, d, e, h, capa, tasks, mirror) > 1) {
+				algo.edgeFinding(aCause);
+				algo.apply(s, e, aCause);
+			}
+		}
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+
+/**
+ * Cumulative edge-finding based on a Θ-Λ tree, in O(k.n.log(n)), k being the number of distinct heights [1].
+ * <p>
+ * It applies to all tasks, with energies d.h, and includes the overload checking.
+ * Earliest starting times are pushed forward, then latest completion times are pushed backward.
+ * <p>
+ * [1]: P. Vilím, Edge Finding Filtering Algorithm for Discrete Cumulative Resources in O(kn log n), CP-09.
+ *
+ * @see ThetaLambdaTree
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class EdgeFindingCumulFilter extends CumulFilter {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	private final UnaryAlgorithms algo;
+
+	//***********************************************************************************
+	// CONSTRUCTORS
+	//***********************************************************************************
+
+	public EdgeFindingCumulFilter(int nbMaxTasks) {
+		super(nbMaxTasks);
+		algo = new UnaryAlgorithms(nbMaxTasks);
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		for (boolean mirror : UnaryAlgorithms.MIRRORS) {
+			if (algo.loadCumulative(s, d, e, h, tasks, mirror) > 1) {
+				algo.cumulativeEdgeFinding(capa.getUB(), aCause);
+				algo.apply(s, e, aCause);
+			}
+		}
+	}
+}
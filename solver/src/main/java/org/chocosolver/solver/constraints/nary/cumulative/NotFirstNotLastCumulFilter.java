@@ -0,0 +1,57 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+
+/**
+ * Not-first and not-last rules based on a Θ tree, in O(n.log(n)),
+ * applied to the tasks that cannot overlap each other, that is, whose height is greater than half the capacity.
+ * Latest completion times are pulled backward (not-last), then earliest starting times are pushed forward (not-first).
+ *
+ * @see ThetaLambdaTree
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class NotFirstNotLastCumulFilter extends CumulFilter {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	private final UnaryAlgorithms algo;
+
+	//***********************************************************************************
+	// CONSTRUCTORS
+	//***********************************************************************************
+
+	public NotFirstNotLastCumulFilter(int nbMaxTasks) {
+		super(nbMaxTasks);
+		algo = new UnaryAlgorithms(nbMaxTasks);
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		for (boolean mirror : UnaryAlgorithms.MIRRORS) {
+			if (algo.loadDisjunctive(s, d, e, h, capa, tasks, mirror) > 1) {
+				algo.notLast();
+				algo.apply(s, e, aCause);
+			}
+		}
+	}
+}
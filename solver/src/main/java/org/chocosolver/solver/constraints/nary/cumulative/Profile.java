@@ -0,0 +1,221 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import java.util.Arrays;
+
+/**
+ * A resource profile over [lo, hi), that is, a height at each point in time, initially 0.
+ * <p>
+ * It is stored in a segment tree whose nodes are only allocated when a range is modified,
+ * so that the memory used depends on the number of modifications but not on the time horizon.
+ * Adding a value to a range, getting the maximum height of a range
+ * and looking for the first (or last) point of a range above a threshold all run in O(log(hi - lo)).
+ * Modifications are not reversible by themselves, they are undone by adding the opposite value.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class Profile {
+
+    /**
+     * Returned when no point is found by {@link #firstAbove(int, int, int)}
+     */
+    public static final int NO_FIRST = Integer.MAX_VALUE;
+    /**
+     * Returned when no point is found by {@link #lastAbove(int, int, int)}
+     */
+    public static final int NO_LAST = Integer.MIN_VALUE;
+
+    private final int lo, hi;
+    // node 0 stands for any absent node, the root is node 1
+    private int[] left, right;
+    // value added to a whole node, max over a node (including its own tag)
+    private int[] tag, max;
+    private int size;
+
+    /**
+     * Create a flat profile over [lo, hi)
+     *
+     * @param lo first point in time
+     * @param hi last point in time, excluded
+     */
+    public Profile(int lo, int hi) {
+        this.lo = lo;
+        this.hi = Math.max(lo + 1, hi);
+        left = new int[16];
+        right = new int[16];
+        tag = new int[16];
+        max = new int[16];
+        size = 2;
+    }
+
+    private int newNode() {
+        if (size == left.length) {
+            int l = size * 3 / 2 + 1;
+            left = Arrays.copyOf(left, l);
+            right = Arrays.copyOf(right, l);
+            tag = Arrays.copyOf(tag, l);
+            max = Arrays.copyOf(max, l);
+        }
+        return size++;
+    }
+
+    private static int mid(int l, int r) {
+        return l + ((r - l) >>> 1);
+    }
+
+    /**
+     * Add <i>delta</i> to each point of [a, b)
+     */
+    public void add(int a, int b, int delta) {
+        a = Math.max(a, lo);
+        b = Math.min(b, hi);
+        if (a < b && delta != 0) {
+            add(1, lo, hi, a, b, delta);
+        }
+    }
+
+    private void add(int node, int l, int r, int a, int b, int delta) {
+        if (a <= l && r <= b) {
+            tag[node] += delta;
+            max[node] += delta;
+            return;
+        }
+        int m = mid(l, r);
+        if (a < m) {
+            if (left[node] == 0) {
+                // arrays may be reallocated
+                int child = newNode();
+                left[node] = child;
+            }
+            add(left[node], l, m, a, b, delta);
+        }
+        if (m < b) {
+            if (right[node] == 0) {
+                int child = newNode();
+                right[node] = child;
+            }
+            add(right[node], m, r, a, b, delta);
+        }
+        max[node] = tag[node] + Math.max(max[left[node]], max[right[node]]);
+    }
+
+    /**
+     * @return the maximum height of the profile
+     */
+    public int max() {
+        return max[1];
+    }
+
+    /**
+     * @return the maximum height over [a, b), 0 if the range is empty
+     */
+    public int max(int a, int b) {
+        a = Math.max(a, lo);
+        b = Math.min(b, hi);
+        if (a >= b) {
+            return 0;
+        }
+        return max(1, lo, hi, a, b);
+    }
+
+    private int max(int node, int l, int r, int a, int b) {
+        if (node == 0 || (a <= l && r <= b)) {
+            return max[node];
+        }
+        int m = mid(l, r);
+        int v = Integer.MIN_VALUE;
+        if (a < m) {
+            v = max(left[node], l, m, a, b);
+        }
+        if (m < b) {
+            v = Math.max(v, max(right[node], m, r, a, b));
+        }
+        return tag[node] + v;
+    }
+
+    /**
+     * @return the first point of [a, b) whose height is greater than <i>threshold</i>, {@link #NO_FIRST} if none
+     */
+    public int firstAbove(int a, int b, int threshold) {
+        a = Math.max(a, lo);
+        b = Math.min(b, hi);
+        if (a >= b) {
+            return NO_FIRST;
+        }
+        return firstAbove(1, lo, hi, a, b, threshold);
+    }
+
+    private int firstAbove(int node, int l, int r, int a, int b, int threshold) {
+        if (max[node] <= threshold) {
+            return NO_FIRST;
+        }
+        if (node == 0) {
+            // absent nodes are flat
+            return Math.max(a, l);
+        }
+        if (r - l == 1) {
+            return l;
+        }
+        int m = mid(l, r);
+        threshold -= tag[node];
+        int p = NO_FIRST;
+        if (a < m) {
+            p = firstAbove(left[node], l, m, a, b, threshold);
+        }
+        if (p == NO_FIRST && m < b) {
+            p = firstAbove(right[node], m, r, a, b, threshold);
+        }
+        return p;
+    }
+
+    /**
+     * @return the last point of [a, b) whose height is greater than <i>threshold</i>, {@link #NO_LAST} if none
+     */
+    public int lastAbove(int a, int b, int threshold) {
+        a = Math.max(a, lo);
+        b = Math.min(b, hi);
+        if (a >= b) {
+            return NO_LAST;
+        }
+        return lastAbove(1, lo, hi, a, b, threshold);
+    }
+
+    private int lastAbove(int node, int l, int r, int a, int b, int threshold) {
+        if (max[node] <= threshold) {
+            return NO_LAST;
+        }
+        if (node == 0) {
+            // absent nodes are flat
+            return Math.min(b, r) - 1;
+        }
+        if (r - l == 1) {
+            return l;
+        }
+        int m = mid(l, r);
+        threshold -= tag[node];
+        int p = NO_LAST;
+        if (m < b) {
+            p = lastAbove(right[node], m, r, a, b, threshold);
+        }
+        if (p == NO_LAST && a < m) {
+            p = lastAbove(left[node], l, m, a, b, threshold);
+        }
+        return p;
+    }
+
+    /**
+     * @return number of allocated nodes
+     */
+    public int getNbNodes() {
+        return size - 1;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+
+import java.util.Arrays;
+
+/**
+ * Time-table filtering based on a profile of compulsory parts.
+ * <p>
+ * The start and end events of the compulsory parts are sorted and swept to build the profile,
+ * that is, a sequence of disjoint segments of constant height.
+ * Tasks are then pushed over the segments they cannot overlap.
+ * Unlike {@link TimeCumulFilter}, the complexity does not depend on the time horizon
+ * but only on the number of tasks: O(n.log(n) + n.p) where p is the number of segments.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class ProfileCumulFilter extends CumulFilter {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	// sorted events, encoded as (date << 32 | task << 1 | isEnd)
+	private final long[] events;
+	// compulsory parts used to build the profile, indexed by task
+	private final int[] cpStart, cpEnd, cpHeight;
+	// profile segments
+	private final int[] segStart, segEnd, segHeight;
+	private int nbSegs;
+
+	//***********************************************************************************
+	// CONSTRUCTORS
+	//***********************************************************************************
+
+	public ProfileCumulFilter(int nbMaxTasks) {
+		super(nbMaxTasks);
+		events = new long[2 * nbMaxTasks];
+		cpStart = new int[nbMaxTasks];
+		cpEnd = new int[nbMaxTasks];
+		cpHeight = new int[nbMaxTasks];
+		segStart = new int[2 * nbMaxTasks];
+		segEnd = new int[2 * nbMaxTasks];
+		segHeight = new int[2 * nbMaxTasks];
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		int maxC = buildProfile(s, e, h, tasks);
+		capa.updateLowerBound(maxC, aCause);
+		if (nbSegs == 0) {
+			return;
+		}
+		int capaMax = capa.getUB();
+		ISetIterator tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int i = tIter.nextInt();
+			// filter max height
+			if (cpStart[i] < cpEnd[i] && !h[i].isInstantiated()) {
+				int k = firstSegmentAfter(cpStart[i]);
+				int maxH = 0;
+				while (k < nbSegs && segStart[k] < cpEnd[i]) {
+					maxH = Math.max(maxH, segHeight[k] - cpHeight[i]);
+					k++;
+				}
+				h[i].updateUpperBound(capaMax - maxH, aCause);
+			}
+			int dlb = d[i].getLB();
+			int hlb = h[i].getLB();
+			if (dlb > 0 && hlb > 0) {
+				filterInf(i, s[i], dlb, hlb, capaMax, aCause);
+				filterSup(i, e[i], dlb, hlb, capaMax, aCause);
+			}
+		}
+	}
+
+	/**
+	 * Build the profile of the compulsory parts of <i>tasks</i>
+	 * @return the maximum height of the profile
+	 */
+	private int buildProfile(IntVar[] s, IntVar[] e, IntVar[] h, ISet tasks) {
+		int n = 0;
+		ISetIterator tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int i = tIter.nextInt();
+			cpStart[i] = s[i].getUB();
+			cpEnd[i] = e[i].getLB();
+			cpHeight[i] = 0;
+			if (cpStart[i] < cpEnd[i] && h[i].getLB() > 0) {
+				cpHeight[i] = h[i].getLB();
+				events[n++] = ((long) cpStart[i] << 32) | (i << 1);
+				events[n++] = ((long) cpEnd[i] << 32) | (i << 1 | 1);
+			}
+		}
+		Arrays.sort(events, 0, n);
+		nbSegs = 0;
+		int maxC = 0;
+		int height = 0;
+		int k = 0;
+		while (k < n) {
+			int date = (int) (events[k] >> 32);
+			do {
+				int ev = (int) events[k];
+				height += (ev & 1) == 0 ? cpHeight[ev >>> 1] : -cpHeight[ev >>> 1];
+				k++;
+			} while (k < n && (int) (events[k] >> 32) == date);
+			if (height > 0) {
+				segStart[nbSegs] = date;
+				segEnd[nbSegs] = (int) (events[k] >> 32);
+				segHeight[nbSegs] = height;
+				nbSegs++;
+				maxC = Math.max(maxC, height);
+			}
+		}
+		return maxC;
+	}
+
+	/**
+	 * @return index of the first segment ending after <i>date</i>
+	 */
+	private int firstSegmentAfter(int date) {
+		int lo = 0, hi = nbSegs;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (segEnd[mid] <= date) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * @return height of the <i>k</i>th segment, without the contribution of task <i>i</i>
+	 */
+	private int heightWithout(int k, int i) {
+		if (segStart[k] >= cpStart[i] && segEnd[k] <= cpEnd[i]) {
+			return segHeight[k] - cpHeight[i];
+		}
+		return segHeight[k];
+	}
+
+	private void filterInf(int i, IntVar start, int dlb, int hlb, int capaMax, Propagator<IntVar> aCause) throws ContradictionException {
+		int est = start.getLB();
+		int k = firstSegmentAfter(est);
+		while (k < nbSegs && segStart[k] < est + dlb) {
+			if (hlb + heightWithout(k, i) > capaMax) {
+				est = segEnd[k];
+			}
+			k++;
+		}
+		start.updateLowerBound(est, aCause);
+	}
+
+	private void filterSup(int i, IntVar end, int dlb, int hlb, int capaMax, Propagator<IntVar> aCause) throws ContradictionException {
+		int lct = end.getUB();
+		int k = firstSegmentAfter(lct - dlb);
+		// find the last segment starting before lct
+		while (k < nbSegs && segStart[k] < lct) {
+			k++;
+		}
+		k--;
+		while (k >= 0 && segEnd[k] > lct - dlb) {
+			if (hlb + heightWithout(k, i) > capaMax) {
+				lct = segStart[k];
+			}
+			k--;
+		}
+		end.updateUpperBound(lct, aCause);
+	}
+}
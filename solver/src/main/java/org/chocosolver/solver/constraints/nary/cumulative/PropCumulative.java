@@ -26,6 +26,7 @@ import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeS
 import org.chocosolver.util.tools.ArrayUtils;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.stream.IntStream;
 
 /**
@@ -207,75 +208,122 @@ public class PropCumulative extends Propagator<IntVar> {
     }
 
     /**
-     * Return the index of an IntVar
-     *
-     * @param pivot
+     * @implSpec
+     * A bound of the start variable of a task <i>i</i> is explained with the time-table reasoning:
+     * the removed start times [a,b] are recomputed back from the compulsory parts of the other tasks
+     * before the modification, and only the tasks whose compulsory part overlaps a time point
+     * where <i>i</i> cannot be scheduled appear in the explanation:
+     * <pre>
+     *     (s_i &notin; [a,b] &or; d_i &lt; d &or; h_i &lt; h &or; capa &gt; c &or;
+     *      s_j &gt; ub(s_j) &or; e_j &lt; lb(e_j) &or; h_j &lt; lb(h_j) &or; ...)
+     * </pre>
+     * Modifications which cannot be deduced this way, such as those of energetic reasoning,
+     * those of other variables and failures, are explained with the default explanation.
      */
-    private int getInd(IntVar pivot) {
-        int ind = -1;
-        for (int i = 0; i < vars.length; i++) {
-            if (vars[i] == pivot) {
-                ind = i;
+    @Override
+    public void explain(int p, ExplanationForSignedClause explanation) {
+        IntVar pivot = explanation.readVar(p);
+        int i = -1;
+        for (int k = 0; k < vars.length && i > -2; k++) {
+            if (vars[k] == pivot) {
+                i = i == -1 && k < n ? k : -2;
             }
         }
-        if (ind == -1) throw new UnsupportedOperationException("Unfindable pivot variable ");
-        return ind;
-    }
-
-    private boolean explainOverlap(ExplanationForSignedClause e, int[] indexes, int t, int[] indD) {
-        boolean flag = false;
-        for (int i : indexes) {
-            if (e.domain(vars[i]).max() < t && e.domain(vars[i]).min() >= t - e.domain(vars[indD[i]]).min()) {
-                vars[i].unionLit(t, IntIterableRangeSet.MAX, e);
-                vars[i].unionLit(IntIterableRangeSet.MIN, t - 1 - e.domain(vars[indD[i]]).min(), e);
-                flag = true;
+        IntIterableRangeSet before = explanation.readDom(pivot);
+        IntIterableRangeSet after = explanation.readDom(p);
+        int from = 0, to = -1;
+        if (i >= 0 && !after.isEmpty()) {
+            if (after.min() > before.min() && after.max() == before.max()) {
+                from = before.min();
+                to = after.min() - 1;
+            } else if (after.max() < before.max() && after.min() == before.min()) {
+                from = after.max() + 1;
+                to = before.max();
             }
         }
-        return flag;
+        int[] tasks = from <= to ? timeTableReasons(i, from, to, explanation) : null;
+        if (tasks == null) {
+            Propagator.defaultExplain(this, p, explanation);
+            return;
+        }
+        for (int j : tasks) {
+            s[j].unionLit(explanation.readDom(s[j]).max() + 1, IntIterableRangeSet.MAX, explanation);
+            e[j].unionLit(IntIterableRangeSet.MIN, explanation.readDom(e[j]).min() - 1, explanation);
+            h[j].unionLit(IntIterableRangeSet.MIN, explanation.readDom(h[j]).min() - 1, explanation);
+        }
+        d[i].unionLit(IntIterableRangeSet.MIN, explanation.readDom(d[i]).min() - 1, explanation);
+        h[i].unionLit(IntIterableRangeSet.MIN, explanation.readDom(h[i]).min() - 1, explanation);
+        capa.unionLit(explanation.readDom(capa).max() + 1, IntIterableRangeSet.MAX, explanation);
+        IntIterableRangeSet set = explanation.universe();
+        set.removeBetween(from, to);
+        pivot.intersectLit(set, explanation);
     }
 
     /**
-     * Detect and explain the event at pivot variable p
+     * Check that task <i>i</i> cannot start in [from,to] because of the compulsory parts of the other tasks,
+     * considering the domains before the current modification.
      *
-     * @param p pivot variable
+     * @param i           a task
+     * @param from        first removed start time
+     * @param to          last removed start time
+     * @param explanation the explanation
+     * @return the tasks whose compulsory part prevents <i>i</i> from starting in [from,to],
+     * or <i>null</i> if the removal does not come from the time-table
      */
-    @Override
-    public void explain(int p, ExplanationForSignedClause e) {
-        IntVar pivot = e.readVar(p);
-        int[] X = IntStream.range(0, n).filter(i -> vars[i] != pivot).toArray();
-        int[] indD = IntStream.range(n, n * 2).toArray();
-        int t = e.readValue(p);
-        int ipivot = getInd(pivot);
-        int dpivot = e.domain(vars[ipivot + n]).min();
-        if (ipivot >= n) {
-            throw new UnsupportedOperationException("Try to explain an event not on a start variable");
+    private int[] timeTableReasons(int i, int from, int to, ExplanationForSignedClause explanation) {
+        int di = explanation.readDom(d[i]).min();
+        int hi = explanation.readDom(h[i]).min();
+        int free = explanation.readDom(capa).max() - hi;
+        if (di <= 0 || hi <= 0 || free < 0) {
+            return null;
         }
-        switch (e.readMask(p)) {
-            case 2://INCLOW
-                if (explainOverlap(e, X, t, indD)) {
-                    IntIterableRangeSet set = e.empty();
-                    set.addBetween(t - dpivot, t - 1);
-                    pivot.intersectLit(set.flip(), e);
-                }else{
-                    throw new UnsupportedOperationException("Unable to find overlapping tasks");
+        // compulsory parts of the other tasks, clipped to the time window
+        int end = to + di;
+        int m = 0;
+        int[] task = new int[n], cs = new int[n], ce = new int[n], ch = new int[n];
+        for (int j = 0; j < n; j++) {
+            int hj = explanation.readDom(h[j]).min();
+            int sj = Math.max(explanation.readDom(s[j]).max(), from);
+            int ej = Math.min(explanation.readDom(e[j]).min(), end);
+            if (j != i && hj > 0 && sj < ej) {
+                task[m] = j;
+                cs[m] = sj;
+                ce[m] = ej;
+                ch[m++] = hj;
+            }
+        }
+        // sweep the profile to find the time points where i does not fit, and check that they cover [from,to]
+        int[] starts = IntStream.range(0, m).boxed().sorted(Comparator.comparingInt(k -> cs[k]))
+                .mapToInt(Integer::intValue).toArray();
+        int[] ends = IntStream.range(0, m).boxed().sorted(Comparator.comparingInt(k -> ce[k]))
+                .mapToInt(Integer::intValue).toArray();
+        boolean[] reason = new boolean[m];
+        int load = 0, si = 0, ei = 0, reach = from;
+        while (ei < m && reach <= to) {
+            int t = si < m ? Math.min(cs[starts[si]], ce[ends[ei]]) : ce[ends[ei]];
+            while (ei < m && ce[ends[ei]] == t) {
+                load -= ch[ends[ei++]];
+            }
+            while (si < m && cs[starts[si]] == t) {
+                load += ch[starts[si++]];
+            }
+            if (load > free) {
+                // i does not fit in [t,next), so it cannot start in [t - di + 1, next - 1]
+                int next = si < m ? Math.min(cs[starts[si]], ce[ends[ei]]) : ce[ends[ei]];
+                if (t - di + 1 > reach) {
+                    return null;
                 }
-                break;
-            case 4://DECUPP
-                t++;// required due to decomposition
-                if (explainOverlap(e, X, t + dpivot, indD)) {
-                    IntIterableRangeSet set = e.empty();
-                    set.addBetween(t, t - 1 + dpivot);
-                    pivot.intersectLit(set.flip(), e);
-                } else {
-                    throw new UnsupportedOperationException("Unable to find overlapping tasks");
+                reach = Math.max(reach, next);
+                for (int k = 0; k < m; k++) {
+                    if (cs[k] <= t && ce[k] > t) {
+                        reason[k] = true;
+                    }
                 }
-                break;
-            case 8://INSTANTIATE
-            case 1://REMOVE
-            case 0://VOID
-            case 6://BOUND inclow+decup
-            default:
-                throw new UnsupportedOperationException("Unknown event type explanation");
+            }
+        }
+        if (reach <= to) {
+            return null;
         }
+        return IntStream.range(0, m).filter(k -> reason[k]).map(k -> task[k]).toArray();
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import java.util.Arrays;
+
+/**
+ * Disjunctive (unary resource) propagator: tasks with a positive duration cannot overlap.
+ * <p>
+ * Runs overload checking, edge-finding, detectable precedences, not-first and not-last,
+ * each one in O(n.log(n)), until a fix point is reached.
+ *
+ * @author Charles Prud'homme
+ * @see UnaryAlgorithms
+ * @since 18/10/2026
+ */
+public class PropDisjunctive extends Propagator<IntVar> {
+
+    private final int n;
+    private final IntVar[] s, d, e;
+    private final UnaryAlgorithms algo;
+
+    /**
+     * Disjunctive propagator
+     *
+     * @param s start variables
+     * @param d duration variables
+     * @param e end variables
+     */
+    public PropDisjunctive(IntVar[] s, IntVar[] d, IntVar[] e) {
+        super(ArrayUtils.append(s, d, e), PropagatorPriority.QUADRATIC, false);
+        this.n = s.length;
+        if (!(n == d.length && n == e.length)) {
+            throw new UnsupportedOperationException();
+        }
+        this.s = Arrays.copyOfRange(vars, 0, n);
+        this.d = Arrays.copyOfRange(vars, n, n * 2);
+        this.e = Arrays.copyOfRange(vars, n * 2, n * 3);
+        this.algo = new UnaryAlgorithms(n);
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.boundAndInst();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        boolean modified;
+        do {
+            modified = false;
+            for (int i = 0; i < n; i++) {
+                d[i].updateLowerBound(0, this);
+                s[i].updateBounds(e[i].getLB() - d[i].getUB(), e[i].getUB() - d[i].getLB(), this);
+                e[i].updateBounds(s[i].getLB() + d[i].getLB(), s[i].getUB() + d[i].getUB(), this);
+            }
+            for (boolean mirror : UnaryAlgorithms.MIRRORS) {
+                if (algo.loadAll(s, d, e, mirror) > 1) {
+                    algo.edgeFinding(this);
+                    modified |= algo.apply(s, e, this);
+                }
+                if (algo.loadAll(s, d, e, mirror) > 1) {
+                    algo.detectablePrecedences();
+                    modified |= algo.apply(s, e, this);
+                }
+                if (algo.loadAll(s, d, e, mirror) > 1) {
+                    algo.notLast();
+                    modified |= algo.apply(s, e, this);
+                }
+            }
+        } while (modified);
+    }
+
+    @Override
+    public ESat isEntailed() {
+        boolean instantiated = true;
+        for (int i = 0; i < n; i++) {
+            if (s[i].getLB() + d[i].getLB() > e[i].getUB()
+                    || s[i].getUB() + d[i].getUB() < e[i].getLB()) {
+                return ESat.FALSE;
+            }
+            instantiated &= s[i].isInstantiated() && d[i].isInstantiated() && e[i].isInstantiated();
+            // compulsory parts should not overlap
+            for (int j = i + 1; j < n; j++) {
+                if (s[i].getUB() < e[i].getLB() && s[j].getUB() < e[j].getLB()
+                        && s[i].getUB() < e[j].getLB() && s[j].getUB() < e[i].getLB()) {
+                    return ESat.FALSE;
+                }
+            }
+        }
+        return instantiated ? ESat.TRUE : ESat.UNDEFINED;
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+
+/**
+ * Incremental time-table cumulative propagator.
+ * <p>
+ * The compulsory parts of the tasks are stored in a reversible {@link Profile}.
+ * On fine events, only the tasks that changed update their contribution to the profile,
+ * and only the tasks whose time window overlaps a modified part of the profile are filtered again.
+ * Filtering loops until no compulsory part grows anymore, so this propagator is idempotent
+ * and does not need to be posted twice, contrary to {@link PropCumulative}.
+ * A modification of the capacity triggers a filtering of all tasks.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class PropIncrementalCumulative extends PropCumulative {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final IEnvironment environment;
+    private final Profile profile;
+    // compulsory part of each task currently stored in the profile
+    private final IStateInt[] cpStart, cpEnd, cpHeight;
+    // tasks that changed since the last call
+    private final int[] changed;
+    private final boolean[] isChanged;
+    private int nbChanged;
+    // tasks to filter
+    private final int[] toFilter;
+    // part of the profile modified since the last filtering
+    private int winStart, winEnd;
+    private boolean all;
+    private long timestamp = -1;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    /**
+     * Incremental time-table cumulative propagator
+     *
+     * @param s    start 		variables
+     * @param d    duration	variables
+     * @param e    end			variables
+     * @param h    height		variables
+     * @param capa capacity	variable
+     */
+    public PropIncrementalCumulative(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa) {
+        super(s, d, e, h, capa, true);
+        this.environment = model.getEnvironment();
+        int lo = Integer.MAX_VALUE, hi = Integer.MIN_VALUE;
+        for (int i = 0; i < n; i++) {
+            lo = Math.min(lo, s[i].getLB());
+            hi = Math.max(hi, e[i].getUB());
+        }
+        this.profile = new Profile(lo, hi);
+        this.cpStart = new IStateInt[n];
+        this.cpEnd = new IStateInt[n];
+        this.cpHeight = new IStateInt[n];
+        for (int i = 0; i < n; i++) {
+            cpStart[i] = environment.makeInt(0);
+            cpEnd[i] = environment.makeInt(0);
+            cpHeight[i] = environment.makeInt(0);
+        }
+        this.changed = new int[n];
+        this.isChanged = new boolean[n];
+        this.toFilter = new int[n];
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (PropagatorEventType.isFullPropagation(evtmask)) {
+            propIni();
+            updateMaxCapa();
+            clear();
+            for (int i = 0; i < n; i++) {
+                markChanged(i);
+            }
+            all = true;
+        }
+        try {
+            fixpoint();
+        } finally {
+            clear();
+        }
+    }
+
+    @Override
+    public void propagate(int varIdx, int mask) throws ContradictionException {
+        if (timestamp != environment.getTimeStamp()) {
+            // events of a previous, failed, propagation are outdated
+            timestamp = environment.getTimeStamp();
+            clear();
+        }
+        if (varIdx < 4 * n) {
+            markChanged(varIdx % n);
+        } else {
+            updateMaxCapa();
+            all = true;
+        }
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+    }
+
+    private void clear() {
+        for (int k = 0; k < nbChanged; k++) {
+            isChanged[changed[k]] = false;
+        }
+        nbChanged = 0;
+        all = false;
+    }
+
+    private void markChanged(int i) {
+        if (!isChanged[i]) {
+            isChanged[i] = true;
+            changed[nbChanged++] = i;
+        }
+    }
+
+    private void fixpoint() throws ContradictionException {
+        while (nbChanged > 0 || all) {
+            winStart = Integer.MAX_VALUE;
+            winEnd = Integer.MIN_VALUE;
+            for (int k = 0; k < nbChanged; k++) {
+                updateCompulsoryPart(changed[k]);
+            }
+            capa.updateLowerBound(profile.max(), this);
+            // select the tasks to filter
+            int nbToFilter = 0;
+            for (int i = 0; i < n; i++) {
+                if (all || isChanged[i] || (s[i].getLB() < winEnd && e[i].getUB() > winStart)) {
+                    toFilter[nbToFilter++] = i;
+                }
+            }
+            clear();
+            for (int k = 0; k < nbToFilter; k++) {
+                int i = toFilter[k];
+                if (filter(i)) {
+                    markChanged(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Update the contribution of task <i>i</i> to the profile
+     */
+    private void updateCompulsoryPart(int i) {
+        int start = s[i].getUB();
+        int end = e[i].getLB();
+        int height = h[i].getLB();
+        if (start >= end || height == 0) {
+            start = end = height = 0;
+        }
+        int oStart = cpStart[i].get(), oEnd = cpEnd[i].get(), oHeight = cpHeight[i].get();
+        if (start != oStart || end != oEnd || height != oHeight) {
+            if (oStart < oEnd) {
+                add(oStart, oEnd, -oHeight);
+            }
+            if (start < end) {
+                add(start, end, height);
+            }
+            cpStart[i].set(start);
+            cpEnd[i].set(end);
+            cpHeight[i].set(height);
+        }
+    }
+
+    private void add(int a, int b, int delta) {
+        profile.add(a, b, delta);
+        environment.save(() -> profile.add(a, b, -delta));
+        winStart = Math.min(winStart, a);
+        winEnd = Math.max(winEnd, b);
+    }
+
+    /**
+     * Time-table filtering of task <i>i</i>
+     *
+     * @return <i>true</i> if the bounds of task <i>i</i> have been modified
+     */
+    private boolean filter(int i) throws ContradictionException {
+        int dlb = d[i].getLB();
+        int hlb = h[i].getLB();
+        int capaMax = capa.getUB();
+        int oStart = cpStart[i].get(), oEnd = cpEnd[i].get();
+        boolean modified = false;
+        // filter max height
+        if (oStart < oEnd && !h[i].isInstantiated()) {
+            modified = h[i].updateUpperBound(capaMax - profile.max(oStart, oEnd) + cpHeight[i].get(), this);
+        }
+        if (dlb == 0 || hlb == 0) {
+            return modified;
+        }
+        int threshold = capaMax - hlb;
+        // push the earliest starting time after the last conflicting point of its window
+        int est = s[i].getLB();
+        int conflict;
+        do {
+            conflict = lastAbove(est, est + dlb, threshold, oStart, oEnd);
+            if (conflict != Profile.NO_LAST) {
+                est = conflict + 1;
+            }
+        } while (conflict != Profile.NO_LAST && est <= s[i].getUB());
+        modified |= s[i].updateLowerBound(est, this);
+        // pull the latest completion time before the first conflicting point of its window
+        int lct = e[i].getUB();
+        do {
+            conflict = firstAbove(lct - dlb, lct, threshold, oStart, oEnd);
+            if (conflict != Profile.NO_FIRST) {
+                lct = conflict;
+            }
+        } while (conflict != Profile.NO_FIRST && lct >= e[i].getLB());
+        modified |= e[i].updateUpperBound(lct, this);
+        return modified;
+    }
+
+    /**
+     * @return the last point of [a, b) \ [cpS, cpE) above <i>threshold</i>
+     */
+    private int lastAbove(int a, int b, int threshold, int cpS, int cpE) {
+        int p = profile.lastAbove(Math.max(a, cpE), b, threshold);
+        if (p == Profile.NO_LAST) {
+            p = profile.lastAbove(a, Math.min(b, cpS), threshold);
+        }
+        return p;
+    }
+
+    /**
+     * @return the first point of [a, b) \ [cpS, cpE) above <i>threshold</i>
+     */
+    private int firstAbove(int a, int b, int threshold, int cpS, int cpE) {
+        int p = profile.firstAbove(a, Math.min(b, cpS), threshold);
+        if (p == Profile.NO_FIRST) {
+            p = profile.firstAbove(Math.max(a, cpE), b, threshold);
+        }
+        return p;
+    }
+}
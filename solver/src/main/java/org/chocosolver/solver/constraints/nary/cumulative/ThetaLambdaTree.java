@@ -0,0 +1,246 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import java.util.Arrays;
+
+/**
+ * Theta-Lambda tree [1,2], a balanced binary tree whose leaves are tasks sorted by earliest starting time.
+ * <p>
+ * Tasks are either in Θ (white), in Λ (gray) or absent.
+ * Each node maintains, for the tasks of its subtree,
+ * the energy and the energy envelope of Θ, that is max<sub>Ω⊆Θ</sub>(C.est<sub>Ω</sub> + e<sub>Ω</sub>),
+ * and the same values when at most one gray task is added to Θ, together with the gray task responsible for it.
+ * With C = 1 and e = p, the envelope of Θ is its earliest completion time.
+ * Each operation runs in O(log(n)).
+ * <p>
+ * [1]: P. Vilím, Global Constraints in Scheduling, PhD thesis, 2007.
+ * <br/>
+ * [2]: P. Vilím, Edge Finding Filtering Algorithm for Discrete Cumulative Resources in O(kn log n), CP-09.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class ThetaLambdaTree {
+
+    /**
+     * Stands for an empty envelope, small enough to be added to energies without overflow
+     */
+    public static final long NONE = Long.MIN_VALUE / 4;
+    // node values, the root is at index 1 and leaves start at index 'size'
+    private long[] sumE, env, sumEL, envL;
+    private int[] respE, respEnv;
+    // number of leaves
+    private int size;
+    // position of each task among leaves, and task of each leaf
+    private int[] pos, task;
+    // earliest starting times and energies, indexed by task
+    private int[] est;
+    private long[] energy;
+    private long capacity;
+
+    /**
+     * Create an empty tree.
+     */
+    public ThetaLambdaTree() {
+        this.pos = new int[0];
+        allocate(1);
+    }
+
+    private void allocate(int leaves) {
+        size = 1;
+        while (size < leaves) {
+            size <<= 1;
+        }
+        if (sumE == null || sumE.length < 2 * size) {
+            sumE = new long[2 * size];
+            env = new long[2 * size];
+            sumEL = new long[2 * size];
+            envL = new long[2 * size];
+            respE = new int[2 * size];
+            respEnv = new int[2 * size];
+            task = new int[2 * size];
+        }
+    }
+
+    /**
+     * Reset the tree: leaves are associated with tasks and all tasks are absent.
+     *
+     * @param n        number of tasks
+     * @param byEst    tasks sorted by increasing earliest starting time
+     * @param est      earliest starting time of each task
+     * @param energy   energy of each task
+     * @param capacity capacity of the resource
+     */
+    public void reset(int n, int[] byEst, int[] est, long[] energy, long capacity) {
+        allocate(n);
+        if (pos.length < n) {
+            pos = new int[n];
+        }
+        for (int k = 0; k < n; k++) {
+            pos[byEst[k]] = size + k;
+            task[size + k] = byEst[k];
+        }
+        this.est = est;
+        this.energy = energy;
+        this.capacity = capacity;
+        Arrays.fill(sumE, 1, 2 * size, 0);
+        Arrays.fill(env, 1, 2 * size, NONE);
+        Arrays.fill(sumEL, 1, 2 * size, 0);
+        Arrays.fill(envL, 1, 2 * size, NONE);
+        Arrays.fill(respE, 1, 2 * size, -1);
+        Arrays.fill(respEnv, 1, 2 * size, -1);
+    }
+
+    /**
+     * Add task <i>i</i> to Θ.
+     *
+     * @param i a task
+     */
+    public void addToTheta(int i) {
+        int p = pos[i];
+        sumE[p] = sumEL[p] = energy[i];
+        env[p] = envL[p] = capacity * est[i] + energy[i];
+        respE[p] = respEnv[p] = -1;
+        update(p >> 1);
+    }
+
+    /**
+     * Move task <i>i</i> from Θ to Λ.
+     *
+     * @param i a task in Θ
+     */
+    public void moveToLambda(int i) {
+        int p = pos[i];
+        sumE[p] = 0;
+        env[p] = NONE;
+        sumEL[p] = energy[i];
+        envL[p] = capacity * est[i] + energy[i];
+        respE[p] = respEnv[p] = i;
+        update(p >> 1);
+    }
+
+    /**
+     * Remove task <i>i</i> from the tree.
+     *
+     * @param i a task
+     */
+    public void remove(int i) {
+        int p = pos[i];
+        sumE[p] = sumEL[p] = 0;
+        env[p] = envL[p] = NONE;
+        respE[p] = respEnv[p] = -1;
+        update(p >> 1);
+    }
+
+    private void update(int p) {
+        while (p > 0) {
+            int l = p << 1, r = l + 1;
+            sumE[p] = sumE[l] + sumE[r];
+            env[p] = Math.max(env[r], env[l] + sumE[r]);
+            if (sumEL[l] + sumE[r] >= sumE[l] + sumEL[r]) {
+                sumEL[p] = sumEL[l] + sumE[r];
+                respE[p] = respE[l];
+            } else {
+                sumEL[p] = sumE[l] + sumEL[r];
+                respE[p] = respE[r];
+            }
+            long a = envL[r], b = env[l] + sumEL[r], c = envL[l] + sumE[r];
+            if (a >= b && a >= c) {
+                envL[p] = a;
+                respEnv[p] = respEnv[r];
+            } else if (b >= c) {
+                envL[p] = b;
+                respEnv[p] = respE[r];
+            } else {
+                envL[p] = c;
+                respEnv[p] = respEnv[l];
+            }
+            p >>= 1;
+        }
+    }
+
+    /**
+     * @return the energy of Θ
+     */
+    public long getEnergy() {
+        return sumE[1];
+    }
+
+    /**
+     * @return the energy envelope of Θ, {@link #NONE} if Θ is empty
+     */
+    public long getEnvelope() {
+        return env[1] <= NONE / 2 ? NONE : env[1];
+    }
+
+    /**
+     * @return the energy envelope of Θ plus at most one task of Λ, {@link #NONE} if both are empty
+     */
+    public long getLambdaEnvelope() {
+        return envL[1] <= NONE / 2 ? NONE : envL[1];
+    }
+
+    /**
+     * @return the task of Λ responsible for {@link #getLambdaEnvelope()}, -1 if none
+     */
+    public int getResponsible() {
+        return respEnv[1];
+    }
+
+    /**
+     * Find the task <i>a</i> of Θ with the latest position such that
+     * C.est<sub>a</sub> + e<sub>Ω</sub> &gt; <i>bound</i>,
+     * where Ω is made of <i>a</i> and the tasks of Θ positioned after it.
+     *
+     * @param bound a bound on the envelope
+     * @return such a task, -1 if none
+     */
+    public int getLatestAbove(long bound) {
+        if (env[1] <= bound) {
+            return -1;
+        }
+        int p = 1;
+        long e = 0;
+        while (p < size) {
+            int r = (p << 1) + 1;
+            if (env[r] + e > bound) {
+                p = r;
+            } else {
+                e += sumE[r];
+                p = r - 1;
+            }
+        }
+        return task[p];
+    }
+
+    /**
+     * Compute max<sub>a</sub>(C.est<sub>a</sub> + e<sub>Ω</sub>), over the tasks <i>a</i> of Θ positioned before <i>i</i>,
+     * or <i>i</i> itself, Ω being made of <i>a</i> and all the tasks of Θ positioned after it.
+     * This is the envelope of the tasks of Θ up to <i>i</i>, plus the energy of the following ones.
+     *
+     * @param i a task in Θ
+     * @return the envelope of the tasks of Θ up to <i>i</i>, plus the energy of the other ones
+     */
+    public long getEnvelopeUpTo(int i) {
+        int p = pos[i];
+        long envP = env[p], eP = sumE[p], eS = 0;
+        while (p > 1) {
+            if ((p & 1) == 1) {
+                envP = Math.max(envP, env[p - 1] + eP);
+                eP += sumE[p - 1];
+            } else {
+                eS += sumE[p + 1];
+            }
+            p >>= 1;
+        }
+        return envP + eS;
+    }
+}
@@ -0,0 +1,371 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.sort.ArraySort;
+
+/**
+ * O(n.log(n)) filtering algorithms for unary resources, based on {@link ThetaLambdaTree} [1]:
+ * overload checking, edge-finding, detectable precedences and not-last.
+ * <p>
+ * Tasks are loaded from variables, either as is or mirrored (time is reversed),
+ * so that each algorithm only computes new earliest starting times or new latest completion times,
+ * the mirrored call providing the symmetric rule (e.g., not-first from not-last).
+ * <p>
+ * [1]: P. Vilím, Global Constraints in Scheduling, PhD thesis, 2007.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+class UnaryAlgorithms {
+
+    /**
+     * Both directions, to filter earliest starting times then latest completion times
+     */
+    static final boolean[] MIRRORS = {false, true};
+
+    // number of loaded tasks
+    private int n;
+    // loaded task to original task
+    private final int[] map;
+    // time bounds and durations of loaded tasks
+    private final int[] est, lct, p;
+    private final long[] energy;
+    // heights of loaded tasks, for cumulative resources
+    private final int[] height;
+    // new time bounds of loaded tasks
+    private final int[] newEst, newLct;
+    // set to true when loaded tasks are mirrored
+    private boolean mirror;
+    // sorted loaded tasks
+    private final int[] byEst, byLct, byLst, byEct;
+    private final ArraySort<?> sort;
+    private final ThetaLambdaTree tree;
+    // for cumulative edge-finding: index in byLct of the last task of the set a task has to follow,
+    // and earliest starting time update per index in byLct
+    private final int[] prec;
+    private final long[] update;
+    private ThetaLambdaTree tree2;
+
+    UnaryAlgorithms(int nbMaxTasks) {
+        map = new int[nbMaxTasks];
+        est = new int[nbMaxTasks];
+        lct = new int[nbMaxTasks];
+        p = new int[nbMaxTasks];
+        energy = new long[nbMaxTasks];
+        height = new int[nbMaxTasks];
+        newEst = new int[nbMaxTasks];
+        newLct = new int[nbMaxTasks];
+        byEst = new int[nbMaxTasks];
+        byLct = new int[nbMaxTasks];
+        byLst = new int[nbMaxTasks];
+        byEct = new int[nbMaxTasks];
+        sort = new ArraySort<>(nbMaxTasks, false, true);
+        tree = new ThetaLambdaTree();
+        prec = new int[nbMaxTasks];
+        update = new long[nbMaxTasks];
+    }
+
+    /**
+     * Load the tasks of <i>tasks</i> that cannot overlap each other,
+     * that is, with a positive duration and a height greater than half the capacity.
+     *
+     * @return number of tasks loaded
+     */
+    int loadDisjunctive(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, boolean mirror) {
+        this.mirror = mirror;
+        int capaMax = capa.getUB();
+        n = 0;
+        ISetIterator tIter = tasks.iterator();
+        while (tIter.hasNext()) {
+            int i = tIter.nextInt();
+            if (d[i].getLB() > 0 && h[i].getLB() > 0 && 2 * h[i].getLB() > capaMax) {
+                load(i, s[i], d[i], e[i]);
+            }
+        }
+        sortTasks();
+        return n;
+    }
+
+    /**
+     * Load the tasks of <i>tasks</i> with a positive duration and a positive height,
+     * their energy being d.h.
+     *
+     * @return number of tasks loaded
+     */
+    int loadCumulative(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, ISet tasks, boolean mirror) {
+        this.mirror = mirror;
+        n = 0;
+        ISetIterator tIter = tasks.iterator();
+        while (tIter.hasNext()) {
+            int i = tIter.nextInt();
+            if (d[i].getLB() > 0 && h[i].getLB() > 0) {
+                load(i, s[i], d[i], e[i]);
+                height[n - 1] = h[i].getLB();
+                energy[n - 1] = (long) p[n - 1] * height[n - 1];
+            }
+        }
+        sortTasks();
+        return n;
+    }
+
+    /**
+     * Load all tasks with a positive duration.
+     *
+     * @return number of tasks loaded
+     */
+    int loadAll(IntVar[] s, IntVar[] d, IntVar[] e, boolean mirror) {
+        this.mirror = mirror;
+        n = 0;
+        for (int i = 0; i < s.length; i++) {
+            if (d[i].getLB() > 0) {
+                load(i, s[i], d[i], e[i]);
+            }
+        }
+        sortTasks();
+        return n;
+    }
+
+    private void load(int i, IntVar s, IntVar d, IntVar e) {
+        map[n] = i;
+        if (mirror) {
+            est[n] = -e.getUB();
+            lct[n] = -s.getLB();
+        } else {
+            est[n] = s.getLB();
+            lct[n] = e.getUB();
+        }
+        p[n] = d.getLB();
+        energy[n] = p[n];
+        newEst[n] = est[n];
+        newLct[n] = lct[n];
+        n++;
+    }
+
+    private void sortTasks() {
+        for (int k = 0; k < n; k++) {
+            byEst[k] = byLct[k] = byLst[k] = byEct[k] = k;
+        }
+        sort.sort(byEst, n, (i, j) -> Integer.compare(est[i], est[j]));
+        sort.sort(byLct, n, (i, j) -> Integer.compare(lct[i], lct[j]));
+        sort.sort(byLst, n, (i, j) -> Integer.compare(lct[i] - p[i], lct[j] - p[j]));
+        sort.sort(byEct, n, (i, j) -> Integer.compare(est[i] + p[i], est[j] + p[j]));
+    }
+
+    /**
+     * Overload checking and edge-finding: if a task cannot be processed before the end of a set of tasks Θ,
+     * without overloading the resource, it has to be processed after all of them.
+     */
+    void edgeFinding(Propagator<IntVar> aCause) throws ContradictionException {
+        if (n == 0) {
+            return;
+        }
+        tree.reset(n, byEst, est, energy, 1);
+        for (int k = 0; k < n; k++) {
+            tree.addToTheta(k);
+        }
+        int q = n - 1;
+        int j = byLct[q];
+        if (tree.getEnvelope() > lct[j]) {
+            aCause.fails();
+        }
+        while (q > 0) {
+            tree.moveToLambda(j);
+            j = byLct[--q];
+            if (tree.getEnvelope() > lct[j]) {
+                aCause.fails();
+            }
+            while (tree.getLambdaEnvelope() > lct[j]) {
+                int i = tree.getResponsible();
+                newEst[i] = (int) Math.max(newEst[i], tree.getEnvelope());
+                tree.remove(i);
+            }
+        }
+    }
+
+    /**
+     * Detectable precedences: if a task cannot start before the end of another one,
+     * it has to be processed after it.
+     */
+    void detectablePrecedences() {
+        tree.reset(n, byEst, est, energy, 1);
+        int q = 0;
+        for (int k = 0; k < n; k++) {
+            int i = byEct[k];
+            while (q < n && est[i] + p[i] > lct[byLst[q]] - p[byLst[q]]) {
+                tree.addToTheta(byLst[q++]);
+            }
+            boolean in = est[i] + p[i] > lct[i] - p[i];
+            if (in) {
+                tree.remove(i);
+            }
+            long ect = tree.getEnvelope();
+            if (ect > newEst[i]) {
+                newEst[i] = (int) ect;
+            }
+            if (in) {
+                tree.addToTheta(i);
+            }
+        }
+    }
+
+    /**
+     * Not-last: if a task cannot end after the other ones of a set Θ, it has to start before the last of them.
+     * Called on mirrored tasks, this is not-first.
+     */
+    void notLast() {
+        tree.reset(n, byEst, est, energy, 1);
+        int q = 0;
+        int last = -1;
+        for (int k = 0; k < n; k++) {
+            int i = byLct[k];
+            while (q < n && lct[i] > lct[byLst[q]] - p[byLst[q]]) {
+                last = byLst[q++];
+                tree.addToTheta(last);
+            }
+            // as durations are positive, i is in Θ
+            tree.remove(i);
+            if (tree.getEnvelope() > lct[i] - p[i]) {
+                // the task of Θ \ {i} with the latest starting time
+                int j = last != i ? last : byLst[q - 2];
+                newLct[i] = Math.min(newLct[i], lct[j] - p[j]);
+            }
+            tree.addToTheta(i);
+        }
+    }
+
+    /**
+     * Apply the new time bounds to the variables.
+     *
+     * @return <i>true</i> if a variable has been modified
+     */
+    boolean apply(IntVar[] s, IntVar[] e, Propagator<IntVar> aCause) throws ContradictionException {
+        boolean modified = false;
+        for (int k = 0; k < n; k++) {
+            int i = map[k];
+            if (mirror) {
+                if (newEst[k] > est[k]) {
+                    modified |= e[i].updateUpperBound(-newEst[k], aCause);
+                }
+                if (newLct[k] < lct[k]) {
+                    modified |= s[i].updateLowerBound(-newLct[k], aCause);
+                }
+            } else {
+                if (newEst[k] > est[k]) {
+                    modified |= s[i].updateLowerBound(newEst[k], aCause);
+                }
+                if (newLct[k] < lct[k]) {
+                    modified |= e[i].updateUpperBound(newLct[k], aCause);
+                }
+            }
+        }
+        return modified;
+    }
+
+    /**
+     * Overload checking for cumulative resources [2]: for any set of tasks Ω,
+     * C.est<sub>Ω</sub> + e<sub>Ω</sub> should not exceed C.lct<sub>Ω</sub>.
+     * <p>
+     * [2]: P. Vilím, Max Energy Filtering Algorithm for Discrete Cumulative Resources, CPAIOR-09.
+     */
+    void cumulativeOverload(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks,
+                            Propagator<IntVar> aCause) throws ContradictionException {
+        loadCumulative(s, d, e, h, tasks, false);
+        long c = capa.getUB();
+        tree.reset(n, byEst, est, energy, c);
+        for (int k = 0; k < n; k++) {
+            int j = byLct[k];
+            tree.addToTheta(j);
+            if (tree.getEnvelope() > c * lct[j]) {
+                aCause.fails();
+            }
+        }
+    }
+
+    /**
+     * Edge-finding for cumulative resources [2], on tasks loaded with {@link #loadCumulative}:
+     * if C.est<sub>Θ∪{i}</sub> + e<sub>Θ∪{i}</sub> &gt; C.lct<sub>Θ</sub>, the task <i>i</i> has to end after all the tasks of Θ,
+     * then it cannot start before est<sub>Ω</sub> + ⌈rest(Ω, c<sub>i</sub>) / c<sub>i</sub>⌉ for any Ω ⊆ Θ,
+     * where rest(Ω, c) = e<sub>Ω</sub> - (C - c).(lct<sub>Ω</sub> - est<sub>Ω</sub>) &gt; 0.
+     * <p>
+     * Detection is in O(n.log(n)), adjustments are in O(k.n.log(n)), k being the number of distinct heights.
+     * The overload checking is done on the way.
+     *
+     * @param c the capacity
+     */
+    void cumulativeEdgeFinding(long c, Propagator<IntVar> aCause) throws ContradictionException {
+        if (n == 0) {
+            return;
+        }
+        // detection: Θ is made of the tasks of byLct up to q, Λ of the following ones
+        tree.reset(n, byEst, est, energy, c);
+        for (int k = 0; k < n; k++) {
+            tree.addToTheta(k);
+            prec[k] = -1;
+        }
+        int q = n - 1;
+        while (q >= 0) {
+            int l = lct[byLct[q]];
+            if (tree.getEnvelope() > c * l) {
+                aCause.fails();
+            }
+            while (tree.getLambdaEnvelope() > c * l) {
+                int i = tree.getResponsible();
+                prec[i] = q;
+                tree.remove(i);
+            }
+            // tasks with the same lct are added to Λ together, so that Θ is a left cut
+            do {
+                tree.moveToLambda(byLct[q--]);
+            } while (q >= 0 && lct[byLct[q]] == l);
+        }
+        // adjustment, for each distinct height of the tasks to update
+        if (tree2 == null) {
+            tree2 = new ThetaLambdaTree();
+        }
+        for (int i = 0; i < n; i++) {
+            if (prec[i] >= 0) {
+                int ci = height[i];
+                tree.reset(n, byEst, est, energy, c);
+                tree2.reset(n, byEst, est, energy, c - ci);
+                long upd = Long.MIN_VALUE;
+                for (int k = 0; k < n; k++) {
+                    int j = byLct[k];
+                    tree.addToTheta(j);
+                    tree2.addToTheta(j);
+                    if (k == n - 1 || lct[byLct[k + 1]] != lct[j]) {
+                        // the latest task a such that rest(Ω, ci) > 0, Ω being made of a and the following tasks
+                        long bound = (c - ci) * lct[j];
+                        int a = tree2.getLatestAbove(bound);
+                        if (a >= 0) {
+                            // max(ci.est_Ω + rest(Ω, ci)) over the Ω starting no later than a
+                            long r = tree.getEnvelopeUpTo(a) - bound;
+                            upd = Math.max(upd, -Math.floorDiv(-r, ci));
+                        }
+                    }
+                    update[k] = upd;
+                }
+                for (int m = i; m < n; m++) {
+                    if (prec[m] >= 0 && height[m] == ci) {
+                        if (update[prec[m]] > newEst[m]) {
+                            newEst[m] = (int) update[prec[m]];
+                        }
+                        prec[m] = -1;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -29,9 +29,30 @@ import java.util.List;
 public class GlobalCardinality extends Constraint {
 
     public GlobalCardinality(IntVar[] vars, int[] values, IntVar[] cards) {
-    	super(ConstraintsName.GCC, createProp(vars, values, cards));
+    	this(vars, values, cards, false);
     }
 
+	/**
+	 * Global Cardinality constraint
+	 *
+	 * @param vars   collection of variables
+	 * @param values collection of constrained values
+	 * @param cards  collection of cardinality variables
+	 * @param ac     set to <i>true</i> to achieve arc-consistency on <i>vars</i>,
+	 *               with {@link PropGlobalCardinalityAC}, in addition to {@link PropFastGCC}
+	 */
+    public GlobalCardinality(IntVar[] vars, int[] values, IntVar[] cards, boolean ac) {
+    	super(ConstraintsName.GCC, createProps(vars, values, cards, ac));
+    }
+
+	private static Propagator[] createProps(IntVar[] vars, int[] values, IntVar[] cards, boolean ac) {
+		Propagator fast = createProp(vars, values, cards);
+		if (ac) {
+			return new Propagator[]{fast, new PropGlobalCardinalityAC(vars, values, cards)};
+		}
+		return new Propagator[]{fast};
+	}
+
 	private static Propagator createProp(IntVar[] vars, int[] values, IntVar[] cards) {
 		assert values.length == cards.length;
 		TIntIntHashMap map = new TIntIntHashMap();
@@ -0,0 +1,531 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.globalcardinality;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Propagator for Global Cardinality Constraint (GCC) for integer variables
+ * Achieves arc-consistency on decision variables, given the bounds of the cardinality variables [1].
+ * <p/>
+ * A flow, assigning each variable to a value while satisfying the cardinality bounds, is kept between calls
+ * and only repaired: assignments to removed values, or exceeding a reduced upper bound, are dropped,
+ * then augmenting paths are searched for unassigned variables and for values under their lower bound.
+ * As in {@link org.chocosolver.solver.constraints.nary.alldifferent.algo.AlgoAllDiffACIncremental},
+ * no graph is built: the edges of the residual graph are read from the domains, the flow and the bounds.
+ * <p/>
+ * The strongly connected component of each node is stored in a reversible way,
+ * and only computed again on the components where a domain or a bound changed, plus the one of the sink.
+ * Values that do not belong to the strongly connected component of their variable are then removed.
+ * <p/>
+ * Cardinality variables are not filtered, this propagator is expected to be used together with {@link PropFastGCC}.
+ * Values not given in the constructor are not restricted.
+ * <p/>
+ * [1]: J.-C. Régin, Generalized Arc Consistency for Global Cardinality Constraint, AAAI-96.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class PropGlobalCardinalityAC extends Propagator<IntVar> {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    // number of variables, number of nodes (variables and values), the sink
+    private final int n, n2, sink;
+    private final int[] values;
+    // value to value node, and the reverse
+    private final TIntIntHashMap map;
+    private final int[] nodeValue;
+    // bounds and current flow of each value node (indexed from n)
+    private final int[] low, up, flow;
+    // value node assigned to each variable, -1 if none
+    private final int[] matching;
+    // variables assigned to each value node (indexed from n), as doubly linked lists
+    private final int[] first, next, prev;
+    // component of each node, as the index of its root
+    private final IStateInt[] comp;
+    // domain sizes and cardinality bounds at the end of the last call
+    private final IStateInt[] sizes, lows, ups;
+    // nodes on which components are computed again
+    private final BitSet dirty, dirtyComps;
+    // for augmenting paths (BFS)
+    private final int[] father, fifo;
+    private final BitSet in;
+    // for Tarjan algorithm
+    private final int[] index, lowLink, cursor, stack, callStack;
+    private final BitSet onStack;
+    private static final int NONE = Integer.MIN_VALUE;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    /**
+     * Propagator for Global Cardinality Constraint (GCC) for integer variables
+     * Achieves arc-consistency on decision variables
+     *
+     * @param decvars            array of integer variables
+     * @param restrictedValues   array of int
+     * @param valueCardinalities array of integer variables
+     */
+    public PropGlobalCardinalityAC(IntVar[] decvars, int[] restrictedValues, IntVar[] valueCardinalities) {
+        super(ArrayUtils.append(decvars, valueCardinalities), PropagatorPriority.QUADRATIC, false);
+        if (restrictedValues.length != valueCardinalities.length) {
+            throw new UnsupportedOperationException();
+        }
+        this.n = decvars.length;
+        this.values = restrictedValues;
+        this.map = new TIntIntHashMap();
+        int idx = n;
+        for (int v : values) {
+            map.put(v, idx++);
+        }
+        for (int i = 0; i < n; i++) {
+            IntVar v = vars[i];
+            int ub = v.getUB();
+            for (int k = v.getLB(); k <= ub; k = v.nextValue(k)) {
+                if (!map.containsKey(k)) {
+                    map.put(k, idx++);
+                }
+            }
+        }
+        this.n2 = idx;
+        this.sink = n2;
+        this.nodeValue = new int[n2 - n];
+        map.forEachEntry((v, j) -> {
+            nodeValue[j - n] = v;
+            return true;
+        });
+        this.low = new int[n2 - n];
+        this.up = new int[n2 - n];
+        this.flow = new int[n2 - n];
+        this.matching = new int[n];
+        Arrays.fill(matching, -1);
+        this.first = new int[n2 - n];
+        Arrays.fill(first, -1);
+        this.next = new int[n];
+        this.prev = new int[n];
+        IEnvironment environment = model.getEnvironment();
+        this.comp = new IStateInt[n2 + 1];
+        for (int i = 0; i <= n2; i++) {
+            comp[i] = environment.makeInt(0);
+        }
+        this.sizes = new IStateInt[n];
+        for (int i = 0; i < n; i++) {
+            sizes[i] = environment.makeInt(-1);
+        }
+        this.lows = new IStateInt[values.length];
+        this.ups = new IStateInt[values.length];
+        for (int j = 0; j < values.length; j++) {
+            lows[j] = environment.makeInt(-1);
+            ups[j] = environment.makeInt(-1);
+        }
+        this.dirty = new BitSet(n2 + 1);
+        this.dirtyComps = new BitSet(n2 + 1);
+        this.father = new int[n2];
+        this.fifo = new int[n2];
+        this.in = new BitSet(n2);
+        this.index = new int[n2 + 1];
+        this.lowLink = new int[n2 + 1];
+        this.cursor = new int[n2 + 1];
+        this.stack = new int[n2 + 1];
+        this.callStack = new int[n2 + 1];
+        this.onStack = new BitSet(n2 + 1);
+    }
+
+    //***********************************************************************************
+    // PROPAGATION
+    //***********************************************************************************
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        if (vIdx >= n) {// cardinality variables
+            return IntEventType.boundAndInst();
+        }
+        return IntEventType.all();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        dirtyComps.clear();
+        for (int j = 0; j < n2 - n; j++) {
+            if (j < values.length) {
+                IntVar card = vars[n + j];
+                low[j] = Math.max(0, card.getLB());
+                up[j] = card.getUB();
+                if (low[j] != lows[j].get() || up[j] != ups[j].get()) {
+                    dirtyComps.set(comp[n + j].get());
+                }
+            } else {
+                low[j] = 0;
+                up[j] = n;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if (vars[i].getDomainSize() != sizes[i].get()) {
+                dirtyComps.set(comp[i].get());
+            }
+        }
+        if (dirtyComps.isEmpty()) {
+            return;
+        }
+        repairFlow();
+        for (int i = 0; i < n; i++) {
+            if (matching[i] == -1 && !assign(i)) {
+                fails();
+            }
+        }
+        for (int j = n; j < n2; j++) {
+            while (flow[j - n] < low[j - n]) {
+                if (!increase(j)) {
+                    fails();
+                }
+            }
+        }
+        // the component containing the sink may merge with others
+        dirtyComps.set(comp[sink].get());
+        dirty.clear();
+        for (int x = 0; x <= n2; x++) {
+            if (dirtyComps.get(comp[x].get())) {
+                dirty.set(x);
+            }
+        }
+        findSCC();
+        for (int i = dirty.nextSetBit(0); i >= 0 && i < n; i = dirty.nextSetBit(i + 1)) {
+            filter(i);
+        }
+        for (int i = 0; i < n; i++) {
+            sizes[i].set(vars[i].getDomainSize());
+        }
+        for (int j = 0; j < values.length; j++) {
+            lows[j].set(low[j]);
+            ups[j].set(up[j]);
+        }
+    }
+
+    //***********************************************************************************
+    // FLOW
+    //***********************************************************************************
+
+    /**
+     * Assign the variable <i>i</i> to the value node <i>j</i>
+     */
+    private void link(int i, int j) {
+        matching[i] = j;
+        flow[j - n]++;
+        int f = first[j - n];
+        prev[i] = -1;
+        next[i] = f;
+        if (f != -1) {
+            prev[f] = i;
+        }
+        first[j - n] = i;
+    }
+
+    /**
+     * Unassign the variable <i>i</i>
+     */
+    private void unlink(int i) {
+        int j = matching[i];
+        matching[i] = -1;
+        flow[j - n]--;
+        if (prev[i] == -1) {
+            first[j - n] = next[i];
+        } else {
+            next[prev[i]] = next[i];
+        }
+        if (next[i] != -1) {
+            prev[next[i]] = prev[i];
+        }
+    }
+
+    /**
+     * Drop the assignments which are not valid anymore
+     */
+    private void repairFlow() {
+        for (int i = 0; i < n; i++) {
+            int j = matching[i];
+            if (j != -1 && !vars[i].contains(nodeValue[j - n])) {
+                unlink(i);
+            }
+        }
+        for (int j = 0; j < values.length; j++) {
+            while (flow[j] > up[j]) {
+                unlink(first[j]);
+            }
+        }
+    }
+
+    /**
+     * Assign the variable <i>root</i>, along an augmenting path ending with a value under its upper bound.
+     *
+     * @return <i>false</i> if no such path exists
+     */
+    private boolean assign(int root) {
+        in.clear();
+        in.set(root);
+        int indexFirst = 0, indexLast = 0;
+        fifo[indexLast++] = root;
+        while (indexFirst != indexLast) {
+            int x = fifo[indexFirst++];
+            IntVar v = vars[x];
+            int ub = v.getUB();
+            for (int k = v.getLB(); k <= ub; k = v.nextValue(k)) {
+                int y = map.get(k);
+                if (y != matching[x] && !in.get(y)) {
+                    in.set(y);
+                    father[y] = x;
+                    if (flow[y - n] < up[y - n]) {
+                        // shift the assignments along the path
+                        while (y != -1) {
+                            int i = father[y];
+                            int mate = matching[i];
+                            if (mate != -1) {
+                                unlink(i);
+                            }
+                            link(i, y);
+                            y = mate;
+                        }
+                        return true;
+                    }
+                    indexLast = pushAssigned(y, indexLast);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Increase the flow of the value node <i>root</i>, along an augmenting path
+     * starting from a value above its lower bound.
+     *
+     * @return <i>false</i> if no such path exists
+     */
+    private boolean increase(int root) {
+        in.clear();
+        in.set(root);
+        int indexFirst = 0, indexLast = 0;
+        for (int y = n; y < n2; y++) {
+            if (y != root && flow[y - n] > low[y - n]) {
+                in.set(y);
+                father[y] = -1;
+                indexLast = pushAssigned(y, indexLast);
+            }
+        }
+        while (indexFirst != indexLast) {
+            int x = fifo[indexFirst++];
+            IntVar v = vars[x];
+            int ub = v.getUB();
+            for (int k = v.getLB(); k <= ub; k = v.nextValue(k)) {
+                int y = map.get(k);
+                if (y == root) {
+                    // shift the assignments along the path
+                    father[y] = x;
+                    while (y != -1) {
+                        int i = father[y];
+                        int mate = matching[i];
+                        unlink(i);
+                        link(i, y);
+                        y = father[mate] == -1 ? -1 : mate;
+                    }
+                    return true;
+                }
+                if (y != matching[x] && !in.get(y)) {
+                    in.set(y);
+                    father[y] = x;
+                    indexLast = pushAssigned(y, indexLast);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Add the variables assigned to the value node <i>y</i> and not visited yet to the queue
+     *
+     * @return the new end of the queue
+     */
+    private int pushAssigned(int y, int indexLast) {
+        for (int z = first[y - n]; z != -1; z = next[z]) {
+            if (!in.get(z)) {
+                in.set(z);
+                fifo[indexLast++] = z;
+            }
+        }
+        return indexLast;
+    }
+
+    //***********************************************************************************
+    // PRUNING
+    //***********************************************************************************
+
+    /**
+     * Tarjan algorithm, restricted to dirty nodes, in the residual graph:
+     * a variable points to the values of its domain except its assigned one,
+     * a value points to its assigned variables and to the sink if its flow is under its upper bound,
+     * and the sink points to values whose flow is above their lower bound.
+     */
+    private void findSCC() {
+        for (int x = dirty.nextSetBit(0); x >= 0; x = dirty.nextSetBit(x + 1)) {
+            index[x] = -1;
+            cursor[x] = NONE;
+        }
+        int counter = 0;
+        int top = 0;
+        for (int root = dirty.nextSetBit(0); root >= 0; root = dirty.nextSetBit(root + 1)) {
+            if (index[root] != -1) {
+                continue;
+            }
+            int sp = 0;
+            callStack[sp++] = root;
+            index[root] = lowLink[root] = counter++;
+            stack[top++] = root;
+            onStack.set(root);
+            while (sp > 0) {
+                int x = callStack[sp - 1];
+                int y = nextSuccessor(x);
+                if (y != -1) {
+                    if (index[y] == -1) {
+                        index[y] = lowLink[y] = counter++;
+                        stack[top++] = y;
+                        onStack.set(y);
+                        callStack[sp++] = y;
+                    } else if (onStack.get(y)) {
+                        lowLink[x] = Math.min(lowLink[x], index[y]);
+                    }
+                } else {
+                    sp--;
+                    if (sp > 0) {
+                        int p = callStack[sp - 1];
+                        lowLink[p] = Math.min(lowLink[p], lowLink[x]);
+                    }
+                    if (lowLink[x] == index[x]) {
+                        int z;
+                        do {
+                            z = stack[--top];
+                            onStack.clear(z);
+                            comp[z].set(x);
+                        } while (z != x);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the next dirty successor of node <i>x</i>, -1 if none
+     */
+    private int nextSuccessor(int x) {
+        if (x < n) {
+            IntVar v = vars[x];
+            int ub = v.getUB();
+            int k = cursor[x] == NONE ? v.getLB() : v.nextValue(cursor[x]);
+            while (k <= ub) {
+                cursor[x] = k;
+                int y = map.get(k);
+                if (y != matching[x] && dirty.get(y)) {
+                    return y;
+                }
+                k = v.nextValue(k);
+            }
+            cursor[x] = Integer.MAX_VALUE;
+        } else if (x < n2) {
+            if (cursor[x] != Integer.MAX_VALUE) {
+                int z = cursor[x] == NONE ? first[x - n] : next[cursor[x]];
+                while (z != -1) {
+                    cursor[x] = z;
+                    if (dirty.get(z)) {
+                        return z;
+                    }
+                    z = next[z];
+                }
+                cursor[x] = Integer.MAX_VALUE;
+                if (flow[x - n] < up[x - n] && dirty.get(sink)) {
+                    return sink;
+                }
+            }
+        } else {
+            int j = cursor[x] == NONE ? n : cursor[x] + 1;
+            while (j < n2) {
+                cursor[x] = j;
+                if (flow[j - n] > low[j - n] && dirty.get(j)) {
+                    return j;
+                }
+                j++;
+            }
+            cursor[x] = n2;
+        }
+        return -1;
+    }
+
+    /**
+     * Remove the values of <i>vars[i]</i> that do not belong to its strongly connected component
+     */
+    private void filter(int i) throws ContradictionException {
+        IntVar v = vars[i];
+        int c = comp[i].get();
+        int ub = v.getUB();
+        for (int k = v.getLB(); k <= ub; k = v.nextValue(k)) {
+            int j = map.get(k);
+            if (j != matching[i] && comp[j].get() != c) {
+                v.removeValue(k, this);
+            }
+        }
+    }
+
+    //***********************************************************************************
+    // INFO
+    //***********************************************************************************
+
+    @Override
+    public ESat isEntailed() {
+        int n3 = values.length;
+        int[] min = new int[n3];
+        int[] max = new int[n3];
+        for (int i = 0; i < n; i++) {
+            IntVar v = vars[i];
+            int ub = v.getUB();
+            for (int k = v.getLB(); k <= ub; k = v.nextValue(k)) {
+                int j = map.get(k) - n;
+                if (j < n3) {
+                    max[j]++;
+                    if (v.isInstantiated()) {
+                        min[j]++;
+                    }
+                }
+            }
+        }
+        for (int j = 0; j < n3; j++) {
+            if (vars[n + j].getLB() > max[j] || vars[n + j].getUB() < min[j]) {
+                return ESat.FALSE;
+            }
+        }
+        for (int j = 0; j < n3; j++) {
+            if (!(vars[n + j].isInstantiated() && max[j] == min[j])) {
+                return ESat.UNDEFINED;
+            }
+        }
+        return ESat.TRUE;
+    }
+}
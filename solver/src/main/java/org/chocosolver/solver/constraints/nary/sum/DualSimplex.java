@@ -0,0 +1,447 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import java.util.Arrays;
+
+/**
+ * A dual simplex for bounded linear programs:
+ * <pre>
+ *     min c.x s.t. A.x - s = 0, l &le; (x, s) &le; u
+ * </pre>
+ * where <i>x</i> are the <i>n</i> structural columns and <i>s</i> the <i>m</i> logical ones,
+ * one per row, bounded by the bounds of the row.
+ * <p>
+ * All bounds have to be finite, so that any basis is made dual feasible by setting each nonbasic column
+ * to the bound given by the sign of its reduced cost.
+ * Hence, the basis reached by a call to {@link #solve(int)} is a valid starting point of the next call,
+ * whatever the changes of bounds in between.
+ * <p>
+ * The inverse of the basis is stored as a dense <i>m</i>x<i>m</i> matrix, updated on each pivot
+ * and computed again from scratch every {@link #REFACTORIZATION} pivots.
+ * <p>
+ * No value computed here is trusted: bounds must be deduced from {@link #duals()},
+ * see {@link #reducedCosts(double[], double[])}.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+final class DualSimplex {
+
+    /**
+     * Status returned when the current basis is primal feasible
+     */
+    static final int OPTIMAL = 0;
+    /**
+     * Status returned when no column can enter the basis, see {@link #infeasibleRow()}
+     */
+    static final int INFEASIBLE = 1;
+    /**
+     * Status returned when the maximum number of iterations is reached
+     */
+    static final int LIMIT = 2;
+
+    private static final double PRIMAL_TOL = 1.e-7;
+    private static final double DUAL_TOL = 1.e-9;
+    private static final double PIVOT_TOL = 1.e-9;
+    private static final int REFACTORIZATION = 100;
+
+    /**
+     * Number of structural columns
+     */
+    final int n;
+    /**
+     * Number of rows
+     */
+    final int m;
+    /**
+     * Structural columns, in compressed form
+     */
+    private final int[] colStart;
+    private final int[] colRow;
+    private final double[] colVal;
+    /**
+     * Cost of each column
+     */
+    private final double[] cost;
+    /**
+     * Bounds of each column, to be set before calling {@link #solve(int)}
+     */
+    final double[] lb, ub;
+    /**
+     * Value of each column
+     */
+    private final double[] x;
+    /**
+     * Set to true when a nonbasic column is at its upper bound
+     */
+    private final boolean[] atUpper;
+    /**
+     * Column basic in each row
+     */
+    private final int[] head;
+    /**
+     * Row of each basic column, -1 for nonbasic ones
+     */
+    private final int[] where;
+    /**
+     * Inverse of the basis, row-major
+     */
+    private final double[] binv;
+    /**
+     * Pivots since the last refactorization
+     */
+    private int nbUpdates;
+    private final double[] y;
+    private final double[] d;
+    private final double[] v;
+    private final double[] col;
+    private int leaving = -1;
+
+    /**
+     * Create a dual simplex, starting from the basis made of the logical columns.
+     *
+     * @param n        number of structural columns
+     * @param m        number of rows
+     * @param colStart nonzeros of the structural column <i>j</i> are stored between <i>colStart[j]</i> (included)
+     *                 and <i>colStart[j+1]</i> (excluded)
+     * @param colRow   row of each nonzero
+     * @param colVal   value of each nonzero
+     * @param cost     cost of each structural column
+     */
+    DualSimplex(int n, int m, int[] colStart, int[] colRow, double[] colVal, double[] cost) {
+        this.n = n;
+        this.m = m;
+        this.colStart = colStart;
+        this.colRow = colRow;
+        this.colVal = colVal;
+        this.cost = Arrays.copyOf(cost, n + m);
+        this.lb = new double[n + m];
+        this.ub = new double[n + m];
+        this.x = new double[n + m];
+        this.atUpper = new boolean[n + m];
+        this.head = new int[m];
+        this.where = new int[n + m];
+        this.binv = new double[m * m];
+        this.y = new double[m];
+        this.d = new double[n + m];
+        this.v = new double[m];
+        this.col = new double[m];
+        slackBasis();
+    }
+
+    /**
+     * Reset the basis to the logical columns, whose matrix is <i>-I</i>.
+     */
+    private void slackBasis() {
+        Arrays.fill(where, -1);
+        Arrays.fill(binv, 0.);
+        for (int i = 0; i < m; i++) {
+            head[i] = n + i;
+            where[n + i] = i;
+            binv[i * m + i] = -1.;
+        }
+        nbUpdates = 0;
+    }
+
+    /**
+     * @return <i>r.M<sub>j</sub></i>, where <i>M<sub>j</sub></i> is the column <i>j</i> of <i>[A | -I]</i>
+     */
+    private double dot(double[] r, int j) {
+        if (j >= n) {
+            return -r[j - n];
+        }
+        double s = 0.;
+        for (int k = colStart[j]; k < colStart[j + 1]; k++) {
+            s += r[colRow[k]] * colVal[k];
+        }
+        return s;
+    }
+
+    /**
+     * Run the dual simplex from the current basis.
+     *
+     * @param maxIter maximum number of pivots
+     * @return {@link #OPTIMAL}, {@link #INFEASIBLE} or {@link #LIMIT}
+     */
+    int solve(int maxIter) {
+        leaving = -1;
+        for (int it = 0; ; it++) {
+            if (nbUpdates >= REFACTORIZATION && !refactorize()) {
+                slackBasis();
+            }
+            computeDuals();
+            reducedCosts(y, d);
+            placeNonbasic();
+            computePrimal();
+            int r = selectLeaving();
+            if (r == -1) {
+                return OPTIMAL;
+            }
+            if (it == maxIter) {
+                return LIMIT;
+            }
+            int q = selectEntering(r);
+            if (q == -1) {
+                leaving = r;
+                return INFEASIBLE;
+            }
+            pivot(r, q);
+        }
+    }
+
+    private void computeDuals() {
+        Arrays.fill(y, 0.);
+        for (int i = 0; i < m; i++) {
+            double c = cost[head[i]];
+            if (c != 0.) {
+                for (int k = 0; k < m; k++) {
+                    y[k] += c * binv[i * m + k];
+                }
+            }
+        }
+    }
+
+    private void placeNonbasic() {
+        for (int j = 0; j < n + m; j++) {
+            if (where[j] == -1) {
+                if (d[j] > DUAL_TOL) {
+                    atUpper[j] = false;
+                } else if (d[j] < -DUAL_TOL) {
+                    atUpper[j] = true;
+                }
+                x[j] = atUpper[j] ? ub[j] : lb[j];
+            }
+        }
+    }
+
+    private void computePrimal() {
+        Arrays.fill(v, 0.);
+        for (int j = 0; j < n + m; j++) {
+            if (where[j] == -1 && x[j] != 0.) {
+                if (j >= n) {
+                    v[j - n] += x[j];
+                } else {
+                    for (int k = colStart[j]; k < colStart[j + 1]; k++) {
+                        v[colRow[k]] -= colVal[k] * x[j];
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < m; i++) {
+            double s = 0.;
+            for (int k = 0; k < m; k++) {
+                s += binv[i * m + k] * v[k];
+            }
+            x[head[i]] = s;
+        }
+    }
+
+    /**
+     * @return the row whose basic column violates its bounds the most, -1 if none
+     */
+    private int selectLeaving() {
+        int r = -1;
+        double max = 0.;
+        for (int i = 0; i < m; i++) {
+            int j = head[i];
+            double inf = Math.max(lb[j] - x[j], x[j] - ub[j]);
+            if (inf > PRIMAL_TOL * (1. + Math.abs(x[j])) && inf > max) {
+                max = inf;
+                r = i;
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Dual ratio test on the row <i>r</i>
+     *
+     * @return the column entering the basis, -1 if none can enter
+     */
+    private int selectEntering(int r) {
+        int p = head[r];
+        boolean below = x[p] < lb[p];
+        for (int k = 0; k < m; k++) {
+            v[k] = binv[r * m + k];
+        }
+        int q = -1;
+        double ratio = Double.POSITIVE_INFINITY;
+        double pivot = 0.;
+        for (int j = 0; j < n + m; j++) {
+            if (where[j] == -1 && lb[j] < ub[j]) {
+                double a = dot(v, j);
+                if (Math.abs(a) < PIVOT_TOL) {
+                    continue;
+                }
+                // the basic column moves toward the violated bound when the entering one leaves its bound
+                if (below == (atUpper[j] == (a > 0))) {
+                    double t = Math.abs(d[j]) / Math.abs(a);
+                    if (t < ratio || (t == ratio && Math.abs(a) > pivot)) {
+                        ratio = t;
+                        pivot = Math.abs(a);
+                        q = j;
+                    }
+                }
+            }
+        }
+        return q;
+    }
+
+    private void pivot(int r, int q) {
+        Arrays.fill(col, 0.);
+        if (q >= n) {
+            for (int i = 0; i < m; i++) {
+                col[i] = -binv[i * m + q - n];
+            }
+        } else {
+            for (int k = colStart[q]; k < colStart[q + 1]; k++) {
+                int c = colRow[k];
+                double a = colVal[k];
+                for (int i = 0; i < m; i++) {
+                    col[i] += binv[i * m + c] * a;
+                }
+            }
+        }
+        double piv = col[r];
+        if (Math.abs(piv) < PIVOT_TOL) {
+            // inconsistent with the pivot row, the inverse has drifted
+            nbUpdates = REFACTORIZATION;
+            return;
+        }
+        int p = head[r];
+        for (int k = 0; k < m; k++) {
+            binv[r * m + k] /= piv;
+        }
+        for (int i = 0; i < m; i++) {
+            double f = col[i];
+            if (i != r && f != 0.) {
+                for (int k = 0; k < m; k++) {
+                    binv[i * m + k] -= f * binv[r * m + k];
+                }
+            }
+        }
+        atUpper[p] = x[p] > ub[p];
+        where[p] = -1;
+        head[r] = q;
+        where[q] = r;
+        nbUpdates++;
+    }
+
+    /**
+     * Compute the inverse of the basis from scratch, by Gauss-Jordan elimination with partial pivoting.
+     *
+     * @return false if the basis is singular
+     */
+    private boolean refactorize() {
+        double[] b = new double[m * m];
+        for (int i = 0; i < m; i++) {
+            int j = head[i];
+            if (j >= n) {
+                b[(j - n) * m + i] = -1.;
+            } else {
+                for (int k = colStart[j]; k < colStart[j + 1]; k++) {
+                    b[colRow[k] * m + i] = colVal[k];
+                }
+            }
+        }
+        Arrays.fill(binv, 0.);
+        for (int i = 0; i < m; i++) {
+            binv[i * m + i] = 1.;
+        }
+        for (int c = 0; c < m; c++) {
+            int best = c;
+            for (int i = c + 1; i < m; i++) {
+                if (Math.abs(b[i * m + c]) > Math.abs(b[best * m + c])) {
+                    best = i;
+                }
+            }
+            if (Math.abs(b[best * m + c]) < PIVOT_TOL) {
+                return false;
+            }
+            swapRows(b, c, best);
+            swapRows(binv, c, best);
+            double piv = b[c * m + c];
+            for (int k = 0; k < m; k++) {
+                b[c * m + k] /= piv;
+                binv[c * m + k] /= piv;
+            }
+            for (int i = 0; i < m; i++) {
+                double f = b[i * m + c];
+                if (i != c && f != 0.) {
+                    for (int k = 0; k < m; k++) {
+                        b[i * m + k] -= f * b[c * m + k];
+                        binv[i * m + k] -= f * binv[c * m + k];
+                    }
+                }
+            }
+        }
+        nbUpdates = 0;
+        return true;
+    }
+
+    private void swapRows(double[] a, int i, int j) {
+        if (i != j) {
+            for (int k = 0; k < m; k++) {
+                double t = a[i * m + k];
+                a[i * m + k] = a[j * m + k];
+                a[j * m + k] = t;
+            }
+        }
+    }
+
+    /**
+     * @return the dual values of the rows in the current basis, <i>c<sub>B</sub>.B<sup>-1</sup></i>
+     */
+    double[] duals() {
+        computeDuals();
+        return y;
+    }
+
+    /**
+     * @return the row of the inverse of the basis which prevented any column from entering the basis
+     * on the last call to {@link #solve(int)}, if it returned {@link #INFEASIBLE}
+     */
+    double[] infeasibleRow() {
+        for (int k = 0; k < m; k++) {
+            v[k] = binv[leaving * m + k];
+        }
+        return v;
+    }
+
+    /**
+     * Compute <i>r.M<sub>j</sub></i> for each column <i>j</i>.
+     * Whatever <i>r</i>, <i>&sum;<sub>j</sub> out[j].x<sub>j</sub> = 0</i> for each solution of the rows,
+     * hence the rows are infeasible when 0 is not between the minimum and the maximum of the left-hand side
+     * over the bounds.
+     *
+     * @param r   multipliers of the rows
+     * @param out coefficients of the combination of the rows, of size <i>n+m</i>
+     */
+    void combination(double[] r, double[] out) {
+        for (int j = 0; j < n + m; j++) {
+            out[j] = dot(r, j);
+        }
+    }
+
+    /**
+     * Compute <i>c<sub>j</sub> - r.M<sub>j</sub></i> for each column <i>j</i>.
+     * Whatever <i>r</i>, <i>c.x = &sum;<sub>j</sub> out[j].x<sub>j</sub></i> for each solution of the rows,
+     * hence the minimum of the right-hand side over the bounds is a lower bound of the objective.
+     *
+     * @param r   multipliers of the rows
+     * @param out reduced costs, of size <i>n+m</i>
+     */
+    void reducedCosts(double[] r, double[] out) {
+        for (int j = 0; j < n + m; j++) {
+            out[j] = cost[j] - dot(r, j);
+        }
+    }
+}
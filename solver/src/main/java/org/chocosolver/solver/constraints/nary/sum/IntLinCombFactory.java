@@ -173,19 +173,14 @@ public class IntLinCombFactory {
                             + " (should be in {\"=\", \"!=\", \">\",\"<\",\">=\",\"<=\"})");
             }
         }
-        if(slb < Integer.MIN_VALUE || slb> Integer.MAX_VALUE){
-            throw new SolverException("Sum of lower bounds under/overflows. Consider reducing variables' domain to prevent this.");
-        }
-        if(sub < Integer.MIN_VALUE || sub > Integer.MAX_VALUE){
-            throw new SolverException("Sum of upper bounds under/overflows. Consider reducing variables' domain to prevent this.");
-        }
         if(RESULT< Integer.MIN_VALUE || RESULT> Integer.MAX_VALUE){
             throw new SolverException("RHS under/overflows. Consider reducing it to prevent this.");
         }
-        if(RESULT - slb < Integer.MIN_VALUE || RESULT - slb > Integer.MAX_VALUE
-          || sub - RESULT < Integer.MIN_VALUE || sub - RESULT> Integer.MAX_VALUE){
-            throw new SolverException("Integer under/overflow detected. Consider reducing variables' domain and/or RHS to prevent this.");
-        }
+        // sums of bounds out of the range of integers are only supported by PropScalar, which relies on longs
+        boolean overflow = slb < Integer.MIN_VALUE || slb > Integer.MAX_VALUE
+                || sub < Integer.MIN_VALUE || sub > Integer.MAX_VALUE
+                || RESULT - slb < Integer.MIN_VALUE || RESULT - slb > Integer.MAX_VALUE
+                || sub - RESULT < Integer.MIN_VALUE || sub - RESULT > Integer.MAX_VALUE;
         // 2. resize NVARS and NCOEFFS
         if (k < NVARS.length) {
             NVARS = Arrays.copyOf(NVARS, k, IntVar[].class);
@@ -200,7 +195,9 @@ public class IntLinCombFactory {
             NCOEFFS[k - 1] = NCOEFFS[lidx];
             NCOEFFS[lidx] = i;
         }
-        if (nones + nmones == NVARS.length) {
+        if (overflow) {
+            return scalar(NVARS, NCOEFFS, OPERATOR, (int)RESULT);
+        } else if (nones + nmones == NVARS.length) {
             return selectSum(NVARS, NCOEFFS, OPERATOR, (int)RESULT, nbools);
         } else {
             return selectScalar(NVARS, NCOEFFS, OPERATOR, (int)RESULT);
@@ -301,7 +298,8 @@ public class IntLinCombFactory {
 
                     }
                 }
-                return new SumConstraint( new PropSum(tmpV, b, OPERATOR, RESULT));
+                return new SumConstraint( new PropSum(tmpV, b, OPERATOR, RESULT,
+                        model.getSettings().enableIncrementalityOnSum(tmpV.length)));
         }
     }
 
@@ -337,6 +335,19 @@ public class IntLinCombFactory {
             return s.table(VARS, TuplesFactory.scalar(Arrays.copyOf(VARS, VARS.length - 1), Arrays.copyOf(COEFFS, COEFFS.length - 1),
                     OPERATOR.toString(), VARS[VARS.length - 1], -COEFFS[COEFFS.length - 1], RESULT));
         }
+        return scalar(VARS, COEFFS, OPERATOR, RESULT);
+    }
+
+    /**
+     * Return a scalar product constraint based on {@link PropScalar}, whatever the coefficients are
+     *
+     * @param VARS     array of integer variables
+     * @param COEFFS   array of integers
+     * @param OPERATOR on operator
+     * @param RESULT   an integer
+     * @return a constraint
+     */
+    private static Constraint scalar(IntVar[] VARS, int[] COEFFS, Operator OPERATOR, int RESULT) {
         int b = 0, e = VARS.length;
         IntVar[] tmpV = new IntVar[e];
         int[] tmpC = new int[e];
@@ -357,7 +368,8 @@ public class IntLinCombFactory {
             OPERATOR = Operator.LE;
             RESULT--;
         }
-        return new SumConstraint(new PropScalar(tmpV, tmpC, b, OPERATOR, RESULT));
+        return new SumConstraint(new PropScalar(tmpV, tmpC, b, OPERATOR, RESULT,
+                VARS[0].getModel().getSettings().enableIncrementalityOnSum(tmpV.length)));
     }
 
 ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -0,0 +1,394 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.binary.PropEqualX_Y;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.tools.MathUtils;
+
+import java.util.*;
+
+/**
+ * Presolve of the linear constraints of a model, to run before the initial propagation [1].
+ * <p>
+ * Posted constraints filtered by {@link PropSum} or {@link PropScalar} (but not by their Boolean variants)
+ * are read as rows <i>lo &le; &sum; a<sub>i</sub>.x<sub>i</sub> &le; hi</i>, then:
+ * <ul>
+ *     <li>instantiated variables are moved to the bounds and variables aliased by an equality <i>x = y</i>
+ *     are replaced by the one with the smallest id (the equality is kept),</li>
+ *     <li>coefficients are divided by their gcd, the bounds being rounded,</li>
+ *     <li>rows over the same terms are merged, keeping the tightest bounds only,</li>
+ *     <li>bounds implied by the domains of the variables are removed, hence rows always satisfied are removed,
+ *     and rows over a single variable are replaced by bound constraints,</li>
+ *     <li>coefficients of Boolean variables in inequalities are tightened [2].</li>
+ * </ul>
+ * Modified rows are unposted and replaced by new constraints, the other ones are left unchanged.
+ * Domains are not modified.
+ * Since a removed constraint may be implied by a remaining one only, constraints should not be unposted afterwards.
+ * <p>
+ * [1]: T. Achterberg, R.E. Bixby, Z. Gu, E. Rothberg, D. Weninger,
+ * Presolve Reductions in Mixed Integer Programming, INFORMS Journal on Computing, 2020.
+ * <br/>
+ * [2]: M.W.P. Savelsbergh, Preprocessing and Probing Techniques for Mixed Integer Programming Problems,
+ * ORSA Journal on Computing, 1994.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class LinearPresolver {
+
+    /**
+     * What the presolve did
+     */
+    public static final class Report {
+        private int nbRemoved, nbPosted, nbSubstitutions, nbTightenings, nbInfeasible;
+
+        /**
+         * @return number of linear constraints unposted
+         */
+        public int getNbRemovedConstraints() {
+            return nbRemoved;
+        }
+
+        /**
+         * @return number of constraints posted instead of the removed ones
+         */
+        public int getNbPostedConstraints() {
+            return nbPosted;
+        }
+
+        /**
+         * @return number of occurrences of instantiated or aliased variables substituted
+         */
+        public int getNbSubstitutions() {
+            return nbSubstitutions;
+        }
+
+        /**
+         * @return number of coefficients tightened
+         */
+        public int getNbTightenedCoefficients() {
+            return nbTightenings;
+        }
+
+        /**
+         * @return number of rows detected as infeasible, each one being replaced by a false constraint
+         */
+        public int getNbInfeasibleRows() {
+            return nbInfeasible;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Presolve: %d linear constraints removed, %d posted, %d substitutions, " +
+                    "%d coefficients tightened, %d infeasible rows", nbRemoved, nbPosted, nbSubstitutions,
+                    nbTightenings, nbInfeasible);
+        }
+    }
+
+    /**
+     * A linear constraint: lo &le; &sum; coeffs[i].vars[i] &le; hi, variables being sorted by id
+     */
+    private static final class Row {
+        private final List<Constraint> origins = new ArrayList<>(1);
+        private IntVar[] vars;
+        private long[] coeffs;
+        private long lo, hi;
+        // set to true when the row differs from the one of its origin
+        private boolean modified;
+    }
+
+    private final Model model;
+    private final Report report;
+    // aliased variables, to their parent
+    private final Map<IntVar, IntVar> parents;
+
+    /**
+     * Create a presolver for the linear constraints of <i>model</i>
+     *
+     * @param model a model
+     */
+    public LinearPresolver(Model model) {
+        this.model = model;
+        this.report = new Report();
+        this.parents = new HashMap<>();
+    }
+
+    /**
+     * Run the presolve, which replaces some constraints of the model.
+     *
+     * @return what the presolve did
+     */
+    public Report presolve() {
+        Constraint[] cstrs = model.getCstrs();
+        for (Constraint c : cstrs) {
+            Propagator<?>[] props = c.getPropagators();
+            if (c.getStatus() == Constraint.Status.POSTED && props.length == 1 && props[0] instanceof PropEqualX_Y) {
+                union((IntVar) props[0].getVar(0), (IntVar) props[0].getVar(1));
+            }
+        }
+        Map<String, Row> rows = new LinkedHashMap<>();
+        for (Constraint c : cstrs) {
+            Propagator<?>[] props = c.getPropagators();
+            if (c.getStatus() == Constraint.Status.POSTED && props.length == 1
+                    && (props[0].getClass() == PropSum.class || props[0].getClass() == PropScalar.class)) {
+                Row row = read(c, (PropSum) props[0]);
+                if (row != null) {
+                    Row same = rows.putIfAbsent(key(row), row);
+                    if (same != null) {
+                        same.origins.add(c);
+                        same.lo = Math.max(same.lo, row.lo);
+                        same.hi = Math.min(same.hi, row.hi);
+                        same.modified = true;
+                    }
+                }
+            }
+        }
+        for (Row row : rows.values()) {
+            rewrite(row);
+        }
+        return report;
+    }
+
+    private IntVar find(IntVar x) {
+        IntVar p = parents.get(x);
+        if (p == null) {
+            return x;
+        }
+        IntVar r = find(p);
+        parents.put(x, r);
+        return r;
+    }
+
+    private void union(IntVar x, IntVar y) {
+        IntVar rx = find(x);
+        IntVar ry = find(y);
+        if (rx != ry) {
+            if (rx.getId() < ry.getId()) {
+                parents.put(ry, rx);
+            } else {
+                parents.put(rx, ry);
+            }
+        }
+    }
+
+    /**
+     * @return the row of the constraint, in canonical form (the first coefficient is positive),
+     * or <i>null</i> if it cannot be presolved
+     */
+    private Row read(Constraint c, PropSum p) {
+        if (p.o == Operator.NQ) {
+            return null;
+        }
+        Row row = new Row();
+        row.origins.add(c);
+        Map<IntVar, Long> terms = new HashMap<>();
+        long cste = 0;
+        for (int i = 0; i < p.getNbVars(); i++) {
+            IntVar v = p.getVar(i);
+            long a = p.coefficient(i);
+            IntVar r = find(v);
+            if (r != v) {
+                report.nbSubstitutions++;
+                row.modified = true;
+            }
+            if (r.isInstantiated()) {
+                if (r == v) {
+                    report.nbSubstitutions++;
+                    row.modified = true;
+                }
+                cste += a * r.getValue();
+            } else if (terms.merge(r, a, Long::sum) != a) {
+                row.modified = true;
+            }
+        }
+        terms.values().removeIf(a -> a == 0);
+        row.vars = terms.keySet().toArray(new IntVar[0]);
+        Arrays.sort(row.vars, Comparator.comparingInt(IntVar::getId));
+        row.coeffs = new long[row.vars.length];
+        long g = 0;
+        for (int i = 0; i < row.vars.length; i++) {
+            row.coeffs[i] = terms.get(row.vars[i]);
+            g = gcd(g, Math.abs(row.coeffs[i]));
+        }
+        row.lo = p.o == Operator.LE ? Long.MIN_VALUE : p.b - cste;
+        row.hi = p.o == Operator.GE ? Long.MAX_VALUE : p.b - cste;
+        if (g > 1) {
+            row.modified = true;
+            for (int i = 0; i < row.coeffs.length; i++) {
+                row.coeffs[i] /= g;
+            }
+            if (row.lo != Long.MIN_VALUE) {
+                row.lo = MathUtils.divCeil(row.lo, g);
+            }
+            if (row.hi != Long.MAX_VALUE) {
+                row.hi = MathUtils.divFloor(row.hi, g);
+            }
+        }
+        if (row.coeffs.length > 0 && row.coeffs[0] < 0) {
+            for (int i = 0; i < row.coeffs.length; i++) {
+                row.coeffs[i] = -row.coeffs[i];
+            }
+            long lo = row.lo;
+            row.lo = row.hi == Long.MAX_VALUE ? Long.MIN_VALUE : -row.hi;
+            row.hi = lo == Long.MIN_VALUE ? Long.MAX_VALUE : -lo;
+        }
+        return row;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    private static String key(Row row) {
+        StringBuilder st = new StringBuilder();
+        for (int i = 0; i < row.vars.length; i++) {
+            st.append(row.vars[i].getId()).append(':').append(row.coeffs[i]).append(' ');
+        }
+        return st.toString();
+    }
+
+    /**
+     * Replace the origins of the row by equivalent constraints, if needed
+     */
+    private void rewrite(Row row) {
+        long min = 0, max = 0;
+        for (int i = 0; i < row.vars.length; i++) {
+            long a = row.coeffs[i];
+            min += a * (a > 0 ? row.vars[i].getLB() : row.vars[i].getUB());
+            max += a * (a > 0 ? row.vars[i].getUB() : row.vars[i].getLB());
+        }
+        boolean changed = row.modified;
+        if (row.hi != Long.MAX_VALUE && max <= row.hi) {
+            row.hi = Long.MAX_VALUE;
+            changed = true;
+        }
+        if (row.lo != Long.MIN_VALUE && min >= row.lo) {
+            row.lo = Long.MIN_VALUE;
+            changed = true;
+        }
+        List<Constraint> cstrs = new ArrayList<>();
+        if (row.lo > row.hi || row.lo > max || row.hi < min) {
+            report.nbInfeasible++;
+            cstrs.add(model.falseConstraint());
+        } else if (row.vars.length == 1) {
+            IntVar x = row.vars[0];
+            long a = row.coeffs[0];
+            if (row.lo == row.hi) {
+                cstrs.add(model.arithm(x, "=", MathUtils.safeCast(row.lo / a)));
+            } else {
+                if (row.lo != Long.MIN_VALUE) {
+                    cstrs.add(model.arithm(x, ">=", MathUtils.safeCast(MathUtils.divCeil(row.lo, a))));
+                }
+                if (row.hi != Long.MAX_VALUE) {
+                    cstrs.add(model.arithm(x, "<=", MathUtils.safeCast(MathUtils.divFloor(row.hi, a))));
+                }
+            }
+            changed = true;
+        } else if (row.lo == row.hi) {
+            if (!changed) {
+                return;
+            }
+            cstrs.add(scalar(row.vars, row.coeffs, "=", row.lo));
+        } else {
+            // inequalities are stated as 'lower than'
+            int nbTightenings = report.nbTightenings;
+            long[] coeffs = row.coeffs.clone();
+            long hi = row.hi;
+            if (hi != Long.MAX_VALUE) {
+                hi = tighten(row.vars, coeffs, hi, max);
+            }
+            long[] ncoeffs = new long[coeffs.length];
+            for (int i = 0; i < ncoeffs.length; i++) {
+                ncoeffs[i] = -row.coeffs[i];
+            }
+            long nlo = row.lo;
+            if (nlo != Long.MIN_VALUE) {
+                nlo = -tighten(row.vars, ncoeffs, -nlo, -min);
+            }
+            if (!changed && report.nbTightenings == nbTightenings) {
+                return;
+            }
+            if (hi != Long.MAX_VALUE) {
+                cstrs.add(scalar(row.vars, coeffs, "<=", hi));
+            }
+            if (nlo != Long.MIN_VALUE) {
+                cstrs.add(scalar(row.vars, ncoeffs, "<=", -nlo));
+            }
+        }
+        if (cstrs.contains(null)) {
+            // coefficients or bounds out of the range of integers, the row is left unchanged
+            return;
+        }
+        for (Constraint c : row.origins) {
+            model.unpost(c);
+            report.nbRemoved++;
+        }
+        for (Constraint c : cstrs) {
+            c.post();
+            report.nbPosted++;
+        }
+    }
+
+    /**
+     * Tighten the coefficients of the Boolean variables of &sum; coeffs[i].vars[i] &le; hi,
+     * which is not always satisfied.
+     * The coefficient of a Boolean variable is reduced when the row is always satisfied for one of its values.
+     *
+     * @param max maximum of the left-hand side
+     * @return the new right-hand side
+     */
+    private long tighten(IntVar[] vars, long[] coeffs, long hi, long max) {
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i].getLB() == 0 && vars[i].getUB() == 1) {
+                long a = coeffs[i];
+                if (a > 0 && max - a < hi) {
+                    // always satisfied when vars[i] = 0
+                    long d = hi - (max - a);
+                    coeffs[i] -= d;
+                    hi -= d;
+                    max -= d;
+                    report.nbTightenings++;
+                } else if (a < 0 && max + a < hi) {
+                    // always satisfied when vars[i] = 1
+                    coeffs[i] += hi - (max + a);
+                    report.nbTightenings++;
+                }
+            }
+        }
+        return hi;
+    }
+
+    /**
+     * @return a scalar constraint, or <i>null</i> if coefficients or the bound do not fit into integers
+     */
+    private Constraint scalar(IntVar[] vars, long[] coeffs, String op, long b) {
+        int[] c = new int[coeffs.length];
+        for (int i = 0; i < coeffs.length; i++) {
+            if (coeffs[i] != (int) coeffs[i]) {
+                return null;
+            }
+            c[i] = (int) coeffs[i];
+        }
+        if (b != (int) b) {
+            return null;
+        }
+        return model.scalar(vars, c, op, (int) b);
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.real.PropScalarMixed;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.RealVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.events.RealEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.VariableUtils;
+
+import java.util.*;
+
+/**
+ * A propagator which solves the linear relaxation of the linear constraints of a model
+ * and deduces from it a bound of the objective variable.
+ * <p>
+ * Rows are read from the posted constraints filtered by {@link PropSum} (and its variants) or by
+ * {@link PropScalarMixed}, integrality of the variables is relaxed.
+ * On each call, the bounds of the variables are copied into a {@link DualSimplex},
+ * which restarts from the basis it reached on the previous call.
+ * <p>
+ * The values computed by the simplex are not trusted as is.
+ * Given any multipliers <i>y</i> of the rows, the objective <i>c.x</i> is equal to
+ * <i>&sum;<sub>j</sub> d<sub>j</sub>.x<sub>j</sub></i> for each solution, where <i>d = c - y.A</i>,
+ * so its minimum over the current bounds is a lower bound of the objective [1].
+ * The dual values of the last basis are used as multipliers, and the bound is made safe against rounding errors.
+ * The same relation gives the bounds a variable cannot exceed without the objective exceeding its own bound
+ * (reduced cost fixing [2]).
+ * <p>
+ * The inverse of the basis is dense, so this propagator is restricted to models with at most
+ * {@link #MAX_ROWS} rows.
+ * <p>
+ * [1]: A. Neumaier, O. Shcherbina, Safe bounds in linear and mixed-integer linear programming,
+ * Mathematical Programming, 2004.
+ * <br/>
+ * [2]: F. Focacci, A. Lodi, M. Milano, Cost-Based Domain Filtering, CP 1999.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class PropLinearRelaxation extends Propagator<Variable> {
+
+    /**
+     * Maximum number of rows of a relaxation
+     */
+    public static final int MAX_ROWS = 1000;
+
+    private static final double SAFETY = 1.e-9;
+
+    private static final double EPS = 1.e-9;
+
+    /**
+     * Index of the objective variable in {@link #vars}
+     */
+    private final int obj;
+    /**
+     * Set to true when the objective is minimized
+     */
+    private final boolean minimize;
+    /**
+     * Rows, in compressed form
+     */
+    private final int[] rowStart;
+    private final int[] rowCol;
+    private final double[] rowVal;
+    private final double[] lo, hi;
+    private final DualSimplex lp;
+    private final int maxIter;
+    private final double[] d;
+
+    /**
+     * Create a propagator for the linear relaxation:
+     * <i>min (or max) vars[obj] s.t. lo[i] &le; &sum;<sub>k</sub> rowVal[k].vars[rowCol[k]] &le; hi[i]</i>,
+     * for <i>k</i> in <i>[rowStart[i], rowStart[i+1])</i>.
+     *
+     * @param vars     integer or real variables
+     * @param obj      index of the objective variable
+     * @param minimize set to <i>true</i> if the objective is minimized, <i>false</i> if it is maximized
+     * @param rowStart start of each row, plus one
+     * @param rowCol   index of the variable of each nonzero
+     * @param rowVal   value of each nonzero
+     * @param lo       lower bound of each row, can be infinite
+     * @param hi       upper bound of each row, can be infinite
+     */
+    public PropLinearRelaxation(Variable[] vars, int obj, boolean minimize,
+                                int[] rowStart, int[] rowCol, double[] rowVal, double[] lo, double[] hi) {
+        super(vars, PropagatorPriority.VERY_SLOW, false);
+        this.obj = obj;
+        this.minimize = minimize;
+        this.rowStart = rowStart;
+        this.rowCol = rowCol;
+        this.rowVal = rowVal;
+        this.lo = lo;
+        this.hi = hi;
+        int n = vars.length;
+        int m = lo.length;
+        // transpose the rows
+        int[] colStart = new int[n + 1];
+        for (int k = 0; k < rowCol.length; k++) {
+            colStart[rowCol[k] + 1]++;
+        }
+        for (int j = 0; j < n; j++) {
+            colStart[j + 1] += colStart[j];
+        }
+        int[] colRow = new int[rowCol.length];
+        double[] colVal = new double[rowCol.length];
+        int[] next = Arrays.copyOf(colStart, n);
+        for (int i = 0; i < m; i++) {
+            for (int k = rowStart[i]; k < rowStart[i + 1]; k++) {
+                int p = next[rowCol[k]]++;
+                colRow[p] = i;
+                colVal[p] = rowVal[k];
+            }
+        }
+        double[] cost = new double[n];
+        cost[obj] = minimize ? 1. : -1.;
+        this.lp = new DualSimplex(n, m, colStart, colRow, colVal, cost);
+        this.maxIter = 10 * (n + m);
+        this.d = new double[n + m];
+    }
+
+    /**
+     * Create the relaxation of the linear constraints posted in <i>model</i>, with respect to its objective.
+     *
+     * @param model a model
+     * @return a propagator, or <i>null</i> if the model is not an optimization one,
+     * if the objective does not appear in any row or if there are more than {@link #MAX_ROWS} rows
+     */
+    public static PropLinearRelaxation build(Model model) {
+        Variable objective = model.getObjective();
+        ResolutionPolicy policy = model.getSolver().getObjectiveManager().getPolicy();
+        if (objective == null || policy == ResolutionPolicy.SATISFACTION
+                || !(VariableUtils.isInt(objective) || VariableUtils.isReal(objective))) {
+            return null;
+        }
+        Map<Variable, Integer> columns = new LinkedHashMap<>();
+        columns.put(objective, 0);
+        List<Map<Integer, Double>> rows = new ArrayList<>();
+        List<Double> los = new ArrayList<>();
+        List<Double> his = new ArrayList<>();
+        for (Constraint c : model.getCstrs()) {
+            if (c.getStatus() != Constraint.Status.POSTED) {
+                continue;
+            }
+            for (Propagator<?> p : c.getPropagators()) {
+                Operator o;
+                double b;
+                Map<Integer, Double> row = new LinkedHashMap<>();
+                if (p instanceof PropSum) {
+                    PropSum s = (PropSum) p;
+                    o = s.o;
+                    b = s.b;
+                    for (int i = 0; i < s.getNbVars(); i++) {
+                        row.merge(columns.computeIfAbsent(s.getVar(i), v -> columns.size()),
+                                (double) s.coefficient(i), Double::sum);
+                    }
+                } else if (p instanceof PropScalarMixed) {
+                    PropScalarMixed s = (PropScalarMixed) p;
+                    o = s.getOperator();
+                    b = s.getBound();
+                    double[] coeffs = s.getCoefficients();
+                    for (int i = 0; i < s.getNbVars(); i++) {
+                        row.merge(columns.computeIfAbsent(s.getVar(i), v -> columns.size()),
+                                coeffs[i], Double::sum);
+                    }
+                } else {
+                    continue;
+                }
+                if (o == Operator.NQ) {
+                    continue;
+                }
+                rows.add(row);
+                los.add(o == Operator.LE ? Double.NEGATIVE_INFINITY : b);
+                his.add(o == Operator.GE ? Double.POSITIVE_INFINITY : b);
+            }
+        }
+        if (rows.isEmpty() || rows.size() > MAX_ROWS || rows.stream().noneMatch(r -> r.containsKey(0))) {
+            return null;
+        }
+        int nnz = rows.stream().mapToInt(Map::size).sum();
+        int[] rowStart = new int[rows.size() + 1];
+        int[] rowCol = new int[nnz];
+        double[] rowVal = new double[nnz];
+        int k = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            for (Map.Entry<Integer, Double> e : rows.get(i).entrySet()) {
+                rowCol[k] = e.getKey();
+                rowVal[k++] = e.getValue();
+            }
+            rowStart[i + 1] = k;
+        }
+        return new PropLinearRelaxation(columns.keySet().toArray(new Variable[0]), 0,
+                policy == ResolutionPolicy.MINIMIZE, rowStart, rowCol, rowVal,
+                los.stream().mapToDouble(Double::doubleValue).toArray(),
+                his.stream().mapToDouble(Double::doubleValue).toArray());
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        if (VariableUtils.isReal(vars[vIdx])) {
+            return RealEventType.BOUND.getMask();
+        } else {
+            return IntEventType.boundAndInst();
+        }
+    }
+
+    private double lb(int j) {
+        return VariableUtils.isReal(vars[j]) ? ((RealVar) vars[j]).getLB() : ((IntVar) vars[j]).getLB();
+    }
+
+    private double ub(int j) {
+        return VariableUtils.isReal(vars[j]) ? ((RealVar) vars[j]).getUB() : ((IntVar) vars[j]).getUB();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        int n = lp.n;
+        for (int j = 0; j < n; j++) {
+            lp.lb[j] = lb(j);
+            lp.ub[j] = ub(j);
+            if (Double.isInfinite(lp.lb[j]) || Double.isInfinite(lp.ub[j])) {
+                // the relaxation is not bounded
+                return;
+            }
+        }
+        for (int i = 0; i < lp.m; i++) {
+            // infinite bounds of a row are replaced by the ones of its activity
+            double min = 0., max = 0.;
+            for (int k = rowStart[i]; k < rowStart[i + 1]; k++) {
+                double a = rowVal[k];
+                min += a * (a > 0 ? lp.lb[rowCol[k]] : lp.ub[rowCol[k]]);
+                max += a * (a > 0 ? lp.ub[rowCol[k]] : lp.lb[rowCol[k]]);
+            }
+            lp.lb[n + i] = Double.isInfinite(lo[i]) ? min - SAFETY * (1. + Math.abs(min)) : lo[i];
+            lp.ub[n + i] = Double.isInfinite(hi[i]) ? max + SAFETY * (1. + Math.abs(max)) : hi[i];
+            if (lp.lb[n + i] > lp.ub[n + i]) {
+                // let the propagator of the row fail
+                return;
+            }
+        }
+        int status = lp.solve(maxIter);
+        if (status == DualSimplex.INFEASIBLE) {
+            lp.combination(lp.infeasibleRow(), d);
+            double[] range = range(d);
+            if (range[0] > 0. || range[1] < 0.) {
+                fails();
+            }
+            return;
+        }
+        lp.reducedCosts(lp.duals(), d);
+        double z = range(d)[0];
+        if (minimize) {
+            updateLowerBound(obj, z);
+        } else {
+            updateUpperBound(obj, -z);
+        }
+        double gap = (minimize ? ub(obj) : -lb(obj)) - z;
+        for (int j = 0; j < n; j++) {
+            if (j != obj && lp.lb[j] < lp.ub[j]) {
+                if (d[j] > EPS) {
+                    updateUpperBound(j, lp.lb[j] + gap / d[j]);
+                } else if (d[j] < -EPS) {
+                    updateLowerBound(j, lp.ub[j] + gap / d[j]);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param coeffs coefficients of the columns
+     * @return the minimum and the maximum of <i>&sum;<sub>j</sub> coeffs[j].x<sub>j</sub></i> over the bounds
+     * of the columns, widened by an upper bound of the rounding errors
+     */
+    private double[] range(double[] coeffs) {
+        double min = 0., max = 0., err = 0.;
+        for (int j = 0; j < coeffs.length; j++) {
+            double a = coeffs[j];
+            if (a != 0.) {
+                double l = a * lp.lb[j];
+                double u = a * lp.ub[j];
+                min += Math.min(l, u);
+                max += Math.max(l, u);
+                err += Math.max(Math.abs(l), Math.abs(u));
+            }
+        }
+        err = SAFETY * (1. + err);
+        return new double[]{min - err, max + err};
+    }
+
+    private void updateLowerBound(int j, double value) throws ContradictionException {
+        if (VariableUtils.isReal(vars[j])) {
+            ((RealVar) vars[j]).updateLowerBound(value, this);
+        } else if (value > ub(j)) {
+            fails();
+        } else {
+            ((IntVar) vars[j]).updateLowerBound((int) Math.ceil(value - EPS * (1. + Math.abs(value))), this);
+        }
+    }
+
+    private void updateUpperBound(int j, double value) throws ContradictionException {
+        if (VariableUtils.isReal(vars[j])) {
+            ((RealVar) vars[j]).updateUpperBound(value, this);
+        } else if (value < lb(j)) {
+            fails();
+        } else {
+            ((IntVar) vars[j]).updateUpperBound((int) Math.floor(value + EPS * (1. + Math.abs(value))), this);
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        // the relaxation is implied by the rows it comes from
+        return isCompletelyInstantiated() ? ESat.TRUE : ESat.UNDEFINED;
+    }
+}
@@ -16,6 +16,7 @@ import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.chocosolver.util.tools.MathUtils;
 
 import static org.chocosolver.solver.constraints.Operator.*;
 
@@ -46,27 +47,57 @@ public class PropScalar extends PropSum {
      * @param b bound to respect.
      */
     public PropScalar(IntVar[] variables, int[] coeffs, int pos, Operator o, int b) {
-        super(variables, pos, o, b);
+        this(variables, coeffs, pos, o, b, false);
+    }
+
+    /**
+     * Create a scalar product: SUM(x_i*c_i) o b
+     * Variables and coefficients are excepted to be ordered wrt to coefficients: first positive ones then negative ones.
+     * @param variables list of integer variables
+     * @param coeffs list of coefficients
+     * @param pos position of the last positive coefficient
+     * @param o operator
+     * @param b bound to respect.
+     * @param incremental set to true to maintain sums of bounds incrementally
+     */
+    public PropScalar(IntVar[] variables, int[] coeffs, int pos, Operator o, int b, boolean incremental) {
+        super(variables, pos, o, b, incremental);
         this.c = coeffs;
     }
 
+    @Override
+    int coefficient(int i) {
+        return c[i];
+    }
+
+    @Override
+    protected long minTerm(int i) {
+        return i < pos ? (long) vars[i].getLB() * c[i] : (long) vars[i].getUB() * c[i];
+    }
+
+    @Override
+    protected long maxTerm(int i) {
+        return i < pos ? (long) vars[i].getUB() * c[i] : (long) vars[i].getLB() * c[i];
+    }
+
 
     @Override
     protected void prepare() {
         sumLB = sumUB = 0;
-        int i = 0, lb, ub;
+        int i = 0;
+        long lb, ub;
         maxI = 0;
         for (; i < pos; i++) { // first the positive coefficients
-            lb = vars[i].getLB() * c[i];
-            ub = vars[i].getUB() * c[i];
+            lb = (long) vars[i].getLB() * c[i];
+            ub = (long) vars[i].getUB() * c[i];
             sumLB += lb;
             sumUB += ub;
             I[i] = (ub - lb);
             if(maxI < I[i])maxI = I[i];
         }
         for (; i < l; i++) { // then the negative ones
-            lb = vars[i].getUB() * c[i];
-            ub = vars[i].getLB() * c[i];
+            lb = (long) vars[i].getUB() * c[i];
+            ub = (long) vars[i].getLB() * c[i];
             sumLB += lb;
             sumUB += ub;
             I[i] = (ub - lb);
@@ -78,8 +109,8 @@ public class PropScalar extends PropSum {
     @Override
     protected void filterOnEq() throws ContradictionException {
         boolean anychange;
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         do {
             anychange = false;
             // When explanations are on, no global failure allowed
@@ -88,24 +119,25 @@ public class PropScalar extends PropSum {
             }
             if (maxI > F || maxI > E) {
                 maxI = 0;
-                int lb, ub, i = 0;
+                long lb, ub;
+                int i = 0;
                 // positive coefficients first
                 while (i < pos) {
                     if (I[i] - F > 0) {
-                        lb = vars[i].getLB() * c[i];
+                        lb = (long) vars[i].getLB() * c[i];
                         ub = lb + I[i];
                         if (vars[i].updateUpperBound(divFloor(F + lb, c[i]), this)) {
-                            int nub = vars[i].getUB() * c[i];
+                            long nub = (long) vars[i].getUB() * c[i];
                             E += nub - ub;
                             I[i] = nub - lb;
                             anychange = true;
                         }
                     }
                     if (I[i] - E > 0) {
-                        ub = vars[i].getUB() * c[i];
+                        ub = (long) vars[i].getUB() * c[i];
                         lb = ub - I[i];
                         if (vars[i].updateLowerBound(divCeil(ub - E, c[i]), this)) {
-                            int nlb = vars[i].getLB() * c[i];
+                            long nlb = (long) vars[i].getLB() * c[i];
                             F -= nlb - lb;
                             I[i] = ub - nlb;
                             anychange = true;
@@ -117,20 +149,20 @@ public class PropScalar extends PropSum {
                 // then negative ones
                 while (i < l) {
                     if (I[i] - F > 0) {
-                        lb = vars[i].getUB() * c[i];
+                        lb = (long) vars[i].getUB() * c[i];
                         ub = lb + I[i];
                         if (vars[i].updateLowerBound(divCeil(-F - lb, -c[i]), this)) {
-                            int nub = vars[i].getLB() * c[i];
+                            long nub = (long) vars[i].getLB() * c[i];
                             E += nub - ub;
                             I[i] = nub - lb;
                             anychange = true;
                         }
                     }
                     if (I[i] - E > 0) {
-                        ub = vars[i].getLB() * c[i];
+                        ub = (long) vars[i].getLB() * c[i];
                         lb = ub - I[i];
                         if (vars[i].updateUpperBound(divFloor(-ub + E, -c[i]), this)) {
-                            int nlb = vars[i].getUB() * c[i];
+                            long nlb = (long) vars[i].getUB() * c[i];
                             F -= nlb - lb;
                             I[i] = ub - nlb;
                             anychange = true;
@@ -149,23 +181,24 @@ public class PropScalar extends PropSum {
 
     @Override
     protected void filterOnLeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         // When explanations are on, no global failure allowed
         if (model.getSolver().isLearnOff() &&F < 0) {
             fails();
         }
         if (maxI > F) {
-            int lb, ub, i = 0;
+            long lb, ub;
+            int i = 0;
             maxI = 0;
             // positive coefficients first
             while (i < pos) {
                 maxI = 0;
                 if (I[i] - F > 0) {
-                    lb = vars[i].getLB() * c[i];
+                    lb = (long) vars[i].getLB() * c[i];
                     ub = lb + I[i];
                     if (vars[i].updateUpperBound(divFloor(F + lb, c[i]), this)) {
-                        int nub = vars[i].getUB() * c[i];
+                        long nub = (long) vars[i].getUB() * c[i];
                         E += nub - ub;
                         I[i] = nub - lb;
                     }
@@ -176,10 +209,10 @@ public class PropScalar extends PropSum {
             // then negative ones
             while (i < l) {
                 if (I[i] - F > 0) {
-                    lb = vars[i].getUB() * c[i];
+                    lb = (long) vars[i].getUB() * c[i];
                     ub = lb + I[i];
                     if (vars[i].updateLowerBound(divCeil(-F - lb, -c[i]), this)) {
-                        int nub = vars[i].getLB() * c[i];
+                        long nub = (long) vars[i].getLB() * c[i];
                         E += nub - ub;
                         I[i] = nub - lb;
                     }
@@ -195,22 +228,23 @@ public class PropScalar extends PropSum {
 
     @Override
     protected void filterOnGeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         // When explanations are on, no global failure allowed
         if (model.getSolver().isLearnOff() && E < 0) {
             fails();
         }
         if (maxI > E) {
             maxI = 0;
-            int lb, ub, i = 0;
+            long lb, ub;
+            int i = 0;
             // positive coefficients first
             while (i < pos) {
                 if (I[i] - E > 0) {
-                    ub = vars[i].getUB() * c[i];
+                    ub = (long) vars[i].getUB() * c[i];
                     lb = ub - I[i];
                     if (vars[i].updateLowerBound(divCeil(ub - E, c[i]), this)) {
-                        int nlb = vars[i].getLB() * c[i];
+                        long nlb = (long) vars[i].getLB() * c[i];
                         F -= nlb - lb;
                         I[i] = ub - nlb;
                     }
@@ -221,10 +255,10 @@ public class PropScalar extends PropSum {
             // then negative ones
             while (i < l) {
                 if (I[i] - E > 0) {
-                    ub = vars[i].getLB() * c[i];
+                    ub = (long) vars[i].getLB() * c[i];
                     lb = ub - I[i];
                     if (vars[i].updateUpperBound(divFloor(-ub + E, -c[i]), this)) {
-                        int nlb = vars[i].getUB() * c[i];
+                        long nlb = (long) vars[i].getUB() * c[i];
                         F -= nlb - lb;
                         I[i] = ub - nlb;
                     }
@@ -240,17 +274,17 @@ public class PropScalar extends PropSum {
 
     @Override
     protected void filterOnNeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         if (F < 0 || E < 0) {
             setPassive();
             return;
         }
         int w = -1;
-        int sum = 0;
+        long sum = 0;
         for (int i = 0; i < l; i++) {
             if (vars[i].isInstantiated()) {
-                sum += vars[i].getValue() * c[i];
+                sum += (long) vars[i].getValue() * c[i];
             } else if (w == -1) {
                 w = i;
             } else return;
@@ -260,20 +294,21 @@ public class PropScalar extends PropSum {
                 this.fails();
             }
         } else if(c[w]!=0 && (b - sum)%c[w]==0){
-            vars[w].removeValue((b - sum)/c[w], this);
+            vars[w].removeValue(MathUtils.safeCast((b - sum) / c[w]), this);
         }
     }
 
     @Override
     public ESat isEntailed() {
-        int sumUB = 0, sumLB = 0, i = 0;
+        long sumUB = 0, sumLB = 0;
+        int i = 0;
         for (; i < pos; i++) { // first the positive coefficients
-            sumLB += vars[i].getLB() * c[i];
-            sumUB += vars[i].getUB() * c[i];
+            sumLB += (long) vars[i].getLB() * c[i];
+            sumUB += (long) vars[i].getUB() * c[i];
         }
         for (; i < l; i++) { // then the negative ones
-            sumLB += vars[i].getUB() * c[i];
-            sumUB += vars[i].getLB() * c[i];
+            sumLB += (long) vars[i].getUB() * c[i];
+            sumUB += (long) vars[i].getLB() * c[i];
         }
         return check(sumLB, sumUB);
     }
@@ -283,13 +318,14 @@ public class PropScalar extends PropSum {
         IntVar pivot = explanation.readVar(p);
         IntIterableRangeSet dom_before;
         // first, compute F and E
-        int sumLB = 0;
-        int sumUB = 0;
-        int i = 0, lb, ub, la = 0, ua = 0, ca = 0, a = 0;
+        long sumLB = 0;
+        long sumUB = 0;
+        long lb, ub;
+        int i = 0, la = 0, ua = 0, ca = 0, a = 0;
         for (; i < pos; i++) { // first the positive coefficients
             dom_before = explanation.readDom(vars[i]);
-            lb = dom_before.min() * c[i];
-            ub = dom_before.max() * c[i];
+            lb = (long) dom_before.min() * c[i];
+            ub = (long) dom_before.max() * c[i];
             if (vars[i] == pivot) {
                 la = dom_before.min();
                 ua = dom_before.max();
@@ -301,8 +337,8 @@ public class PropScalar extends PropSum {
         }
         for (; i < l; i++) { // then the negative ones
             dom_before = explanation.readDom(vars[i]);
-            lb = dom_before.max() * c[i];
-            ub = dom_before.min() * c[i];
+            lb = (long) dom_before.max() * c[i];
+            ub = (long) dom_before.min() * c[i];
             if (vars[i] == pivot) {
                 la = dom_before.min();
                 ua = dom_before.max();
@@ -312,8 +348,8 @@ public class PropScalar extends PropSum {
             sumLB += lb;
             sumUB += ub;
         }
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         if (explanation.readDom(p).isEmpty()) {
             doExplainGlobalFailure(explanation, F, E);
             return;
@@ -322,17 +358,17 @@ public class PropScalar extends PropSum {
         int la2 = IntIterableRangeSet.MIN, ua2 = IntIterableRangeSet.MAX;
         if (ca > 0) {
             if (!o.equals(GE)) { // ie, LE or EQ
-                ua2 = divFloor(F + la * ca, ca);
+                ua2 = divFloor(F + (long) la * ca, ca);
             }
             if (!o.equals(LE)) { // ie, GE or EQ
-                la2 = divCeil(ca * ua - E, ca);
+                la2 = divCeil((long) ca * ua - E, ca);
             }
         } else {
             if (!o.equals(GE)) { // ie, LE or EQ
-                la2 = divCeil(-F - ua * ca, -ca);
+                la2 = divCeil(-F - (long) ua * ca, -ca);
             }
             if (!o.equals(LE)) { // ie, GE or EQ
-                ua2 = divFloor(-la * ca + E, -ca);
+                ua2 = divFloor(-(long) la * ca + E, -ca);
             }
         }
         domain = explanation.empty();
@@ -348,11 +384,11 @@ public class PropScalar extends PropSum {
                 dom_before = explanation.readDom(vars[i]);
                 if (!o.equals(GE)) { // ie, LE or EQ
                     max = divFloor(
-                            F + c[i] * dom_before.min() - ca * (ca > 0 ? (ua2 + 1 - la) : (la2 - 1 - ua)),
+                            F + (long) c[i] * dom_before.min() - (long) ca * (ca > 0 ? (ua2 + 1 - la) : (la2 - 1 - ua)),
                             c[i]);
                 }
                 if (!o.equals(LE)) { // ie, GE or EQ
-                    min = divCeil(-E + c[i] * dom_before.max() - ca * (ca > 0 ? la2 - 1 - ua : ua2 + 1 - la), c[i]);
+                    min = divCeil(-E + (long) c[i] * dom_before.max() - (long) ca * (ca > 0 ? la2 - 1 - ua : ua2 + 1 - la), c[i]);
                 }
                 domain = explanation.complement(vars[i]);
                 if(o.equals(EQ)) {
@@ -371,12 +407,12 @@ public class PropScalar extends PropSum {
                 dom_before = explanation.readDom(vars[i]);
                 if (!o.equals(GE)) { // ie, LE or EQ
                     min = divCeil(
-                            -(F + c[i] * dom_before.max() - ca * (ca > 0 ? ua2 + 1 - la : la2 - 1 - ua)), // done
+                            -(F + (long) c[i] * dom_before.max() - (long) ca * (ca > 0 ? ua2 + 1 - la : la2 - 1 - ua)), // done
                             -c[i]);
                 }
                 if (!o.equals(LE)) { // ie, GE or EQ
                     max = divFloor(
-                            -(-E + c[i] * dom_before.min() - ca * (ca > 0 ? la2 - 1 - ua : ua2 + 1 - la)) // done
+                            -(-E + (long) c[i] * dom_before.min() - (long) ca * (ca > 0 ? la2 - 1 - ua : ua2 + 1 - la)) // done
                             , -c[i]);
                 }
                 domain = explanation.complement(vars[i]);
@@ -392,7 +428,7 @@ public class PropScalar extends PropSum {
     }
 
     @Override
-    protected void explainGlobal(ExplanationForSignedClause explanation, int F, int E) {
+    protected void explainGlobal(ExplanationForSignedClause explanation, long F, long E) {
         assert (F < 0)^(E < 0);
         IntIterableRangeSet dom_before;
         IntIterableRangeSet domain;
@@ -405,16 +441,16 @@ public class PropScalar extends PropSum {
             if (F < 0) {
                 // BEWARE // second part of the equation differs from non-global-fail case
                 if(i < pos) {
-                    max = divFloor(F + c[i] * dom_before.min(), c[i]);
+                    max = divFloor(F + (long) c[i] * dom_before.min(), c[i]);
                 }else{
-                    min = divCeil(-(F + c[i] * dom_before.max()), -c[i]);
+                    min = divCeil(-(F + (long) c[i] * dom_before.max()), -c[i]);
                 }
             }else /*if (E <  0)*/ {
                 // BEWARE // second part of the equation differs from non-global-fail case
                 if(i < pos) {
-                    min = divCeil(-E + c[i] * dom_before.max(), c[i]);
+                    min = divCeil(-E + (long) c[i] * dom_before.max(), c[i]);
                 }else{
-                    max = divFloor(-(-E + c[i] * dom_before.min()), -c[i]);
+                    max = divFloor(-(-E + (long) c[i] * dom_before.min()), -c[i]);
                 }
             }
             domain = explanation.root(vars[i]);
@@ -466,27 +502,19 @@ public class PropScalar extends PropSum {
     }
 
 
-    private int divFloor(int a, int b) {
+    private static int divFloor(long a, int b) {
         // <!> we assume b > 0
-        if (a >= 0) {
-            return (a / b);
-        } else {
-            return (a - b + 1) / b;
-        }
+        return clamp(MathUtils.divFloor(a, b));
     }
 
-    private int divCeil(int a, int b) {
+    private static int divCeil(long a, int b) {
         // <!> we assume b > 0
-        if (a >= 0) {
-            return ((a + b - 1) / b);
-        } else {
-            return a / b;
-        }
+        return clamp(MathUtils.divCeil(a, b));
     }
 
     @Override
     protected PropSum opposite(){
-        return new PropScalar(vars, c, pos, nop(o), b + nb(o));
+        return new PropScalar(vars, c, pos, nop(o), b + nb(o), isIncremental());
     }
 
 }
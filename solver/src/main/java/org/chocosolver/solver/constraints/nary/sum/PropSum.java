@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.memory.IStateLong;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -17,8 +18,10 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.chocosolver.util.tools.MathUtils;
 
 import static org.chocosolver.solver.constraints.Operator.*;
 
@@ -52,28 +55,44 @@ public class PropSum extends Propagator<IntVar> {
     /**
      * Variability of each variable (ie domain amplitude)
      */
-    protected final int[] I;
+    protected final long[] I;
 
     /**
      * Stores the maximal variability
      */
-    protected int maxI;
+    protected long maxI;
 
     /**
      * SUm of lower bounds
      */
-    protected int sumLB;
+    protected long sumLB;
 
     /**
      * Sum of upper bounds
      */
-    protected int sumUB;
+    protected long sumUB;
 
     /**
      * The operator among EQ, LE, GE and NE
      */
     protected final Operator o;
 
+    /**
+     * Set to true when the sums of bounds are maintained on each bound modification
+     */
+    private final boolean incremental;
+
+    /**
+     * When incremental, sum of lower bounds, sum of upper bounds and an upper bound of the maximal variability,
+     * maintained on fine events
+     */
+    private IStateLong iSumLB, iSumUB, iMaxI;
+
+    /**
+     * When incremental, the bounds of each term in the last computation of the sums
+     */
+    private IStateLong[] iLB, iUB;
+
 
     /**
      * Creates a sum propagator: SUM(x_i) o b
@@ -87,18 +106,61 @@ public class PropSum extends Propagator<IntVar> {
      * @param b bound to respect
      */
     public PropSum(IntVar[] variables, int pos, Operator o, int b) {
-        this(variables, pos, o, b, computePriority(variables.length), false);
+        this(variables, pos, o, b, false);
     }
 
+    /**
+     * Creates a sum propagator: SUM(x_i) o b
+     * Coefficients are induced by <code>pos</code>:
+     * those before <code>pos</code> (included) are equal to 1,
+     * the other ones are equal to -1.
+     * <p>
+     * When <i>incremental</i> is set to true (and <i>o</i> is not NE), the sums of bounds are maintained
+     * in constant time on each bound modification, and the variables are only visited
+     * when the variability of one of them may exceed the distance between the sums and <i>b</i>.
+     *
+     * @param variables   list of integer variables
+     * @param pos         position of the last positive coefficient
+     * @param o           operator amng EQ, LE, GE and NE
+     * @param b           bound to respect
+     * @param incremental set to true to maintain sums of bounds incrementally
+     */
+    public PropSum(IntVar[] variables, int pos, Operator o, int b, boolean incremental) {
+        this(variables, pos, o, b, computePriority(variables.length), incremental && o != NQ, incremental && o != NQ);
+    }
 
     PropSum(IntVar[] variables, int pos, Operator o, int b, PropagatorPriority priority, boolean reactOnFineEvent){
+        this(variables, pos, o, b, priority, reactOnFineEvent, false);
+    }
+
+    private PropSum(IntVar[] variables, int pos, Operator o, int b, PropagatorPriority priority,
+                    boolean reactOnFineEvent, boolean incremental) {
         super(variables, priority, reactOnFineEvent);
         this.pos = pos;
         this.o = o;
         this.b = b;
         l = variables.length;
-        I = new int[l];
+        I = new long[l];
         maxI = 0;
+        this.incremental = incremental;
+        if (incremental) {
+            iSumLB = model.getEnvironment().makeLong();
+            iSumUB = model.getEnvironment().makeLong();
+            iMaxI = model.getEnvironment().makeLong();
+            iLB = new IStateLong[l];
+            iUB = new IStateLong[l];
+            for (int i = 0; i < l; i++) {
+                iLB[i] = model.getEnvironment().makeLong();
+                iUB[i] = model.getEnvironment().makeLong();
+            }
+        }
+    }
+
+    /**
+     * @return <i>true</i> if sums of bounds are maintained incrementally
+     */
+    protected final boolean isIncremental() {
+        return incremental;
     }
 
     /**
@@ -160,9 +222,97 @@ public class PropSum extends Propagator<IntVar> {
     }
 
 
+    /**
+     * @param i index of a variable
+     * @return the coefficient of the <i>i</i>-th variable
+     */
+    int coefficient(int i) {
+        return i < pos ? 1 : -1;
+    }
+
+    /**
+     * @param i index of a variable
+     * @return the lower bound of the <i>i</i>-th term of the sum
+     */
+    protected long minTerm(int i) {
+        return i < pos ? vars[i].getLB() : -vars[i].getUB();
+    }
+
+    /**
+     * @param i index of a variable
+     * @return the upper bound of the <i>i</i>-th term of the sum
+     */
+    protected long maxTerm(int i) {
+        return i < pos ? vars[i].getUB() : -vars[i].getLB();
+    }
+
     @Override
     public void propagate(int evtmask) throws ContradictionException {
-        filter();
+        if (incremental) {
+            if (PropagatorEventType.isFullPropagation(evtmask)) {
+                store();
+            }
+            if (mayFilter()) {
+                filter();
+                store();
+            }
+        } else {
+            filter();
+        }
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        // only called when incremental
+        long lb = minTerm(idxVarInProp);
+        long ub = maxTerm(idxVarInProp);
+        iSumLB.add(lb - iLB[idxVarInProp].get());
+        iSumUB.add(ub - iUB[idxVarInProp].get());
+        iLB[idxVarInProp].set(lb);
+        iUB[idxVarInProp].set(ub);
+        if (mayFilter()) {
+            forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+        }
+    }
+
+    /**
+     * Store the bounds of the terms, their sums and the maximal variability
+     */
+    private void store() {
+        long slb = 0, sub = 0, max = 0;
+        for (int i = 0; i < l; i++) {
+            long lb = minTerm(i);
+            long ub = maxTerm(i);
+            iLB[i].set(lb);
+            iUB[i].set(ub);
+            slb += lb;
+            sub += ub;
+            max = Math.max(max, ub - lb);
+        }
+        iSumLB.set(slb);
+        iSumUB.set(sub);
+        iMaxI.set(max);
+    }
+
+    /**
+     * As domains are only reduced, the stored maximal variability remains an upper bound.
+     * Sums of bounds may be over-approximated for the side not listened to (e.g., upper bounds with LE),
+     * which only delays passivation.
+     *
+     * @return <i>true</i> if a variable may be filtered, the constraint may fail or become entailed
+     */
+    private boolean mayFilter() {
+        long F = b - iSumLB.get();
+        long E = iSumUB.get() - b;
+        long max = iMaxI.get();
+        switch (o) {
+            case LE:
+                return max > F || E <= 0;
+            case GE:
+                return max > E || F <= 0;
+            default:
+                return max > F || max > E || (F <= 0 && E <= 0);
+        }
     }
 
     /**
@@ -193,8 +343,8 @@ public class PropSum extends Propagator<IntVar> {
      */
     protected void filterOnEq() throws ContradictionException {
         boolean anychange;
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         do {
             anychange = false;
             // When explanations are on, no global failure allowed
@@ -202,15 +352,16 @@ public class PropSum extends Propagator<IntVar> {
                 fails();
             }
             if (maxI > F || maxI > E) {
-                int lb, ub, i = 0;
+                long lb, ub;
+                int i = 0;
                 maxI = 0;
                 // positive coefficients first
                 while (i < pos) {
                     if (I[i] - F > 0) {
                         lb = vars[i].getLB();
                         ub = lb + I[i];
-                        if (vars[i].updateUpperBound(F + lb, this)) {
-                            int nub = vars[i].getUB();
+                        if (vars[i].updateUpperBound(MathUtils.safeCast(F + lb), this)) {
+                            long nub = vars[i].getUB();
                             E += nub - ub;
                             I[i] = nub - lb;
                             anychange = true;
@@ -219,8 +370,8 @@ public class PropSum extends Propagator<IntVar> {
                     if (I[i] - E > 0) {
                         ub = vars[i].getUB();
                         lb = ub - I[i];
-                        if (vars[i].updateLowerBound(ub - E, this)) {
-                            int nlb = vars[i].getLB();
+                        if (vars[i].updateLowerBound(MathUtils.safeCast(ub - E), this)) {
+                            long nlb = vars[i].getLB();
                             F -= nlb - lb;
                             I[i] = ub - nlb;
                             anychange = true;
@@ -234,8 +385,8 @@ public class PropSum extends Propagator<IntVar> {
                     if (I[i] - F > 0) {
                         lb = -vars[i].getUB();
                         ub = lb + I[i];
-                        if (vars[i].updateLowerBound(-F - lb, this)) {
-                            int nub = -vars[i].getLB();
+                        if (vars[i].updateLowerBound(MathUtils.safeCast(-F - lb), this)) {
+                            long nub = -vars[i].getLB();
                             E += nub - ub;
                             I[i] = nub - lb;
                             anychange = true;
@@ -244,8 +395,8 @@ public class PropSum extends Propagator<IntVar> {
                     if (I[i] - E > 0) {
                         ub = -vars[i].getLB();
                         lb = ub - I[i];
-                        if (vars[i].updateUpperBound(-ub + E, this)) {
-                            int nlb = -vars[i].getUB();
+                        if (vars[i].updateUpperBound(MathUtils.safeCast(-ub + E), this)) {
+                            long nlb = -vars[i].getUB();
                             F -= nlb - lb;
                             I[i] = ub - nlb;
                             anychange = true;
@@ -268,22 +419,23 @@ public class PropSum extends Propagator<IntVar> {
      * @throws ContradictionException if contradiction is detected
      */
     protected void filterOnLeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         // When explanations are on, no global failure allowed
         if (model.getSolver().isLearnOff() && F < 0) {
             fails();
         }
         if (maxI > F) {
             maxI = 0;
-            int lb, ub, i = 0;
+            long lb, ub;
+            int i = 0;
             // positive coefficients first
             while (i < pos) {
                 if (I[i] - F > 0) {
                     lb = vars[i].getLB();
                     ub = lb + I[i];
-                    if (vars[i].updateUpperBound(F + lb, this)) {
-                        int nub = vars[i].getUB();
+                    if (vars[i].updateUpperBound(MathUtils.safeCast(F + lb), this)) {
+                        long nub = vars[i].getUB();
                         E += nub - ub;
                         I[i] = nub - lb;
                     }
@@ -296,8 +448,8 @@ public class PropSum extends Propagator<IntVar> {
                 if (I[i] - F > 0) {
                     lb = -vars[i].getUB();
                     ub = lb + I[i];
-                    if (vars[i].updateLowerBound(-F - lb, this)) {
-                        int nub = -vars[i].getLB();
+                    if (vars[i].updateLowerBound(MathUtils.safeCast(-F - lb), this)) {
+                        long nub = -vars[i].getLB();
                         E += nub - ub;
                         I[i] = nub - lb;
                     }
@@ -316,22 +468,23 @@ public class PropSum extends Propagator<IntVar> {
      * @throws ContradictionException if contradiction is detected
      */
     protected void filterOnGeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         // When explanations are on, no global failure allowed
         if (model.getSolver().isLearnOff() && E < 0) {
             fails();
         }
         if(maxI > E) {
             maxI = 0;
-            int lb, ub, i = 0;
+            long lb, ub;
+            int i = 0;
             // positive coefficients first
             while (i < pos) {
                 if (I[i] - E > 0) {
                     ub = vars[i].getUB();
                     lb = ub - I[i];
-                    if (vars[i].updateLowerBound(ub - E, this)) {
-                        int nlb = vars[i].getLB();
+                    if (vars[i].updateLowerBound(MathUtils.safeCast(ub - E), this)) {
+                        long nlb = vars[i].getLB();
                         F -= nlb - lb;
                         I[i] = ub - nlb;
                     }
@@ -344,8 +497,8 @@ public class PropSum extends Propagator<IntVar> {
                 if (I[i] - E > 0) {
                     ub = -vars[i].getLB();
                     lb = ub - I[i];
-                    if (vars[i].updateUpperBound(-ub + E, this)) {
-                        int nlb = -vars[i].getUB();
+                    if (vars[i].updateUpperBound(MathUtils.safeCast(-ub + E), this)) {
+                        long nlb = -vars[i].getUB();
                         F -= nlb - lb;
                         I[i] = ub - nlb;
                     }
@@ -364,14 +517,14 @@ public class PropSum extends Propagator<IntVar> {
      * @throws ContradictionException if contradiction is detected
      */
     protected void filterOnNeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         if (F < 0 || E < 0) {
             setPassive();
             return;
         }
         int w = -1;
-        int sum = 0;
+        long sum = 0;
         for (int i = 0; i < l; i++) {
             if (vars[i].isInstantiated()) {
                 sum += i < pos ? vars[i].getValue() : -vars[i].getValue();
@@ -384,13 +537,14 @@ public class PropSum extends Propagator<IntVar> {
                 this.fails();
             }
         } else {
-            vars[w].removeValue(w < pos ? b - sum : sum - b, this);
+            vars[w].removeValue(MathUtils.safeCast(w < pos ? b - sum : sum - b), this);
         }
     }
 
     @Override
     public ESat isEntailed() {
-        int sumUB = 0, sumLB = 0, i = 0;
+        long sumUB = 0, sumLB = 0;
+        int i = 0;
         for (; i < pos; i++) { // first the positive coefficients
             sumLB += vars[i].getLB();
             sumUB += vars[i].getUB();
@@ -408,7 +562,7 @@ public class PropSum extends Propagator<IntVar> {
      * @param sumUB sum of upper bounds
      * @return the entailment check
      */
-    public ESat check(int sumLB, int sumUB){
+    public ESat check(long sumLB, long sumUB){
         switch (o) {
             case NQ:
                 if (sumUB < b || sumLB > b) {
@@ -458,8 +612,8 @@ public class PropSum extends Propagator<IntVar> {
         IntIterableRangeSet dom_before;
         IntVar pivot = explanation.readVar(p);
         // first, compute F and E
-        int sumLB = 0;
-        int sumUB = 0;
+        long sumLB = 0;
+        long sumUB = 0;
         int i = 0, lb, ub, la = 0, ua = 0, a = 0, ca = 0;
         for (; i < pos; i++) { // first the positive coefficients
             dom_before = explanation.readDom(vars[i]);
@@ -487,8 +641,8 @@ public class PropSum extends Propagator<IntVar> {
             sumLB += lb;
             sumUB += ub;
         }
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
 
         if(explanation.readDom(p).isEmpty()){
             doExplainGlobalFailure(explanation, F, E);
@@ -500,17 +654,17 @@ public class PropSum extends Propagator<IntVar> {
         int la2 = IntIterableRangeSet.MIN, ua2 = IntIterableRangeSet.MAX;
         if (a < pos) {
             if (!o.equals(GE)) { // ie, LE or EQ
-                ua2 = F + la;
+                ua2 = clamp(F + la);
             }
             if (!o.equals(LE)) { // ie, GE or EQ
-                la2 = ua - E;
+                la2 = clamp(ua - E);
             }
         } else {
             if (!o.equals(GE)) { // ie, LE or EQ
-                la2 = -F + ua;
+                la2 = clamp(-F + ua);
             }
             if (!o.equals(LE)) { // ie, GE or EQ
-                ua2 = la + E;
+                ua2 = clamp(la + E);
             }
         }
         domain = explanation.empty();
@@ -526,10 +680,10 @@ public class PropSum extends Propagator<IntVar> {
             if (vars[i] != pivot) {
                 dom_before = explanation.readDom(vars[i]);
                 if (!o.equals(GE)) { // ie, LE or EQ
-                    max = F + dom_before.min() - ca * (ca > 0 ? (ua2 + 1 - la) : (la2 - 1 - ua));
+                    max = clamp(F + dom_before.min() - ca * (ca > 0 ? (ua2 + 1 - la) : (la2 - 1 - ua)));
                 }
                 if (!o.equals(LE)) { // ie, GE or EQ
-                    min = -E + dom_before.max() - ca * (ca > 0 ? la2 - 1 - ua : ua2 + 1 - la);
+                    min = clamp(-E + dom_before.max() - ca * (ca > 0 ? la2 - 1 - ua : ua2 + 1 - la));
                 }
                 domain = explanation.complement(vars[i]);
                 if(o.equals(EQ)) {
@@ -547,10 +701,10 @@ public class PropSum extends Propagator<IntVar> {
             if (vars[i] != pivot) {
                 dom_before = explanation.readDom(vars[i]);
                 if (!o.equals(GE)) { // ie, LE or EQ
-                    min = -(F - dom_before.max() - ca * (ca > 0 ? ua2 + 1 - la : la2 - 1 - ua));
+                    min = clamp(-(F - dom_before.max() - ca * (ca > 0 ? ua2 + 1 - la : la2 - 1 - ua)));
                 }
                 if (!o.equals(LE)) { // ie, GE or EQ
-                    max = -(-E - dom_before.min() - ca * (ca > 0 ? la2 - 1 - ua : ua2 + 1 - la));
+                    max = clamp(-(-E - dom_before.min() - ca * (ca > 0 ? la2 - 1 - ua : ua2 + 1 - la)));
                 }
                 domain = explanation.complement(vars[i]);
                 if(o.equals(EQ)) {
@@ -564,7 +718,7 @@ public class PropSum extends Propagator<IntVar> {
         }
     }
 
-    void doExplainGlobalFailure(ExplanationForSignedClause explanation, int F, int E) {
+    void doExplainGlobalFailure(ExplanationForSignedClause explanation, long F, long E) {
         assert (F < 0) ^ (E < 0);
         IntIterableRangeSet dom_before, domain;
         int i = 0;
@@ -599,7 +753,7 @@ public class PropSum extends Propagator<IntVar> {
         }
     }
 
-    protected void explainGlobal(ExplanationForSignedClause explanation, int F, int E) {
+    protected void explainGlobal(ExplanationForSignedClause explanation, long F, long E) {
         assert (F < 0)^(E < 0);
         IntIterableRangeSet dom_before;
         IntIterableRangeSet domain;
@@ -612,16 +766,16 @@ public class PropSum extends Propagator<IntVar> {
             if (F < 0) {
                 // BEWARE // second part of the equation differs from non-global-fail case
                 if(i < pos) {
-                    max = F + dom_before.min();
+                    max = clamp(F + dom_before.min());
                 }else{
-                    min = -(F - dom_before.max());
+                    min = clamp(-(F - dom_before.max()));
                 }
             }else /*if (E <  0)*/ {
                 // BEWARE // second part of the equation differs from non-global-fail case
                 if(i < pos) {
-                    min = -E + dom_before.max();
+                    min = clamp(-E + dom_before.max());
                 }else{
-                    max = -(-E - dom_before.min());
+                    max = clamp(-(-E - dom_before.min()));
                 }
             }
             domain = explanation.root(vars[i]);
@@ -656,6 +810,15 @@ public class PropSum extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * @param v a value
+     * @return <i>v</i> restricted to the bounds of {@link IntIterableRangeSet}, which keeps explanations
+     * from overflowing when sums exceed the range of integers
+     */
+    static int clamp(long v) {
+        return (int) Math.max(IntIterableRangeSet.MIN, Math.min(IntIterableRangeSet.MAX, v));
+    }
+
     @Override
     public String toString() {
         StringBuilder linComb = new StringBuilder(20);
@@ -695,6 +858,6 @@ public class PropSum extends Propagator<IntVar> {
     }
 
     protected PropSum opposite(){
-        return new PropSum(vars, pos, nop(o), b + nb(o));
+        return new PropSum(vars, pos, nop(o), b + nb(o), incremental);
     }
 }
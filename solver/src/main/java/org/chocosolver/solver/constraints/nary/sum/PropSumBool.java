@@ -110,8 +110,8 @@ public class PropSumBool extends PropSum {
     @SuppressWarnings({"NullableProblems"})
     @Override
     protected void filterOnEq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        int F = (int) (b - sumLB);
+        int E = (int) (sumUB - b);
         if (F < 0 || E < 0) {
             fails();
         }
@@ -160,8 +160,8 @@ public class PropSumBool extends PropSum {
     @SuppressWarnings({"NullableProblems"})
     @Override
     protected void filterOnLeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        int F = (int) (b - sumLB);
+        int E = (int) (sumUB - b);
         if (F < 0) {
             fails();
         }
@@ -199,8 +199,8 @@ public class PropSumBool extends PropSum {
     @SuppressWarnings({"NullableProblems"})
     @Override
     protected void filterOnGeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        int F = (int) (b - sumLB);
+        int E = (int) (sumUB - b);
         if (E < 0) {
             fails();
         }
@@ -90,8 +90,8 @@ public class PropSumFullBool extends PropSum {
     @SuppressWarnings({"NullableProblems"})
     @Override
     protected void filterOnEq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        int F = (int) (b - sumLB);
+        int E = (int) (sumUB - b);
         int lb, ub, i = 0;
         if (F <= 0 || E <= 0) { // the main reason we implemented a dedicated version
             // positive coefficients first
@@ -125,8 +125,8 @@ public class PropSumFullBool extends PropSum {
     @SuppressWarnings({"NullableProblems"})
     @Override
     protected void filterOnLeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        int F = (int) (b - sumLB);
+        int E = (int) (sumUB - b);
         int lb, i = 0;
         if (F <= 0) { // the main reason we implemented a dedicated version
             // positive coefficients first
@@ -154,8 +154,8 @@ public class PropSumFullBool extends PropSum {
     @SuppressWarnings({"NullableProblems"})
     @Override
     protected void filterOnGeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        int F = (int) (b - sumLB);
+        int E = (int) (sumUB - b);
         int ub, i = 0;
         // deal with sum
         if (E <= 0) { // the main reason we implemented a dedicated version
@@ -103,6 +103,27 @@ public class PropScalarMixed extends Propagator<Variable> {
         maxI = 0;
     }
 
+    /**
+     * @return the coefficients of the scalar product
+     */
+    public double[] getCoefficients() {
+        return c;
+    }
+
+    /**
+     * @return the operator among EQ, LE, GE and NE
+     */
+    public Operator getOperator() {
+        return o;
+    }
+
+    /**
+     * @return the bound to respect
+     */
+    public double getBound() {
+        return b;
+    }
+
     @Override
     public int getPropagationConditions(int vIdx) {
         switch (o) {
@@ -36,7 +36,7 @@ public class PropReif extends Propagator<Variable> {
     private final BoolVar bVar;
     // constraint to apply if bVar = true
     private final Constraint trueCons;
-    // constraint to apply if bVar = false
+    // constraint to apply if bVar = false, null for a half reification
     private final Constraint falseCons;
     // constraint in charge of the reification process (constraint of this propagator)
     private ReificationConstraint reifCons;
@@ -58,7 +58,10 @@ public class PropReif extends Propagator<Variable> {
     }
 
     private static PropagatorPriority computePrority(Constraint consIfBoolTrue, Constraint consIfBoolFalse) {
-        int p = Math.min(consIfBoolTrue.computeMaxPriority().priority, consIfBoolFalse.computeMaxPriority().priority);
+        int p = consIfBoolTrue.computeMaxPriority().priority;
+        if (consIfBoolFalse != null) {
+            p = Math.min(p, consIfBoolFalse.computeMaxPriority().priority);
+        }
         return PropagatorPriority.get(Math.max(p, PropagatorPriority.TERNARY.priority));
     }
 
@@ -69,22 +72,37 @@ public class PropReif extends Propagator<Variable> {
     @Override
     public void propagate(int evtmask) throws ContradictionException {
         if (bVar.isInstantiated()) {
-            setPassive();
             if (bVar.getBooleanValue() == ESat.TRUE) {
+                setPassive();
                 reifCons.activate(0);
-            } else {
+            } else if (falseCons != null) {
+                setPassive();
                 reifCons.activate(1);
+            } else {
+                // in a half reification, the opposite is not propagated but the indicator
+                // cannot be 0 once trueCons is entailed, otherwise solutions would be counted twice
+                ESat sat = trueCons.isSatisfied();
+                if (sat == ESat.TRUE) {
+                    fails();
+                } else if (sat == ESat.FALSE) {
+                    setPassive();
+                }
             }
         } else {
             ESat sat = trueCons.isSatisfied();
             if (sat == ESat.TRUE) {
+                // in a half reification, bVar is an internal indicator which can be fixed as well
                 bVar.setToTrue(this);
                 setPassive();
-                reifCons.activate(0);
+                if (falseCons != null) {
+                    reifCons.activate(0);
+                }
             } else if (sat == ESat.FALSE) {
                 bVar.setToFalse(this);
                 setPassive();
-                reifCons.activate(1);
+                if (falseCons != null) {
+                    reifCons.activate(1);
+                }
             }
 //			else {// in case the entailment has not the same implementation
 //				sat = falseCons.isSatisfied();
@@ -106,10 +124,12 @@ public class PropReif extends Propagator<Variable> {
         if (bVar.isInstantiated()) {
             if (bVar.getValue() == 1) {
                 return trueCons.isSatisfied();
+            } else if (falseCons == null) {
+                return ESat.not(trueCons.isSatisfied());
             } else {
                 return falseCons.isSatisfied();
             }
-        } else {
+        } else if (falseCons != null) {
             // a constraint an its opposite can neither be both true nor both false
             ESat tie = trueCons.isSatisfied();
             if (tie != ESat.UNDEFINED) {
@@ -124,6 +144,9 @@ public class PropReif extends Propagator<Variable> {
 
     @Override
     public String toString() {
+        if (falseCons == null) {
+            return bVar.toString() + "=>" + trueCons.toString();
+        }
         return bVar.toString() + "=>" + trueCons.toString() + ", !" + bVar.toString() + "=>" + falseCons.toString();
     }
 
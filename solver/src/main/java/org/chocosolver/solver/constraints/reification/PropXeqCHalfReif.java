@@ -0,0 +1,108 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.reification;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
+
+/**
+ * A propagator dedicated to express in a compact way: b &rArr; (x = c)
+ * <p>
+ * Unlike {@link PropXeqCReif}, nothing is deduced when b = 0 nor when the relation is entailed.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class PropXeqCHalfReif extends Propagator<IntVar> {
+
+    IntVar var;
+    int cste;
+    BoolVar r;
+
+    public PropXeqCHalfReif(IntVar x, int c, BoolVar r) {
+        super(new IntVar[]{x, r}, PropagatorPriority.BINARY, false);
+        this.cste = c;
+        this.var = x;
+        this.r = r;
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (r.getLB() == 1) {
+            var.instantiateTo(cste, this);
+            setPassive();
+        } else if (r.getUB() == 0) {
+            setPassive();
+        } else if (!var.contains(cste)) {
+            r.setToFalse(this);
+            setPassive();
+        } else if (var.isInstantiatedTo(cste)) {
+            setPassive();
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (r.getUB() == 0 || var.isInstantiatedTo(cste)) {
+            return ESat.TRUE;
+        } else if (r.getLB() == 1 && !var.contains(cste)) {
+            return ESat.FALSE;
+        }
+        return ESat.UNDEFINED;
+    }
+
+    /**
+     * @implSpec
+     *
+     * Premise: b &rArr; (x = c)
+     * <p>
+     * 2 cases here:
+     * <ol type="a">
+     *  <li>
+     *  <pre>
+     *      (b = 1 &and; x &isin; (-&infin;, +&infin;)) &rarr; x &isin; {c}
+     *  </pre>
+     *  <pre>
+     *      &hArr; (b = 0 &or; x &isin; {c})
+     *  </pre>
+     *  </li>
+     *  <li>
+     *  <pre>
+     *      (b = [0,1] &and; x &isin; (U \ c)) &rarr; b = 0
+     *  </pre>
+     *  <pre>
+     *      &hArr; (b = 0 &or; x &isin; {c})
+     *  </pre>
+     *  </li>
+     * </ol>
+     * </p>
+     */
+    @Override
+    public void explain(int p, ExplanationForSignedClause explanation) {
+        IntVar pivot = explanation.readVar(p);
+        if (pivot == vars[1]) { // b is the pivot, case b. in javadoc
+            vars[1].intersectLit(0, explanation);
+            vars[0].unionLit(cste, explanation);
+        } else { // x is the pivot, case a. in javadoc
+            vars[1].unionLit(0, explanation);
+            vars[0].intersectLit(cste, explanation);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return r.getName() + " => (" + var.getName() + " = " + cste + ")";
+    }
+}
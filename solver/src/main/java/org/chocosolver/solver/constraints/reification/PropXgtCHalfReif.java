@@ -0,0 +1,111 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.reification;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+
+/**
+ * A propagator dedicated to express in a compact way: b &rArr; (x > c)
+ * <p>
+ * Unlike {@link PropXltCReif}, nothing is deduced when b = 0 nor when the relation is entailed.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class PropXgtCHalfReif extends Propagator<IntVar> {
+
+    IntVar var;
+    int cste;
+    BoolVar r;
+
+    public PropXgtCHalfReif(IntVar x, int c, BoolVar r) {
+        super(new IntVar[]{x, r}, PropagatorPriority.BINARY, false, true);
+        this.cste = c;
+        this.var = x;
+        this.r = r;
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (r.getLB() == 1) {
+            var.updateLowerBound(cste + 1, this);
+            setPassive();
+        } else if (r.getUB() == 0) {
+            setPassive();
+        } else if (var.getUB() <= cste) {
+            r.setToFalse(this);
+            setPassive();
+        } else if (var.getLB() > cste) {
+            setPassive();
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (r.getUB() == 0 || var.getLB() > cste) {
+            return ESat.TRUE;
+        } else if (r.getLB() == 1 && var.getUB() <= cste) {
+            return ESat.FALSE;
+        }
+        return ESat.UNDEFINED;
+    }
+
+    /**
+     * @implSpec
+     *
+     * Premise: b &rArr; (x > c)
+     * <p>
+     * 2 cases here:
+     * <ol type="a">
+     *  <li>
+     *  <pre>
+     *      (b = 1 &and; x &isin; (-&infin;, +&infin;)) &rarr; x &isin; [c + 1, +&infin;)
+     *  </pre>
+     *  <pre>
+     *      &hArr; (b = 0 &or; x &isin; [c + 1, +&infin;))
+     *  </pre>
+     *  </li>
+     *  <li>
+     *  <pre>
+     *      (b = [0,1] &and; x &isin; (-&infin;, c]) &rarr; b = 0
+     *  </pre>
+     *  <pre>
+     *      &hArr; (b = 0 &or; x &isin; [c + 1, +&infin;))
+     *  </pre>
+     *  </li>
+     * </ol>
+     * </p>
+     */
+    @Override
+    public void explain(int p, ExplanationForSignedClause explanation) {
+        IntVar pivot = explanation.readVar(p);
+        if (pivot == vars[1]) { // b is the pivot, case b. in javadoc
+            vars[1].intersectLit(0, explanation);
+            IntIterableRangeSet dom0 = explanation.complement(vars[0]);
+            dom0.retainBetween(cste + 1, IntIterableRangeSet.MAX);
+            vars[0].unionLit(dom0, explanation);
+        } else { // x is the pivot, case a. in javadoc
+            vars[1].unionLit(0, explanation);
+            vars[0].intersectLit(cste + 1, IntIterableRangeSet.MAX, explanation);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return r.getName() + " => (" + var.getName() + " > " + cste + ")";
+    }
+}
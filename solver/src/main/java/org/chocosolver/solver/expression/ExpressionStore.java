@@ -0,0 +1,114 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.expression;
+
+import org.chocosolver.solver.variables.Variable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A store of the variables standing for the expressions declared in a model, to share them among expressions.
+ * <p>
+ * An expression is identified by its kind, that is its operator and its constant operands,
+ * and by the variables standing for its other operands.
+ * Since operands are turned into variables bottom-up, equal subexpressions, even built separately,
+ * are represented by a single variable and the constraints defining it are posted once.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class ExpressionStore {
+
+    private final boolean enabled;
+    private final Map<Key, Variable> variables = new HashMap<>();
+    private int nbHits;
+
+    /**
+     * @param enabled set to {@code false} to build a new variable for each expression
+     */
+    public ExpressionStore(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Return the variable standing for the expression of type <i>kind</i> over <i>operands</i>,
+     * built with <i>builder</i> on the first call.
+     *
+     * @param kind        operator and constant operands of the expression
+     * @param commutative set to {@code true} if the order of <i>operands</i> does not matter
+     * @param operands    variables standing for the operands of the expression
+     * @param builder     builds the variable and posts the constraints defining it
+     * @param <V>         type of the variable
+     * @return the shared variable
+     */
+    @SuppressWarnings("unchecked")
+    public <V extends Variable> V share(String kind, boolean commutative, Variable[] operands, Supplier<V> builder) {
+        if (!enabled) {
+            return builder.get();
+        }
+        int[] ids = new int[operands.length];
+        for (int i = 0; i < operands.length; i++) {
+            ids[i] = operands[i].getId();
+        }
+        if (commutative) {
+            Arrays.sort(ids);
+        }
+        Key key = new Key(kind, ids);
+        V var = (V) variables.get(key);
+        if (var == null) {
+            // the builder may share other expressions, so computeIfAbsent cannot be used
+            var = builder.get();
+            variables.put(key, var);
+        } else {
+            nbHits++;
+        }
+        return var;
+    }
+
+    /**
+     * @return the number of distinct expressions in this store
+     */
+    public int getNbExpressions() {
+        return variables.size();
+    }
+
+    /**
+     * @return the number of times a variable of this store was returned instead of being built
+     */
+    public int getNbHits() {
+        return nbHits;
+    }
+
+    private static final class Key {
+        private final String kind;
+        private final int[] ids;
+
+        private Key(String kind, int[] ids) {
+            this.kind = kind;
+            this.ids = ids;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return kind.equals(key.kind) && Arrays.equals(ids, key.ids);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * kind.hashCode() + Arrays.hashCode(ids);
+        }
+    }
+}
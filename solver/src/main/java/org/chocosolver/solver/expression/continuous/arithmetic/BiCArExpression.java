@@ -18,6 +18,7 @@ import org.chocosolver.util.objects.RealInterval;
 import org.chocosolver.util.tools.RealUtils;
 import org.chocosolver.util.tools.VariableUtils;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.TreeSet;
 
@@ -31,6 +32,8 @@ import java.util.TreeSet;
  */
 public class BiCArExpression implements CArExpression {
 
+    private static final EnumSet<Operator> COMMUTATIVE = EnumSet.of(Operator.ADD, Operator.MUL, Operator.MIN, Operator.MAX);
+
     /**
      * The model in which the expression is declared
      */
@@ -82,64 +85,87 @@ public class BiCArExpression implements CArExpression {
         if (me == null) {
             RealVar v1 = e1.realVar(p);
             RealVar v2 = e2.realVar(p);
-            double[] bounds;
-            switch (op) {
-
-                case ADD:
-                    bounds = VariableUtils.boundsForAddition(v1, v2);
-                    me = model.realVar(bounds[0], bounds[1], p);
-                    model.realIbexGenericConstraint("{0}={1}+{2}", me, v1, v2).post();
-                    break;
-                case SUB:
-                    bounds = VariableUtils.boundsForSubstraction(v1, v2);
-                    me = model.realVar(bounds[0], bounds[1], p);
-                    model.realIbexGenericConstraint("{0}={1}-{2}", me, v1, v2).post();
-                    break;
-                case MUL:
-                    bounds = VariableUtils.boundsForMultiplication(v1, v2);
-                    me = model.realVar(bounds[0], bounds[1], p);
-                    model.realIbexGenericConstraint("{0}={1}*{2}", me, v1, v2).post();
-                    break;
-                case DIV:
-                    bounds = VariableUtils.boundsForDivision(v1, v2);
-                    me = model.realVar(bounds[0], bounds[1], p);
-                    model.realIbexGenericConstraint("{0}={1}/{2}", me, v1, v2).post();
-                    break;
-                case POW:
-                    if (isIntegerConstant(v2)) {
-                        // See issue: #702
-                        int exponent = (int) v2.getLB();
-                        bounds = VariableUtils.boundsForPow(v1, exponent);
-                        me = model.realVar(bounds[0], bounds[1], p);
-                        model.realIbexGenericConstraint("{0}={1}^" + exponent, me, v1).post();
-                    } else {
-                        bounds = VariableUtils.boundsForPow(v1, v2);
-                        me = model.realVar(bounds[0], bounds[1], p);
-                        model.realIbexGenericConstraint("{0}={1}^{2}", me, v1, v2).post();
-                    }
-                    break;
-                case MIN:
-                    bounds = VariableUtils.boundsForMinimum(v1, v2);
-                    me = model.realVar(bounds[0], bounds[1], p);
-                    model.realIbexGenericConstraint("{0}=min({1},{2})", me, v1, v2).post();
-                    break;
-                case MAX:
-                    bounds = VariableUtils.boundsForMaximum(v1, v2);
-                    me = model.realVar(bounds[0], bounds[1], p);
-                    model.realIbexGenericConstraint("{0}=max({1},{2})", me, v1, v2).post();
-                    break;
-                case ATAN2:
-                    bounds = VariableUtils.boundsForAtan2(v1, v2);
-                    me = model.realVar(bounds[0], bounds[1], p);
-                    model.realIbexGenericConstraint("{0}=atan2({1},{2})", me, v1, v2).post();
-                    break;
-                default:
-                    throw new UnsupportedOperationException("Binary arithmetic expressions does not support " + op.name());
-            }
+            me = model.getExpressionStore().share("real." + op.name() + "," + p, COMMUTATIVE.contains(op),
+                    new RealVar[]{v1, v2}, () -> build(v1, v2, p));
         }
         return me;
     }
 
+    private RealVar build(RealVar v1, RealVar v2, double p) {
+        double[] bounds;
+        String fct;
+        boolean binary = true;
+        switch (op) {
+            case ADD:
+                bounds = VariableUtils.boundsForAddition(v1, v2);
+                fct = "{0}={1}+{2}";
+                break;
+            case SUB:
+                bounds = VariableUtils.boundsForSubstraction(v1, v2);
+                fct = "{0}={1}-{2}";
+                break;
+            case MUL:
+                bounds = VariableUtils.boundsForMultiplication(v1, v2);
+                fct = "{0}={1}*{2}";
+                break;
+            case DIV:
+                bounds = VariableUtils.boundsForDivision(v1, v2);
+                fct = "{0}={1}/{2}";
+                break;
+            case POW:
+                if (isIntegerConstant(v2)) {
+                    // See issue: #702
+                    int exponent = (int) v2.getLB();
+                    bounds = VariableUtils.boundsForPow(v1, exponent);
+                    fct = "{0}={1}^" + exponent;
+                    binary = false;
+                } else {
+                    bounds = VariableUtils.boundsForPow(v1, v2);
+                    fct = "{0}={1}^{2}";
+                }
+                break;
+            case MIN:
+                bounds = VariableUtils.boundsForMinimum(v1, v2);
+                fct = "{0}=min({1},{2})";
+                break;
+            case MAX:
+                bounds = VariableUtils.boundsForMaximum(v1, v2);
+                fct = "{0}=max({1},{2})";
+                break;
+            case ATAN2:
+                bounds = VariableUtils.boundsForAtan2(v1, v2);
+                fct = "{0}=atan2({1},{2})";
+                break;
+            default:
+                throw new UnsupportedOperationException("Binary arithmetic expressions does not support " + op.name());
+        }
+        RealVar var = model.realVar(bounds[0], bounds[1], p);
+        if (model.getSettings().enableNativeRealPropagation() && isSupportedByEquation(v2)) {
+            var.eq(new BiCArExpression(op, v1, v2)).equation().post();
+        } else if (binary) {
+            model.realIbexGenericConstraint(fct, var, v1, v2).post();
+        } else {
+            model.realIbexGenericConstraint(fct, var, v1).post();
+        }
+        return var;
+    }
+
+    /**
+     * @param v2 the second operand
+     * @return {@code true} if this expression can be filtered by
+     * {@link org.chocosolver.solver.expression.continuous.relational.PropEquation}
+     */
+    private boolean isSupportedByEquation(RealInterval v2) {
+        switch (op) {
+            case POW:
+                return isIntegerConstant(v2) && v2.getLB() >= 0;
+            case ATAN2:
+                return false;
+            default:
+                return true;
+        }
+    }
+
     @Override
     public void tighten() {
         RealInterval res;
@@ -169,6 +195,15 @@ public class BiCArExpression implements CArExpression {
                 );
                 break;
             case POW:
+                int p = exponent();
+                if (p == 0) {
+                    res = new RealIntervalConstant(1., 1.);
+                } else if (p == 1) {
+                    res = e1;
+                } else {
+                    res = RealUtils.iPower(e1, p);
+                }
+                break;
             case ATAN2:
             default:
                 throw new UnsupportedOperationException("Equation does not support " + op.name()+". Consider using Ibex instead.");
@@ -217,6 +252,13 @@ public class BiCArExpression implements CArExpression {
                 }
                 break;
             case POW:
+                int p = exponent();
+                if (p == 1) {
+                    e1.intersect(this, cause);
+                } else if (p > 1) {
+                    e1.intersect(RealUtils.iRoot(this, p, e1), cause);
+                }
+                break;
             case ATAN2:
             default:
                 throw new UnsupportedOperationException("Equation does not support " + op.name()+". Consider using Ibex instead.");
@@ -288,4 +330,19 @@ public class BiCArExpression implements CArExpression {
     private boolean isIntegerConstant(RealVar realVar) {
         return realVar.isAConstant() && Math.rint(realVar.getLB()) == realVar.getLB();
     }
+
+    private static boolean isIntegerConstant(RealInterval interval) {
+        return interval.getLB() == interval.getUB() && Math.rint(interval.getLB()) == interval.getLB();
+    }
+
+    /**
+     * @return the exponent of a power expression, only non-negative integer constants are supported by
+     * {@link org.chocosolver.solver.expression.continuous.relational.PropEquation}
+     */
+    private int exponent() {
+        if (!isIntegerConstant(e2) || e2.getLB() < 0) {
+            throw new UnsupportedOperationException("Equation only supports POW with a non-negative integer exponent. Consider using Ibex instead.");
+        }
+        return (int) e2.getLB();
+    }
 }
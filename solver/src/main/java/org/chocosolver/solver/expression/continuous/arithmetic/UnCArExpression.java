@@ -74,100 +74,113 @@ public class UnCArExpression implements CArExpression {
     public RealVar realVar(double p) {
         if (me == null) {
             RealVar v = e.realVar(p);
-            switch (op) {
-                case NEG:
-                    me = model.realVar(-v.getUB(), -v.getLB(), p);
-                    model.realIbexGenericConstraint("{0}=-{1}", me, v).post();
-                    break;
-                case ABS:
-                    me = model.realVar(0.0, Math.max(Math.abs(v.getLB()), Math.abs(v.getUB())) , p);
-                    model.realIbexGenericConstraint("{0}=abs({1})", me, v).post();
-                    break;
-                case EXP:
-                    me = model.realVar(Math.min(Math.exp(v.getLB()), Math.exp(v.getUB())),
-                            Math.max(Math.exp(v.getLB()), Math.exp(v.getUB())), p);
-                    model.realIbexGenericConstraint("{0}=exp({1})", me, v).post();
-                    break;
-                case LN:
-                    me = model.realVar(Math.min(Math.log(v.getLB()), Math.log(v.getUB())),
-                            Math.max(Math.log(v.getLB()), Math.log(v.getUB())), p);
-                    model.realIbexGenericConstraint("{0}=ln({1})", me, v).post();
-                    break;
-                case SQR:
-                    RealInterval res2 = RealUtils.iPower(v, 2);
-                    me = model.realVar(res2.getLB(), res2.getUB(), p);
-                    model.realIbexGenericConstraint("{0}={1}^2", me, v).post();
-                    break;
-                case SQRT:
-                    RealInterval res2_ = RealUtils.iRoot(v, 2);
-                    me = model.realVar(res2_.getLB(), res2_.getUB(), p);
-                    model.realIbexGenericConstraint("{0}=sqrt({1})", me, v).post();
-                    break;
-                case CUB:
-                    RealInterval res3 = RealUtils.iPower(v, 2);
-                    me = model.realVar(res3.getLB(), res3.getUB(), p);
-                    model.realIbexGenericConstraint("{0}={1}^3", me, v).post();
-                    break;
-                case CBRT:
-                    RealInterval res3_ = RealUtils.iRoot(v, 3);
-                    me = model.realVar(res3_.getLB(), res3_.getUB(), p);
-                    model.realIbexGenericConstraint("{0}={1}^(1/3)", me, v).post();
-                    break;
-                case COS:
-                    me = model.realVar(-1.0, 1.0, p);
-                    model.realIbexGenericConstraint("{0}=cos({1})", me, v).post();
-                    break;
-                case SIN:
-                    me = model.realVar(-1.0, 1.0, p);
-                    model.realIbexGenericConstraint("{0}=sin({1})", me, v).post();
-                    break;
-                case TAN:
-                    me = model.realVar(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, p);
-                    model.realIbexGenericConstraint("{0}=tan({1})", me, v).post();
-                    break;
-                case ACOS:
-                    me = model.realVar(0.0, Math.PI, p);
-                    model.realIbexGenericConstraint("{0}=acos({1})", me, v).post();
-                    break;
-                case ASIN:
-                    me = model.realVar(-Math.PI / 2, Math.PI / 2, p);
-                    model.realIbexGenericConstraint("{0}=asin({1})", me, v).post();
-                    break;
-                case ATAN:
-                    me = model.realVar(-Math.PI / 2, Math.PI / 2, p);
-                    model.realIbexGenericConstraint("{0}=atan({1})", me, v).post();
-                    break;
-                case COSH:
-                    me = model.realVar(0.0, Double.POSITIVE_INFINITY, p);
-                    model.realIbexGenericConstraint("{0}=cosh({1})", me, v).post();
-                    break;
-                case SINH:
-                    me = model.realVar(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, p);
-                    model.realIbexGenericConstraint("{0}=sinh({1})", me, v).post();
-                    break;
-                case TANH:
-                    me = model.realVar(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, p);
-                    model.realIbexGenericConstraint("{0}=tanh({1})", me, v).post();
-                    break;
-                case ACOSH:
-                    me = model.realVar(0.0, Double.POSITIVE_INFINITY, p);
-                    model.realIbexGenericConstraint("{0}=acosh({1})", me, v).post();
-                    break;
-                case ASINH:
-                    me = model.realVar(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, p);
-                    model.realIbexGenericConstraint("{0}=asinh({1})", me, v).post();
-                    break;
-                case ATANH:
-                    me = model.realVar(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, p);
-                    model.realIbexGenericConstraint("{0}=atanh({1})", me, v).post();
-                    break;
-                default:
-                    throw new UnsupportedOperationException("Unary arithmetic expressions does not support "+op.name());
-            }
+            me = model.getExpressionStore().share("real." + op.name() + "," + p, false,
+                    new RealVar[]{v}, () -> build(v, p));
         }
         return me;
     }
 
+    private RealVar build(RealVar v, double p) {
+        RealVar var;
+        String fct;
+        switch (op) {
+            case NEG:
+                var = model.realVar(-v.getUB(), -v.getLB(), p);
+                fct = "{0}=-{1}";
+                break;
+            case ABS:
+                var = model.realVar(0.0, Math.max(Math.abs(v.getLB()), Math.abs(v.getUB())) , p);
+                fct = "{0}=abs({1})";
+                break;
+            case EXP:
+                var = model.realVar(Math.min(Math.exp(v.getLB()), Math.exp(v.getUB())),
+                        Math.max(Math.exp(v.getLB()), Math.exp(v.getUB())), p);
+                fct = "{0}=exp({1})";
+                break;
+            case LN:
+                var = model.realVar(Math.min(Math.log(v.getLB()), Math.log(v.getUB())),
+                        Math.max(Math.log(v.getLB()), Math.log(v.getUB())), p);
+                fct = "{0}=ln({1})";
+                break;
+            case SQR:
+                RealInterval res2 = RealUtils.iPower(v, 2);
+                var = model.realVar(res2.getLB(), res2.getUB(), p);
+                fct = "{0}={1}^2";
+                break;
+            case SQRT:
+                RealInterval res2_ = RealUtils.iRoot(v, 2);
+                var = model.realVar(res2_.getLB(), res2_.getUB(), p);
+                fct = "{0}=sqrt({1})";
+                break;
+            case CUB:
+                RealInterval res3 = RealUtils.iPower(v, 3);
+                var = model.realVar(res3.getLB(), res3.getUB(), p);
+                fct = "{0}={1}^3";
+                break;
+            case CBRT:
+                RealInterval res3_ = RealUtils.iRoot(v, 3);
+                var = model.realVar(res3_.getLB(), res3_.getUB(), p);
+                fct = "{0}={1}^(1/3)";
+                break;
+            case COS:
+                var = model.realVar(-1.0, 1.0, p);
+                fct = "{0}=cos({1})";
+                break;
+            case SIN:
+                var = model.realVar(-1.0, 1.0, p);
+                fct = "{0}=sin({1})";
+                break;
+            case TAN:
+                var = model.realVar(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, p);
+                fct = "{0}=tan({1})";
+                break;
+            case ACOS:
+                var = model.realVar(0.0, Math.PI, p);
+                fct = "{0}=acos({1})";
+                break;
+            case ASIN:
+                var = model.realVar(-Math.PI / 2, Math.PI / 2, p);
+                fct = "{0}=asin({1})";
+                break;
+            case ATAN:
+                var = model.realVar(-Math.PI / 2, Math.PI / 2, p);
+                fct = "{0}=atan({1})";
+                break;
+            case COSH:
+                var = model.realVar(0.0, Double.POSITIVE_INFINITY, p);
+                fct = "{0}=cosh({1})";
+                break;
+            case SINH:
+                var = model.realVar(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, p);
+                fct = "{0}=sinh({1})";
+                break;
+            case TANH:
+                var = model.realVar(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, p);
+                fct = "{0}=tanh({1})";
+                break;
+            case ACOSH:
+                var = model.realVar(0.0, Double.POSITIVE_INFINITY, p);
+                fct = "{0}=acosh({1})";
+                break;
+            case ASINH:
+                var = model.realVar(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, p);
+                fct = "{0}=asinh({1})";
+                break;
+            case ATANH:
+                var = model.realVar(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, p);
+                fct = "{0}=atanh({1})";
+                break;
+            default:
+                throw new UnsupportedOperationException("Unary arithmetic expressions does not support "+op.name());
+        }
+        if (op != Operator.TAN && model.getSettings().enableNativeRealPropagation()) {
+            var.eq(new UnCArExpression(op, v)).equation().post();
+        } else {
+            model.realIbexGenericConstraint(fct, var, v).post();
+        }
+        return var;
+    }
+
     @Override
     public void tighten() {
         RealInterval res;
@@ -205,17 +218,39 @@ public class UnCArExpression implements CArExpression {
                 }
                 break;
             case EXP:
+                res = RealUtils.exp(e);
+                break;
             case LN:
-            case TAN:
+                res = RealUtils.ln(e);
+                break;
             case ACOS:
+                res = RealUtils.acos(e);
+                break;
             case ASIN:
+                res = RealUtils.asin(e);
+                break;
             case ATAN:
+                res = RealUtils.atan(e);
+                break;
             case COSH:
+                res = RealUtils.cosh(e);
+                break;
             case SINH:
+                res = RealUtils.sinh(e);
+                break;
             case TANH:
+                res = RealUtils.tanh(e);
+                break;
             case ACOSH:
+                res = RealUtils.acosh(e);
+                break;
             case ASINH:
+                res = RealUtils.asinh(e);
+                break;
             case ATANH:
+                res = RealUtils.atanh(e);
+                break;
+            case TAN:
             default:
                 throw new UnsupportedOperationException("Equation does not support " + op.name()+". Consider using Ibex instead.");
         }
@@ -252,17 +287,39 @@ public class UnCArExpression implements CArExpression {
                 res = new RealIntervalConstant(-this.getUB(), this.getUB());
                 break;
             case EXP:
+                res = RealUtils.ln(this);
+                break;
             case LN:
-            case TAN:
+                res = RealUtils.exp(this);
+                break;
             case ACOS:
+                res = RealUtils.acos_inv(this);
+                break;
             case ASIN:
+                res = RealUtils.asin_inv(this);
+                break;
             case ATAN:
+                res = RealUtils.atan_inv(this);
+                break;
             case COSH:
+                res = RealUtils.acosh_wrt(this, e);
+                break;
             case SINH:
+                res = RealUtils.asinh(this);
+                break;
             case TANH:
+                res = RealUtils.atanh(this);
+                break;
             case ACOSH:
+                res = RealUtils.acosh_inv(this);
+                break;
             case ASINH:
+                res = RealUtils.sinh(this);
+                break;
             case ATANH:
+                res = RealUtils.tanh(this);
+                break;
+            case TAN:
             default:
                 throw new UnsupportedOperationException("Equation does not support " + op.name()+". Consider using Ibex instead.");
         }
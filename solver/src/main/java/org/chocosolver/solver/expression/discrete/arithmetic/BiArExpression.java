@@ -14,6 +14,7 @@ import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.tools.VariableUtils;
 
+import java.util.EnumSet;
 import java.util.Map;
 
 /**
@@ -26,6 +27,8 @@ import java.util.Map;
  */
 public class BiArExpression implements ArExpression {
 
+    private static final EnumSet<Operator> COMMUTATIVE = EnumSet.of(Operator.ADD, Operator.MUL, Operator.MIN, Operator.MAX);
+
     /**
      * The model in which the expression is declared
      */
@@ -77,64 +80,78 @@ public class BiArExpression implements ArExpression {
     @Override
     public IntVar intVar() {
         if (me == null) {
+            if (LinearTerms.isNested(this)) {
+                LinearTerms terms = new LinearTerms().add(this, 1);
+                if (terms.fitsInInt()) {
+                    me = terms.intVar(model);
+                    return me;
+                }
+            }
             IntVar v1 = e1.intVar();
             IntVar v2 = e2.intVar();
-            int[] bounds;
-            switch (op) {
-                case ADD:
-                    bounds = VariableUtils.boundsForAddition(v1, v2);
-                    me = model.intVar(model.generateName("sum_exp_"), bounds[0], bounds[1]);
-                    model.arithm(v1, "+", v2, "=", me).post();
-                    break;
-                case SUB:
-                    bounds = VariableUtils.boundsForSubstraction(v1, v2);
-                    me = model.intVar(model.generateName("sub_exp_"), bounds[0], bounds[1]);
-                    model.arithm(v1, "-", v2, "=", me).post();
-                    break;
-                case MUL:
-                    bounds = VariableUtils.boundsForMultiplication(v1, v2);
-                    me = model.intVar(model.generateName("mul_exp_"), bounds[0], bounds[1]);
-                    model.times(v1, v2, me).post();
-                    break;
-                case DIV:
-                    bounds = VariableUtils.boundsForDivision(v1, v2);
-                    me = model.intVar(model.generateName("div_exp_"), bounds[0], bounds[1]);
-                    model.div(v1, v2, me).post();
-                    break;
-                case MOD:
-                    bounds = VariableUtils.boundsForModulo(v1, v2);
-                    me = model.intVar(model.generateName("mod_exp_"), bounds[0], bounds[1]);
-                    model.mod(v1, v2, me).post();
-                    break;
-                case POW: // todo as intension constraint
-                    bounds = VariableUtils.boundsForPow(v1, v2);
-                    me = model.intVar(model.generateName("pow_exp_"), bounds[0], bounds[1]);
-                    Tuples tuples = new Tuples(true);
-                    for(int val1 : v1){
-                        for(int val2 : v2){
-                            int res = (int)Math.pow(val1, val2);
-                            if(me.contains(res)) {
-                                tuples.add(val1, val2, res);
-                            }
+            me = model.getExpressionStore().share("ar." + op.name(), COMMUTATIVE.contains(op),
+                    new IntVar[]{v1, v2}, () -> build(v1, v2));
+        }
+        return me;
+    }
+
+    private IntVar build(IntVar v1, IntVar v2) {
+        IntVar var;
+        int[] bounds;
+        switch (op) {
+            case ADD:
+                bounds = VariableUtils.boundsForAddition(v1, v2);
+                var = model.intVar(model.generateName("sum_exp_"), bounds[0], bounds[1]);
+                model.arithm(v1, "+", v2, "=", var).post();
+                break;
+            case SUB:
+                bounds = VariableUtils.boundsForSubstraction(v1, v2);
+                var = model.intVar(model.generateName("sub_exp_"), bounds[0], bounds[1]);
+                model.arithm(v1, "-", v2, "=", var).post();
+                break;
+            case MUL:
+                bounds = VariableUtils.boundsForMultiplication(v1, v2);
+                var = model.intVar(model.generateName("mul_exp_"), bounds[0], bounds[1]);
+                model.times(v1, v2, var).post();
+                break;
+            case DIV:
+                bounds = VariableUtils.boundsForDivision(v1, v2);
+                var = model.intVar(model.generateName("div_exp_"), bounds[0], bounds[1]);
+                model.div(v1, v2, var).post();
+                break;
+            case MOD:
+                bounds = VariableUtils.boundsForModulo(v1, v2);
+                var = model.intVar(model.generateName("mod_exp_"), bounds[0], bounds[1]);
+                model.mod(v1, v2, var).post();
+                break;
+            case POW: // todo as intension constraint
+                bounds = VariableUtils.boundsForPow(v1, v2);
+                var = model.intVar(model.generateName("pow_exp_"), bounds[0], bounds[1]);
+                Tuples tuples = new Tuples(true);
+                for(int val1 : v1){
+                    for(int val2 : v2){
+                        int res = (int)Math.pow(val1, val2);
+                        if(var.contains(res)) {
+                            tuples.add(val1, val2, res);
                         }
                     }
-                    model.table(new IntVar[]{v1, v2, me}, tuples).post();
-                    break;
-                case MIN:
-                    bounds = VariableUtils.boundsForMinimum(v1, v2);
-                    me = model.intVar(model.generateName("min_exp_"), bounds[0], bounds[1]);
-                    model.min(me, v1, v2).post();
-                    break;
-                case MAX:
-                    bounds = VariableUtils.boundsForMaximum(v1, v2);
-                    me = model.intVar(model.generateName("max_exp_"), bounds[0], bounds[1]);
-                    model.max(me, v1, v2).post();
-                    break;
-                default:
-                    throw new UnsupportedOperationException("Binary arithmetic expressions does not support " + op.name());
-            }
+                }
+                model.table(new IntVar[]{v1, v2, var}, tuples).post();
+                break;
+            case MIN:
+                bounds = VariableUtils.boundsForMinimum(v1, v2);
+                var = model.intVar(model.generateName("min_exp_"), bounds[0], bounds[1]);
+                model.min(var, v1, v2).post();
+                break;
+            case MAX:
+                bounds = VariableUtils.boundsForMaximum(v1, v2);
+                var = model.intVar(model.generateName("max_exp_"), bounds[0], bounds[1]);
+                model.max(var, v1, v2).post();
+                break;
+            default:
+                throw new UnsupportedOperationException("Binary arithmetic expressions does not support " + op.name());
         }
-        return me;
+        return var;
     }
 
     @Override
@@ -60,15 +60,21 @@ public class IfArExpression implements ArExpression {
             BoolVar v0 = b0.boolVar();
             IntVar v1 = e1.intVar();
             IntVar v2 = e2.intVar();
-            me = model.intVar(model.generateName("if_exp_"),
-                    Math.min(v1.getLB(), v2.getLB()),
-                    Math.max(v1.getUB(), v2.getUB()));
-            model.reifyXeqY(me, v1, v0);
-            model.reifyXeqY(me, v2, v0.not());
+            me = model.getExpressionStore().share("ar.IF", false,
+                    new IntVar[]{v0, v1, v2}, () -> build(v0, v1, v2));
         }
         return me;
     }
 
+    private IntVar build(BoolVar v0, IntVar v1, IntVar v2) {
+        IntVar var = model.intVar(model.generateName("if_exp_"),
+                Math.min(v1.getLB(), v2.getLB()),
+                Math.max(v1.getUB(), v2.getUB()));
+        model.reifyXeqY(var, v1, v0);
+        model.reifyXeqY(var, v2, v0.not());
+        return var;
+    }
+
     @Override
     public void extractVar(HashSet<IntVar> variables) {
         b0.extractVar(variables);
@@ -0,0 +1,184 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.expression.discrete.arithmetic;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.tools.ArrayUtils;
+import org.chocosolver.util.tools.MathUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+
+/**
+ * The linear part of arithmetic expressions, flattened into a weighted sum of variables plus a constant.
+ * <p>
+ * Additions, subtractions, negations and products by a constant which are not turned into variables yet
+ * are flattened, so that nested sums are stated with a single linear constraint
+ * instead of one intermediate variable and one constraint per node.
+ * Other subexpressions are turned into variables, constants are summed up.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class LinearTerms {
+
+    private final Map<IntVar, Long> coefficients = new HashMap<>();
+    private long constant;
+
+    /**
+     * @param e an arithmetic expression
+     * @return <tt>true</tt> if <i>e</i> is a linear node which is not turned into a variable yet
+     */
+    public static boolean isLinear(ArExpression e) {
+        if (e instanceof BiArExpression) {
+            BiArExpression b = (BiArExpression) e;
+            return b.me == null && (b.op == ArExpression.Operator.ADD || b.op == ArExpression.Operator.SUB);
+        } else if (e instanceof NaArExpression) {
+            NaArExpression n = (NaArExpression) e;
+            return n.me == null && n.op == ArExpression.Operator.ADD;
+        } else if (e instanceof UnArExpression) {
+            UnArExpression u = (UnArExpression) e;
+            return u.me == null && u.op == ArExpression.Operator.NEG;
+        } else if (e instanceof UnCArExpression) {
+            UnCArExpression u = (UnCArExpression) e;
+            return u.me == null && (u.op == ArExpression.Operator.ADD
+                    || u.op == ArExpression.Operator.SUB
+                    || u.op == ArExpression.Operator.MUL);
+        }
+        return false;
+    }
+
+    /**
+     * @param e an arithmetic expression
+     * @return <tt>true</tt> if <i>e</i> is a linear node with at least one linear child
+     */
+    static boolean isNested(ArExpression e) {
+        return isLinear(e) && Arrays.stream(e.getExpressionChild()).anyMatch(LinearTerms::isLinear);
+    }
+
+    /**
+     * Add <i>coef</i>.<i>e</i> to these terms.
+     *
+     * @param e    an arithmetic expression
+     * @param coef its coefficient
+     * @return this
+     */
+    public LinearTerms add(ArExpression e, long coef) {
+        if (isLinear(e)) {
+            ArExpression[] child = e.getExpressionChild();
+            ArExpression.Operator op;
+            if (e instanceof UnCArExpression) {
+                op = ((UnCArExpression) e).op;
+                int c = ((UnCArExpression) e).e2;
+                switch (op) {
+                    case ADD:
+                        constant += coef * c;
+                        add(child[0], coef);
+                        break;
+                    case SUB:
+                        constant -= coef * c;
+                        add(child[0], coef);
+                        break;
+                    default: // MUL
+                        add(child[0], coef * c);
+                        break;
+                }
+            } else if (e instanceof UnArExpression) {
+                add(child[0], -coef);
+            } else {
+                op = e instanceof BiArExpression ? ((BiArExpression) e).op : ((NaArExpression) e).op;
+                add(child[0], coef);
+                for (int i = 1; i < child.length; i++) {
+                    add(child[i], op == ArExpression.Operator.ADD ? coef : -coef);
+                }
+            }
+        } else {
+            OptionalInt p = e.primitive();
+            if (p.isPresent()) {
+                constant += coef * p.getAsInt();
+            } else {
+                IntVar v = e.intVar();
+                if (v.isAConstant()) {
+                    constant += coef * v.getValue();
+                } else {
+                    coefficients.merge(v, coef, Long::sum);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return the variables with a non-zero coefficient, sorted by id
+     */
+    public IntVar[] getVars() {
+        return coefficients.entrySet().stream()
+                .filter(t -> t.getValue() != 0L)
+                .map(Map.Entry::getKey)
+                .sorted(Comparator.comparingInt(IntVar::getId))
+                .toArray(IntVar[]::new);
+    }
+
+    /**
+     * @return the coefficients of the variables, in the order of {@link #getVars()}
+     */
+    public int[] getCoefficients() {
+        return Arrays.stream(getVars()).mapToInt(v -> (int) (long) coefficients.get(v)).toArray();
+    }
+
+    /**
+     * @return the constant term
+     */
+    public long getConstant() {
+        return constant;
+    }
+
+    /**
+     * @return <tt>true</tt> if the coefficients and the constant fit in an int
+     */
+    public boolean fitsInInt() {
+        return constant == (int) constant && coefficients.values().stream().allMatch(c -> c == (int) (long) c);
+    }
+
+    /**
+     * Turn these terms into a variable, shared with equal linear expressions.
+     * Should only be called if {@link #fitsInInt()} returns <tt>true</tt>.
+     *
+     * @param model the model
+     * @return a variable equal to these terms
+     */
+    IntVar intVar(Model model) {
+        IntVar[] vs = getVars();
+        int[] cs = getCoefficients();
+        int k = (int) constant;
+        if (vs.length == 0) {
+            return model.intVar(k);
+        }
+        if (vs.length == 1 && cs[0] == 1) {
+            return model.intOffsetView(vs[0], k);
+        }
+        long lb = k, ub = k;
+        for (int i = 0; i < vs.length; i++) {
+            lb += Math.min((long) cs[i] * vs[i].getLB(), (long) cs[i] * vs[i].getUB());
+            ub += Math.max((long) cs[i] * vs[i].getLB(), (long) cs[i] * vs[i].getUB());
+        }
+        int min = MathUtils.safeCast(Math.max(lb, IntVar.MIN_INT_BOUND));
+        int max = MathUtils.safeCast(Math.min(ub, IntVar.MAX_INT_BOUND));
+        return model.getExpressionStore().share("ar.LIN" + Arrays.toString(cs) + k, false, vs, () -> {
+            IntVar me = model.intVar(model.generateName("sum_exp_"), min, max);
+            model.scalar(ArrayUtils.append(vs, new IntVar[]{me}), ArrayUtils.concat(cs, -1), "=", -k).post();
+            return me;
+        });
+    }
+}
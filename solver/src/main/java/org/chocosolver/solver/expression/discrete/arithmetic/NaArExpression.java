@@ -81,42 +81,55 @@ public class NaArExpression implements ArExpression {
     @Override
     public IntVar intVar() {
         if (me == null) {
-            IntVar[] vs = Arrays.stream(es).map(ArExpression::intVar).toArray(IntVar[]::new);
-            int[] bounds;
-            switch (op) {
-                case ADD:
-                    bounds = VariableUtils.boundsForAddition(vs);
-                    me = model.intVar(model.generateName("sum_exp_"), bounds[0], bounds[1]);
-                    model.sum(vs, "=", me).post();
-                    break;
-                case MUL:
-                    bounds = VariableUtils.boundsForMultiplication(vs[0], vs[1]);
-                    me = model.intVar(model.generateName("mul_exp_0_"), bounds[0], bounds[1]);
-                    model.times(vs[0], vs[1], me).post();
-                    for (int i = 2; i < vs.length; i++) {
-                        IntVar pre = me;
-                        bounds = VariableUtils.boundsForMultiplication(pre, vs[i]);
-                        me = model.intVar(model.generateName("mul_exp_0_"), bounds[0], bounds[1]);
-                        model.times(pre, vs[i], me).post();
-                    }
-                    break;
-                case MIN:
-                    bounds = VariableUtils.boundsForMinimum(vs);
-                    me = model.intVar(model.generateName("min_exp_"), bounds[0], bounds[1]);
-                    model.min(me, vs).post();
-                    break;
-                case MAX:
-                    bounds = VariableUtils.boundsForMaximum(vs);
-                    me = model.intVar(model.generateName("max_exp_"), bounds[0], bounds[1]);
-                    model.max(me, vs).post();
-                    break;
-                default:
-                    throw new UnsupportedOperationException("Binary arithmetic expressions does not support " + op.name());
+            if (LinearTerms.isNested(this)) {
+                LinearTerms terms = new LinearTerms().add(this, 1);
+                if (terms.fitsInInt()) {
+                    me = terms.intVar(model);
+                    return me;
+                }
             }
+            IntVar[] vs = Arrays.stream(es).map(ArExpression::intVar).toArray(IntVar[]::new);
+            me = model.getExpressionStore().share("ar." + op.name(), true, vs, () -> build(vs));
         }
         return me;
     }
 
+    private IntVar build(IntVar[] vs) {
+        IntVar var;
+        int[] bounds;
+        switch (op) {
+            case ADD:
+                bounds = VariableUtils.boundsForAddition(vs);
+                var = model.intVar(model.generateName("sum_exp_"), bounds[0], bounds[1]);
+                model.sum(vs, "=", var).post();
+                break;
+            case MUL:
+                bounds = VariableUtils.boundsForMultiplication(vs[0], vs[1]);
+                var = model.intVar(model.generateName("mul_exp_0_"), bounds[0], bounds[1]);
+                model.times(vs[0], vs[1], var).post();
+                for (int i = 2; i < vs.length; i++) {
+                    IntVar pre = var;
+                    bounds = VariableUtils.boundsForMultiplication(pre, vs[i]);
+                    var = model.intVar(model.generateName("mul_exp_0_"), bounds[0], bounds[1]);
+                    model.times(pre, vs[i], var).post();
+                }
+                break;
+            case MIN:
+                bounds = VariableUtils.boundsForMinimum(vs);
+                var = model.intVar(model.generateName("min_exp_"), bounds[0], bounds[1]);
+                model.min(var, vs).post();
+                break;
+            case MAX:
+                bounds = VariableUtils.boundsForMaximum(vs);
+                var = model.intVar(model.generateName("max_exp_"), bounds[0], bounds[1]);
+                model.max(var, vs).post();
+                break;
+            default:
+                throw new UnsupportedOperationException("Binary arithmetic expressions does not support " + op.name());
+        }
+        return var;
+    }
+
     @Override
     public int ieval(int[] values, Map<IntVar, Integer> map) {
 //        int r = es[0].eval(values, map);
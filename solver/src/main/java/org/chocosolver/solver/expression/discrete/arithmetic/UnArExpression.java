@@ -80,25 +80,31 @@ public class UnArExpression implements ArExpression {
     public IntVar intVar() {
         if (me == null) {
             IntVar v = e.intVar();
-            switch (op){
-                case NEG:
-                    me = model.intMinusView(v);
-                    break;
-                case ABS:
-                    me = model.intAbsView(v);
-                    break;
-                case SQR:
-                    int[] bounds = VariableUtils.boundsForMultiplication(v, v);
-                    me = model.intVar(model.generateName("sqr_exp_"), bounds[0], bounds[1]);
-                    model.times(v, v, me).post();
-                    break;
-                default:
-                    throw new UnsupportedOperationException("Unary arithmetic expressions does not support "+op.name());
-            }
+            me = model.getExpressionStore().share("ar." + op.name(), false, new IntVar[]{v}, () -> build(v));
         }
         return me;
     }
 
+    private IntVar build(IntVar v) {
+        IntVar var;
+        switch (op){
+            case NEG:
+                var = model.intMinusView(v);
+                break;
+            case ABS:
+                var = model.intAbsView(v);
+                break;
+            case SQR:
+                int[] bounds = VariableUtils.boundsForMultiplication(v, v);
+                var = model.intVar(model.generateName("sqr_exp_"), bounds[0], bounds[1]);
+                model.times(v, v, var).post();
+                break;
+            default:
+                throw new UnsupportedOperationException("Unary arithmetic expressions does not support "+op.name());
+        }
+        return var;
+    }
+
     @Override
     public int ieval(int[] values, Map<IntVar, Integer> map) {
         return op.eval(e.ieval(values, map));
@@ -48,7 +48,7 @@ public class UnCArExpression implements ArExpression {
     /**
      * The second expression this expression relies on
      */
-    private int e2;
+    int e2;
 
     /**
      * Builds a binary expression
@@ -78,68 +78,75 @@ public class UnCArExpression implements ArExpression {
     public IntVar intVar() {
         if (me == null) {
             IntVar v1 = e1.intVar();
-            int[] bounds;
-            switch (op) {
-                case ADD:
-                    me = model.intOffsetView(v1, e2);
-                    break;
-                case SUB:
-                    me = model.intOffsetView(v1, -e2);
-                    break;
-                case MUL:
-                    if(e2 > 0){
-                        me = model.intScaleView(v1, e2);
-                    }else{
-                        bounds = new int[]{
-                                Math.min(v1.getLB()*e2, v1.getUB()*e2),Math.max(v1.getLB()*e2, v1.getUB()*e2)};
-                        me = model.intVar(model.generateName("mul_exp_"), bounds[0], bounds[1]);
-                        model.times(v1, e2, me).post();
-                    }
-                    break;
-                case DIV: {
-                    IntVar v2 = model.intVar(e2);
-                    bounds = VariableUtils.boundsForDivision(v1, v2);
-                    me = model.intVar(model.generateName("div_exp_"), bounds[0], bounds[1]);
-                    model.div(v1, v2, me).post();
-                }
+            me = model.getExpressionStore().share("ar." + op.name() + "," + e2, false,
+                    new IntVar[]{v1}, () -> build(v1));
+        }
+        return me;
+    }
+
+    private IntVar build(IntVar v1) {
+        IntVar var;
+        int[] bounds;
+        switch (op) {
+            case ADD:
+                var = model.intOffsetView(v1, e2);
+                break;
+            case SUB:
+                var = model.intOffsetView(v1, -e2);
                 break;
-                case MOD: {
-                    int min = v1.stream().map(v -> v % e2).min().orElse(0);
-                    int max = v1.stream().map(v -> v % e2).max().orElse(v1.getDomainSize());
-                    me = model.intVar(model.generateName("mod_exp_"), min, max);
-                    model.mod(v1, e2, me).post();
+            case MUL:
+                if(e2 > 0){
+                    var = model.intScaleView(v1, e2);
+                }else{
+                    bounds = new int[]{
+                            Math.min(v1.getLB()*e2, v1.getUB()*e2),Math.max(v1.getLB()*e2, v1.getUB()*e2)};
+                    var = model.intVar(model.generateName("mul_exp_"), bounds[0], bounds[1]);
+                    model.times(v1, e2, var).post();
                 }
                 break;
-                case POW: // todo as intension constraint
-                {
-                    int min = v1.stream().map(v -> (int)Math.floor(Math.pow(v, e2))).min().orElse(IntVar.MIN_INT_BOUND);
-                    int max = v1.stream().map(v -> (int)Math.ceil(Math.pow(v, e2))).max().orElse(IntVar.MAX_INT_BOUND);
-                    me = model.intVar(model.generateName("pow_exp_"), min, max);
-                    Tuples tuples = new Tuples(true);
-                    for (int val1 : v1) {
-                        int res = (int) Math.pow(val1, e2);
-                        if (me.contains(res)) {
-                            tuples.add(val1, res);
-                        }
+            case DIV: {
+                IntVar v2 = model.intVar(e2);
+                bounds = VariableUtils.boundsForDivision(v1, v2);
+                var = model.intVar(model.generateName("div_exp_"), bounds[0], bounds[1]);
+                model.div(v1, v2, var).post();
+            }
+            break;
+            case MOD: {
+                int min = v1.stream().map(v -> v % e2).min().orElse(0);
+                int max = v1.stream().map(v -> v % e2).max().orElse(v1.getDomainSize());
+                var = model.intVar(model.generateName("mod_exp_"), min, max);
+                model.mod(v1, e2, var).post();
+            }
+            break;
+            case POW: // todo as intension constraint
+            {
+                int min = v1.stream().map(v -> (int)Math.floor(Math.pow(v, e2))).min().orElse(IntVar.MIN_INT_BOUND);
+                int max = v1.stream().map(v -> (int)Math.ceil(Math.pow(v, e2))).max().orElse(IntVar.MAX_INT_BOUND);
+                var = model.intVar(model.generateName("pow_exp_"), min, max);
+                Tuples tuples = new Tuples(true);
+                for (int val1 : v1) {
+                    int res = (int) Math.pow(val1, e2);
+                    if (var.contains(res)) {
+                        tuples.add(val1, res);
                     }
-                    model.table(new IntVar[]{v1, me}, tuples).post();
                 }
-                    break;
-                case MIN:
-                    me = model.intVar(model.generateName("min_exp_"),
-                            Math.min(v1.getLB(), e2), Math.min(v1.getUB(), e2));
-                    model.min(me, v1, model.intVar(e2)).post();
-                    break;
-                case MAX:
-                    me = model.intVar(model.generateName("max_exp_"),
-                            Math.max(v1.getLB(), e2), Math.max(v1.getUB(), e2));
-                    model.max(me, v1, model.intVar(e2)).post();
-                    break;
-                default:
-                    throw new UnsupportedOperationException("Binary arithmetic expressions does not support " + op.name());
+                model.table(new IntVar[]{v1, var}, tuples).post();
             }
+                break;
+            case MIN:
+                var = model.intVar(model.generateName("min_exp_"),
+                        Math.min(v1.getLB(), e2), Math.min(v1.getUB(), e2));
+                model.min(var, v1, model.intVar(e2)).post();
+                break;
+            case MAX:
+                var = model.intVar(model.generateName("max_exp_"),
+                        Math.max(v1.getLB(), e2), Math.max(v1.getUB(), e2));
+                model.max(var, v1, model.intVar(e2)).post();
+                break;
+            default:
+                throw new UnsupportedOperationException("Binary arithmetic expressions does not support " + op.name());
         }
-        return me;
+        return var;
     }
 
     @Override
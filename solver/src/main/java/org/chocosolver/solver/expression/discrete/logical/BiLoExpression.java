@@ -61,24 +61,30 @@ public class BiLoExpression extends LoExpression {
         if (me == null) {
             BoolVar b1 = e1.boolVar();
             BoolVar b2 = e2.boolVar();
-            me = model.boolVar(model.generateName(op + "_exp_"));
-            switch (op) {
-                case XOR:
-                    model.addClausesBoolXorEqVar(b1, b2, me);
-                    break;
-                case IFF:
-                    model.addClausesBoolIsEqVar(b1, b2, me);
-                    break;
-                case IMP:
-                    model.addClausesBoolOrEqVar(b1.not(), b2, me);
-                    break;
-                default:
-                    throw new UnsupportedOperationException("Binary logical expressions does not support " + op.name());
-            }
+            me = model.getExpressionStore().share("lo." + op.name(), op != Operator.IMP,
+                    new BoolVar[]{b1, b2}, () -> build(b1, b2));
         }
         return me;
     }
 
+    private BoolVar build(BoolVar b1, BoolVar b2) {
+        BoolVar var = model.boolVar(model.generateName(op + "_exp_"));
+        switch (op) {
+            case XOR:
+                model.addClausesBoolXorEqVar(b1, b2, var);
+                break;
+            case IFF:
+                model.addClausesBoolIsEqVar(b1, b2, var);
+                break;
+            case IMP:
+                model.addClausesBoolOrEqVar(b1.not(), b2, var);
+                break;
+            default:
+                throw new UnsupportedOperationException("Binary logical expressions does not support " + op.name());
+        }
+        return var;
+    }
+
     @Override
     public void extractVar(HashSet<IntVar> variables) {
         e1.extractVar(variables);
@@ -65,40 +65,45 @@ public class NaLoExpression extends LoExpression {
     public BoolVar boolVar() {
         if (me == null) {
             BoolVar[] vs = Arrays.stream(es).map(ReExpression::boolVar).toArray(BoolVar[]::new);
-            me = model.boolVar(model.generateName(op + "_exp_"));
-            switch (op) {
-                case AND:
-                    model.addClausesBoolAndArrayEqVar(vs, me);
-                    break;
-                case OR:
-                    model.addClausesBoolOrArrayEqVar(vs, me);
-                    break;
-                case XOR:
-                    int[] values = new int[vs.length % 2 == 0 ? vs.length / 2 : (vs.length + 1) / 2];
-                    for (int i = 0, j = 1; i < values.length; i++, j += 2) {
-                        values[i] = j;
-                    }
-                    IntVar res = model.intVar(model.generateName(), 0, vs.length);
-                    model.sum(vs, "=", res).post();
-                    IntVar exres = model.intVar(model.generateName(), values);
-                    model.reifyXeqY(res, exres, me);
-                    break;
-                case IFF:
-                    if (vs.length == 2) {
-                        model.reifyXeqY(vs[0], vs[1], me);
-                    } else {
-                        IntVar count = model.intVar(op + "_count_", 1, 2);
-                        model.atMostNValues(vs, count, false).post();
-                        model.reifyXltC(count, 2, me);
-                    }
-                    break;
-                default:
-                    throw new UnsupportedOperationException("N-ary logical expressions does not support " + op.name());
-            }
+            me = model.getExpressionStore().share("lo." + op.name(), true, vs, () -> build(vs));
         }
         return me;
     }
 
+    private BoolVar build(BoolVar[] vs) {
+        BoolVar var = model.boolVar(model.generateName(op + "_exp_"));
+        switch (op) {
+            case AND:
+                model.addClausesBoolAndArrayEqVar(vs, var);
+                break;
+            case OR:
+                model.addClausesBoolOrArrayEqVar(vs, var);
+                break;
+            case XOR:
+                int[] values = new int[vs.length % 2 == 0 ? vs.length / 2 : (vs.length + 1) / 2];
+                for (int i = 0, j = 1; i < values.length; i++, j += 2) {
+                    values[i] = j;
+                }
+                IntVar res = model.intVar(model.generateName(), 0, vs.length);
+                model.sum(vs, "=", res).post();
+                IntVar exres = model.intVar(model.generateName(), values);
+                model.reifyXeqY(res, exres, var);
+                break;
+            case IFF:
+                if (vs.length == 2) {
+                    model.reifyXeqY(vs[0], vs[1], var);
+                } else {
+                    IntVar count = model.intVar(op + "_count_", 1, 2);
+                    model.atMostNValues(vs, count, false).post();
+                    model.reifyXltC(count, 2, var);
+                }
+                break;
+            default:
+                throw new UnsupportedOperationException("N-ary logical expressions does not support " + op.name());
+        }
+        return var;
+    }
+
     @Override
     public void extractVar(HashSet<IntVar> variables) {
         Arrays.stream(es).forEach(e -> e.extractVar(variables));
@@ -83,27 +83,32 @@ public class NaReExpression implements ReExpression {
     public BoolVar boolVar() {
         if (me == null) {
             IntVar[] vs = Arrays.stream(es).map(ArExpression::intVar).toArray(IntVar[]::new);
-            me = model.boolVar(model.generateName(op+"_exp_"));
-            if (op == Operator.EQ) {
-                if (vs.length == 2) {
-                    model.reifyXeqY(vs[0], vs[1], me);
-                } else {
-                    IntVar count = model.intVar(op + "_count_", 1, vs.length);
-                    model.nValues(vs, count).post();
-                    model.reifyXeqC(count, 1, me);
-                }
-            }else if(op == Operator.IN){
-                BoolVar[] reifs = model.boolVarArray(vs.length - 1);
-                for(int i = 1; i < vs.length; i++) {
-                    model.reifyXeqY(vs[0], vs[i], reifs[i-1]);
-                }
-                model.addClausesSumBoolArrayGreaterEqVar(reifs,me);
+            me = model.getExpressionStore().share("re." + op.name(), op == Operator.EQ, vs, () -> build(vs));
+        }
+        return me;
+    }
+
+    private BoolVar build(IntVar[] vs) {
+        BoolVar var = model.boolVar(model.generateName(op+"_exp_"));
+        if (op == Operator.EQ) {
+            if (vs.length == 2) {
+                model.reifyXeqY(vs[0], vs[1], var);
             } else {
-                throw new UnsupportedOperationException(
-                    "Binary arithmetic expressions does not support " + op.name());
+                IntVar count = model.intVar(op + "_count_", 1, vs.length);
+                model.nValues(vs, count).post();
+                model.reifyXeqC(count, 1, var);
             }
+        }else if(op == Operator.IN){
+            BoolVar[] reifs = model.boolVarArray(vs.length - 1);
+            for(int i = 1; i < vs.length; i++) {
+                model.reifyXeqY(vs[0], vs[i], reifs[i-1]);
+            }
+            model.addClausesSumBoolArrayGreaterEqVar(reifs,var);
+        } else {
+            throw new UnsupportedOperationException(
+                "Binary arithmetic expressions does not support " + op.name());
         }
-        return me;
+        return var;
     }
 
     @Override
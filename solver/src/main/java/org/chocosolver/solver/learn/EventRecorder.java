@@ -11,6 +11,7 @@ package org.chocosolver.solver.learn;
 
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.solver.variables.view.IView;
@@ -24,7 +25,7 @@ import java.util.Optional;
  * @author Charles Prud'homme
  * @since 25/01/2017.
  */
-public class EventRecorder extends AbstractEventObserver {
+public class EventRecorder extends AbstractEventObserver implements IMonitorRestart {
 
     /**
      * The implication graph
@@ -38,6 +39,7 @@ public class EventRecorder extends AbstractEventObserver {
     public EventRecorder(Solver solver) {
         mIG = new LazyImplications(solver.getModel());
         solver.setEventObserver(this);
+        solver.plugMonitor(this);
     }
 
     /**
@@ -73,10 +75,11 @@ public class EventRecorder extends AbstractEventObserver {
      */
     public void updateLowerBound(IntVar var, int value, int old, ICause cause) {
         mIG.pushEvent(var, cause, IntEventType.INCLOW, value, old, -1);
-        if (var.hasEnumeratedDomain() && !mIG.getDomainAt(mIG.size() - 1).isEmpty()) {
+        if (var.hasEnumeratedDomain() && value <= var.getUB()) {
             // this is required when there are holes in the domain
             // the new lower bound may be largest that the one declared
-            value = mIG.getDomainAt(mIG.size() - 1).min();
+            // (the domain is not modified yet, reading it avoids computing the one in the graph)
+            value = var.nextValue(value - 1);
         }
         for (int i = 0; i < var.getNbViews(); i++) {
             IView view = var.getView(i);
@@ -100,12 +103,11 @@ public class EventRecorder extends AbstractEventObserver {
      */
     public void updateUpperBound(IntVar var, int value, int old, ICause cause) {
         mIG.pushEvent(var, cause, IntEventType.DECUPP, value, old, -1);
-        if(var.hasEnumeratedDomain()){
+        if (var.hasEnumeratedDomain() && value >= var.getLB()) {
             // this is required when there are holes in the domain
             // the new upper bound may be smallest that the one declared
-            if (var.hasEnumeratedDomain() && !mIG.getDomainAt(mIG.size() - 1).isEmpty()) {
-                value = mIG.getDomainAt(mIG.size() - 1).max();
-            }
+            // (the domain is not modified yet, reading it avoids computing the one in the graph)
+            value = var.previousValue(value + 1);
         }
         for (int i = 0; i < var.getNbViews(); i++) {
             IView view = var.getView(i);
@@ -149,4 +151,13 @@ public class EventRecorder extends AbstractEventObserver {
     public void undo() {
         mIG.undoLastEvent();
     }
+
+    /**
+     * After a restart, only root nodes remain in the implication graph:
+     * the memory needed by a deep dive is released.
+     */
+    @Override
+    public void afterRestart() {
+        mIG.release();
+    }
 }
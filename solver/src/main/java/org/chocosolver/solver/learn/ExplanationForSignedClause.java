@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.learn;
 
+import gnu.trove.set.hash.TIntHashSet;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
@@ -63,10 +64,15 @@ public class ExplanationForSignedClause extends IExplanation {
     private final Implications mIG;
 
     private final PoolManager<IntIterableRangeSet> manager;
+    /**
+     * Decision levels met, used to compute the LBD
+     */
+    private final TIntHashSet levels;
 
     public ExplanationForSignedClause(Implications ig) {
         front = new ValueSortedMap<>();
         literals = new HashSet<>();
+        levels = new TIntHashSet();
         manager = new PoolManager<>();
         mIG = ig;
     }
@@ -362,6 +368,24 @@ public class ExplanationForSignedClause extends IExplanation {
         return assertLevel;
     }
 
+    /**
+     * Estimate the Literal Block Distance of the learnt clause, that is, the number of distinct decision levels
+     * its literals come from.
+     * Only literals still referenced in the conflicting nodes are considered.
+     *
+     * @return the LBD of the learnt clause
+     */
+    public int getLBD() {
+        levels.clear();
+        for (IntVar var : literals) {
+            int p = front.getValueOrDefault(var, -1);
+            if (p > -1) {
+                levels.add(mIG.getDecisionLevelAt(p));
+            }
+        }
+        return Math.max(levels.size(), 1);
+    }
+
     /**
      * Return an empty set available (created and returned) or create a new one
      *
@@ -37,6 +37,11 @@ public abstract class Implications {
      */
     public abstract void reset();
 
+    /**
+     * Release the memory which is not needed to store the current nodes, for instance after a restart.
+     */
+    public abstract void release();
+
     /**
      * Push an event
      * @param var modified variable
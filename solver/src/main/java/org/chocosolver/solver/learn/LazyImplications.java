@@ -14,12 +14,14 @@ import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.measure.MeasuresRecorder;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.util.objects.ValueSortedMap;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSetUtils;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 
@@ -41,6 +43,10 @@ import java.util.HashMap;
  *     </ul>
  * <p>
  *     Note that, under some conditions, two entries can be merged into a single one.
+ * <p>
+ *     When {@link XParameters#LAZY_DOMAINS} is set to <i>true</i>, an entry only records the event,
+ *     its domain is computed on demand, from the closest computed predecessor,
+ *     so that nodes which never take part in a conflict analysis do not pay for a copy of the domain.
  *
  * Project: choco-solver.
  * @author Charles Prud'homme
@@ -70,7 +76,12 @@ public class LazyImplications extends Implications {
         ICause c;
         // mask of the event
         int m;
+        // type of the event, to compute the domain on demand
+        IntEventType t;
+        // value removed, new lower bound, new upper bound or singleton value, wrt to the event
         int e;
+        // set to true when d is computed
+        boolean built;
         // index of this in the stack
         int i;
         // index of direct predecessor (same variable)
@@ -80,17 +91,18 @@ public class LazyImplications extends Implications {
 
         @Override
         public String toString() {
-            return String.format("<%s, %s, %s, %s, %d, %d, %d>", v.getName(), d, c, m, i, p, dl);
+            return String.format("<%s, %s, %s, %s, %d, %d, %d>", v.getName(), built ? d : "?", c, m, i, p, dl);
         }
 
         Entry() {
             d = new IntIterableRangeSet();
         }
 
-        public void set(IntVar v, ICause c, int m, int e, int i, int p, int dl) {
+        public void set(IntVar v, ICause c, IntEventType t, int e, int i, int p, int dl) {
             this.v = v;
             this.c = c;
-            this.m = m;
+            this.t = t;
+            this.m = t.getMask();
             this.e = e;
             this.i = i;
             this.p = p;
@@ -112,11 +124,23 @@ public class LazyImplications extends Implications {
     }
 
     /**
-     * Ordered list of entries.
+     * Number of entries per chunk, as a power of 2
+     */
+    private static final int CHUNK_SHIFT = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    /**
+     * Ordered list of entries, stored in fixed-size chunks.
+     * Chunks, and the entries they contain, are kept on backtrack to be reused,
+     * those beyond the current size are released on {@link #release()}.
      */
-    Entry[] entries;
+    private Entry[][] chunks;
     /**
-     * Pointer, per variable, to the root entry {@link #entries}
+     * Number of chunks allocated in {@link #chunks}
+     */
+    private int nbChunks;
+    /**
+     * Pointer, per variable, to the root entry {@link #chunks}
      */
     final HashMap<IntVar, Entry> rootEntries;
     /**
@@ -124,13 +148,29 @@ public class LazyImplications extends Implications {
      */
     private final IStateInt size;
     /**
-     * Number of active entries in {@link #entries}
+     * Number of active entries in {@link #chunks}
      */
     private int nbEntries;
     /**
      * Inform when a decision level changes
      */
     private boolean tagDl;
+    /**
+     * Set to true to compute domains of entries on demand
+     */
+    private final boolean lazy;
+    /**
+     * Entries whose domain is to compute, see {@link #domainOf(Entry)}
+     */
+    private int[] toBuild;
+    /**
+     * Maximum number of entries stored so far
+     */
+    private int peak;
+    /**
+     * The measures in which the peak size is reported
+     */
+    private final MeasuresRecorder measures;
 
     /**
      * Create lazily built implication graph
@@ -140,8 +180,12 @@ public class LazyImplications extends Implications {
         nbEntries = 0;
         size = model.getEnvironment().makeInt(0);
         size._set(0, 0); // to force history manually -- required when created during the search
-        entries = new Entry[16];
+        chunks = new Entry[4][];
+        nbChunks = 0;
+        measures = model.getSolver().getMeasures();
         rootEntries = new HashMap<>(16, .5f);
+        lazy = XParameters.LAZY_DOMAINS;
+        toBuild = new int[16];
         init(model);
     }
 
@@ -150,15 +194,20 @@ public class LazyImplications extends Implications {
         IntVar[] ivars = model.retrieveIntVars(true);
         for (IntVar var : ivars) {
             ensureCapacity();
-            Entry root = entries[nbEntries] = new Entry();
-            root.set(var, Cause.Null, IntEventType.VOID.getMask(), 0, nbEntries, nbEntries,1);
+            Entry root = newEntry(nbEntries);
+            root.set(var, Cause.Null, IntEventType.VOID, 0, nbEntries, nbEntries,1);
             root.getD().copyFrom(var);
             root.d.lock();
+            root.built = true;
             var.createLit(root.d);
             rootEntries.put(var, root);
             nbEntries++;
         }
         size.set(nbEntries);
+        if (nbEntries > peak) {
+            peak = nbEntries;
+            measures.setImplicationGraphPeakSize(peak);
+        }
     }
 
     @Override
@@ -172,10 +221,10 @@ public class LazyImplications extends Implications {
     private boolean checkIntegrity() {
         for (Entry r : rootEntries.values()) {
             int dec = nbEntries;
-            Entry prev = entries[r.p];
+            Entry prev = entry(r.p);
             if(prev.i > dec) return false;
             while (dec > 0 && prev != r) {
-                prev = entries[prev.p];
+                prev = entry(prev.p);
                 dec--;
             }
             if (dec == 0) return false;
@@ -189,7 +238,7 @@ public class LazyImplications extends Implications {
      */
     private void synchronize(int upto) {
         for (int p = upto; p < nbEntries; p++) {
-            Entry e = entries[p];
+            Entry e = entry(p);
             e.getD().unlock();
             Entry root = rootEntries.get(e.v);
             if (root.p >= upto) {
@@ -207,23 +256,58 @@ public class LazyImplications extends Implications {
 
     @Override
     public void undoLastEvent() {
-        Entry toUndo = entries[--nbEntries];
+        Entry toUndo = entry(--nbEntries);
         rootEntries.get(toUndo.v).p = toUndo.p;
     }
 
     /**
-     * Make sure that a new entry can be added into this graph
+     * Make sure that a new entry can be added into this graph, allocating a new chunk if needed
      */
     private void ensureCapacity() {
-        if (nbEntries >= entries.length) {
-            int oldCapacity = entries.length;
-            int newCapacity = oldCapacity + (oldCapacity >> 1);
-            Entry[] entBigger = new Entry[newCapacity];
-            System.arraycopy(entries, 0, entBigger, 0, oldCapacity);
-            entries = entBigger;
+        int c = nbEntries >>> CHUNK_SHIFT;
+        if (c >= nbChunks) {
+            if (c >= chunks.length) {
+                chunks = Arrays.copyOf(chunks, c + (c >> 1) + 1);
+            }
+            chunks[c] = new Entry[CHUNK_SIZE];
+            nbChunks = c + 1;
         }
     }
 
+    /**
+     * @param i index of an entry
+     * @return the entry at position <i>i</i>, <i>null</i> if it was never created
+     */
+    private Entry entry(int i) {
+        return chunks[i >>> CHUNK_SHIFT][i & CHUNK_MASK];
+    }
+
+    /**
+     * Create a new entry at position <i>i</i>, whose chunk is allocated
+     * @param i index of the entry
+     * @return the new entry
+     */
+    private Entry newEntry(int i) {
+        return chunks[i >>> CHUNK_SHIFT][i & CHUNK_MASK] = new Entry();
+    }
+
+    /**
+     * @implSpec
+     * Chunks which are not needed to store the current entries are released, but one which is kept for reuse.
+     */
+    @Override
+    public void release() {
+        int size_ = size.get();
+        if (nbEntries != size_) {
+            synchronize(size_);
+        }
+        int keep = Math.min(nbChunks, (nbEntries >>> CHUNK_SHIFT) + 2);
+        for (int c = keep; c < nbChunks; c++) {
+            chunks[c] = null;
+        }
+        nbChunks = keep;
+    }
+
     /**
      * Return <i>true</i> if two entries, based on the same variable, can be merged.
      * It depends on {@link XParameters#MERGE_CONDITIONS} which can be set to:
@@ -263,6 +347,7 @@ public class LazyImplications extends Implications {
      * @param nentry entry to merge with
      */
     private void mergeEntry(IntEventType evt, int one, Entry nentry){
+        domainOf(nentry);
         nentry.m |= evt.getMask();
         nentry.getD().unlock();
         mergeDomain(nentry.getD(), evt, one);
@@ -337,26 +422,66 @@ public class LazyImplications extends Implications {
                           Entry root, Entry prev){
         ensureCapacity();
         // create entry
-        Entry nentry = entries[nbEntries];
+        Entry nentry = entry(nbEntries);
         if (nentry == null) {
-            nentry = entries[nbEntries] = new Entry();
+            nentry = newEntry(nbEntries);
         } else {
             nentry.getD().clear();
         }
-        int dl = entries[nbEntries-1].dl;
+        int dl = entry(nbEntries-1).dl;
         if(tagDl){
             tagDl = false;
             dl++;
         }
-        nentry.set(var, cause, evt.getMask(), one, nbEntries, prev.i, dl);
-        // make a (weak) copy of prev domain and update it wrt to current event
-        createDomain(nentry.getD(), prev.d, evt, one);
-        nentry.getD().lock();
+        nentry.set(var, cause, evt, one, nbEntries, prev.i, dl);
+        if (lazy) {
+            nentry.built = false;
+        } else {
+            // make a (weak) copy of prev domain and update it wrt to current event
+            createDomain(nentry.getD(), prev.d, evt, one);
+            nentry.getD().lock();
+            nentry.built = true;
+        }
         // connect everything
         root.setPrev(nbEntries);
 
         size.add(1);
         nbEntries++;
+        if (nbEntries > peak) {
+            peak = nbEntries;
+            measures.setImplicationGraphPeakSize(peak);
+        }
+    }
+
+    /**
+     * Return the domain of an entry, computing it first if needed.
+     * The entries of the same variable are walked back up to the closest one whose domain is known,
+     * then the domains are computed forward, so that each domain is computed at most once.
+     * @param entry an entry
+     * @return its domain
+     */
+    private IntIterableRangeSet domainOf(Entry entry) {
+        if (!entry.built) {
+            int k = 0;
+            Entry prev = entry;
+            while (!prev.built) {
+                if (k == toBuild.length) {
+                    toBuild = Arrays.copyOf(toBuild, k + (k >> 1));
+                }
+                toBuild[k++] = prev.i;
+                prev = entry(prev.p);
+            }
+            while (k > 0) {
+                Entry next = entry(toBuild[--k]);
+                next.getD().unlock();
+                next.getD().clear();
+                createDomain(next.getD(), prev.d, next.t, next.e);
+                next.getD().lock();
+                next.built = true;
+                prev = next;
+            }
+        }
+        return entry.d;
     }
 
     /**
@@ -374,7 +499,7 @@ public class LazyImplications extends Implications {
             throw new Error("Unknown variable. This happens when a constraint is added after the call to `solver.setLearningClause();`");
         }
         int pidx = root.p;
-        Entry prev = entries[pidx];
+        Entry prev = entry(pidx);
         assert prev != null;
         assert prev.v == var;
         if(mergeConditions(prev, cause)){
@@ -399,7 +524,7 @@ public class LazyImplications extends Implications {
             assert ri < limit :"impossible right-most search";
             // consider the case where the variable failed
             if(root.p >= limit){
-                root = entries[root.p];
+                root = entry(root.p);
             }
             return root.p < limit ? root.p : ri;
         }else {
@@ -409,9 +534,9 @@ public class LazyImplications extends Implications {
             // 2. reverse-iteration over nodes of var, starting from 'root.p'
             // (presumably far away from limit)
             int prev = rootEntries.get(var).p;
-            while (pos > 0 && entries[pos].v != var && prev > limit) {
+            while (pos > 0 && entry(pos).v != var && prev > limit) {
                 pos--;
-                prev = entries[prev].p;
+                prev = entry(prev).p;
             }
             return prev > limit ? pos: prev;
         }
@@ -426,7 +551,7 @@ public class LazyImplications extends Implications {
     public void collectNodesFromConflict(ContradictionException cft, ValueSortedMap<IntVar> front) {
         if (cft.v != null) {
             Entry root = rootEntries.get(cft.v);
-            assert entries[root.p].c == cft.c;
+            assert entry(root.p).c == cft.c;
             front.put((IntVar) cft.v, root.p);
         } else {
             cft.c.forEachIntVar(v -> {
@@ -438,7 +563,7 @@ public class LazyImplications extends Implications {
 
     @Override
     public void predecessorsOf(int p, ValueSortedMap<IntVar> front) {
-        Entry entry = entries[p];
+        Entry entry = entry(p);
         ICause cause = entry.c;
         // add the predecessor of 'p'
         front.put(entry.v, entry.p);
@@ -460,7 +585,7 @@ public class LazyImplications extends Implications {
         int cpos = front.getValueOrDefault(vi, Integer.MAX_VALUE);
         if(cpos < Integer.MAX_VALUE) {
             while (cpos > p) {
-                cpos = entries[cpos].p;
+                cpos = entry(cpos).p;
             }
             front.replace(vi, cpos);
         }else {
@@ -470,38 +595,38 @@ public class LazyImplications extends Implications {
 
     @Override
     public ICause getCauseAt(int idx) {
-        return entries[idx].c;
+        return entry(idx).c;
     }
 
     @Override
     public int getEventMaskAt(int idx) {
-        return entries[idx].m;
+        return entry(idx).m;
     }
 
     @Override
     public IntVar getIntVarAt(int idx) {
-        return entries[idx].v;
+        return entry(idx).v;
     }
 
     @Override
     public int getValueAt(int idx) {
         assert XParameters.MERGE_CONDITIONS == 0;
-        return entries[idx].e;
+        return entry(idx).e;
     }
 
     @Override
     public int getDecisionLevelAt(int idx) {
-        return entries[idx].dl;
+        return entry(idx).dl;
     }
 
     @Override
     public IntIterableRangeSet getDomainAt(int idx) {
-        return entries[idx].d;
+        return domainOf(entry(idx));
     }
 
     @Override
     public int getPredecessorOf(int idx) {
-        return entries[idx].p;
+        return entry(idx).p;
     }
 
     @Override
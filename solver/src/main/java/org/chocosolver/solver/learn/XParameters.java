@@ -76,6 +76,12 @@ public class XParameters {
      * Otherwise, each clause is turned into a constraint.
      */
     public static boolean INTERVAL_TREE = true;
+    /**
+     * When set to <i>true</i>, the domain of a node of the implication graph is only computed
+     * when it is read during conflict analysis, by replaying the events recorded since the closest computed node.
+     * Otherwise, the domain is computed on each event.
+     */
+    public static boolean LAZY_DOMAINS = true;
     /**
      * Allow locking {@link org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet}
      */
@@ -0,0 +1,49 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import java.io.Closeable;
+
+/**
+ * A transport to share the best objective values between independent solvers,
+ * presumably running in different processes of the same host.
+ * <p>
+ * Each solver publishes the value of its solutions and fetches the best value published so far
+ * to cut its own search, as {@link org.chocosolver.solver.ParallelPortfolio} does within a single JVM.
+ * <br/>
+ * An exchange is dedicated to one optimization direction, given on creation.
+ *
+ * @author Charles Prud'homme
+ * @see MappedBoundExchange
+ * @see SocketBoundExchange
+ * @see org.chocosolver.solver.search.loop.monitors.BoundSharing
+ * @since 18/10/2026
+ */
+public interface IBoundExchange extends Closeable {
+
+    /**
+     * Publish the objective value of a new solution.
+     *
+     * @param value an objective value
+     */
+    void publish(double value);
+
+    /**
+     * @return the best objective value published so far, as far as known,
+     * or {@link Double#NaN} if none
+     */
+    double fetch();
+
+    /**
+     * Release the resources attached to this exchange.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,115 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.exception.SolverException;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A bound exchange based on a memory-mapped file.
+ * <p>
+ * The best value is stored in the first 8 bytes of the file, which are accessed under a file lock,
+ * so that any process mapping the same file sees, and improves, the same value.
+ * A file filled with zeros stands for "no value", a fresh file should be used for each run.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class MappedBoundExchange implements IBoundExchange {
+
+    /**
+     * File locks are held on behalf of the whole JVM, so threads have to be serialized
+     */
+    private static final Object MUTEX = new Object();
+    /**
+     * The channel, to lock the file
+     */
+    private final FileChannel channel;
+    /**
+     * The shared memory
+     */
+    private final MappedByteBuffer buffer;
+    /**
+     * Set to true for minimization
+     */
+    private final boolean minimization;
+
+    /**
+     * Create a bound exchange based on <i>file</i>, which is created if needed.
+     *
+     * @param file   the file to map, shared by all processes
+     * @param policy the optimization direction
+     */
+    public MappedBoundExchange(Path file, ResolutionPolicy policy) {
+        if (policy == ResolutionPolicy.SATISFACTION) {
+            throw new SolverException("Bounds can only be exchanged for optimization problems.");
+        }
+        this.minimization = policy == ResolutionPolicy.MINIMIZE;
+        try {
+            this.channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Long.BYTES);
+        } catch (IOException e) {
+            throw new SolverException("Unable to map " + file + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void publish(double value) {
+        synchronized (MUTEX) {
+            try (FileLock ignored = channel.lock(0, Long.BYTES, false)) {
+                double best = decode(buffer.getLong(0));
+                if (Double.isNaN(best) || (minimization ? value < best : value > best)) {
+                    buffer.putLong(0, encode(value));
+                }
+            } catch (IOException e) {
+                throw new SolverException("Unable to publish bound: " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public double fetch() {
+        synchronized (MUTEX) {
+            try (FileLock ignored = channel.lock(0, Long.BYTES, true)) {
+                return decode(buffer.getLong(0));
+            } catch (IOException e) {
+                throw new SolverException("Unable to fetch bound: " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new SolverException("Unable to close bound exchange: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Bits are complemented so that zeros, from a fresh file, decode to NaN.
+     */
+    private static long encode(double value) {
+        return ~Double.doubleToLongBits(value);
+    }
+
+    private static double decode(long bits) {
+        return Double.longBitsToDouble(~bits);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.exception.SolverException;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A bound exchange based on UDP datagrams sent over the loopback interface.
+ * <p>
+ * Each process binds its own port and sends the value of its solutions to the ports of its peers.
+ * Incoming values are read without blocking on each call to {@link #fetch()}.
+ * Since datagrams may be lost, a lost value only delays the sharing until the next solution.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class SocketBoundExchange implements IBoundExchange {
+
+    /**
+     * The local end point
+     */
+    private final DatagramChannel channel;
+    /**
+     * Addresses of the peers
+     */
+    private final List<InetSocketAddress> peers;
+    /**
+     * Buffer for incoming and outgoing values
+     */
+    private final ByteBuffer buffer;
+    /**
+     * Set to true for minimization
+     */
+    private final boolean minimization;
+    /**
+     * Best value known so far
+     */
+    private double best = Double.NaN;
+
+    /**
+     * Create a bound exchange listening on <i>port</i> of the loopback interface.
+     *
+     * @param port   the local port, 0 to pick an ephemeral one (see {@link #getPort()})
+     * @param policy the optimization direction
+     * @param peers  ports of the peers
+     */
+    public SocketBoundExchange(int port, ResolutionPolicy policy, int... peers) {
+        if (policy == ResolutionPolicy.SATISFACTION) {
+            throw new SolverException("Bounds can only be exchanged for optimization problems.");
+        }
+        this.minimization = policy == ResolutionPolicy.MINIMIZE;
+        this.buffer = ByteBuffer.allocate(Double.BYTES);
+        this.peers = new ArrayList<>();
+        try {
+            this.channel = DatagramChannel.open();
+            channel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+            channel.configureBlocking(false);
+        } catch (IOException e) {
+            throw new SolverException("Unable to bind port " + port + ": " + e.getMessage());
+        }
+        for (int p : peers) {
+            addPeer(p);
+        }
+    }
+
+    /**
+     * Declare a new peer to send values to.
+     *
+     * @param port the port of the peer, on the loopback interface
+     */
+    public void addPeer(int port) {
+        peers.add(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    /**
+     * @return the local port
+     */
+    public int getPort() {
+        return channel.socket().getLocalPort();
+    }
+
+    @Override
+    public void publish(double value) {
+        if (!improve(value)) {
+            return;
+        }
+        try {
+            for (int i = 0; i < peers.size(); i++) {
+                buffer.clear();
+                buffer.putDouble(value).flip();
+                channel.send(buffer, peers.get(i));
+            }
+        } catch (IOException e) {
+            throw new SolverException("Unable to publish bound: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public double fetch() {
+        try {
+            buffer.clear();
+            while (channel.receive(buffer) != null) {
+                buffer.flip();
+                if (buffer.remaining() == Double.BYTES) {
+                    improve(buffer.getDouble());
+                }
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            throw new SolverException("Unable to fetch bounds: " + e.getMessage());
+        }
+        return best;
+    }
+
+    private boolean improve(double value) {
+        if (Double.isNaN(best) || (minimization ? value < best : value > best)) {
+            best = value;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new SolverException("Unable to close bound exchange: " + e.getMessage());
+        }
+    }
+}
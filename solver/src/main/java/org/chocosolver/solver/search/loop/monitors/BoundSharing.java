@@ -0,0 +1,102 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.monitors;
+
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.objective.IBoundExchange;
+import org.chocosolver.solver.objective.IObjectiveManager;
+import org.chocosolver.solver.variables.IntVar;
+
+/**
+ * A search monitor that shares the best objective value of a solver through an {@link IBoundExchange}.
+ * <p>
+ * The value of each new solution is published.
+ * Every <i>frequency</i> nodes, the best value published by the other solvers is fetched and
+ * given to the objective manager, which cuts the search on next propagation.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class BoundSharing implements IMonitorSolution, IMonitorOpenNode, IMonitorRestart {
+
+    /**
+     * The solver to observe
+     */
+    private final Solver solver;
+    /**
+     * The transport
+     */
+    private final IBoundExchange exchange;
+    /**
+     * Number of nodes between two fetches
+     */
+    private final int frequency;
+    /**
+     * Number of nodes since the last fetch
+     */
+    private int nodes;
+
+    /**
+     * Create a search monitor that shares the best objective value of <i>solver</i>.
+     *
+     * @param solver    the solver to observe
+     * @param exchange  the transport
+     * @param frequency number of nodes between two fetches
+     */
+    public BoundSharing(Solver solver, IBoundExchange exchange, int frequency) {
+        this.solver = solver;
+        this.exchange = exchange;
+        this.frequency = frequency;
+    }
+
+    @Override
+    public void onSolution() {
+        IObjectiveManager<?> om = solver.getObjectiveManager();
+        if (om.isOptimization()) {
+            exchange.publish(om.getBestSolutionValue().doubleValue());
+        }
+    }
+
+    @Override
+    public void beforeOpenNode() {
+        if (++nodes >= frequency) {
+            nodes = 0;
+            fetch();
+        }
+    }
+
+    @Override
+    public void beforeRestart() {
+        fetch();
+    }
+
+    /**
+     * Fetch the best value published so far and update the best bound of the objective manager.
+     *
+     * @return <i>true</i> if the best bound has been updated
+     */
+    public boolean fetch() {
+        IObjectiveManager<?> om = solver.getObjectiveManager();
+        if (!om.isOptimization()) {
+            return false;
+        }
+        double value = exchange.fetch();
+        if (Double.isNaN(value)) {
+            return false;
+        }
+        Number bound = om.getObjective() instanceof IntVar ? (Number) (int) value : (Number) value;
+        if (om.getPolicy() == ResolutionPolicy.MINIMIZE) {
+            return om.updateBestUB(bound);
+        } else {
+            return om.updateBestLB(bound);
+        }
+    }
+}
@@ -12,6 +12,7 @@ package org.chocosolver.solver.search.loop.monitors;
 import org.chocosolver.solver.ISelf;
 import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.objective.IBoundExchange;
 import org.chocosolver.solver.search.limits.*;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.criteria.Criterion;
@@ -45,6 +46,21 @@ public interface ISearchMonitorFactory extends ISelf<Solver> {
         ref().plugMonitor(new NogoodFromRestarts(ref().getModel()));
     }
 
+    /**
+     * Share the best objective value with other solvers, presumably running in other processes,
+     * through <code>exchange</code>.
+     * The value of each solution is published and the best value published so far is fetched
+     * every <code>frequency</code> nodes, to cut the search.
+     *
+     * @param exchange  the transport
+     * @param frequency number of nodes between two fetches
+     * @see org.chocosolver.solver.objective.MappedBoundExchange
+     * @see org.chocosolver.solver.objective.SocketBoundExchange
+     */
+    default void setBoundSharing(IBoundExchange exchange, int frequency) {
+        ref().plugMonitor(new BoundSharing(ref(), exchange, frequency));
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
     /**
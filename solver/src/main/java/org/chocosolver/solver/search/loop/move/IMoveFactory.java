@@ -19,7 +19,9 @@ import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.search.limits.ICounter;
 import org.chocosolver.solver.search.limits.SolutionCounter;
 import org.chocosolver.solver.search.loop.lns.neighbors.INeighbor;
+import org.chocosolver.solver.search.restart.DynamicRestartCriterion;
 import org.chocosolver.solver.search.restart.MonotonicRestartStrategy;
+import org.chocosolver.util.bandit.Policy;
 import org.chocosolver.util.criteria.LongCriterion;
 
 /**
@@ -76,6 +78,24 @@ public interface IMoveFactory extends ISelf<Solver> {
         ref().setMove(new MoveBinaryHBFS(ref().getModel(), ref().getSearch(), a, b, N));
     }
 
+    /**
+     * Creates a move object based on:
+     * Hybrid Best-First Search[1] algorithms with binary decisions,
+     * where open nodes are kept in a bounded-memory <code>store</code>.
+     * <p>
+     * [1]:D. Allouche, S. de Givry, G. Katsirelos, T. Schiex, M. Zytnicki,
+     * Anytime Hybrid Best-First Search with Tree Decomposition for Weighted CSP, CP-2015.
+     *
+     * @param a               lower bound to limit the rate of redundantly propagated decisions
+     * @param b               upper bound to limit the rate of redundantly propagated decisions.
+     * @param N               backtrack limit for each DFS try, should be large enough to limit redundancy
+     * @param store           where open nodes are stored
+     * @see OpenNodeStore
+     */
+    default void setHBFS(double a, double b, long N, OpenNodeStore store) {
+        ref().setMove(new MoveBinaryHBFS(ref().getModel(), ref().getSearch(), a, b, N, store));
+    }
+
     /**
      * Creates a Move object that encapsulates the current move within a restart move.
      * Every time the <code>restartCriterion</code> is met, a restart is done, the new restart limit is updated
@@ -141,6 +161,37 @@ public interface IMoveFactory extends ISelf<Solver> {
         ref().setRestarts(restartStrategyLimit, new GeometricalCutoffStrategy(base, geometricalFactor), restartLimit);
     }
 
+    /**
+     * Creates a Move object that encapsulates the current move within a restart move.
+     * Restarts are not triggered on fixed counters but wrt runtime signals, observed by <code>restartCriterion</code>.
+     *
+     * @param restartCriterion the dynamic restart criterion
+     * @param restartsLimit    number of allowed restarts
+     * @see DynamicRestartCriterion#lbd(Solver)
+     * @see DynamicRestartCriterion#depth(Solver)
+     */
+    default void setDynamicRestart(DynamicRestartCriterion restartCriterion, int restartsLimit) {
+        ref().setRestarts(restartCriterion, new MonotonicRestartStrategy(1), restartsLimit, false);
+    }
+
+    /**
+     * Creates a Move object that interleaves <code>moves</code> within a single thread.
+     * The search is divided into slices, whose length is given by <code>sliceStrategy</code>
+     * and evaluated in <code>sliceCriterion</code>.
+     * Before each slice, a restart is done and the <code>policy</code> selects the move to run.
+     * Moves are rewarded wrt to the progress they made during their slices.
+     *
+     * @param policy         the move selection policy, should deal with as many arms as moves
+     * @param sliceCriterion the criterion which detects the end of a slice
+     * @param sliceStrategy  the way slice limit (evaluated in <code>sliceCriterion</code>) is updated
+     * @param moves          the moves to choose between, each of them with its own search strategy
+     * @see MoveBanditPortfolio
+     */
+    default void setBanditPortfolio(Policy policy, LongCriterion sliceCriterion, ICutoffStrategy sliceStrategy,
+                                    Move... moves) {
+        ref().setMove(new MoveBanditPortfolio(policy, sliceCriterion, sliceStrategy, moves));
+    }
+
     /**
      * Creates a Move object that encapsulates the current move within a restart move.
      * Every time a solution is found, a restart is done.
@@ -0,0 +1,310 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.move;
+
+import org.chocosolver.cutoffseq.ICutoffStrategy;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.objective.IObjectiveManager;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.bandit.Policy;
+import org.chocosolver.util.criteria.LongCriterion;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A single-threaded portfolio of {@link Move}s.
+ * <p>
+ * The search is divided into time slices, each slice being run by one of the declared moves (the arms).
+ * When the <code>criterion</code> is met, the current slice is over: the arm is rewarded wrt
+ * the progress it made, a restart is done and the <code>policy</code> designates the arm to run during
+ * the next slice.
+ * The length of the slices is given by a <code>sliceStrategy</code>.
+ * <p>
+ * The reward of a slice lies in [0,1] and combines:
+ * <ul>
+ *     <li>an improvement term, equal to 1 when a new (improving) solution has been found during the slice,</li>
+ *     <li>a reduction term, the relative reduction of the (logarithm of the) search space size at root node.</li>
+ * </ul>
+ * <p>
+ * Since every slice starts with a restart, all arms share what has been learnt so far
+ * (weights, activities, nogoods, objective cuts).
+ * When an arm is a {@link MoveLNS}, it is fed with the last solution found by the other arms.
+ * <p>
+ * The search is complete when the slices grow (e.g., with a Luby or a geometrical sequence)
+ * and at least one arm is complete.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class MoveBanditPortfolio implements Move {
+
+    /**
+     * Weight of the improvement term in a reward
+     */
+    private static final double IMPROVEMENT_WEIGHT = .5d;
+    /**
+     * The moves to choose between
+     */
+    private List<Move> moves;
+    /**
+     * The selection policy
+     */
+    private final Policy policy;
+    /**
+     * Defines the length of each slice
+     */
+    private final ICutoffStrategy sliceStrategy;
+    /**
+     * How to detect the end of a slice
+     */
+    private final LongCriterion criterion;
+    /**
+     * When the current slice ends
+     */
+    private long limit;
+    /**
+     * Index of the move in use
+     */
+    private int action;
+    /**
+     * Number of slices run so far
+     */
+    private int step;
+    /**
+     * Number of slices run by each move
+     */
+    private final int[] slices;
+    /**
+     * Number of solutions found at the beginning of the current slice
+     */
+    private long solutionsAtStart;
+    /**
+     * Best objective value known at the beginning of the current slice, if any
+     */
+    private Number boundAtStart;
+    /**
+     * Logarithm of the search space size at the beginning of the current slice
+     */
+    private double spaceAtStart;
+    /**
+     * Number of solutions found so far, used to detect new solutions
+     */
+    private long solutions;
+    /**
+     * Last solution found, to feed LNS moves
+     */
+    private Solution lastSolution;
+    /**
+     * Number of solutions seen by each move when it was last used
+     */
+    private final long[] seen;
+    /**
+     * Variables used to evaluate the search space
+     */
+    private IntVar[] vars;
+
+    /**
+     * Create a move which interleaves the execution of <code>moves</code> within a single thread.
+     *
+     * @param policy        the policy that selects a move for the next slice, should deal with
+     *                      as many arms as declared moves
+     * @param criterion     the criterion which detects the end of a slice
+     * @param sliceStrategy defines the length of each slice (evaluated in <code>criterion</code>)
+     * @param moves         the moves to choose between, each of them with its own search strategy
+     */
+    public MoveBanditPortfolio(Policy policy, LongCriterion criterion, ICutoffStrategy sliceStrategy, Move... moves) {
+        if (moves.length == 0) {
+            throw new IllegalArgumentException("At least one move is expected");
+        }
+        this.moves = Arrays.asList(moves);
+        this.policy = policy;
+        this.criterion = criterion;
+        this.sliceStrategy = sliceStrategy;
+        this.slices = new int[moves.length];
+        this.seen = new long[moves.length];
+    }
+
+    @Override
+    public boolean init() {
+        boolean init = true;
+        for (int i = 0; i < moves.size() && init; i++) {
+            init = moves.get(i).init();
+        }
+        policy.init();
+        step = 0;
+        action = policy.nextAction(step);
+        limit = sliceStrategy.getNextCutoff();
+        return init;
+    }
+
+    @Override
+    public boolean extend(Solver solver) {
+        if (vars == null) {
+            startSlice(solver);
+        }
+        boolean extend;
+        if (!criterion.isMet(limit)) {
+            extend = moves.get(action).extend(solver);
+        } else {
+            nextSlice(solver);
+            extend = true;
+        }
+        return extend;
+    }
+
+    @Override
+    public boolean repair(Solver solver) {
+        if (solutions < solver.getSolutionCount()) {
+            // the current node is a solution, record it for the other moves
+            solutions = solver.getSolutionCount();
+            if (lastSolution == null) {
+                lastSolution = new Solution(solver.getModel());
+            }
+            lastSolution.record();
+            seen[action] = solutions;
+        }
+        boolean repair;
+        if (!criterion.isMet(limit)) {
+            repair = moves.get(action).repair(solver);
+        } else {
+            nextSlice(solver);
+            repair = true;
+        }
+        return repair;
+    }
+
+    /**
+     * Close the current slice, reward the move in use, restart the search and select the next move.
+     *
+     * @param solver reference to the solver
+     */
+    private void nextSlice(Solver solver) {
+        slices[action]++;
+        step++;
+        limit += sliceStrategy.getNextCutoff();
+        solver.restart();
+        // evaluated after the restart, to benefit from the last objective cut
+        policy.update(action, reward(solver));
+        action = policy.nextAction(step);
+        Move next = moves.get(action);
+        if (next instanceof MoveLNS && seen[action] < solutions) {
+            ((MoveLNS) next).catchUp(lastSolution, solver);
+        }
+        seen[action] = solutions;
+        startSlice(solver);
+    }
+
+    /**
+     * Store what is needed to evaluate the reward of the slice to come.
+     *
+     * @param solver reference to the solver
+     */
+    private void startSlice(Solver solver) {
+        if (vars == null) {
+            vars = solver.getModel().retrieveIntVars(true);
+        }
+        solutionsAtStart = solver.getSolutionCount();
+        IObjectiveManager<?> om = solver.getObjectiveManager();
+        boundAtStart = om.isOptimization() ? om.getBestSolutionValue() : null;
+        spaceAtStart = logSearchSpaceSize();
+    }
+
+    /**
+     * Compute the reward of the slice that just ended.
+     * It has to be called at root node.
+     *
+     * @param solver reference to the solver
+     * @return the reward of the move in use, in [0,1]
+     */
+    protected double reward(Solver solver) {
+        double improvement = 0.;
+        if (solver.getSolutionCount() > solutionsAtStart) {
+            IObjectiveManager<?> om = solver.getObjectiveManager();
+            if (!om.isOptimization()
+                    || boundAtStart == null
+                    || !boundAtStart.equals(om.getBestSolutionValue())) {
+                improvement = 1.;
+            }
+        }
+        double reduction = 0.;
+        if (spaceAtStart > 0.) {
+            reduction = Math.max(0., (spaceAtStart - logSearchSpaceSize()) / spaceAtStart);
+        }
+        return IMPROVEMENT_WEIGHT * improvement + (1. - IMPROVEMENT_WEIGHT) * reduction;
+    }
+
+    /**
+     * @return the logarithm of the search space size
+     */
+    private double logSearchSpaceSize() {
+        double size = 0.;
+        for (int i = 0; i < vars.length; i++) {
+            size += Math.log(vars[i].getDomainSize());
+        }
+        return size;
+    }
+
+    /**
+     * @return index of the move currently in use
+     */
+    public int getCurrentMove() {
+        return action;
+    }
+
+    /**
+     * @param i index of a move
+     * @return number of slices run by the <i>i</i>-th move so far
+     */
+    public int getSliceCount(int i) {
+        return slices[i];
+    }
+
+    @Override
+    public void setTopDecisionPosition(int position) {
+        for (int i = 0; i < moves.size(); i++) {
+            moves.get(i).setTopDecisionPosition(position);
+        }
+    }
+
+    @Override
+    public <V extends Variable> AbstractStrategy<V> getStrategy() {
+        return moves.get(action).getStrategy();
+    }
+
+    @Override
+    public <V extends Variable> void setStrategy(AbstractStrategy<V> aStrategy) {
+        throw new UnsupportedOperationException("A portfolio Move does not support declaring search strategy in retrospect.\n" +
+                "It has to be done on each of it child nodes.");
+    }
+
+    @Override
+    public void removeStrategy() {
+        throw new UnsupportedOperationException("A portfolio Move does not support removing search strategy in retrospect.\n" +
+                "It has to be done on each of it child nodes.");
+    }
+
+    @Override
+    public List<Move> getChildMoves() {
+        return moves;
+    }
+
+    @Override
+    public void setChildMoves(List<Move> someMoves) {
+        if (someMoves.size() == moves.size()) {
+            this.moves = someMoves;
+        } else {
+            throw new UnsupportedOperationException("The number of child moves cannot be modified.");
+        }
+    }
+}
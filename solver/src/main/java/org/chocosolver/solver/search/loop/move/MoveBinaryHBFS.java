@@ -18,12 +18,10 @@ import org.chocosolver.solver.search.strategy.decision.Decision;
 import org.chocosolver.solver.search.strategy.decision.DecisionPath;
 import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
 import org.chocosolver.solver.variables.IntVar;
-import org.chocosolver.util.tools.ArrayUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.PriorityQueue;
 
 /**
  * A move dedicated to run an Hybrid Best-First Search[1] (HBFS) with binary decisions.
@@ -33,6 +31,10 @@ import java.util.PriorityQueue;
  * <p>
  * It restarts anytime a backtrack limit is reached and a new open right branch needs to be selected.
  * <p>
+ * Open right branches are kept in an {@link OpenNodeStore}, which may be bounded in memory.
+ * When some of them have been evicted and no open right branch remains,
+ * the search goes on with a DFS from the root node, without backtrack limit, to ensure completeness.
+ * <p>
  * Created by cprudhom on 02/11/2015.
  * Project: choco.
  * @author Charles Prud'homme
@@ -86,7 +88,7 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
     /**
      * list of open right branches.
      */
-    private PriorityQueue<Open> opens;
+    private final OpenNodeStore opens;
 
     /**
      * Current open right branch.
@@ -117,10 +119,24 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
      * @param N maximum number of backtracks to not exceed when updating node recomputation parameters.
      */
     public MoveBinaryHBFS(Model model, AbstractStrategy strategy, double a, double b, long N) {
+        this(model, strategy, a, b, N, new OpenNodeStore(OpenNodeStore.MAX_CAPACITY));
+    }
+
+    /**
+     * Create a move dedicated to run an Hybrid Best-First Search[1] (HBFS) with binary decisions,
+     * with open right branches stored in <i>store</i>.
+     * @param model a model
+     * @param strategy the search strategy to use
+     * @param a lower bound to limit the rate of redundantly propagated decisions.
+     * @param b upper bound to limit the rate of redundantly propagated decisions.
+     * @param N maximum number of backtracks to not exceed when updating node recomputation parameters.
+     * @param store where open right branches are stored
+     */
+    public MoveBinaryHBFS(Model model, AbstractStrategy strategy, double a, double b, long N, OpenNodeStore store) {
         super(strategy);
         this.mModel = model;
         this.dfslimit = new BacktrackCounter(model, N);
-        this.opens = new PriorityQueue<>();
+        this.opens = store;
         this.copen = new Decision[0];
         this.current = 0;
         this.Z = 1;
@@ -139,6 +155,7 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
             throw new UnsupportedOperationException("HBFS is not adapted to satisfaction problems.");
         }
         isMinimization = objectiveManager.getPolicy() == ResolutionPolicy.MINIMIZE;
+        opens.init(isMinimization);
         return init;
     }
 
@@ -190,19 +207,20 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
             extractOB(solver, i);
         }
         // finally, get the best ORB to keep up the search
-        Open next = opens.poll();
-        while (next != null && !isValid(next.currentBound())) {
-            next = opens.poll();
+        while (!opens.isEmpty() && !isValid(opens.bestBound())) {
+            opens.drop();
         }
-        if (next != null) {
-            copen = next.toArray();
-            // the decision in 0 is the last taken, then the array us reversed
-            ArrayUtils.reverse(copen);
+        if (!opens.isEmpty()) {
+            copen = opens.poll();
             current = 0;
             nodesRecompute = solver.getNodeCount() + copen.length;
         } else{
             // to be sure not to use the previous path
             current = copen.length;
+            if (opens.getNbEvicted() > 0) {
+                // some parts of the search tree are lost, run a complete DFS from the root node
+                limit = Long.MAX_VALUE;
+            }
         }
         // then do the restart
         solver.restart();
@@ -252,7 +270,7 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
                     objectiveManager.getObjective().getLB() :
                     objectiveManager.getObjective().getUB();
             if (decision.hasNext() && isValid(bound)) {
-                opens.add(new Open(decision, dp, bound, isMinimization));
+                opens.push(decision, dp, topDecisionPosition, bound);
             }
             dp.synchronize();
             decision = dp.getLastDecision();
@@ -260,6 +278,13 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
         }
     }
 
+    /**
+     * @return the store of open right branches, to get metrics about it
+     */
+    public OpenNodeStore getOpenNodeStore() {
+        return opens;
+    }
+
     /**
      * If the bound of an O.R.B exceed the best known so far, it returns false.
      * @param bound the current bound of an O.R.B.
@@ -270,83 +295,4 @@ public class MoveBinaryHBFS extends MoveBinaryDFS {
                 bound < objectiveManager.getBestUB().intValue() :
                 bound > objectiveManager.getBestLB().intValue();
     }
-
-    /**
-     * A class to represent an open right branch, from which the search can be kept up.
-     */
-    private class Open implements Comparable<Open> {
-
-        /**
-         * List of open decisions
-         */
-        private List<Decision> path;
-        /**
-         * store the current lower bound of the decision path for minimization
-         */
-        private int currentBound;
-        /**
-         * 1 for minimization, -1 for maximization
-         */
-        private byte minimization;
-
-        /**
-         * Create an open right branch for HBFS
-         *
-         * @param decision      an open decision in <i>decisionPath</i>
-         * @param decisionPath  the current decision path
-         * @param currentBound current lower (resp. upper) bound of the objective value for mimimization (resp. maximization)
-         * @param minimization set to <tt>true</tt> for minimization
-         */
-        public Open(Decision decision, DecisionPath decisionPath, int currentBound, boolean minimization) {
-            this.path = new ArrayList<>();
-            while (decision.getPosition() != topDecisionPosition) {
-                Decision d = decision.duplicate();
-                while (decision.triesLeft() != d.triesLeft() - 1) {
-                    d.buildNext();
-                }
-                path.add(d);
-                decision = decisionPath.getDecision(decision.getPosition() -1);
-            }
-            this.currentBound = currentBound;
-            this.minimization = (byte) (minimization ? 1 : -1);
-        }
-
-        /**
-         * Return the current decision path that can be extended
-         * @return an array of decisions
-         */
-        public Decision[] toArray() {
-            return path.toArray(new Decision[0]);
-        }
-
-        /**
-         * Return the current bound of this open right branch
-         * @return the current bound of this
-         */
-        public int currentBound() {
-            return currentBound;
-        }
-
-        @Override
-        public int compareTo(Open o) {
-            // the minimum lower bound
-            int clb = minimization * (currentBound - o.currentBound);
-            if (clb == 0) {
-                // the maximum depth
-                return (o.path.size() - path.size());
-            } else {
-                return clb;
-            }
-        }
-
-        @Override
-        public String toString() {
-            StringBuilder st = new StringBuilder();
-            st.append('[').append(currentBound).append(']');
-            for(int i = path.size() - 1;i > -1 ; i--){
-                st.append(path.get(i)).append(',');
-            }
-            return st.toString();
-        }
-    }
 }
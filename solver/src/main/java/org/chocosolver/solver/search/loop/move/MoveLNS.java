@@ -249,6 +249,21 @@ public class MoveLNS implements Move {
         }
     }
 
+    /**
+     * Catch up with solutions found by another move sharing the same solver
+     * while this one was idle, as in {@link MoveBanditPortfolio}.
+     * Has to be called right after a restart.
+     * @param solution the last solution found
+     * @param solver that manages the LNS
+     */
+    void catchUp(Solution solution, Solver solver) {
+        neighbor.loadFromSolution(solution);
+        solutionLoaded = true;
+        solutions = solver.getSolutionCount();
+        freshRestart = true;
+        counter.overrideLimit(counter.currentValue() + frequency);
+    }
+
     @Override
     public void setTopDecisionPosition(int position) {
         move.setTopDecisionPosition(position);
@@ -0,0 +1,579 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.move;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.decision.DecisionMaker;
+import org.chocosolver.solver.search.strategy.decision.DecisionPath;
+import org.chocosolver.solver.search.strategy.decision.IntDecision;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.sort.ArraySort;
+import org.chocosolver.util.sort.IntComparator;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A bounded-memory store of open right branches, dedicated to {@link MoveBinaryHBFS}.
+ * <p>
+ * Each open node is the decision path that leads to it, encoded as primitive integers
+ * (three words per decision: variable, operator and refutation state, value)
+ * in a single arena. The arena is either on the Java heap or mapped to a file.
+ * Nodes are ordered in a binary heap wrt their objective bound, then their depth (deepest first).
+ * <p>
+ * When the arena is full, the least promising quarter of the nodes is evicted.
+ * Since evicted nodes are lost, the owner has to ensure completeness by other means
+ * (see {@link #getNbEvicted()}).
+ * <p>
+ * Other decisions are duplicated and kept on heap, the arena only refers to them.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class OpenNodeStore {
+
+    /**
+     * Largest arena, in words
+     */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    /**
+     * Number of words needed to encode a decision
+     */
+    private static final int WORDS = 3;
+    /**
+     * Initial arena size, in words, when allocated on heap
+     */
+    private static final int INIT_SIZE = 1 << 10;
+    /**
+     * Maximum number of words in the arena
+     */
+    private final int capacity;
+    /**
+     * Encoded decision paths
+     */
+    private IntBuffer arena;
+    /**
+     * Set to true when the arena is mapped to a file
+     */
+    private final boolean mapped;
+    /**
+     * Next free position in the arena
+     */
+    private int top;
+    /**
+     * Number of words used by open nodes (the others are wasted until next compaction)
+     */
+    private int live;
+    /**
+     * Objective bound of each node, indexed by slot
+     */
+    private int[] bounds;
+    /**
+     * Number of decisions of each node, indexed by slot
+     */
+    private int[] depths;
+    /**
+     * Position in the arena of each node, indexed by slot
+     */
+    private int[] offsets;
+    /**
+     * Slots available
+     */
+    private int[] free;
+    /**
+     * Number of slots in {@link #free}
+     */
+    private int nbFree;
+    /**
+     * Number of slots ever created
+     */
+    private int nbSlots;
+    /**
+     * Binary heap of slots
+     */
+    private int[] heap;
+    /**
+     * Number of nodes in {@link #heap}
+     */
+    private int size;
+    /**
+     * 1 for minimization, -1 for maximization
+     */
+    private int sign = 1;
+    /**
+     * Map a variable's id to its index in {@link #vars}
+     */
+    private final TIntIntHashMap varIdx;
+    /**
+     * Variables appearing in decisions
+     */
+    private final List<IntVar> vars;
+    /**
+     * Decision operators appearing in decisions
+     */
+    private final List<DecisionOperator<IntVar>> ops;
+    /**
+     * Duplicates of the stored decisions which are not {@link IntDecision}s
+     */
+    private final List<Decision<?>> others;
+    /**
+     * Positions available in {@link #others}
+     */
+    private int[] freeOthers;
+    /**
+     * Number of positions in {@link #freeOthers}
+     */
+    private int nbFreeOthers;
+    /**
+     * To re-create decisions
+     */
+    private final DecisionMaker decisionMaker;
+    /**
+     * Order on slots, the most promising first
+     */
+    private final IntComparator priority = (s1, s2) -> {
+        int c = sign * Integer.compare(bounds[s1], bounds[s2]);
+        return c == 0 ? Integer.compare(depths[s2], depths[s1]) : c;
+    };
+    /**
+     * Number of nodes stored so far
+     */
+    private long nbStored;
+    /**
+     * Number of nodes evicted so far
+     */
+    private long nbEvicted;
+    /**
+     * Number of nodes restored so far
+     */
+    private long nbRestored;
+    /**
+     * Number of decisions re-created so far
+     */
+    private long nbRecreated;
+    /**
+     * Maximum number of nodes stored at the same time
+     */
+    private int peakSize;
+    /**
+     * Maximum number of words used at the same time
+     */
+    private int peakWords;
+
+    /**
+     * Create an on-heap store of open nodes, its arena grows on demand up to <i>capacity</i>.
+     *
+     * @param capacity maximum number of words (4 bytes each) used to store open nodes,
+     *                 three words are needed per decision
+     */
+    public OpenNodeStore(int capacity) {
+        this(capacity, null);
+    }
+
+    /**
+     * Create a store of open nodes.
+     * If <i>file</i> is not null, the arena is mapped into it, so that the encoded decision paths
+     * are paged out of the Java heap by the operating system.
+     * The file is created if needed and its size is set to <i>capacity</i> words.
+     *
+     * @param capacity maximum number of words (4 bytes each) used to store open nodes,
+     *                 three words are needed per decision
+     * @param file     file to map the arena into, or <i>null</i> to allocate it on heap
+     */
+    public OpenNodeStore(int capacity, Path file) {
+        if (capacity < WORDS || capacity > MAX_CAPACITY) {
+            throw new SolverException("Invalid capacity for open node store: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mapped = file != null;
+        if (mapped) {
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                this.arena = channel.map(FileChannel.MapMode.READ_WRITE, 0, 4L * capacity).asIntBuffer();
+            } catch (IOException e) {
+                throw new SolverException("Unable to map open node store into " + file + ": " + e.getMessage());
+            }
+        } else {
+            this.arena = IntBuffer.allocate(Math.min(capacity, INIT_SIZE));
+        }
+        this.bounds = new int[16];
+        this.depths = new int[16];
+        this.offsets = new int[16];
+        this.free = new int[16];
+        this.heap = new int[16];
+        this.varIdx = new TIntIntHashMap(16, .5f, -1, -1);
+        this.vars = new ArrayList<>();
+        this.ops = new ArrayList<>();
+        this.others = new ArrayList<>();
+        this.freeOthers = new int[16];
+        this.decisionMaker = new DecisionMaker();
+    }
+
+    /**
+     * Empty the store and set the optimization direction.
+     *
+     * @param minimization set to <i>true</i> when the lowest bounds are the most promising ones
+     */
+    public void init(boolean minimization) {
+        this.sign = minimization ? 1 : -1;
+        this.size = 0;
+        this.nbSlots = 0;
+        this.nbFree = 0;
+        this.top = 0;
+        this.live = 0;
+        this.others.clear();
+        this.nbFreeOthers = 0;
+    }
+
+    /**
+     * Store the open node defined by <i>decision</i> and its ancestors in <i>decisionPath</i>,
+     * up to the decision at position <i>topDecisionPosition</i> (excluded).
+     * The decisions are stored in a state such that, once pushed back into a decision path,
+     * <i>decision</i> will be refuted.
+     *
+     * @param decision            an open decision in <i>decisionPath</i>
+     * @param decisionPath        the current decision path
+     * @param topDecisionPosition position of the first decision not to store
+     * @param bound               current lower (resp. upper) bound of the objective for minimization
+     *                            (resp. maximization)
+     * @return <i>false</i> if the node is too large to be stored
+     */
+    public boolean push(Decision<?> decision, DecisionPath decisionPath, int topDecisionPosition, int bound) {
+        int depth = decision.getPosition() - topDecisionPosition;
+        if ((long) depth * WORDS > capacity) {
+            nbEvicted++;
+            return false;
+        }
+        int words = depth * WORDS;
+        reserve(words);
+        int slot = newSlot();
+        bounds[slot] = bound;
+        depths[slot] = depth;
+        offsets[slot] = top;
+        while (decision.getPosition() != topDecisionPosition) {
+            encode(decision);
+            decision = decisionPath.getDecision(decision.getPosition() - 1);
+        }
+        live += words;
+        nbStored++;
+        // sift up, as java.util.PriorityQueue does
+        int k = size++;
+        while (k > 0) {
+            int parent = (k - 1) >>> 1;
+            if (priority.compare(slot, heap[parent]) >= 0) {
+                break;
+            }
+            heap[k] = heap[parent];
+            k = parent;
+        }
+        heap[k] = slot;
+        peakSize = Math.max(peakSize, size);
+        peakWords = Math.max(peakWords, live);
+        return true;
+    }
+
+    /**
+     * @return <i>true</i> if no open node is stored
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the bound of the most promising open node, the store must not be empty
+     */
+    public int bestBound() {
+        return bounds[heap[0]];
+    }
+
+    /**
+     * Remove the most promising open node without restoring it, the store must not be empty.
+     */
+    public void drop() {
+        release(removeFirst());
+    }
+
+    /**
+     * Remove the most promising open node and restore its decision path, the store must not be empty.
+     *
+     * @return the decisions leading to the open node, from the top to the bottom
+     */
+    public Decision<?>[] poll() {
+        int slot = removeFirst();
+        int depth = depths[slot];
+        Decision<?>[] path = new Decision[depth];
+        // decisions are encoded from the bottom to the top
+        for (int i = 0, p = offsets[slot] + (depth - 1) * WORDS; i < depth; i++, p -= WORDS) {
+            int v = arena.get(p);
+            int info = arena.get(p + 1);
+            Decision<?> d;
+            if (v < 0) {
+                d = others.get(-1 - v);
+            } else {
+                d = decisionMaker.makeIntDecision(vars.get(v), ops.get(info >>> 1), arena.get(p + 2));
+            }
+            if ((info & 1) == 1) {
+                d.buildNext();
+            }
+            path[i] = d;
+        }
+        release(slot);
+        nbRestored++;
+        nbRecreated += depth;
+        return path;
+    }
+
+    private int removeFirst() {
+        int result = heap[0];
+        int n = --size;
+        if (n > 0) {
+            // sift down, as java.util.PriorityQueue does
+            int x = heap[n];
+            int k = 0;
+            int half = n >>> 1;
+            while (k < half) {
+                int child = (k << 1) + 1;
+                int c = heap[child];
+                int right = child + 1;
+                if (right < n && priority.compare(c, heap[right]) > 0) {
+                    c = heap[child = right];
+                }
+                if (priority.compare(x, c) <= 0) {
+                    break;
+                }
+                heap[k] = c;
+                k = child;
+            }
+            heap[k] = x;
+        }
+        return result;
+    }
+
+    private void encode(Decision<?> decision) {
+        if (!(decision instanceof IntDecision)) {
+            // kept on heap, and referred to by a negative index
+            int i = nbFreeOthers > 0 ? freeOthers[--nbFreeOthers] : others.size();
+            if (i == others.size()) {
+                others.add(decision.duplicate());
+            } else {
+                others.set(i, decision.duplicate());
+            }
+            arena.put(top++, -1 - i);
+            arena.put(top++, Math.max(0, 1 - decision.triesLeft()));
+            arena.put(top++, 0);
+            return;
+        }
+        IntDecision dec = (IntDecision) decision;
+        IntVar var = dec.getDecisionVariable();
+        int v = varIdx.get(var.getId());
+        if (v == -1) {
+            v = vars.size();
+            vars.add(var);
+            varIdx.put(var.getId(), v);
+        }
+        int o = ops.indexOf(dec.getDecOp());
+        if (o == -1) {
+            o = ops.size();
+            ops.add(dec.getDecOp());
+        }
+        // the decision is restored with one tries more than the current one
+        arena.put(top++, v);
+        arena.put(top++, (o << 1) | Math.max(0, 1 - decision.triesLeft()));
+        arena.put(top++, dec.getDecisionValue());
+    }
+
+    private int newSlot() {
+        if (nbFree > 0) {
+            return free[--nbFree];
+        }
+        if (nbSlots == bounds.length) {
+            int n = nbSlots * 3 / 2 + 1;
+            bounds = Arrays.copyOf(bounds, n);
+            depths = Arrays.copyOf(depths, n);
+            offsets = Arrays.copyOf(offsets, n);
+            free = Arrays.copyOf(free, n);
+            heap = Arrays.copyOf(heap, n);
+        }
+        return nbSlots++;
+    }
+
+    private void release(int slot) {
+        forget(slot);
+        live -= depths[slot] * WORDS;
+        free[nbFree++] = slot;
+        if (size == 0) {
+            top = live = 0;
+        }
+    }
+
+    /**
+     * Release the decisions of the node in <i>slot</i> kept on heap, if any.
+     */
+    private void forget(int slot) {
+        if (nbFreeOthers == others.size()) {
+            return;
+        }
+        for (int i = 0, p = offsets[slot]; i < depths[slot]; i++, p += WORDS) {
+            int v = arena.get(p);
+            if (v < 0) {
+                others.set(-1 - v, null);
+                if (nbFreeOthers == freeOthers.length) {
+                    freeOthers = Arrays.copyOf(freeOthers, others.size());
+                }
+                freeOthers[nbFreeOthers++] = -1 - v;
+            }
+        }
+    }
+
+    /**
+     * Make sure <i>words</i> words can be appended to the arena,
+     * evicting least promising nodes if needed.
+     */
+    private void reserve(int words) {
+        if (top + words <= arena.capacity()) {
+            return;
+        }
+        while (live + words > capacity) {
+            evict();
+        }
+        compact();
+        if (top + words > arena.capacity()) {
+            // only on-heap arena can be here
+            int n = (int) Math.min(capacity, Math.max(2L * arena.capacity(), (long) top + words));
+            int[] data = Arrays.copyOf(arena.array(), n);
+            arena = IntBuffer.wrap(data);
+        }
+    }
+
+    /**
+     * Evict the least promising quarter of the nodes.
+     */
+    private void evict() {
+        new ArraySort<>(size, false, true).sort(heap, size, priority);
+        // a sorted array is a valid heap
+        int k = Math.max(1, size / 4);
+        for (int i = size - k; i < size; i++) {
+            forget(heap[i]);
+            live -= depths[heap[i]] * WORDS;
+            free[nbFree++] = heap[i];
+        }
+        size -= k;
+        nbEvicted += k;
+    }
+
+    /**
+     * Move the open nodes to the beginning of the arena.
+     */
+    private void compact() {
+        int[] order = Arrays.copyOf(heap, size);
+        new ArraySort<>(size, false, true).sort(order, size, (s1, s2) -> Integer.compare(offsets[s1], offsets[s2]));
+        int dst = 0;
+        for (int i = 0; i < size; i++) {
+            int s = order[i];
+            int src = offsets[s];
+            int n = depths[s] * WORDS;
+            if (src != dst) {
+                for (int j = 0; j < n; j++) {
+                    arena.put(dst + j, arena.get(src + j));
+                }
+                offsets[s] = dst;
+            }
+            dst += n;
+        }
+        top = live = dst;
+    }
+
+    /**
+     * @return number of open nodes currently stored
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return maximum number of words the arena can hold
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return <i>true</i> if the arena is mapped to a file
+     */
+    public boolean isMapped() {
+        return mapped;
+    }
+
+    /**
+     * @return number of words currently used by open nodes
+     */
+    public int getWords() {
+        return live;
+    }
+
+    /**
+     * @return number of open nodes stored so far
+     */
+    public long getNbStored() {
+        return nbStored;
+    }
+
+    /**
+     * @return number of open nodes evicted (or rejected because too large) so far
+     */
+    public long getNbEvicted() {
+        return nbEvicted;
+    }
+
+    /**
+     * @return number of open nodes restored so far
+     */
+    public long getNbRestored() {
+        return nbRestored;
+    }
+
+    /**
+     * @return number of decisions re-created to restore open nodes so far,
+     * that is the cost of the recomputation of open nodes
+     */
+    public long getNbRecreatedDecisions() {
+        return nbRecreated;
+    }
+
+    /**
+     * @return maximum number of open nodes stored at the same time
+     */
+    public int getPeakSize() {
+        return peakSize;
+    }
+
+    /**
+     * @return maximum number of words used at the same time
+     */
+    public int getPeakWords() {
+        return peakWords;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d open nodes (%d words), peak: %d nodes (%d words), " +
+                        "stored: %d, evicted: %d, restored: %d (%d decisions re-created)",
+                size, live, peakSize, peakWords, nbStored, nbEvicted, nbRestored, nbRecreated);
+    }
+}
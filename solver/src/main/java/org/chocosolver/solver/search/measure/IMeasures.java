@@ -50,6 +50,18 @@ public interface IMeasures extends Serializable {
      */
     long getTimeCountInNanoSeconds();
 
+    /**
+     * @return the time count (in seconds) since the last restart, or since the beginning of the search
+     */
+    default float getTimeCountSinceLastRestart() {
+        return getTimeCountSinceLastRestartInNanoSeconds() / IN_SEC;
+    }
+
+    /**
+     * @return the time count (in nano seconds) since the last restart, or since the beginning of the search
+     */
+    long getTimeCountSinceLastRestartInNanoSeconds();
+
     /**
      * @return the time count (in seconds), including initial propagation time count
      */
@@ -124,6 +136,44 @@ public interface IMeasures extends Serializable {
      */
     long getCurrentDepth();
 
+    /**
+     * Estimate the fraction of the search tree explored so far, since the last restart.
+     * Each leaf (failure or solution) met at depth <i>d</i> counts for 2<sup>-d</sup>,
+     * assuming binary branching.
+     *
+     * @return the estimated search progress, in [0,1]
+     */
+    double getSearchProgress();
+
+    /**
+     * Estimate the number of nodes of the search tree, since the last restart,
+     * with a weighted backtrack estimator [1]: each leaf met at depth <i>d</i> provides
+     * an estimation of 2<sup>d+1</sup>-1 nodes, weighted by 2<sup>-d</sup>.
+     * <p>
+     * [1]: P. Kilby, J. Slaney, S. Thiébaux, T. Walsh, Estimating Search Tree Size, AAAI-06.
+     *
+     * @return the estimated search tree size, or the node count if no leaf has been met yet
+     */
+    double getTreeSizeEstimate();
+
+    /**
+     * Estimate the number of nodes of the search tree, since the last restart,
+     * from the depth of the leaves met so far: assuming binary branching,
+     * a leaf met at depth <i>d</i> is the leaf of a complete tree of 2<sup>d+1</sup>-1 nodes,
+     * these sizes are averaged over the leaves.
+     * <p>
+     * Unlike Knuth's estimator, the leaves are the ones reached by the search, not random probes,
+     * so the estimate is biased toward the part of the tree already explored.
+     *
+     * @return the estimated search tree size, or the node count if no leaf has been met yet
+     */
+    double getLeafDepthTreeSizeEstimate();
+
+    /**
+     * @return the maximum number of nodes stored in the implication graph, when learning is enabled
+     */
+    long getImplicationGraphPeakSize();
+
     /**
      * @return true iff the problem has an objective variable (i.e. optimization problem)
      */
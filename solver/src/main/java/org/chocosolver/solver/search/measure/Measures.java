@@ -107,6 +107,31 @@ public class Measures implements IMeasures, Cloneable {
      */
     protected long backjumpCount;
 
+    /**
+     * Number of leaves met since the last restart
+     */
+    protected long leafCount;
+
+    /**
+     * Sum of 2^-d over the leaves met since the last restart, d being the depth of a leaf
+     */
+    protected double exploredMass;
+
+    /**
+     * Sum of 2^(d+1)-1 over the leaves met since the last restart, d being the depth of a leaf
+     */
+    protected double leafTreeSum;
+
+    /**
+     * Time count (in nanoseconds) at the last restart
+     */
+    protected long restartTimeCount;
+
+    /**
+     * Maximum number of nodes stored in the implication graph
+     */
+    protected long implicationGraphPeakSize;
+
     //***********************************************************************************
     // CONSTRUCTOR
     //***********************************************************************************
@@ -141,6 +166,13 @@ public class Measures implements IMeasures, Cloneable {
         failCount = measures.getFailCount();
         depth = measures.getCurrentDepth();
         maxDepth = measures.getMaxDepth();
+        implicationGraphPeakSize = measures.getImplicationGraphPeakSize();
+        if (measures instanceof Measures) {
+            leafCount = ((Measures) measures).leafCount;
+            exploredMass = ((Measures) measures).exploredMass;
+            leafTreeSum = ((Measures) measures).leafTreeSum;
+            restartTimeCount = ((Measures) measures).restartTimeCount;
+        }
     }
 
     //****************************************************************************************************************//
@@ -179,6 +211,11 @@ public class Measures implements IMeasures, Cloneable {
         return timeCount;
     }
 
+    @Override
+    public final long getTimeCountSinceLastRestartInNanoSeconds() {
+        return getTimeCountInNanoSeconds() - restartTimeCount;
+    }
+
     @Override
     public long getTimeToBestSolutionInNanoSeconds() {
         return timeToBestSolution;
@@ -205,6 +242,32 @@ public class Measures implements IMeasures, Cloneable {
         return depth;
     }
 
+    @Override
+    public final double getSearchProgress() {
+        return Math.min(1., exploredMass);
+    }
+
+    @Override
+    public final double getTreeSizeEstimate() {
+        if (leafCount == 0) {
+            return nodeCount;
+        }
+        return (2. * leafCount - exploredMass) / exploredMass;
+    }
+
+    @Override
+    public final double getLeafDepthTreeSizeEstimate() {
+        if (leafCount == 0) {
+            return nodeCount;
+        }
+        return leafTreeSum / leafCount;
+    }
+
+    @Override
+    public final long getImplicationGraphPeakSize() {
+        return implicationGraphPeakSize;
+    }
+
     @Override
     public final boolean isObjectiveOptimal() {
         return objectiveOptimal;
@@ -117,6 +117,8 @@ public final class MeasuresRecorder extends Measures {
         restartCount = 0;
         depth = 0;
         maxDepth = 0;
+        implicationGraphPeakSize = 0;
+        resetTreeSizeEstimates();
     }
 
     //****************************************************************************************************************//
@@ -175,6 +177,34 @@ public final class MeasuresRecorder extends Measures {
     }
 
 
+    /**
+     * Record a leaf of the search tree, that is, a failure or a solution, to estimate the search tree size.
+     * @param depth depth of the leaf
+     */
+    public final void recordLeaf(int depth) {
+        leafCount++;
+        exploredMass += Math.scalb(1., -depth);
+        leafTreeSum += Math.scalb(1., depth + 1) - 1.;
+    }
+
+    /**
+     * Forget the leaves met so far, for instance on restart since the search tree is not the same anymore
+     */
+    public final void resetTreeSizeEstimates() {
+        leafCount = 0;
+        exploredMass = 0.;
+        leafTreeSum = 0.;
+        restartTimeCount = getTimeCountInNanoSeconds();
+    }
+
+    /**
+     * Update the maximum number of nodes stored in the implication graph
+     * @param size the current number of nodes, if greater than the previous maximum
+     */
+    public final void setImplicationGraphPeakSize(long size) {
+        implicationGraphPeakSize = size;
+    }
+
     /**
      * Update the current search state
      * @param state new search state
@@ -0,0 +1,226 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.restart;
+
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.learn.LearnSignedClauses;
+import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
+import org.chocosolver.util.criteria.LongCriterion;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A restart criterion based on runtime signals, inspired by Glucose [1].
+ * <p>
+ * On each failure, a signal (e.g., the LBD of the learnt clause) is evaluated.
+ * A restart is triggered when the moving average of the last <i>window</i> signals,
+ * multiplied by <i>k</i>, is greater than the average of all signals.
+ * That is, when recent failures are of lower quality than usual.
+ * <br/>
+ * Restarts are blocked when the current depth is greater than <i>r</i> times
+ * the moving average of the depths of the last failures, that is,
+ * when the search is presumably close to a solution.
+ * <br/>
+ * Without learning, completeness is ensured by a minimal number of failures between two restarts
+ * that grows geometrically.
+ * <p>
+ * The value given to {@link #isMet(long)} is ignored, this criterion is meant to be combined
+ * with a {@link MonotonicRestartStrategy} in a {@link org.chocosolver.solver.search.loop.move.MoveRestart}.
+ * <p>
+ * [1]: G. Audemard, L. Simon, Refining Restarts Strategies for SAT and UNSAT, CP-12.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class DynamicRestartCriterion implements LongCriterion, IMonitorRestart {
+
+    /**
+     * The solver to observe
+     */
+    private final Solver solver;
+    /**
+     * The signal to evaluate on each failure
+     */
+    private final ToDoubleFunction<Solver> signal;
+    /**
+     * Recent signals (circular)
+     */
+    private final double[] signals;
+    /**
+     * Recent depths (circular)
+     */
+    private final double[] depths;
+    /**
+     * Ratio between recent and global averages
+     */
+    private final double k;
+    /**
+     * Ratio to block restarts
+     */
+    private final double r;
+    /**
+     * Position of the next signal in {@link #signals}
+     */
+    private int sHead;
+    /**
+     * Number of signals in {@link #signals}
+     */
+    private int sSize;
+    /**
+     * Sum of signals in {@link #signals}
+     */
+    private double sSum;
+    /**
+     * Position of the next depth in {@link #depths}
+     */
+    private int dHead;
+    /**
+     * Number of depths in {@link #depths}
+     */
+    private int dSize;
+    /**
+     * Sum of depths in {@link #depths}
+     */
+    private double dSum;
+    /**
+     * Sum of all signals
+     */
+    private double gSum;
+    /**
+     * Number of all signals
+     */
+    private long gCount;
+    /**
+     * Number of failures already taken into account
+     */
+    private long fails;
+    /**
+     * Number of failures since the last restart
+     */
+    private long sinceRestart;
+    /**
+     * Minimal number of failures between two restarts
+     */
+    private double gap;
+    /**
+     * Growth factor of {@link #gap}
+     */
+    private final double growth;
+
+    /**
+     * Create a restart criterion based on moving averages of <i>signal</i>.
+     *
+     * @param solver the solver to observe
+     * @param signal the signal to evaluate on each failure, the greater the worse
+     * @param window size of the window of recent signals (Glucose's default is 50)
+     * @param k      ratio between recent and global averages (Glucose's default is 0.8)
+     * @param block  size of the window of recent depths, to block restarts (Glucose's default is 5000)
+     * @param r      ratio to block restarts (Glucose's default is 1.4)
+     * @param growth growth factor of the minimal number of failures between two restarts, initially set to
+     *               <i>window</i>, should be greater than 1 to ensure completeness when learning is off
+     */
+    public DynamicRestartCriterion(Solver solver, ToDoubleFunction<Solver> signal,
+                                   int window, double k, int block, double r, double growth) {
+        this.solver = solver;
+        this.signal = signal;
+        this.signals = new double[window];
+        this.depths = new double[block];
+        this.k = k;
+        this.r = r;
+        this.gap = window;
+        this.growth = growth;
+        this.fails = solver.getFailCount();
+        solver.plugMonitor(this);
+    }
+
+    /**
+     * Create a restart criterion based on the LBD (Literal Block Distance) of the learnt signed clauses.
+     * Learning must be enabled.
+     *
+     * @param solver the solver to observe
+     * @return a restart criterion
+     * @see org.chocosolver.solver.search.loop.learn.ILearnFactory#setLearningSignedClauses()
+     */
+    public static DynamicRestartCriterion lbd(Solver solver) {
+        return new DynamicRestartCriterion(solver, s -> {
+            if (!(s.getLearner() instanceof LearnSignedClauses)) {
+                throw new SolverException("LBD-based restarts require learning signed clauses");
+            }
+            return ((LearnSignedClauses<?>) s.getLearner()).getExplanation().getLBD();
+        }, 50, .8, 5000, 1.4, 1.);
+    }
+
+    /**
+     * Create a restart criterion based on the depth of failures.
+     * Failures that occur deeper than usual indicate that search is stuck in a large subtree.
+     *
+     * @param solver the solver to observe
+     * @return a restart criterion
+     */
+    public static DynamicRestartCriterion depth(Solver solver) {
+        return new DynamicRestartCriterion(solver,
+                s -> s.getDecisionPath().size(),
+                50, .8, 5000, 1.4, 1.1);
+    }
+
+    @Override
+    public boolean isMet(long value) {
+        if (fails < solver.getFailCount()) {
+            fails = solver.getFailCount();
+            sinceRestart++;
+            onFailure();
+        }
+        return sinceRestart >= gap && sSize == signals.length && sSum / sSize * k > gSum / gCount;
+    }
+
+    /**
+     * Record the signal and the depth of the last failure.
+     */
+    private void onFailure() {
+        double s = signal.applyAsDouble(solver);
+        gSum += s;
+        gCount++;
+        double d = solver.getDecisionPath().size();
+        // block restarts when the search is presumably close to a solution
+        if (gCount > depths.length && sSize == signals.length && dSize == depths.length
+                && d > r * dSum / dSize) {
+            clearSignals();
+        }
+        if (dSize == depths.length) {
+            dSum -= depths[dHead];
+        } else {
+            dSize++;
+        }
+        depths[dHead] = d;
+        dSum += d;
+        dHead = (dHead + 1) % depths.length;
+        if (sSize == signals.length) {
+            sSum -= signals[sHead];
+        } else {
+            sSize++;
+        }
+        signals[sHead] = s;
+        sSum += s;
+        sHead = (sHead + 1) % signals.length;
+    }
+
+    private void clearSignals() {
+        sHead = sSize = 0;
+        sSum = 0.;
+    }
+
+    @Override
+    public void afterRestart() {
+        clearSignals();
+        sinceRestart = 0;
+        gap *= growth;
+    }
+}
@@ -82,6 +82,20 @@ public class GraphDecision extends Decision<GraphVar> {
 		poolManager.returnE(this);
 	}
 
+	@Override
+	public GraphDecision duplicate() {
+		GraphDecision d = poolManager.getE();
+		if (d == null) {
+			d = new GraphDecision(poolManager);
+		}
+		if (to == -1) {
+			d.setNode(var, from, assignment);
+		} else {
+			d.setEdge(var, from, to, assignment);
+		}
+		return d;
+	}
+
 	@Override
 	public String toString() {
 		if (to == -1) {
@@ -95,6 +95,16 @@ public class RealDecision extends Decision<RealVar> {
         poolManager.returnE(this);
     }
 
+    @Override
+    public RealDecision duplicate() {
+        RealDecision d = poolManager.getE();
+        if (d == null) {
+            d = new RealDecision(poolManager);
+        }
+        d.set(var, value, epsilon, leftFirst);
+        return d;
+    }
+
     @Override
     public String toString() {
         return String.format("%s%s %s %s", (branch < 2 ? "" : "!"), var.getName(), "<=", value);
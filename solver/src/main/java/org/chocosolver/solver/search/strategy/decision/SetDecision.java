@@ -84,6 +84,16 @@ public class SetDecision extends Decision<SetVar> {
         poolManager.returnE(this);
     }
 
+    @Override
+    public SetDecision duplicate() {
+        SetDecision d = poolManager.getE();
+        if (d == null) {
+            d = new SetDecision(poolManager);
+        }
+        d.set(var, value, operator);
+        return d;
+    }
+
     /**
      * @return the current decision operator
      */
@@ -0,0 +1,90 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.values;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.decision.DecisionPath;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+
+/**
+ * Value selector for restart-based search: branches on the last value a variable was assigned to
+ * (known as phase saving), if still in domain.
+ * <p>
+ * The phase of a variable is recorded when a value is selected for it and,
+ * before each restart, for each instantiated variable of the decision path.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public final class IntDomainPhase implements IntValueSelector, IMonitorRestart {
+
+    /**
+     * The model this selector is attached to
+     */
+    private final Model model;
+    /**
+     * The default value selector
+     */
+    private final IntValueSelector mainSelector;
+    /**
+     * Last value of each variable, indexed by variable's id
+     */
+    private final TIntIntHashMap phases;
+
+    /**
+     * Create a value selector that returns the last value assigned to a variable.
+     * If the variable was never assigned or if the value does not exist anymore,
+     * falls back to 'mainSelector'.
+     *
+     * @param model        the model to observe
+     * @param mainSelector falling back selector
+     */
+    public IntDomainPhase(Model model, IntValueSelector mainSelector) {
+        this.model = model;
+        this.mainSelector = mainSelector;
+        this.phases = new TIntIntHashMap(16, .5f, -1, Integer.MIN_VALUE);
+        model.getSolver().plugMonitor(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int selectValue(IntVar var) {
+        int value = phases.get(var.getId());
+        if (value == Integer.MIN_VALUE || !relevant(var, value)) {
+            value = mainSelector.selectValue(var);
+        }
+        phases.put(var.getId(), value);
+        return value;
+    }
+
+    private boolean relevant(IntVar var, int value) {
+        return (var.hasEnumeratedDomain() && var.contains(value))
+                || (!var.hasEnumeratedDomain() && (var.getLB() == value || var.getUB() == value));
+    }
+
+    @Override
+    public void beforeRestart() {
+        DecisionPath path = model.getSolver().getDecisionPath();
+        for (int i = 1; i < path.size(); i++) {
+            Decision<?> dec = path.getDecision(i);
+            Variable var = dec.getDecisionVariable();
+            if (var instanceof IntVar && var.isInstantiated()) {
+                phases.put(var.getId(), ((IntVar) var).getValue());
+            }
+        }
+    }
+}
@@ -45,7 +45,7 @@ public class LogStatEveryXXms implements IMonitorInitialize, IMonitorClose {
                 Thread.sleep(duration);
                 //noinspection InfiniteLoopStatement
                 do {
-                    solver.getOut().println(String.format(">> %s", solver.toOneLineString()));
+                    solver.getOut().println(String.format(">> %s, %s", solver.toOneLineString(), progress(solver)));
                     Thread.sleep(duration);
                 } while (alive);
             } catch (InterruptedException ignored) {
@@ -54,6 +54,18 @@ public class LogStatEveryXXms implements IMonitorInitialize, IMonitorClose {
         printer.setDaemon(true);
     }
 
+    /**
+     * @param solver the solver to instrument
+     * @return a short description of the search progress, since the last restart
+     */
+    private static String progress(Solver solver) {
+        double progress = solver.getSearchProgress();
+        return String.format("%.2f%% explored, %.3g estimated nodes, %.3fs estimated remaining time",
+                progress * 100,
+                solver.getTreeSizeEstimate(),
+                progress > 0 ? solver.getTimeCountSinceLastRestart() * (1 - progress) / progress : Double.POSITIVE_INFINITY);
+    }
+
     @Override
     public void afterInitialize(boolean correct) {
         if(correct){
@@ -12,10 +12,20 @@ package org.chocosolver.util.objects.graphs;
 import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.map.hash.TIntIntHashMap;
 import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.IntVar;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 /**
  * A Multi-valued Decision Diagram (MDD for short) to store
@@ -34,6 +44,11 @@ public class MultivaluedDecisionDiagram  {
      */
     public static final int EMPTY = 0;
 
+    /**
+     * Header of serialized MDDs
+     */
+    private static final int MAGIC = 0x4D444401;
+
     /**
      * Store the number of variables
      */
@@ -62,8 +77,7 @@ public class MultivaluedDecisionDiagram  {
 
     // TEMPORARY DATA STRUCTURE, PREFIX WITH "_", CLEARED AFTER USAGE
     private TIntIntHashMap _nodesToRemove; // store the nodes to remove and the size of each node
-    private ArrayList<int[]>[][] _identicalNodes; // store child nodes of a node
-    private TIntArrayList[][] _nodeId; // store node id per layer and nb of mdds
+    private int[] _table; // hash table of the nodes of a layer, open addressing
     private int _removedCells; // define the number of cells erased by the compaction
     private int[] _pos;
 
@@ -140,6 +154,53 @@ public class MultivaluedDecisionDiagram  {
         init(TUPLES);
     }
 
+    /**
+     * Create an MDD based on an array of flatten domains and a set of tuples.
+     * The sub-MDDs rooted in each value of the first variable are built and reduced in parallel,
+     * then merged.
+     *
+     * @param VARIABLES array of flatten domains
+     * @param TUPLES    set of (allowed) tuples
+     * @param nbThreads maximum number of threads to use
+     */
+    public MultivaluedDecisionDiagram(IntVar[] VARIABLES, Tuples TUPLES, int nbThreads) {
+        this(flattenDomain(VARIABLES), TUPLES, nbThreads);
+    }
+
+    /**
+     * Create an MDD based on an array of flatten domains and a set of tuples.
+     * The sub-MDDs rooted in each value of the first variable are built and reduced in parallel,
+     * then merged.
+     *
+     * @param FLATDOM   array of flatten domains
+     * @param TUPLES    set of (allowed) tuples
+     * @param nbThreads maximum number of threads to use
+     */
+    public MultivaluedDecisionDiagram(int[][] FLATDOM, Tuples TUPLES, int nbThreads) {
+        this(FLATDOM, new Tuples(), true, false);
+        if (TUPLES.nbTuples() > 0) {
+            if (nbLayers < 2 || nbThreads < 2) {
+                if (addTuples(TUPLES)) {
+                    compact();
+                }
+            } else {
+                buildInParallel(TUPLES, nbThreads);
+            }
+        }
+    }
+
+    private MultivaluedDecisionDiagram(int[] offsets, int[] sizes, int[] mdd, int nextFreeCell) {
+        this.nbLayers = offsets.length;
+        this.offsets = offsets;
+        this.sizes = sizes;
+        this.compactOnce = true;
+        this.sortTuples = false;
+        this.mdd = mdd;
+        this.nextFreeCell = nextFreeCell;
+        this._pos = new int[nbLayers];
+        this._nodesToRemove = new TIntIntHashMap(16, .5f, -1, -1);
+    }
+
     /**
      * Create an MDD based on an array of flatten domains and a set of transitions.
      * The first of the graph has to be labeled '0' and the last node of the graph has to be labeled '-1'.
@@ -167,14 +228,11 @@ public class MultivaluedDecisionDiagram  {
         init(TRANSITIONS);
     }
 
-    @SuppressWarnings("unchecked")
     private void init(Tuples TUPLES) {
         nextFreeCell = sizes[0];
         _pos = new int[nbLayers];
 
         _nodesToRemove = new TIntIntHashMap(16, .5f, -1, -1);
-        _identicalNodes = new ArrayList[nbLayers][];
-        _nodeId = new TIntArrayList[nbLayers][];
 
         // Then add tuples
         if (TUPLES.nbTuples() > 0) {
@@ -192,8 +250,9 @@ public class MultivaluedDecisionDiagram  {
     public boolean addTuples(Tuples TUPLES) {
         if (sortTuples) TUPLES.sort();
         boolean atLeastOne = false;
+        int[] tuple = new int[TUPLES.arity()];
         for (int t = 0; t < TUPLES.nbTuples(); t++) {
-            atLeastOne |= addTuple(TUPLES.get(t));
+            atLeastOne |= addTuple(TUPLES.get(t, tuple));
         }
         return atLeastOne;
     }
@@ -204,13 +263,29 @@ public class MultivaluedDecisionDiagram  {
      * @param TUPLE tuple to add
      */
     public boolean addTuple(int[] TUPLE) {
+        if (!addTuple(TUPLE, 0)) {
+            return false;
+        }
+        if (!compactOnce) { // compact during the addition or not
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * Add the suffix of a tuple, starting at index <i>from</i>, to the MDD, without compacting it
+     *
+     * @param TUPLE tuple to add
+     * @param from  index of the value of the first layer in TUPLE
+     */
+    private boolean addTuple(int[] TUPLE, int from) {
         for (int i = 0; i < nbLayers; i++) {
             // if the tuple is out of declared domain
-            if(TUPLE[i] < offsets[i] || TUPLE[i] >= offsets[i] + sizes[i]){
+            if(TUPLE[from + i] < offsets[i] || TUPLE[from + i] >= offsets[i] + sizes[i]){
                 return false;
             }
             // get the position of the value relatively to the offset of each variable
-            _pos[i] = TUPLE[i] - offsets[i];
+            _pos[i] = TUPLE[from + i] - offsets[i];
         }
         int p = 0;
         for (int i = 0; i < nbLayers; i++) {
@@ -227,13 +302,9 @@ public class MultivaluedDecisionDiagram  {
                 p = mdd[p];
             }
         }
-        if (!compactOnce) { // compact during the addition or not
-            compact();
-        }
         return true;
     }
 
-    @SuppressWarnings("unchecked")
     private void init(int[][] TRANSITIONS) {
         nextFreeCell = sizes[0];
         _pos = new int[nbLayers];
@@ -245,8 +316,6 @@ public class MultivaluedDecisionDiagram  {
             return d;
         });
         _nodesToRemove = new TIntIntHashMap(16, .5f, -1, -1);
-        _identicalNodes = new ArrayList[nbLayers][];
-        _nodeId = new TIntArrayList[nbLayers][];
 
         // Then add tuples
         // 0 is the root node
@@ -311,6 +380,79 @@ public class MultivaluedDecisionDiagram  {
     }
 
 
+    /**
+     * Build the sub-MDDs rooted in each value of the first variable in parallel, then merge them below the root.
+     *
+     * @param TUPLES    tuples to add
+     * @param nbThreads maximum number of threads to use
+     */
+    private void buildInParallel(Tuples TUPLES, int nbThreads) {
+        // dispatch tuples on the value of the first variable
+        int[] start = new int[sizes[0] + 1];
+        for (int t = 0; t < TUPLES.nbTuples(); t++) {
+            int v = TUPLES.get(t, 0) - offsets[0];
+            if (v >= 0 && v < sizes[0]) {
+                start[v + 1]++;
+            }
+        }
+        for (int v = 0; v < sizes[0]; v++) {
+            start[v + 1] += start[v];
+        }
+        int[] tuples = new int[start[sizes[0]]];
+        int[] next = Arrays.copyOf(start, sizes[0]);
+        for (int t = 0; t < TUPLES.nbTuples(); t++) {
+            int v = TUPLES.get(t, 0) - offsets[0];
+            if (v >= 0 && v < sizes[0]) {
+                tuples[next[v]++] = t;
+            }
+        }
+        int[] subOffsets = Arrays.copyOfRange(offsets, 1, nbLayers);
+        int[] subSizes = Arrays.copyOfRange(sizes, 1, nbLayers);
+        MultivaluedDecisionDiagram[] subs = new MultivaluedDecisionDiagram[sizes[0]];
+        ForkJoinPool forkJoinPool = new ForkJoinPool(nbThreads);
+        try {
+            forkJoinPool.submit(() -> IntStream.range(0, sizes[0]).parallel().forEach(v -> {
+                MultivaluedDecisionDiagram sub = new MultivaluedDecisionDiagram(subOffsets, subSizes,
+                        new int[subSizes[0] * 2], subSizes[0]);
+                boolean atLeastOne = false;
+                int[] tuple = new int[TUPLES.arity()];
+                for (int k = start[v]; k < start[v + 1]; k++) {
+                    atLeastOne |= sub.addTuple(TUPLES.get(tuples[k], tuple), 1);
+                }
+                if (atLeastOne) {
+                    sub.compact();
+                    subs[v] = sub;
+                }
+            })).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new SolverException("Unable to build the MDD: " + e.getMessage());
+        } finally {
+            forkJoinPool.shutdown();
+        }
+        // then merge them
+        int length = sizes[0];
+        for (MultivaluedDecisionDiagram sub : subs) {
+            if (sub != null) {
+                length += sub.nextFreeCell;
+            }
+        }
+        mdd = new int[length];
+        nextFreeCell = sizes[0];
+        for (int v = 0; v < sizes[0]; v++) {
+            if (subs[v] != null) {
+                mdd[v] = nextFreeCell;
+                int[] sdd = subs[v].mdd;
+                for (int i = 0; i < subs[v].nextFreeCell; i++) {
+                    mdd[nextFreeCell + i] = sdd[i] > EMPTY ? sdd[i] + nextFreeCell : sdd[i];
+                }
+                nextFreeCell += subs[v].nextFreeCell;
+            }
+        }
+        if (nextFreeCell > sizes[0]) {
+            compact();
+        }
+    }
+
     /**
      * Ensure all data structure are correctly sized.
      *
@@ -328,74 +470,83 @@ public class MultivaluedDecisionDiagram  {
     /**
      * Compact the MDD by removing equivalent branches
      */
-    @SuppressWarnings("unchecked")
     private void compact() {
-        long card = Arrays.stream(sizes).mapToLong(i -> (long)i)
-                .reduce((a,b) -> a * b).getAsLong();
-        if(card <= 2_000_000) {
-            _nodesToRemove.clear();
-            for (int i = 0; i < nbLayers; i++) {
-                _identicalNodes[i] = new ArrayList[sizes[i]];
-                _nodeId[i] = new TIntArrayList[sizes[i]];
-            }
-            _removedCells = 0;
-            detectIsomorphism(0, 0);
-            deleteIsomorphism();
-        }
+        _nodesToRemove.clear();
+        _removedCells = 0;
+        detectIsomorphism();
+        deleteIsomorphism();
     }
 
     /**
-     * For a given node related to a given variable (defined by layer), evaluate if two or more mdds are strictly equal.
-     *
-     * @param node  node in the MDD
-     * @param layer rank of the variable
-     * @return the node id
+     * Detect equivalent nodes by hash-consing, layer by layer from the last one.
+     * Once the edges of the nodes of a layer are redirected to the kept nodes of the next layer,
+     * two nodes of the layer are equivalent if and only if their edges are equal.
+     * Nodes of each layer are collected breadth-first, that is in the lexicographic order of the paths leading to them,
+     * and the first node of each class of equivalence is kept.
+     * A removed node stores the kept one in its first cell, encoded as <i>-node - 2</i>.
      */
-    private int detectIsomorphism(int node, int layer) {
-        int[] nodeChild = new int[sizes[layer]];
-        int nbChild = -1;
-        for (int i = 0; i < sizes[layer]; i++) {
-            switch (mdd[node + i]) {
-                case EMPTY: // nothing to be done
-                    break;
-                case TERMINAL: // a terminal node
-                    nbChild++;
-                    nodeChild[i] = TERMINAL;
-                    break;
-                default: // a non terminal node
-                    nbChild++;
-                    mdd[node + i] = nodeChild[i] = detectIsomorphism(mdd[node + i], layer + 1);
-                    break;
+    private void detectIsomorphism() {
+        // collect the nodes of each layer
+        TIntArrayList[] layers = new TIntArrayList[nbLayers];
+        BitSet visited = new BitSet(nextFreeCell);
+        layers[0] = new TIntArrayList(1);
+        layers[0].add(0);
+        for (int l = 0; l < nbLayers - 1; l++) {
+            layers[l + 1] = new TIntArrayList();
+            for (int k = 0; k < layers[l].size(); k++) {
+                int node = layers[l].getQuick(k);
+                for (int i = 0; i < sizes[l]; i++) {
+                    int child = mdd[node + i];
+                    if (child > EMPTY && !visited.get(child)) {
+                        visited.set(child);
+                        layers[l + 1].add(child);
+                    }
+                }
             }
         }
-        return doStuff(node, layer, nbChild, nodeChild);
-    }
-
-    private int doStuff(int node, int layer, int nbChild, int[] nodeChild) {
-        boolean known = false;
-        if (_identicalNodes[layer][nbChild] == null) {
-            _identicalNodes[layer][nbChild] = new ArrayList<>();
-            _nodeId[layer][nbChild] = new TIntArrayList();
-        } else {
-            for (int j = _identicalNodes[layer][nbChild].size() - 1; j >= 0; j--) {
-                int[] currentNode = _identicalNodes[layer][nbChild].get(j);
-                boolean found = _nodeId[layer][nbChild].get(j) != node;  // deal with previously analyzed nodes
-                known |= !found;
-                if (found && Arrays.equals(currentNode, nodeChild)) {
-                    int insert = _nodesToRemove.put(node, sizes[layer]);
-                    if (insert == -1) {
-                        _removedCells += sizes[layer];
+        for (int l = nbLayers - 1; l >= 0; l--) {
+            int size = sizes[l];
+            int mask = Integer.highestOneBit(Math.max(2 * layers[l].size() - 1, 1)) * 2 - 1;
+            if (_table == null || _table.length <= mask) {
+                _table = new int[mask + 1];
+            }
+            Arrays.fill(_table, 0, mask + 1, -1);
+            for (int k = 0; k < layers[l].size(); k++) {
+                int node = layers[l].getQuick(k);
+                int hash = 0;
+                for (int i = 0; i < size; i++) {
+                    int child = mdd[node + i];
+                    if (child > EMPTY && mdd[child] < TERMINAL) { // redirect to the kept node
+                        mdd[node + i] = child = -mdd[child] - 2;
                     }
-                    return _nodeId[layer][nbChild].get(j);
+                    hash = 31 * hash + child;
+                }
+                if (l == 0) { // the root is kept
+                    break;
+                }
+                hash *= 0x9E3779B1;
+                int slot = (hash ^ (hash >>> 16)) & mask;
+                while (_table[slot] != -1 && !sameEdges(_table[slot], node, size)) {
+                    slot = (slot + 1) & mask;
+                }
+                if (_table[slot] == -1) {
+                    _table[slot] = node;
+                } else {
+                    _nodesToRemove.put(node, size);
+                    _removedCells += size;
+                    mdd[node] = -_table[slot] - 2;
                 }
             }
         }
-        if (!known) {
-            _nodeId[layer][nbChild].add(node);
-            _identicalNodes[layer][nbChild].add(nodeChild);
-        }
+    }
 
-        return node;
+    private boolean sameEdges(int node1, int node2, int size) {
+        for (int i = 0; i < size; i++) {
+            if (mdd[node1 + i] != mdd[node2 + i]) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -459,6 +610,49 @@ public class MultivaluedDecisionDiagram  {
         }
     }
 
+    /**
+     * Write the MDD in <i>file</i>, so that it can be loaded again with {@link #load(Path)}.
+     *
+     * @param file path of the file to write
+     * @throws SolverException if the file cannot be written
+     */
+    public void save(Path file) {
+        long length = (3L + 2L * nbLayers + nextFreeCell) * Integer.BYTES;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            IntBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length).asIntBuffer();
+            buffer.put(MAGIC).put(nbLayers).put(offsets).put(sizes).put(nextFreeCell).put(mdd, 0, nextFreeCell);
+        } catch (IOException e) {
+            throw new SolverException("Unable to save the MDD in " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Load an MDD written with {@link #save(Path)}.
+     * The file is memory-mapped and the diagram is bulk-copied from it, which is much faster than building it again.
+     *
+     * @param file path of the file to read
+     * @return the MDD stored in <i>file</i>
+     * @throws SolverException if the file cannot be read or does not store an MDD
+     */
+    public static MultivaluedDecisionDiagram load(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            IntBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).asIntBuffer();
+            if (buffer.get() != MAGIC) {
+                throw new SolverException(file + " does not store an MDD");
+            }
+            int nbLayers = buffer.get();
+            int[] offsets = new int[nbLayers];
+            int[] sizes = new int[nbLayers];
+            buffer.get(offsets).get(sizes);
+            int[] mdd = new int[buffer.get()];
+            buffer.get(mdd);
+            return new MultivaluedDecisionDiagram(offsets, sizes, mdd, mdd.length);
+        } catch (IOException | BufferUnderflowException e) {
+            throw new SolverException("Unable to load the MDD from " + file + ": " + e.getMessage());
+        }
+    }
+
     /**
      * Return the diagram (not a copy) of the MDD
      */
@@ -246,6 +246,34 @@ public final class MathUtils {
         }
     }
 
+    /**
+     * Returns the largest (closest to positive infinity) {@code long} value that is less than or equal to a/b.
+     * @param x the dividend
+     * @param y the divisor
+     * @return the largest (closest to positive infinity) {@code long} value that is less than or equal to a/b.
+     */
+    public static long divFloor(long x, long y) {
+        if (y == 0) {
+            return Long.MAX_VALUE;
+        } else {
+            return Math.floorDiv(x, y);
+        }
+    }
+
+    /**
+     * Returns the smallest (closest to positive infinity) {@code long} value that is greater or equal to a/b.
+     * @param x the dividend
+     * @param y the divisor
+     * @return the smallest (closest to positive infinity) {@code long} value that is greater or equal to a/b.
+     */
+    public static long divCeil(long x, long y) {
+        if (y == 0) {
+            return Long.MIN_VALUE;
+        } else {
+            return -Math.floorDiv(-x, y);
+        }
+    }
+
     /**
      * Returns the sum of its arguments,
      * returning either {@link Integer#MAX_VALUE} if the result overflows an {@code int},
@@ -729,4 +729,285 @@ public class RealUtils {
         return new RealIntervalConstant(retInf, retSup);
     }
 
+
+    /**
+     * Number of ulps the bounds computed with a hyperbolic function are widened by,
+     * since {@link Math} only guarantees them within 2.5 ulps.
+     */
+    private static final int HYPERBOLIC_ULPS = 4;
+
+    private static final double HALF_PI = Math.PI / 2.;
+
+    /**
+     * The empty interval, returned when a function is not defined over the input interval.
+     */
+    private static RealInterval empty() {
+        return new RealIntervalConstant(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+    }
+
+    private static double prevFloat(double x, int n) {
+        for (int k = 0; k < n; k++) {
+            x = prevFloat(x);
+        }
+        return x;
+    }
+
+    private static double nextFloat(double x, int n) {
+        for (int k = 0; k < n; k++) {
+            x = nextFloat(x);
+        }
+        return x;
+    }
+
+    private static double asinh(double x) {
+        double a = Math.abs(x);
+        double r;
+        if (a > 1.e150) {
+            r = Math.log(a) + Math.log(2.);
+        } else {
+            r = Math.log1p(a + a * a / (1. + Math.sqrt(1. + a * a)));
+        }
+        return x < 0 ? -r : r;
+    }
+
+    private static double acosh(double x) {
+        // x >= 1
+        if (x > 1.e150) {
+            return Math.log(x) + Math.log(2.);
+        }
+        double t = x - 1.;
+        return Math.log1p(t + Math.sqrt(t * (x + 1.)));
+    }
+
+    private static double atanh(double x) {
+        // -1 < x < 1
+        double a = Math.abs(x);
+        double r = 0.5 * Math.log1p(2. * a / (1. - a));
+        return x < 0 ? -r : r;
+    }
+
+    /**
+     * Returns an interval that represents the result of 'exp(i)'.
+     * @param i an interval
+     * @return the result of 'exp(i)'
+     */
+    public static RealInterval exp(RealInterval i) {
+        return new RealIntervalConstant(
+                Math.max(ZERO, prevFloat(Math.exp(i.getLB()))),
+                nextFloat(Math.exp(i.getUB())));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'ln(i)'.
+     * Negative values of 'i' are ignored.
+     * @param i an interval
+     * @return the result of 'ln(i)'
+     */
+    public static RealInterval ln(RealInterval i) {
+        if (i.getUB() < 0.) {
+            return empty();
+        }
+        return new RealIntervalConstant(
+                i.getLB() <= 0. ? Double.NEGATIVE_INFINITY : prevFloat(Math.log(i.getLB())),
+                nextFloat(Math.log(i.getUB())));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'atan(i)'.
+     * @param i an interval
+     * @return the result of 'atan(i)'
+     */
+    public static RealInterval atan(RealInterval i) {
+        return new RealIntervalConstant(prevFloat(Math.atan(i.getLB())), nextFloat(Math.atan(i.getUB())));
+    }
+
+    /**
+     * Returns an interval that represents the values 'x' of [-pi/2, pi/2] such that 'atan(x)' is in 'i',
+     * that is 'tan(i)' restricted to the principal branch.
+     * @param i an interval
+     * @return the result of 'tan(i)' over [-pi/2, pi/2]
+     */
+    public static RealInterval atan_inv(RealInterval i) {
+        return new RealIntervalConstant(
+                i.getLB() <= -HALF_PI ? Double.NEGATIVE_INFINITY : prevFloat(Math.tan(i.getLB()), 2),
+                i.getUB() >= HALF_PI ? Double.POSITIVE_INFINITY : nextFloat(Math.tan(i.getUB()), 2));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'asin(i)'.
+     * Values of 'i' out of [-1, 1] are ignored.
+     * @param i an interval
+     * @return the result of 'asin(i)'
+     */
+    public static RealInterval asin(RealInterval i) {
+        if (i.getLB() > 1. || i.getUB() < -1.) {
+            return empty();
+        }
+        return new RealIntervalConstant(
+                prevFloat(Math.asin(Math.max(-1., i.getLB()))),
+                nextFloat(Math.asin(Math.min(1., i.getUB()))));
+    }
+
+    /**
+     * Returns an interval that represents the values 'x' of [-1, 1] such that 'asin(x)' is in 'i',
+     * that is 'sin(i)' restricted to [-pi/2, pi/2].
+     * @param i an interval
+     * @return the result of 'sin(i)' over [-pi/2, pi/2]
+     */
+    public static RealInterval asin_inv(RealInterval i) {
+        return new RealIntervalConstant(
+                i.getLB() <= -HALF_PI ? -1. : Math.max(-1., prevFloat(Math.sin(i.getLB()))),
+                i.getUB() >= HALF_PI ? 1. : Math.min(1., nextFloat(Math.sin(i.getUB()))));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'acos(i)'.
+     * Values of 'i' out of [-1, 1] are ignored.
+     * @param i an interval
+     * @return the result of 'acos(i)'
+     */
+    public static RealInterval acos(RealInterval i) {
+        if (i.getLB() > 1. || i.getUB() < -1.) {
+            return empty();
+        }
+        return new RealIntervalConstant(
+                Math.max(ZERO, prevFloat(Math.acos(Math.min(1., i.getUB())))),
+                nextFloat(Math.acos(Math.max(-1., i.getLB()))));
+    }
+
+    /**
+     * Returns an interval that represents the values 'x' of [-1, 1] such that 'acos(x)' is in 'i',
+     * that is 'cos(i)' restricted to [0, pi].
+     * @param i an interval
+     * @return the result of 'cos(i)' over [0, pi]
+     */
+    public static RealInterval acos_inv(RealInterval i) {
+        return new RealIntervalConstant(
+                i.getUB() >= Math.PI ? -1. : Math.max(-1., prevFloat(Math.cos(i.getUB()))),
+                i.getLB() <= 0. ? 1. : Math.min(1., nextFloat(Math.cos(i.getLB()))));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'sinh(i)'.
+     * @param i an interval
+     * @return the result of 'sinh(i)'
+     */
+    public static RealInterval sinh(RealInterval i) {
+        return new RealIntervalConstant(
+                prevFloat(Math.sinh(i.getLB()), HYPERBOLIC_ULPS),
+                nextFloat(Math.sinh(i.getUB()), HYPERBOLIC_ULPS));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'asinh(i)'.
+     * @param i an interval
+     * @return the result of 'asinh(i)'
+     */
+    public static RealInterval asinh(RealInterval i) {
+        return new RealIntervalConstant(
+                prevFloat(asinh(i.getLB()), HYPERBOLIC_ULPS),
+                nextFloat(asinh(i.getUB()), HYPERBOLIC_ULPS));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'cosh(i)'.
+     * @param i an interval
+     * @return the result of 'cosh(i)'
+     */
+    public static RealInterval cosh(RealInterval i) {
+        double lo, up;
+        if (i.getLB() >= 0.) {
+            lo = i.getLB();
+            up = i.getUB();
+        } else if (i.getUB() <= 0.) {
+            lo = -i.getUB();
+            up = -i.getLB();
+        } else {
+            lo = 0.;
+            up = Math.max(-i.getLB(), i.getUB());
+        }
+        return new RealIntervalConstant(
+                Math.max(1., prevFloat(Math.cosh(lo), HYPERBOLIC_ULPS)),
+                nextFloat(Math.cosh(up), HYPERBOLIC_ULPS));
+    }
+
+    /**
+     * Returns an interval that represents the values 'x' such that 'cosh(x)' is in 'i'.
+     * 'res' is the one that will intersect the resulting interval
+     * and is given to provide sharpest interval when 0.0 is overlapped.
+     * @param i an interval
+     * @param res interval that will intersect the resulting interval
+     * @return an interval that represents the result of 'acosh(i)' and its opposite
+     */
+    public static RealInterval acosh_wrt(RealInterval i, RealInterval res) {
+        if (i.getUB() < 1.) {
+            return empty();
+        }
+        double inf = i.getLB() <= 1. ? 0. : Math.max(ZERO, prevFloat(acosh(i.getLB()), HYPERBOLIC_ULPS));
+        double sup = nextFloat(acosh(i.getUB()), HYPERBOLIC_ULPS);
+        if (res.getUB() < inf) {
+            return new RealIntervalConstant(-sup, -inf);
+        } else if (res.getLB() > -inf) {
+            return new RealIntervalConstant(inf, sup);
+        } else {
+            return new RealIntervalConstant(-sup, sup);
+        }
+    }
+
+    /**
+     * Returns an interval that represents the result of 'acosh(i)'.
+     * Values of 'i' lower than 1 are ignored.
+     * @param i an interval
+     * @return the result of 'acosh(i)'
+     */
+    public static RealInterval acosh(RealInterval i) {
+        if (i.getUB() < 1.) {
+            return empty();
+        }
+        return new RealIntervalConstant(
+                i.getLB() <= 1. ? 0. : Math.max(ZERO, prevFloat(acosh(i.getLB()), HYPERBOLIC_ULPS)),
+                nextFloat(acosh(i.getUB()), HYPERBOLIC_ULPS));
+    }
+
+    /**
+     * Returns an interval that represents the values 'x' of [1, +inf) such that 'acosh(x)' is in 'i',
+     * that is 'cosh(i)' restricted to [0, +inf).
+     * @param i an interval
+     * @return the result of 'cosh(i)' over [0, +inf)
+     */
+    public static RealInterval acosh_inv(RealInterval i) {
+        if (i.getUB() < 0.) {
+            return empty();
+        }
+        return new RealIntervalConstant(
+                i.getLB() <= 0. ? 1. : Math.max(1., prevFloat(Math.cosh(i.getLB()), HYPERBOLIC_ULPS)),
+                nextFloat(Math.cosh(i.getUB()), HYPERBOLIC_ULPS));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'tanh(i)'.
+     * @param i an interval
+     * @return the result of 'tanh(i)'
+     */
+    public static RealInterval tanh(RealInterval i) {
+        return new RealIntervalConstant(
+                Math.max(-1., prevFloat(Math.tanh(i.getLB()), HYPERBOLIC_ULPS)),
+                Math.min(1., nextFloat(Math.tanh(i.getUB()), HYPERBOLIC_ULPS)));
+    }
+
+    /**
+     * Returns an interval that represents the result of 'atanh(i)'.
+     * Values of 'i' out of ]-1, 1[ are ignored.
+     * @param i an interval
+     * @return the result of 'atanh(i)'
+     */
+    public static RealInterval atanh(RealInterval i) {
+        if (i.getLB() >= 1. || i.getUB() <= -1.) {
+            return empty();
+        }
+        return new RealIntervalConstant(
+                i.getLB() <= -1. ? Double.NEGATIVE_INFINITY : prevFloat(atanh(i.getLB()), HYPERBOLIC_ULPS),
+                i.getUB() >= 1. ? Double.POSITIVE_INFINITY : nextFloat(atanh(i.getUB()), HYPERBOLIC_ULPS));
+    }
+
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints;
 
+import org.chocosolver.solver.DefaultSettings;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
@@ -223,4 +224,222 @@ public class IReificationFactoryTest {
             Assert.assertTrue(B.isInstantiatedTo(0) | !S.contains(X.getValue()));
         }
     }
-}
\ No newline at end of file
+
+    @Test(groups = "1s")
+    public void testImpXeqC() {
+        Model m = new Model();
+        IntVar X = m.intVar(0,5);
+        BoolVar B = m.boolVar();
+        m.impXeqC(X, 3, B);
+        while(m.getSolver().solve()){
+            Assert.assertTrue(B.isInstantiatedTo(0) | X.isInstantiatedTo(3));
+        }
+        // 6 values when B = 0, 1 when B = 1
+        Assert.assertEquals(m.getSolver().getSolutionCount(), 7);
+    }
+
+    @Test(groups = "1s")
+    public void testImpXneC() {
+        Model m = new Model();
+        IntVar X = m.intVar(0,5);
+        BoolVar B = m.boolVar();
+        m.impXneC(X, 3, B);
+        while(m.getSolver().solve()){
+            Assert.assertTrue(B.isInstantiatedTo(0) | !X.isInstantiatedTo(3));
+        }
+        Assert.assertEquals(m.getSolver().getSolutionCount(), 11);
+    }
+
+    @Test(groups = "1s")
+    public void testImpXltC() {
+        Model m = new Model();
+        IntVar X = m.intVar(0,5);
+        BoolVar B = m.boolVar();
+        m.impXltC(X, 3, B);
+        while(m.getSolver().solve()){
+            Assert.assertTrue(B.isInstantiatedTo(0) | X.getValue() < 3);
+        }
+        Assert.assertEquals(m.getSolver().getSolutionCount(), 9);
+    }
+
+    @Test(groups = "1s")
+    public void testImpXgtC() {
+        Model m = new Model();
+        IntVar X = m.intVar(0,5);
+        BoolVar B = m.boolVar();
+        m.impXgtC(X, 3, B);
+        while(m.getSolver().solve()){
+            Assert.assertTrue(B.isInstantiatedTo(0) | X.getValue() > 3);
+        }
+        Assert.assertEquals(m.getSolver().getSolutionCount(), 8);
+    }
+
+    @Test(groups = "1s")
+    public void testImpliedBy() {
+        Model m = new Model();
+        IntVar[] X = m.intVarArray(3, 0, 2);
+        BoolVar B = m.boolVar();
+        m.allDifferent(X).impliedBy(B);
+        while(m.getSolver().solve()){
+            Assert.assertTrue(B.isInstantiatedTo(0)
+                    | (X[0].getValue() != X[1].getValue() && X[0].getValue() != X[2].getValue()
+                    && X[1].getValue() != X[2].getValue()));
+        }
+        // 27 solutions when B = 0, 6 when B = 1
+        Assert.assertEquals(m.getSolver().getSolutionCount(), 33);
+    }
+
+    @Test(groups = "1s")
+    public void testImplies() {
+        Model m = new Model();
+        IntVar[] X = m.intVarArray(3, 0, 2);
+        BoolVar B = m.boolVar();
+        m.allDifferent(X).implies(B);
+        // 21 solutions when B = 0, 27 when B = 1
+        Assert.assertEquals(m.getSolver().findAllSolutions().size(), 48);
+    }
+
+    @Test(groups = "1s")
+    public void testIfThenArithm() {
+        Model m = new Model();
+        IntVar X = m.intVar(0,5);
+        BoolVar B1 = m.boolVar();
+        BoolVar B2 = m.boolVar();
+        Constraint c = m.arithm(X, "<=", 2);
+        m.ifThen(B1, c);
+        m.ifThen(B2, c);
+        Assert.assertEquals(c.getStatus(), Constraint.Status.FREE);
+        Assert.assertFalse(c.isReified());
+        while(m.getSolver().solve()){
+            Assert.assertTrue((B1.isInstantiatedTo(0) && B2.isInstantiatedTo(0)) | X.getValue() <= 2);
+        }
+        Assert.assertEquals(m.getSolver().getSolutionCount(), 3 + 3 * 4);
+    }
+
+    @DataProvider(name = "reused")
+    public Object[][] reused() {
+        // allDifferent or sum, and number of satisfying tuples out of 27
+        return new Object[][]{{true, 6}, {false, 7}};
+    }
+
+    private static Constraint allDiffOrSum(Model m, IntVar[] X, boolean allDiff) {
+        return allDiff ? m.allDifferent(X) : m.sum(X, "=", 3);
+    }
+
+    private static boolean holds(IntVar[] X, boolean allDiff) {
+        if (allDiff) {
+            return X[0].getValue() != X[1].getValue() && X[0].getValue() != X[2].getValue()
+                    && X[1].getValue() != X[2].getValue();
+        }
+        return X[0].getValue() + X[1].getValue() + X[2].getValue() == 3;
+    }
+
+    @Test(groups = "1s", dataProvider = "reused")
+    public void testIfThenTwice(boolean allDiff, int k) {
+        Model m = new Model();
+        IntVar[] X = m.intVarArray(3, 0, 2);
+        BoolVar B1 = m.boolVar();
+        BoolVar B2 = m.boolVar();
+        Constraint c = allDiffOrSum(m, X, allDiff);
+        m.ifThen(B1, c);
+        m.ifThen(B2, c);
+        while (m.getSolver().solve()) {
+            Assert.assertTrue((B1.isInstantiatedTo(0) && B2.isInstantiatedTo(0)) | holds(X, allDiff));
+        }
+        // 27 solutions when B1 = B2 = 0, k for each other pair
+        Assert.assertEquals(m.getSolver().getSolutionCount(), 27 + 3 * k);
+    }
+
+    @Test(groups = "1s", dataProvider = "reused")
+    public void testIfThenReify(boolean allDiff, int k) {
+        Model m = new Model();
+        IntVar[] X = m.intVarArray(3, 0, 2);
+        BoolVar B = m.boolVar();
+        Constraint c = allDiffOrSum(m, X, allDiff);
+        m.ifThen(B, c);
+        BoolVar R = c.reify();
+        Assert.assertTrue(c.isReified());
+        Assert.assertSame(c.reify(), R);
+        while (m.getSolver().solve()) {
+            Assert.assertEquals(R.getValue() == 1, holds(X, allDiff));
+            Assert.assertTrue(B.getValue() <= R.getValue());
+        }
+        // 2 solutions when c is satisfied, 1 otherwise
+        Assert.assertEquals(m.getSolver().getSolutionCount(), 2 * k + (27 - k));
+    }
+
+    @Test(groups = "1s", dataProvider = "reused")
+    public void testImpliesReify(boolean allDiff, int k) {
+        Model m = new Model();
+        IntVar[] X = m.intVarArray(3, 0, 2);
+        BoolVar B = m.boolVar();
+        Constraint c = allDiffOrSum(m, X, allDiff);
+        c.implies(B);
+        c.impliedBy(B);
+        BoolVar R = c.reify();
+        while (m.getSolver().solve()) {
+            Assert.assertEquals(R.getValue() == 1, holds(X, allDiff));
+            Assert.assertEquals(B.getValue(), R.getValue());
+        }
+        Assert.assertEquals(m.getSolver().getSolutionCount(), 27);
+    }
+
+    @Test(groups = "1s", dataProvider = "reused")
+    public void testIfThenElseReuse(boolean allDiff, int k) {
+        Model m = new Model();
+        IntVar[] X = m.intVarArray(3, 0, 2);
+        BoolVar B1 = m.boolVar();
+        BoolVar B2 = m.boolVar();
+        Constraint c = allDiffOrSum(m, X, allDiff);
+        m.ifThen(B1, c);
+        m.ifThenElse(B2, c, m.arithm(X[0], "=", 0));
+        while (m.getSolver().solve()) {
+            Assert.assertTrue(B1.isInstantiatedTo(0) | holds(X, allDiff));
+            Assert.assertTrue(B2.isInstantiatedTo(1) ? holds(X, allDiff) : X[0].isInstantiatedTo(0));
+        }
+        // B2 = 1: k solutions for each value of B1, B2 = 0: 9 solutions when B1 = 0, 2 when B1 = 1
+        Assert.assertEquals(m.getSolver().getSolutionCount(), 2 * k + 9 + 2);
+    }
+
+    @Test(groups = "1s")
+    public void testSharedIndicator() {
+        Model m = new Model();
+        IntVar X = m.intVar(0,5);
+        IntVar Y = m.intVar(0,5);
+        BoolVar b1 = m.arithm(X, "=", 3).reify();
+        BoolVar b2 = m.arithm(X, "=", 3).reify();
+        Assert.assertSame(b1, b2);
+        Assert.assertSame(m.arithm(X, "!=", 3).reify(), b1.not());
+        Assert.assertSame(m.arithm(X, ">=", 2).reify(), m.arithm(X, "<", 2).reify().not());
+        Assert.assertSame(m.arithm(X, "<=", 1).reify(), m.reifyXltC(X, 2));
+        Assert.assertSame(m.arithm(X, "<", Y).reify(), m.arithm(X, "-", Y, "<", 0).reify());
+        Assert.assertSame(m.arithm(X, "=", Y, "+", 1).reify(), m.reifyXeqYC(X, Y, 1));
+        Assert.assertEquals(m.getNbCstrs(), 4);
+    }
+
+    @Test(groups = "1s")
+    public void testSharedIndicatorWith() {
+        Model m = new Model();
+        IntVar X = m.intVar(0,5);
+        BoolVar B1 = m.boolVar();
+        BoolVar B2 = m.boolVar();
+        m.reifyXeqC(X, 3, B1);
+        m.reifyXeqC(X, 3, B1);
+        Assert.assertEquals(m.getNbCstrs(), 1);
+        m.reifyXneC(X, 3, B2);
+        Assert.assertEquals(m.getNbCstrs(), 2);
+        while(m.getSolver().solve()){
+            Assert.assertTrue(B1.getValue() != B2.getValue());
+            Assert.assertEquals(B1.isInstantiatedTo(1), X.isInstantiatedTo(3));
+        }
+        Assert.assertEquals(m.getSolver().getSolutionCount(), 6);
+    }
+
+    @Test(groups = "1s")
+    public void testNoSharedIndicator() {
+        Model m = new Model("no sharing", new DefaultSettings().setEnableExpressionSharing(false));
+        IntVar X = m.intVar(0,5);
+        Assert.assertNotSame(m.arithm(X, "=", 3).reify(), m.arithm(X, "=", 3).reify());
+        Assert.assertEquals(m.getNbCstrs(), 2);
+    }
+}
@@ -19,6 +19,7 @@ import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.binary.PropGreaterOrEqualX_YC;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.constraints.extension.TuplesFactory;
+import org.chocosolver.solver.constraints.nary.alldifferent.PropAllDiffBC;
 import org.chocosolver.solver.constraints.nary.clauses.ClauseBuilder;
 import org.chocosolver.solver.constraints.nary.clauses.PropSignedClause;
 import org.chocosolver.solver.constraints.nary.sum.PropSum;
@@ -58,6 +59,7 @@ public class ExplanationChecker {
             return new Object[][]{
                     {PropGreaterOrEqualX_YC.class, new Class[]{IntVar[].class, int.class}, new Object[]{2, null}},
                     {PropSum.class, new Class[]{IntVar[].class, int.class, Operator.class, int.class}, new Object[]{3, 1, "=", 0}},
+                    {PropAllDiffBC.class, new Class[]{IntVar[].class}, new Object[]{4}},
                     {PropMaxBC.class, new Class[]{IntVar.class, IntVar.class, IntVar.class}, new Object[]{null}},
                     {PropXeqYCReif.class, new Class[]{IntVar.class, IntVar.class, int.class, BoolVar.class}, new Object[]{null, null,  null, null}},
                     {PropXltYCReif.class, new Class[]{IntVar.class, IntVar.class, int.class, BoolVar.class}, new Object[]{null, null,  null, null}},
@@ -165,6 +165,50 @@ public class AllDifferentTest {
     }
 
 
+    @Test(groups="10s", timeOut=60000)
+    public void testIncremental() {
+        Random rand;
+        for (int seed = 0; seed < 20; seed++) {
+            rand = new Random(seed);
+            for (double d = 0.25; d <= 1.0; d += 0.25) {
+                for (int b = 0; b <= 1; b++) {
+                    int n = 1 + rand.nextInt(5);
+                    int[][] domains = buildFullDomains(n, 1, 2 * n, rand, d, false);
+
+                    Model regin = alldiffs(domains, 4, b == 0);
+                    while (regin.getSolver().solve()) ;
+
+                    Model incr = alldiffs(domains, 5, b == 0);
+                    while (incr.getSolver().solve()) ;
+                    assertEquals(incr.getSolver().getSolutionCount(), regin.getSolver().getSolutionCount(), "nb sol incorrect " + seed);
+                    if (b == 1) {
+                        // same fix point on enumerated domains
+                        assertEquals(incr.getSolver().getNodeCount(), regin.getSolver().getNodeCount(), "nb nod incorrect " + seed);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(groups="10s", timeOut=60000)
+    public void testIncrementalLarge() {
+        int n = 200;
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("v", n, 0, n - 1);
+        model.allDifferent(vars, "AC_INCREMENTAL").post();
+        Random rand = new Random(0);
+        for (int i = 0; i < n; i++) {
+            // forbid a few values for each variable
+            for (int k = 0; k < 10; k++) {
+                model.arithm(vars[i], "!=", rand.nextInt(n)).post();
+            }
+        }
+        Solver solver = model.getSolver();
+        solver.setSearch(inputOrderLBSearch(vars));
+        assertTrue(solver.solve());
+        assertEquals(solver.getBackTrackCount(), 0);
+    }
+
     protected Model alldiffs(int[][] domains, int c, boolean bounded) {
         Model s = new Model();
 
@@ -196,6 +240,12 @@ public class AllDifferentTest {
             case 3:
                 s.allDifferent(vars, "AC").post();
                 break;
+            case 4:
+                s.allDifferent(vars, "AC_REGIN").post();
+                break;
+            case 5:
+                s.allDifferent(vars, "AC_INCREMENTAL").post();
+                break;
         }
         s.getSolver().setSearch(inputOrderLBSearch(vars));
         return s;
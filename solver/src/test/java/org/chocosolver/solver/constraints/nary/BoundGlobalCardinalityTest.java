@@ -11,7 +11,10 @@ package org.chocosolver.solver.constraints.nary;
 
 import org.chocosolver.solver.DefaultSettings;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorContradiction;
+import org.chocosolver.solver.search.loop.monitors.IMonitorDownBranch;
 import org.chocosolver.solver.variables.IntVar;
 import org.testng.annotations.Test;
 
@@ -20,8 +23,10 @@ import java.util.Random;
 import static org.chocosolver.solver.Cause.Null;
 import static org.chocosolver.solver.constraints.nary.globalcardinality.GlobalCardinality.reformulate;
 import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+import static org.chocosolver.solver.search.strategy.Search.randomSearch;
 import static org.chocosolver.util.tools.ArrayUtils.append;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -131,4 +136,184 @@ public class BoundGlobalCardinalityTest {
 
         }
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testAC1() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] vars = new IntVar[]{
+                model.intVar("x1", 1, 2),
+                model.intVar("x2", 1, 2),
+                model.intVar("x3", 1, 3)
+        };
+        IntVar[] cards = model.intVarArray("card", 2, 0, 1);
+        model.globalCardinality(vars, new int[]{1, 2}, cards, false, true).post();
+        model.getSolver().propagate();
+        assertEquals(vars[2].getValue(), 3);
+    }
+
+    @Test(groups="10s", timeOut=60000)
+    public void testACRandom() throws ContradictionException {
+        for (int seed = 0; seed < 100; seed++) {
+            Random random = new Random(seed);
+            int n = 1 + random.nextInt(5);
+            int m = 1 + random.nextInt(4);
+            int[][] doms = new int[n][];
+            for (int i = 0; i < n; i++) {
+                doms[i] = random.ints(1 + random.nextInt(m + 1), 0, m + 1).distinct().sorted().toArray();
+            }
+            int[] lbs = new int[m], ubs = new int[m];
+            for (int j = 0; j < m; j++) {
+                lbs[j] = random.nextInt(2);
+                ubs[j] = lbs[j] + random.nextInt(3);
+            }
+            Model model = new Model(new DefaultSettings().setCheckDeclaredConstraints(false));
+            IntVar[] vars = makeGCC(model, doms, lbs, ubs, true);
+            boolean feasible;
+            try {
+                model.getSolver().propagate();
+                feasible = true;
+            } catch (ContradictionException e) {
+                feasible = false;
+            }
+            // each remaining value is supported and each removed value is not
+            for (int i = 0; i < n; i++) {
+                for (int k : doms[i]) {
+                    Model ref = new Model(new DefaultSettings().setCheckDeclaredConstraints(false));
+                    IntVar[] rvars = makeGCC(ref, doms, lbs, ubs, false);
+                    ref.arithm(rvars[i], "=", k).post();
+                    assertEquals(feasible && vars[i].contains(k), ref.getSolver().solve(), "seed " + seed);
+                }
+            }
+            // and the search finds the same solutions
+            if (feasible) {
+                Model ref = new Model(new DefaultSettings().setCheckDeclaredConstraints(false));
+                makeGCC(ref, doms, lbs, ubs, false);
+                while (model.getSolver().solve()) ;
+                while (ref.getSolver().solve()) ;
+                assertEquals(model.getSolver().getSolutionCount(), ref.getSolver().getSolutionCount(), "seed " + seed);
+            }
+        }
+    }
+
+    @Test(groups="10s", timeOut=120000)
+    public void testACInSearch() {
+        for (int seed = 0; seed < 200; seed++) {
+            Random random = new Random(seed);
+            int n = 2 + random.nextInt(4);
+            int m = 1 + random.nextInt(4);
+            int[][] doms = new int[n][];
+            for (int i = 0; i < n; i++) {
+                doms[i] = random.ints(1 + random.nextInt(m + 1), 0, m + 1).distinct().sorted().toArray();
+            }
+            int[] lbs = new int[m], ubs = new int[m];
+            for (int j = 0; j < m; j++) {
+                lbs[j] = random.nextInt(2);
+                ubs[j] = lbs[j] + random.nextInt(3);
+            }
+            Model model = new Model(new DefaultSettings().setCheckDeclaredConstraints(false));
+            IntVar[] vars = makeGCC(model, doms, lbs, ubs, true);
+            IntVar[] cards = new IntVar[m];
+            for (int j = 0; j < m; j++) {
+                cards[j] = (IntVar) model.getVars()[n + j];
+            }
+            Solver solver = model.getSolver();
+            solver.setSearch(randomSearch(append(vars, cards), seed));
+            // after each propagation, remaining values should be supported, and a failure should lose no solution
+            GACOracle oracle = new GACOracle(vars, cards, "seed " + seed);
+            try {
+                solver.propagate();
+                oracle.check(false);
+            } catch (ContradictionException e) {
+                oracle.check(true);
+            }
+            solver.plugMonitor(oracle);
+            while (solver.solve()) ;
+            Model ref = new Model(new DefaultSettings().setCheckDeclaredConstraints(false));
+            makeGCC(ref, doms, lbs, ubs, false);
+            while (ref.getSolver().solve()) ;
+            assertEquals(solver.getSolutionCount(), ref.getSolver().getSolutionCount(), "seed " + seed);
+        }
+    }
+
+    /**
+     * Compares the domains of the variables of a GCC with a brute-force GAC, the values being 0..m-1,
+     * with the bounds of the cardinality variables
+     */
+    private static class GACOracle implements IMonitorDownBranch, IMonitorContradiction {
+        private final IntVar[] vars, cards;
+        private final String msg;
+        private boolean failed;
+
+        GACOracle(IntVar[] vars, IntVar[] cards, String msg) {
+            this.vars = vars;
+            this.cards = cards;
+            this.msg = msg;
+        }
+
+        @Override
+        public void beforeDownBranch(boolean left) {
+            failed = false;
+        }
+
+        @Override
+        public void onContradiction(ContradictionException cex) {
+            failed = true;
+        }
+
+        @Override
+        public void afterDownBranch(boolean left) {
+            check(failed);
+        }
+
+        void check(boolean failed) {
+            boolean[][] supported = new boolean[vars.length][cards.length + 1];
+            boolean feasible = enumerate(0, new int[vars.length], new int[cards.length + 1], supported);
+            if (failed) {
+                assertFalse(feasible, msg);
+            } else {
+                for (int i = 0; i < vars.length; i++) {
+                    for (int k = vars[i].getLB(); k <= vars[i].getUB(); k = vars[i].nextValue(k)) {
+                        assertTrue(supported[i][k], msg + ", " + vars[i] + " = " + k);
+                    }
+                }
+            }
+        }
+
+        private boolean enumerate(int i, int[] tuple, int[] counts, boolean[][] supported) {
+            if (i == vars.length) {
+                for (int j = 0; j < cards.length; j++) {
+                    if (counts[j] < cards[j].getLB() || counts[j] > cards[j].getUB()) {
+                        return false;
+                    }
+                }
+                for (int k = 0; k < vars.length; k++) {
+                    supported[k][tuple[k]] = true;
+                }
+                return true;
+            }
+            boolean feasible = false;
+            for (int k = vars[i].getLB(); k <= vars[i].getUB(); k = vars[i].nextValue(k)) {
+                tuple[i] = k;
+                counts[k]++;
+                feasible |= enumerate(i + 1, tuple, counts, supported);
+                counts[k]--;
+            }
+            return feasible;
+        }
+    }
+
+    private static IntVar[] makeGCC(Model model, int[][] doms, int[] lbs, int[] ubs, boolean ac) {
+        IntVar[] vars = new IntVar[doms.length];
+        for (int i = 0; i < doms.length; i++) {
+            vars[i] = model.intVar("x" + i, doms[i]);
+        }
+        int[] values = new int[lbs.length];
+        IntVar[] cards = new IntVar[lbs.length];
+        for (int j = 0; j < lbs.length; j++) {
+            values[j] = j;
+            cards[j] = model.intVar("c" + j, lbs[j], ubs[j], true);
+        }
+        model.globalCardinality(vars, values, cards, false, ac).post();
+        return vars;
+    }
 }
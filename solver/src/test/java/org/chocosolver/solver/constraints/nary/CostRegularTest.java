@@ -18,11 +18,13 @@ import org.chocosolver.solver.constraints.nary.automata.FA.utils.CounterState;
 import org.chocosolver.solver.constraints.nary.automata.FA.utils.ICounter;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.tools.ArrayUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static org.chocosolver.solver.constraints.nary.automata.FA.CostAutomaton.makeSingleResource;
 import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
@@ -423,6 +425,54 @@ public class CostRegularTest {
         Assert.assertTrue(cost.isInstantiated());
     }
 
+    @Test(groups="10s", timeOut=120000)
+    public void testBoundChanges() {
+        // the bounds of the cost are modified by the search, compare with a decomposition
+        FiniteAutomaton auto = new FiniteAutomaton();
+        int start = auto.addState();
+        int end = auto.addState();
+        auto.setInitialState(start);
+        auto.setFinal(start);
+        auto.setFinal(end);
+        auto.addTransition(start, start, 0, 1);
+        auto.addTransition(start, end, 2);
+        auto.addTransition(end, start, 2);
+        auto.addTransition(end, start, 0, 1);
+        int n = 8;
+        for (int seed = 0; seed < 20; seed++) {
+            Random rnd = new Random(seed);
+            int[][] costs = new int[n][3];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < 3; j++) {
+                    costs[i][j] = rnd.nextInt(6);
+                }
+            }
+            long[][] results = new long[2][];
+            for (int m = 0; m < 2; m++) {
+                Model model = new Model();
+                IntVar[] vars = model.intVarArray("x", n, 0, 2);
+                IntVar cost = model.intVar("z", 0, 40);
+                if (m == 0) {
+                    model.costRegular(vars, cost, makeSingleResource(auto, costs, 0, 40)).post();
+                } else {
+                    model.regular(vars, auto).post();
+                    IntVar[] c = model.intVarArray("c", n, 0, 5);
+                    for (int i = 0; i < n; i++) {
+                        model.element(c[i], costs[i], vars[i]).post();
+                    }
+                    model.sum(c, "=", cost).post();
+                }
+                model.getSolver().setSearch(Search.randomSearch(ArrayUtils.append(new IntVar[]{cost}, vars), seed));
+                long sum = 0;
+                while (model.getSolver().solve()) {
+                    sum += cost.getValue();
+                }
+                results[m] = new long[]{model.getSolver().getSolutionCount(), sum};
+            }
+            Assert.assertEquals(results[0], results[1], "seed " + seed);
+        }
+    }
+
     static ICostAutomaton makeCostAutomaton(int taille) {
         FiniteAutomaton fa = new FiniteAutomaton();
         int q0 = fa.addState();
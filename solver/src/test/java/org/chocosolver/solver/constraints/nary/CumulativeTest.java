@@ -9,16 +9,19 @@
  */
 package org.chocosolver.solver.constraints.nary;
 
+import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.nary.cumulative.Cumulative;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Task;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.Arrays;
+import java.util.Random;
 
 import static org.chocosolver.solver.search.strategy.Search.lastConflict;
 import static org.chocosolver.solver.search.strategy.Search.randomSearch;
@@ -209,4 +212,200 @@ public class CumulativeTest {
             }
         }
 	}
+
+	public static long countSolutions(int n, long seed, boolean variableHeights, Cumulative.Filter... filters) {
+		Random rnd = new Random(seed);
+		Model model = new Model();
+		Task[] t = new Task[n];
+		IntVar[] h = new IntVar[n];
+		for (int i = 0; i < n; i++) {
+			IntVar s = model.intVar("s" + i, 0, 6);
+			t[i] = new Task(s, 1 + rnd.nextInt(3));
+			h[i] = variableHeights ? model.intVar("h" + i, 0, 2) : model.intVar(1 + rnd.nextInt(2));
+		}
+		model.cumulative(t, h, model.intVar(2 + rnd.nextInt(2)), false, filters).post();
+		Solver solver = model.getSolver();
+		while (solver.solve()) ;
+		return solver.getSolutionCount();
+	}
+
+	@Test(groups="10s", timeOut=120000)
+	public void testProfile(){
+		for (long seed = 0; seed < 10; seed++) {
+			for (boolean vh : new boolean[]{false, true}) {
+				int n = vh ? 3 : 4;
+				long ref = countSolutions(n, seed, vh, Cumulative.Filter.TIME);
+				Assert.assertEquals(countSolutions(n, seed, vh, Cumulative.Filter.PROFILE), ref, "seed " + seed);
+				Assert.assertEquals(countSolutions(n, seed, vh, Cumulative.Filter.HEIGHTS, Cumulative.Filter.PROFILE, Cumulative.Filter.NRJ), ref, "seed " + seed);
+			}
+		}
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testProfileLargeHorizon() throws ContradictionException {
+		Model model = new Model();
+		int n = 20;
+		Task[] t = new Task[n];
+		IntVar[] h = new IntVar[n];
+		for (int i = 0; i < n; i++) {
+			IntVar s = model.intVar("s" + i, 0, 50_000_000);
+			t[i] = new Task(s, 1_000_000 + i * 10_000);
+			h[i] = model.intVar(1 + i % 3);
+		}
+		model.cumulative(t, h, model.intVar(3), false, Cumulative.Filter.PROFILE).post();
+		Solver solver = model.getSolver();
+		// the first task has a compulsory part, the second one cannot overlap it
+		t[0].getStart().updateUpperBound(0, Cause.Null);
+		t[2].getStart().updateBounds(0, 5_000_000, Cause.Null);
+		solver.propagate();
+		Assert.assertEquals(t[2].getStart().getLB(), 1_000_000);
+		Assert.assertTrue(solver.solve());
+	}
+
+	@Test(groups="10s", timeOut=120000)
+	public void testThetaLambdaFilters(){
+		for (long seed = 0; seed < 10; seed++) {
+			for (boolean vh : new boolean[]{false, true}) {
+				int n = vh ? 3 : 4;
+				long ref = countSolutions(n, seed, vh, Cumulative.Filter.TIME);
+				Assert.assertEquals(countSolutions(n, seed, vh, Cumulative.Filter.TIME, Cumulative.Filter.DISJUNCTIVE_EDGE_FINDING), ref, "seed " + seed);
+				Assert.assertEquals(countSolutions(n, seed, vh, Cumulative.Filter.TIME, Cumulative.Filter.DETECTABLE_PRECEDENCES), ref, "seed " + seed);
+				Assert.assertEquals(countSolutions(n, seed, vh, Cumulative.Filter.TIME, Cumulative.Filter.NOT_FIRST_NOT_LAST), ref, "seed " + seed);
+				Assert.assertEquals(countSolutions(n, seed, vh, Cumulative.Filter.TIME, Cumulative.Filter.EDGE_FINDING), ref, "seed " + seed);
+			}
+		}
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testEdgeFinding() throws ContradictionException {
+		for (boolean disjunctive : new boolean[]{false, true}) {
+			Model model = new Model();
+			// A and B fill [0,6], so C comes after both
+			Task[] t = new Task[]{
+					new Task(model.intVar("A", 0, 3), 3),
+					new Task(model.intVar("B", 0, 3), 3),
+					new Task(model.intVar("C", 0, 18), 2)
+			};
+			if (disjunctive) {
+				model.disjunctive(t).post();
+			} else {
+				IntVar one = model.intVar(1);
+				model.cumulative(t, new IntVar[]{one, one, one}, one, false,
+						Cumulative.Filter.TIME, Cumulative.Filter.DISJUNCTIVE_EDGE_FINDING).post();
+			}
+			model.getSolver().propagate();
+			Assert.assertEquals(t[2].getStart().getLB(), 6);
+		}
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testCumulativeEdgeFinding() throws ContradictionException {
+		for (boolean ef : new boolean[]{false, true}) {
+			Model model = new Model();
+			// A and B need 6 units of energy in [0,4] with a capacity of 2, so C ends after both,
+			// and cannot start before 2 without overloading [0,4]
+			Task[] t = new Task[]{
+					new Task(model.intVar("A", 0, 2), 2),
+					new Task(model.intVar("B", 0, 2), 2),
+					new Task(model.intVar("C", 0, 7), 3)
+			};
+			IntVar[] h = new IntVar[]{model.intVar(2), model.intVar(1), model.intVar(1)};
+			Cumulative.Filter[] filters = ef ?
+					new Cumulative.Filter[]{Cumulative.Filter.TIME, Cumulative.Filter.EDGE_FINDING} :
+					new Cumulative.Filter[]{Cumulative.Filter.TIME};
+			model.cumulative(t, h, model.intVar(2), false, filters).post();
+			model.getSolver().propagate();
+			Assert.assertEquals(t[2].getStart().getLB(), ef ? 2 : 0);
+		}
+	}
+
+	@Test(groups="10s", timeOut=120000)
+	public void testDisjunctive(){
+		for (long seed = 0; seed < 10; seed++) {
+			long[] counts = new long[2];
+			for (int k = 0; k < 2; k++) {
+				Random rnd = new Random(seed);
+				Model model = new Model();
+				int n = 3;
+				Task[] t = new Task[n];
+				for (int i = 0; i < n; i++) {
+					IntVar s = model.intVar("s" + i, 0, 6);
+					IntVar d = model.intVar("d" + i, rnd.nextInt(2), 1 + rnd.nextInt(3));
+					t[i] = new Task(s, d, model.intVar("e" + i, 0, 9));
+				}
+				if (k == 0) {
+					IntVar one = model.intVar(1);
+					IntVar[] h = new IntVar[n];
+					Arrays.fill(h, one);
+					model.cumulative(t, h, one, false, Cumulative.Filter.TIME).post();
+				} else {
+					model.disjunctive(t).post();
+				}
+				Solver solver = model.getSolver();
+				while (solver.solve()) ;
+				counts[k] = solver.getSolutionCount();
+			}
+			Assert.assertEquals(counts[1], counts[0], "seed " + seed);
+		}
+	}
+
+	@Test(groups="10s", timeOut=120000)
+	public void testIncremental(){
+		for (long seed = 0; seed < 10; seed++) {
+			for (boolean vh : new boolean[]{false, true}) {
+				long[] counts = new long[2];
+				for (int k = 0; k < 2; k++) {
+					Random rnd = new Random(seed);
+					Model model = new Model();
+					int n = vh ? 3 : 4;
+					Task[] t = new Task[n];
+					IntVar[] h = new IntVar[n];
+					for (int i = 0; i < n; i++) {
+						IntVar s = model.intVar("s" + i, 0, 6);
+						t[i] = new Task(s, 1 + rnd.nextInt(3));
+						h[i] = vh ? model.intVar("h" + i, 0, 2) : model.intVar(1 + rnd.nextInt(2));
+					}
+					IntVar capa = model.intVar(2 + rnd.nextInt(2));
+					if (k == 0) {
+						model.cumulative(t, h, capa, false, Cumulative.Filter.TIME).post();
+					} else {
+						model.incrementalCumulative(t, h, capa).post();
+					}
+					Solver solver = model.getSolver();
+					while (solver.solve()) ;
+					counts[k] = solver.getSolutionCount();
+				}
+				Assert.assertEquals(counts[1], counts[0], "seed " + seed);
+			}
+		}
+	}
+
+	@Test(groups="10s", timeOut=120000)
+	public void testIncrementalLarge() {
+		Model model = new Model();
+		int n = 2000;
+		Task[] t = new Task[n];
+		IntVar[] h = new IntVar[n];
+		Random rnd = new Random(0);
+		for (int i = 0; i < n; i++) {
+			IntVar s = model.intVar("s" + i, 0, 10_000_000);
+			t[i] = new Task(s, 1_000 + rnd.nextInt(10_000));
+			h[i] = model.intVar(1 + rnd.nextInt(5));
+		}
+		model.incrementalCumulative(t, h, model.intVar(10)).post();
+		Solver solver = model.getSolver();
+		solver.setSearch(Search.inputOrderLBSearch(Arrays.stream(t).map(Task::getStart).toArray(IntVar[]::new)));
+		Assert.assertTrue(solver.solve());
+		// check the solution
+		for (int i = 0; i < n; i += 97) {
+			int date = t[i].getStart().getValue();
+			int load = 0;
+			for (int j = 0; j < n; j++) {
+				if (t[j].getStart().getValue() <= date && date < t[j].getEnd().getValue()) {
+					load += h[j].getValue();
+				}
+			}
+			Assert.assertTrue(load <= 10);
+		}
+	}
 }
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.constraints.nary;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
 import org.testng.annotations.BeforeMethod;
@@ -114,6 +115,41 @@ public class ScalarTest {
         checkSolutions(coeffs, vars, model.intVar(20));
     }
 
+    @Test(groups = "1s", timeOut=60000)
+    public void testLargeSums() throws ContradictionException {
+        // sums of bounds exceed the range of integers
+        IntVar[] vars = model.intVarArray(5, 0, 1000);
+        int[] coeffs = new int[]{1_000_000, 1_000_000, 1_000_000, 1_000_000, 1_000_000};
+        model.scalar(vars, coeffs, "=", 2_000_000_000).post();
+        model.arithm(vars[0], "<=", 300).post();
+        model.arithm(vars[1], "<=", 300).post();
+        model.arithm(vars[2], "<=", 300).post();
+        model.arithm(vars[3], "<=", 300).post();
+        model.getSolver().propagate();
+        assertEquals(vars[4].getLB(), 800);
+        assertEquals(vars[4].getUB(), 1000);
+    }
+
+    @Test(groups = "1s", timeOut=60000)
+    public void testLargeSumsSolutions() {
+        String[] ops = {"=", "<=", ">="};
+        for (String op : ops) {
+            long[] counts = new long[2];
+            for (int k = 0; k < 2; k++) {
+                // the second model is the first one divided by 10^7
+                int f = k == 0 ? 10_000_000 : 1;
+                Model model = new Model();
+                IntVar[] vars = model.intVarArray(3, 0, 100);
+                model.scalar(vars, new int[]{f, 2 * f, -3 * f}, op, 50 * f).post();
+                model.scalar(vars, new int[]{3 * f, 2 * f, f}, "<=", 200 * f).post();
+                while (model.getSolver().solve()) ;
+                counts[k] = model.getSolver().getSolutionCount();
+            }
+            assertEquals(counts[0], counts[1], op);
+            assertTrue(counts[0] > 0);
+        }
+    }
+
     private int checkSolutions(int[] coeffs, IntVar[] vars, IntVar sum, String operator) {
         Model model = vars[0].getModel();
         int nbSol = 0;
@@ -9,9 +9,9 @@
  */
 package org.chocosolver.solver.constraints.nary;
 
+import org.chocosolver.solver.DefaultSettings;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
-import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.IntVar;
@@ -21,6 +21,8 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.Random;
+
 import static java.util.Arrays.stream;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -456,7 +458,7 @@ public class SumTest {
      * here it is not the case (even though all possible solutions are
      * feasible).
      */
-    @Test(groups="1s", timeOut=60000,expectedExceptions = SolverException.class)
+    @Test(groups="1s", timeOut=60000)
     public void firstSumGeShouldBeBoundZConsistent() throws ContradictionException {
         int   rhs = -2147483647;
         Model  cp = new Model();
@@ -466,10 +468,11 @@ public class SumTest {
         IntVar x3 = cp.intVar(new int[]{-5, 5});
 
         cp.post(cp.sum(new IntVar[]{x0, x1, x2, x3}, ">=", rhs));
-        cp.getSolver().propagate(); // throws a spurious inconsistency
+        cp.getSolver().propagate();
+        Assert.assertEquals(x3.getDomainSize(), 2);
     }
 
-    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    @Test(groups="1s", timeOut=60000, expectedExceptions = ContradictionException.class)
     public void secndSumGeShouldBeBoundZConsistent() throws ContradictionException {
         int   rhs = 0;
         Model  cp = new Model();
@@ -478,13 +481,13 @@ public class SumTest {
         IntVar x2 = cp.intVar(new int[]{-731435847,-731435842,-731435840,-731435839,-731435837});
 
         cp.post(cp.sum(new IntVar[]{x0, x1, x2}, ">=", rhs));
-        cp.getSolver().propagate(); // throws a spurious inconsistency
+        cp.getSolver().propagate(); // the sum cannot be satisfied
     }
 
     /**
      * Same remark as above, exept it is for the > operator rather than >=
      */
-    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    @Test(groups="1s", timeOut=60000)
     public void firstSumGtShouldBeBoundZConsistent() throws ContradictionException {
         int   rhs = -2147483647;
         Model  cp = new Model();
@@ -494,12 +497,13 @@ public class SumTest {
         IntVar x3 = cp.intVar(new int[]{-5, 5});
 
         cp.post(cp.sum(new IntVar[]{x0, x1, x2, x3}, ">", rhs));
-        cp.getSolver().propagate(); // throws a spurious inconsistency
+        cp.getSolver().propagate();
+        Assert.assertEquals(x3.getDomainSize(), 2);
     }
     /**
      * Same remark as above, exept it is for the > operator rather than >=
      */
-    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    @Test(groups="1s", timeOut=60000, expectedExceptions = ContradictionException.class)
     public void secndSumGtShouldBeBoundZConsistent() throws ContradictionException {
         int   rhs = 0;
         Model  cp = new Model();
@@ -532,7 +536,7 @@ public class SumTest {
      * Here we consider the <= operator. Here, it is problematic as it fails to
      * detect an inconsistency (even one which is obvious to an human brain)
      */
-    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    @Test(groups="1s", timeOut=60000, expectedExceptions = ContradictionException.class)
     public void firstSumLeShouldBeBoundZConsistent() throws ContradictionException {
         int   rhs = -2147483647;
         Model  cp = new Model();
@@ -541,13 +545,13 @@ public class SumTest {
         IntVar x2 = cp.intVar(new int[]{186191402,186191412});
 
         cp.post(cp.sum(new IntVar[]{x0, x1, x2}, "<=", rhs));
-        cp.getSolver().propagate(); // throws a spurious inconsistency
+        cp.getSolver().propagate(); // the sum cannot be satisfied
     }
     /**
      * Here we consider the <= operator. Here, it is problematic as it fails to
      * detect an inconsistency (even one which is obvious to an human brain)
      */
-    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    @Test(groups="1s", timeOut=60000, expectedExceptions = ContradictionException.class)
     public void secndSumLeShouldBeBoundZConsistent() throws ContradictionException {
         int   rhs = 0;
         Model  cp = new Model();
@@ -563,7 +567,7 @@ public class SumTest {
     /**
      * Same as above, for the '<' operator
      */
-    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    @Test(groups="1s", timeOut=60000, expectedExceptions = ContradictionException.class)
     public void firstSumLtShouldBeBoundZConsistent() throws ContradictionException {
         int   rhs = -2147483647;
         Model  cp = new Model();
@@ -577,7 +581,7 @@ public class SumTest {
     /**
      * Same as above, for the '<' operator
      */
-    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    @Test(groups="1s", timeOut=60000)
     public void secndSumLtShouldBeBoundZ() throws ContradictionException {
         int   rhs = 0;
         Model  cp = new Model();
@@ -588,7 +592,8 @@ public class SumTest {
         IntVar x4 = cp.intVar(new int[]{-461559234,-461559232,-461559231,-461559224});
 
         cp.post(cp.sum(new IntVar[]{x0, x1, x2, x3, x4}, "<", rhs));
-        cp.getSolver().propagate(); // throws a spurious inconsistency
+        cp.getSolver().propagate();
+        Assert.assertEquals(x4.getDomainSize(), 4);
     }
 
     /**
@@ -596,7 +601,7 @@ public class SumTest {
      * here it is not the case (even though all possible solutions are
      * feasible).
      */
-    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    @Test(groups="1s", timeOut=60000)
     public void firstSumGeShouldBeBoundZConsistent3() throws ContradictionException {
         int   rhs = -2147483647;
         Model  cp = new Model();
@@ -606,10 +611,11 @@ public class SumTest {
         IntVar x3 = cp.intVar(new int[]{-5, 5});
 
         cp.post(cp.sum(new IntVar[]{x0, x1, x2, x3}, ">=", rhs));
-        cp.getSolver().propagate(); // throws a spurious inconsistency
+        cp.getSolver().propagate();
+        Assert.assertEquals(x3.getDomainSize(), 2);
     }
 
-    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    @Test(groups="1s", timeOut=60000)
     public void secndSumGeShouldBeBoundZConsistent4() throws ContradictionException {
         int   rhs = 0;
         Model  cp = new Model();
@@ -619,7 +625,8 @@ public class SumTest {
         IntVar x3=cp.intVar(new int[]{972708065});
 
         cp.post(cp.sum(new IntVar[]{x0, x1, x2, x3}, ">=", rhs));
-        cp.getSolver().propagate(); // throws a spurious inconsistency
+        cp.getSolver().propagate();
+        Assert.assertEquals(x0.getDomainSize(), 4);
     }
 
     /**
@@ -633,7 +640,7 @@ public class SumTest {
      * WITNESS   : x0={-530774850,-530774849,-530774844,-530774842,-530774840}, x1={-530774850,-530774845}, x2={-530774847}, x3={-530774847,-530774846,-530774844,-530774841}, x4={-530774840}
      * ###########################
      */
-    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    @Test(groups="1s", timeOut=60000, expectedExceptions = ContradictionException.class)
     public void thirdSumGeShouldBeBoundZConsistent() throws ContradictionException {
         int   rhs = 0;
         Model  cp = new Model();
@@ -646,4 +653,35 @@ public class SumTest {
         cp.post(cp.sum(new IntVar[]{x0, x1, x2, x3, x4}, ">=", rhs));
         cp.getSolver().propagate(); // devrait lancer une exception
     }
+
+    @Test(groups="10s", timeOut=120000)
+    public void testIncremental() {
+        String[] ops = {"=", "<=", ">="};
+        for (int seed = 0; seed < 30; seed++) {
+            long[][] results = new long[2][];
+            for (int k = 0; k < 2; k++) {
+                boolean incr = k == 0;
+                Random rnd = new Random(seed);
+                Model model = new Model("m" + k, new DefaultSettings().setEnableIncrementalityOnSum(i -> incr));
+                IntVar[] x = new IntVar[14];
+                for (int i = 0; i < x.length; i++) {
+                    int lb = rnd.nextInt(7) - 3;
+                    x[i] = model.intVar("x" + i, lb, lb + 2 + rnd.nextInt(8), rnd.nextBoolean());
+                }
+                for (int c = 0; c < 3; c++) {
+                    int[] coeffs = new int[x.length];
+                    for (int i = 0; i < x.length; i++) {
+                        coeffs[i] = c == 0 ? (rnd.nextBoolean() ? 1 : -1) : (1 + rnd.nextInt(3)) * (rnd.nextBoolean() ? 1 : -1);
+                    }
+                    model.scalar(x, coeffs, ops[rnd.nextInt(3)], rnd.nextInt(11) - 5).post();
+                }
+                model.getSolver().setSearch(Search.randomSearch(x, seed));
+                model.getSolver().limitSolution(2000);
+                while (model.getSolver().solve()) ;
+                results[k] = new long[]{model.getSolver().getSolutionCount(), model.getSolver().getNodeCount(),
+                        model.getSolver().getFailCount()};
+            }
+            Assert.assertEquals(results[0], results[1], "seed " + seed);
+        }
+    }
 }
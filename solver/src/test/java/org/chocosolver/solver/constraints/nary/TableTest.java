@@ -16,6 +16,7 @@ package org.chocosolver.solver.constraints.nary;
 
 import org.chocosolver.solver.*;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.extension.SmartTuples;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.constraints.extension.TuplesFactory;
 import org.chocosolver.solver.constraints.extension.nary.TuplesLargeTable;
@@ -31,6 +32,8 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Random;
 
@@ -709,4 +712,229 @@ public class TableTest {
         }
 
     }
-}
\ No newline at end of file
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPackedTuples() {
+        Random rnd = new Random(0);
+        int[][] values = new int[2000][];
+        Tuples tuples = new Tuples();
+        for (int t = 0; t < values.length; t++) {
+            // a constant column, a column whose range grows on both sides and a column with extreme values
+            values[t] = new int[]{7, (t % 2 == 0 ? t : -t) * 3, t < 1000 ? rnd.nextInt(4) : rnd.nextInt()};
+            tuples.add(values[t]);
+        }
+        tuples.add(Integer.MIN_VALUE, Integer.MAX_VALUE, 0);
+        Assert.assertEquals(tuples.nbTuples(), values.length + 1);
+        for (int t = 0; t < values.length; t++) {
+            Assert.assertEquals(tuples.get(t), values[t]);
+        }
+        Assert.assertEquals(tuples.get(values.length), new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE, 0});
+        tuples.sort();
+        int[][] sorted = Arrays.copyOf(values, values.length + 1);
+        sorted[values.length] = new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE, 0};
+        Arrays.sort(sorted, Comparator.<int[]>comparingInt(t -> t[0]).thenComparingInt(t -> t[1]).thenComparingInt(t -> t[2]));
+        Assert.assertEquals(tuples.toMatrix(), sorted);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSharedRelations() {
+        for (boolean star : new boolean[]{false, true}) {
+            Model model = new Model();
+            Model ref = new Model();
+            Tuples first = null;
+            for (int k = 0; k < 4; k++) {
+                // equal but distinct relations
+                Tuples tuples = new Tuples();
+                if (star) {
+                    tuples.setUniversalValue(-1);
+                }
+                Random rnd = new Random(0);
+                for (int t = 0; t < 30; t++) {
+                    tuples.add(rnd.nextInt(5) - (star ? 1 : 0), rnd.nextInt(5), rnd.nextInt(5));
+                }
+                if (first == null) {
+                    first = tuples;
+                }
+                // domains with holes, the same bounds for the first variables
+                IntVar[] vars = {model.intVar(new int[]{0, 2, 3, 4}), model.intVar(new int[]{0, 1, 3}), model.intVar(0, 4)};
+                IntVar[] rvars = {ref.intVar(new int[]{0, 2, 3, 4}), ref.intVar(new int[]{0, 1, 3}), ref.intVar(0, 4)};
+                model.table(vars, tuples, "CT+").post();
+                ref.table(rvars, tuples, "STR2+").post();
+                Assert.assertSame(model.getTuplesStore().intern(tuples), first);
+            }
+            Assert.assertEquals(model.getTuplesStore().getNbRelations(), 1);
+            Assert.assertEquals(model.getSolver().findAllSolutions().size(), ref.getSolver().findAllSolutions().size());
+            Assert.assertEquals(model.getSolver().getNodeCount(), ref.getSolver().getNodeCount());
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSharedRelationModified() {
+        for (boolean star : new boolean[]{false, true}) {
+            for (int seed = 0; seed < 5; seed++) {
+                Random rnd = new Random(seed);
+                Tuples tuples = new Tuples();
+                if (star) {
+                    tuples.setUniversalValue(-1);
+                }
+                for (int t = 0; t < 60; t++) {
+                    tuples.add(rnd.nextInt(5) - (star ? 1 : 0), rnd.nextInt(5), rnd.nextInt(5));
+                }
+                Model model = new Model();
+                Model ref = new Model();
+                IntVar[] x = model.intVarArray("x", 4, 0, 4);
+                IntVar[] rx = ref.intVarArray("x", 4, 0, 4);
+                model.table(new IntVar[]{x[0], x[1], x[2]}, tuples, "CT+").post();
+                ref.table(new IntVar[]{rx[0], rx[1], rx[2]}, tuples, "STR2+").post();
+                // the relation is modified once posted, so the next constraint should not share its supports
+                for (int t = 0; t < 20; t++) {
+                    tuples.add(rnd.nextInt(5) - (star ? 1 : 0), rnd.nextInt(5), rnd.nextInt(5));
+                }
+                model.table(new IntVar[]{x[1], x[2], x[3]}, tuples, "CT+").post();
+                ref.table(new IntVar[]{rx[1], rx[2], rx[3]}, tuples, "STR2+").post();
+                Assert.assertEquals(model.getTuplesStore().getNbRelations(), 1);
+                Assert.assertEquals(model.getSolver().findAllSolutions().size(), ref.getSolver().findAllSolutions().size(), "seed " + seed);
+            }
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 120000)
+    public void testCTManyWords() {
+        // words are trailed by the bitset, check they are restored on backtrack
+        for (int seed = 0; seed < 10; seed++) {
+            Random rnd = new Random(seed);
+            Tuples tuples = new Tuples();
+            for (int t = 0; t < 3000; t++) {
+                tuples.add(rnd.nextInt(15), rnd.nextInt(15), rnd.nextInt(15), rnd.nextInt(15));
+            }
+            long[][] counts = new long[2][];
+            String[] algos = {"CT+", "GAC3rm+"};
+            for (int a = 0; a < 2; a++) {
+                Model model = new Model();
+                IntVar[] x = model.intVarArray("x", 5, 0, 14);
+                model.table(new IntVar[]{x[0], x[1], x[2], x[3]}, tuples, algos[a]).post();
+                model.table(new IntVar[]{x[1], x[2], x[3], x[4]}, tuples, algos[a]).post();
+                model.getSolver().setSearch(randomSearch(x, seed));
+                while (model.getSolver().solve()) ;
+                counts[a] = new long[]{model.getSolver().getSolutionCount(), model.getSolver().getNodeCount()};
+            }
+            Assert.assertEquals(counts[0], counts[1], "seed " + seed);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSmart1() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 5);
+        SmartTuples tuples = new SmartTuples();
+        tuples.add(SmartTuples.col("<", 1), SmartTuples.any(), SmartTuples.eq(3));
+        tuples.add(SmartTuples.val(">=", 4), SmartTuples.in(0, 5), SmartTuples.notIn(3));
+        model.table(x, tuples).post();
+        try {
+            model.getSolver().propagate();
+        } catch (ContradictionException e) {
+            Assert.fail();
+        }
+        Assert.assertEquals(x[0].getUB(), 5);
+        x[2].removeValue(3, Cause.Null);
+        try {
+            model.getSolver().propagate();
+        } catch (ContradictionException e) {
+            Assert.fail();
+        }
+        // only the second tuple remains
+        Assert.assertEquals(x[0].getLB(), 4);
+        Assert.assertEquals(x[1].getDomainSize(), 2);
+        // 2 * 2 * 5 solutions
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 20);
+    }
+
+    private static SmartTuples.Cell randomCell(Random rnd) {
+        String[] ops = {"=", "!=", "<", "<=", ">", ">="};
+        switch (rnd.nextInt(5)) {
+            case 0:
+                return SmartTuples.any();
+            case 1:
+                return SmartTuples.eq(rnd.nextInt(6));
+            case 2:
+                return SmartTuples.val(ops[rnd.nextInt(6)], rnd.nextInt(6));
+            case 3:
+                return SmartTuples.in(rnd.nextInt(6), rnd.nextInt(6));
+            default:
+                return SmartTuples.notIn(rnd.nextInt(6), rnd.nextInt(6));
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 300000)
+    public void testSmartRandom() {
+        String[] ops = {"=", "!=", "<", "<=", ">", ">="};
+        for (int seed = 0; seed < 200; seed++) {
+            Random rnd = new Random(seed);
+            int n = 4;
+            SmartTuples smart = new SmartTuples();
+            for (int t = 0; t < 1 + rnd.nextInt(6); t++) {
+                SmartTuples.Cell[] cells = new SmartTuples.Cell[n];
+                for (int i = 0; i < n; i++) {
+                    cells[i] = randomCell(rnd);
+                }
+                if (rnd.nextBoolean()) {
+                    int i = rnd.nextInt(n);
+                    int j = (i + 1 + rnd.nextInt(n - 1)) % n;
+                    cells[i] = SmartTuples.col(ops[rnd.nextInt(6)], j);
+                    cells[j] = SmartTuples.any();
+                }
+                smart.add(cells);
+            }
+            // the table of the tuples the smart table stands for
+            Tuples tuples = new Tuples();
+            int[] tuple = new int[n];
+            for (int k = 0; k < 6 * 6 * 6 * 6; k++) {
+                for (int i = 0, r = k; i < n; i++, r /= 6) {
+                    tuple[i] = r % 6;
+                }
+                if (smart.matches(tuple)) {
+                    tuples.add(tuple);
+                }
+            }
+            Model model = new Model();
+            IntVar[] x = model.intVarArray("x", n, 0, 5);
+            model.table(x, smart).post();
+            Model ref = new Model();
+            IntVar[] y = ref.intVarArray("y", n, 0, 5);
+            ref.table(y, tuples, "CT+").post();
+            // remove random values, then compare domains at each step
+            for (int step = 0; step < 5; step++) {
+                boolean fx = false, fy = false;
+                try {
+                    model.getSolver().propagate();
+                } catch (ContradictionException e) {
+                    fx = true;
+                }
+                try {
+                    ref.getSolver().propagate();
+                } catch (ContradictionException e) {
+                    fy = true;
+                }
+                Assert.assertEquals(fx, fy, "seed " + seed + " " + smart);
+                if (fx) {
+                    break;
+                }
+                for (int i = 0; i < n; i++) {
+                    Assert.assertEquals(x[i].toString().substring(1), y[i].toString().substring(1), "seed " + seed + " " + smart);
+                }
+                int i = rnd.nextInt(n);
+                int v = rnd.nextInt(6);
+                try {
+                    x[i].removeValue(v, Cause.Null);
+                    y[i].removeValue(v, Cause.Null);
+                } catch (ContradictionException e) {
+                    break;
+                }
+            }
+            model.getSolver().reset();
+            ref.getSolver().reset();
+            Assert.assertEquals(model.getSolver().findAllSolutions().size(),
+                    ref.getSolver().findAllSolutions().size(), "seed " + seed);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class ProfileTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandom() {
+        for (long seed = 0; seed < 20; seed++) {
+            Random rnd = new Random(seed);
+            int lo = rnd.nextInt(20) - 10;
+            int[] heights = new int[1 + rnd.nextInt(50)];
+            int hi = lo + heights.length;
+            Profile profile = new Profile(lo, hi);
+            for (int k = 0; k < 100; k++) {
+                int a = lo + rnd.nextInt(heights.length);
+                int b = a + 1 + rnd.nextInt(hi - a);
+                int delta = rnd.nextInt(7) - 3;
+                profile.add(a, b, delta);
+                for (int t = a; t < b; t++) {
+                    heights[t - lo] += delta;
+                }
+                a = lo + rnd.nextInt(heights.length);
+                b = a + 1 + rnd.nextInt(hi - a);
+                int threshold = rnd.nextInt(5) - 2;
+                int max = Integer.MIN_VALUE, first = Profile.NO_FIRST, last = Profile.NO_LAST;
+                for (int t = a; t < b; t++) {
+                    max = Math.max(max, heights[t - lo]);
+                    if (heights[t - lo] > threshold) {
+                        first = Math.min(first, t);
+                        last = t;
+                    }
+                }
+                Assert.assertEquals(profile.max(a, b), max, "seed " + seed);
+                Assert.assertEquals(profile.firstAbove(a, b, threshold), first, "seed " + seed);
+                Assert.assertEquals(profile.lastAbove(a, b, threshold), last, "seed " + seed);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testLargeHorizon() {
+        Profile profile = new Profile(-1_000_000_000, 1_000_000_000);
+        profile.add(-5, 5, 3);
+        profile.add(0, 500_000_000, 2);
+        Assert.assertEquals(profile.max(), 5);
+        Assert.assertEquals(profile.max(-1_000_000_000, 0), 3);
+        Assert.assertEquals(profile.firstAbove(-1_000_000_000, 1_000_000_000, 0), -5);
+        Assert.assertEquals(profile.lastAbove(-1_000_000_000, 1_000_000_000, 0), 499_999_999);
+        Assert.assertEquals(profile.lastAbove(-1_000_000_000, 1_000_000_000, 3), 4);
+        Assert.assertEquals(profile.firstAbove(5, 1_000_000_000, 2), Profile.NO_FIRST);
+        profile.add(0, 500_000_000, -2);
+        profile.add(-5, 5, -3);
+        Assert.assertEquals(profile.max(), 0);
+        Assert.assertTrue(profile.getNbNodes() < 200);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import org.chocosolver.solver.DefaultSettings;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class LinearPresolverTest {
+
+    private static Model model(boolean presolve) {
+        return new Model("presolve", new DefaultSettings().setEnableLinearPresolve(presolve));
+    }
+
+    private static long count(Model model) {
+        while (model.getSolver().solve()) ;
+        return model.getSolver().getSolutionCount();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDisabled() {
+        Model model = model(false);
+        IntVar[] x = model.intVarArray("x", 3, 0, 5);
+        model.scalar(x, new int[]{1, 2, 3}, "<=", 100).post();
+        Assert.assertEquals(count(model), 216);
+        Assert.assertNull(model.getSolver().getPresolveReport());
+        Assert.assertEquals(model.getNbCstrs(), 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEntailed() {
+        Model model = model(true);
+        IntVar[] x = model.intVarArray("x", 3, 0, 5);
+        model.scalar(x, new int[]{1, 2, 3}, "<=", 100).post();
+        Assert.assertEquals(count(model), 216);
+        LinearPresolver.Report report = model.getSolver().getPresolveReport();
+        Assert.assertEquals(report.getNbRemovedConstraints(), 1);
+        Assert.assertEquals(report.getNbPostedConstraints(), 0);
+        Assert.assertEquals(model.getNbCstrs(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testUnchanged() {
+        Model model = model(true);
+        IntVar[] x = model.intVarArray("x", 3, 0, 5);
+        model.scalar(x, new int[]{1, 2, 3}, "<=", 10).post();
+        model.scalar(x, new int[]{1, -1, 1}, "=", 2).post();
+        model.getSolver().solve();
+        LinearPresolver.Report report = model.getSolver().getPresolveReport();
+        Assert.assertEquals(report.getNbRemovedConstraints(), 0);
+        Assert.assertEquals(report.getNbPostedConstraints(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testMerge() {
+        long[] counts = new long[2];
+        for (int k = 0; k < 2; k++) {
+            Model model = model(k == 0);
+            IntVar[] x = model.intVarArray("x", 3, 0, 5);
+            model.scalar(x, new int[]{1, 2, 3}, "<=", 12).post();
+            model.scalar(x, new int[]{2, 4, 6}, "<=", 23).post();
+            model.scalar(x, new int[]{-1, -2, -3}, "<=", -10).post();
+            model.scalar(x, new int[]{1, 2, 3}, ">=", 9).post();
+            counts[k] = count(model);
+            if (k == 0) {
+                LinearPresolver.Report report = model.getSolver().getPresolveReport();
+                Assert.assertEquals(report.getNbRemovedConstraints(), 4);
+                Assert.assertEquals(report.getNbPostedConstraints(), 2);
+            }
+        }
+        Assert.assertEquals(counts[0], counts[1]);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEquality() {
+        Model model = model(true);
+        IntVar[] x = model.intVarArray("x", 3, 0, 5);
+        model.scalar(x, new int[]{1, 2, 3}, "<=", 10).post();
+        model.scalar(x, new int[]{1, 2, 3}, ">=", 10).post();
+        Assert.assertEquals(count(model), 10);
+        LinearPresolver.Report report = model.getSolver().getPresolveReport();
+        Assert.assertEquals(report.getNbRemovedConstraints(), 2);
+        Assert.assertEquals(report.getNbPostedConstraints(), 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testInfeasible() {
+        Model model = model(true);
+        IntVar[] x = model.intVarArray("x", 3, 0, 5, true);
+        model.scalar(x, new int[]{2, 4, 6}, "=", 11).post();
+        Assert.assertFalse(model.getSolver().solve());
+        Assert.assertEquals(model.getSolver().getPresolveReport().getNbInfeasibleRows(), 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSubstitutions() {
+        Model model = model(true);
+        IntVar[] x = model.intVarArray("x", 3, 0, 5);
+        IntVar y = model.intVar("y", 0, 5);
+        IntVar c = model.intVar(2);
+        model.arithm(x[0], "=", y).post();
+        // x0 + y + x1 + c = 5, ie 2.x0 + x1 = 3 (constants are removed on posting)
+        model.sum(new IntVar[]{x[0], y, x[1], c}, "=", 5).post();
+        // x0 - y + x2 <= 3, ie x2 <= 3
+        model.scalar(new IntVar[]{x[0], y, x[2]}, new int[]{1, -1, 1}, "<=", 3).post();
+        Assert.assertEquals(count(model), 8);
+        LinearPresolver.Report report = model.getSolver().getPresolveReport();
+        Assert.assertEquals(report.getNbSubstitutions(), 2);
+        Assert.assertEquals(report.getNbRemovedConstraints(), 2);
+        Assert.assertEquals(report.getNbPostedConstraints(), 2);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTightening() {
+        long[] counts = new long[2];
+        for (int k = 0; k < 2; k++) {
+            Model model = model(k == 0);
+            BoolVar[] b = model.boolVarArray("b", 3);
+            IntVar x = model.intVar("x", 0, 2);
+            // 5.b0 + b1 + b2 + x <= 6: b0 = 1 implies b1 + b2 + x <= 1
+            model.scalar(new IntVar[]{b[0], b[1], b[2], x}, new int[]{5, 1, 1, 1}, "<=", 6).post();
+            // 4.b0 - 3.b1 - x >= -3
+            model.scalar(new IntVar[]{b[0], b[1], x}, new int[]{4, -3, -1}, ">=", -3).post();
+            counts[k] = count(model);
+            if (k == 0) {
+                Assert.assertTrue(model.getSolver().getPresolveReport().getNbTightenedCoefficients() > 0);
+            }
+        }
+        Assert.assertEquals(counts[0], counts[1]);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandom() {
+        String[] ops = {"=", "<=", ">=", "!="};
+        for (int seed = 0; seed < 50; seed++) {
+            long[] counts = new long[2];
+            for (int k = 0; k < 2; k++) {
+                Random rnd = new Random(seed);
+                Model model = model(k == 0);
+                IntVar[] x = new IntVar[6];
+                for (int i = 0; i < x.length; i++) {
+                    x[i] = rnd.nextInt(3) == 0 ? model.boolVar("x" + i) :
+                            model.intVar("x" + i, rnd.nextInt(3) - 1, rnd.nextInt(4) + 1);
+                }
+                x[5] = rnd.nextBoolean() ? model.intVar(rnd.nextInt(3)) : x[5];
+                if (rnd.nextBoolean()) {
+                    model.arithm(x[0], "=", x[1]).post();
+                }
+                int[] coeffs = new int[x.length];
+                for (int c = 0; c < 6; c++) {
+                    for (int i = 0; i < x.length; i++) {
+                        coeffs[i] = rnd.nextInt(3) == 0 ? 0 : (rnd.nextInt(7) - 3) * (c % 2 == 0 ? 1 : 2);
+                    }
+                    model.scalar(x, coeffs, ops[rnd.nextInt(ops.length)], rnd.nextInt(13) - 4).post();
+                }
+                counts[k] = count(model);
+            }
+            Assert.assertEquals(counts[0], counts[1], "seed " + seed);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import org.chocosolver.solver.DefaultSettings;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class PropLinearRelaxationTest {
+
+    private static Model model(boolean relaxation) {
+        return new Model("relaxation", new DefaultSettings().setEnableLinearRelaxation(relaxation));
+    }
+
+    /**
+     * 5x + 4y + 3z to optimize s.t. 2x + 3y + 4z op 13, the linear relaxation of the minimization with &ge; is 9.75
+     */
+    private static IntVar[] knapsack(Model model, boolean maximize, String op) {
+        IntVar[] x = model.intVarArray("x", 3, 0, 10, true);
+        IntVar obj = model.intVar("obj", 0, 200, true);
+        model.scalar(x, new int[]{2, 3, 4}, op, 13).post();
+        model.scalar(x, new int[]{5, 4, 3}, "=", obj).post();
+        model.setObjective(maximize, obj);
+        return new IntVar[]{x[0], x[1], x[2], obj};
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDisabled() throws ContradictionException {
+        Model model = model(false);
+        IntVar[] x = knapsack(model, Model.MINIMIZE, ">=");
+        model.getSolver().propagate();
+        Assert.assertEquals(x[3].getLB(), 0);
+        Assert.assertEquals(model.getNbCstrs(), 2);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testLowerBound() throws ContradictionException {
+        Model model = model(true);
+        IntVar[] x = knapsack(model, Model.MINIMIZE, ">=");
+        model.getSolver().propagate();
+        Assert.assertEquals(x[3].getLB(), 10);
+        Assert.assertEquals(model.getNbCstrs(), 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testUpperBound() throws ContradictionException {
+        Model model = model(true);
+        IntVar[] x = knapsack(model, Model.MAXIMIZE, "<=");
+        model.getSolver().propagate();
+        // the bounds of the row are propagated first: x <= 6, y <= 4 and z <= 3
+        Assert.assertEquals(x[3].getUB(), 31);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testReducedCostFixing() throws ContradictionException {
+        Model model = model(true);
+        IntVar[] x = knapsack(model, Model.MINIMIZE, ">=");
+        model.arithm(x[3], "<=", 12).post();
+        model.getSolver().propagate();
+        // the reduced cost of x is 3.5 and the gap is 12 - 9.75, then the rows do the rest
+        Assert.assertTrue(x[0].isInstantiatedTo(0));
+        Assert.assertTrue(x[1].isInstantiatedTo(0));
+        Assert.assertTrue(x[2].isInstantiatedTo(4));
+        Assert.assertTrue(x[3].isInstantiatedTo(12));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFail() {
+        Model model = model(true);
+        IntVar[] x = knapsack(model, Model.MINIMIZE, ">=");
+        model.arithm(x[3], "<=", 11).post();
+        Assert.assertFalse(model.getSolver().solve());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSatisfaction() throws ContradictionException {
+        Model model = model(true);
+        IntVar[] x = model.intVarArray("x", 3, 0, 10, true);
+        model.scalar(x, new int[]{2, 3, 4}, ">=", 13).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(model.getNbCstrs(), 1);
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testRandom() {
+        Random rnd = new Random();
+        for (int seed = 0; seed < 200; seed++) {
+            rnd.setSeed(seed);
+            int n = 3 + rnd.nextInt(3);
+            int m = 1 + rnd.nextInt(3);
+            int[][] coeffs = new int[m + 1][n];
+            int[] rhs = new int[m];
+            String[] ops = new String[m];
+            for (int i = 0; i <= m; i++) {
+                for (int j = 0; j < n; j++) {
+                    coeffs[i][j] = rnd.nextInt(11) - 5;
+                }
+                if (i < m) {
+                    rhs[i] = rnd.nextInt(21) - 10;
+                    ops[i] = new String[]{"<=", ">=", "="}[rnd.nextInt(3)];
+                }
+            }
+            boolean maximize = rnd.nextBoolean();
+            Integer[] best = new Integer[2];
+            for (int k = 0; k < 2; k++) {
+                Model model = model(k == 1);
+                IntVar[] x = model.intVarArray("x", n, -3, 5);
+                for (int i = 0; i < m; i++) {
+                    model.scalar(x, coeffs[i], ops[i], rhs[i]).post();
+                }
+                IntVar obj = model.intVar("obj", -1000, 1000, true);
+                model.scalar(x, coeffs[m], "=", obj).post();
+                Solution sol = model.getSolver().findOptimalSolution(obj, maximize);
+                best[k] = sol == null ? null : sol.getIntVal(obj);
+            }
+            Assert.assertEquals(best[1], best[0], "seed " + seed);
+        }
+    }
+}
@@ -303,8 +303,8 @@ public class RealTest {
         solver.solve();
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
-        public void testHM2a() {
+    @Test(groups = "1s", timeOut = 60000)
+    public void testHM2a() {
         Model model = new Model("Default model");
         double precision = 1.e-1;
         RealVar current = model.realVar("current", 121, 248, precision);
@@ -319,7 +319,8 @@ public class RealTest {
         MTBF_MT.min(20).eq(MTBF).post();
         model.setPrecision(precision);
         model.setObjective(false, MTBF);
-        solver.solve();
+        // the polynomial is greater than 200 over the domain of current
+        Assert.assertFalse(solver.solve());
     }
 
     @Test(groups = "ibex", timeOut = 60000)
@@ -808,18 +809,13 @@ public class RealTest {
         Assert.assertEquals(solver.getSolutionCount(), 8);
     }
 
-    @Test(groups = "1s", expectedExceptions = UnsupportedOperationException.class)
-        public void testMove4a() {
+    @Test(groups = "1s", timeOut = 60000)
+    public void testMove4a() {
         Model model = new Model();
         RealVar[] y = model.realVarArray(3, -10., 10., 1.E-5);
-        y[0].pow(2).mul(y[1]).pow(2).mul(y[2]).pow(2).eq(1).post();
+        y[0].pow(2).mul(y[1].pow(2)).mul(y[2].pow(2)).eq(1).post();
         y[0].pow(2).eq(y[1].pow(2)).post();
-        y[0].abs().eq(y[1].abs()).post();
-        model.realIbexGenericConstraint(
-                "{0}^2*{1}^2*{2}^2=1;\n" +
-                        "{0}^2={1}^2;\n" +
-                        "abs({0})=abs({2});",
-                y).post();
+        y[0].abs().eq(y[2].abs()).post();
         Solver solver = model.getSolver();
 
         solver.findAllSolutions();
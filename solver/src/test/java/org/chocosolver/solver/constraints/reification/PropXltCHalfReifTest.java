@@ -0,0 +1,88 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.reification;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+
+import static org.chocosolver.solver.constraints.Explainer.execute;
+
+/**
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class PropXltCHalfReifTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBpivot() throws ContradictionException {
+        Model mo = new Model();
+        IntVar x = mo.intVar("x", -999, 999);
+        BoolVar b = mo.boolVar("b");
+        PropXltCHalfReif prop = new PropXltCHalfReif(x, 5, b);
+        mo.post(new Constraint("test", prop));
+        HashMap<IntVar, IntIterableRangeSet> lits =
+                execute(mo.getSolver(), i -> x.updateLowerBound(5, Cause.Null), prop, b);
+        Assert.assertTrue(lits.containsKey(b));
+        Assert.assertTrue(lits.containsKey(x));
+        IntIterableRangeSet rng = new IntIterableRangeSet(0);
+        Assert.assertEquals(lits.get(b), rng);
+        rng.clear();
+        rng.addBetween(-999, 4);
+        Assert.assertEquals(lits.get(x), rng);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testXpivot() throws ContradictionException {
+        Model mo = new Model();
+        IntVar x = mo.intVar("x", -999, 999);
+        BoolVar b = mo.boolVar("b");
+        PropXltCHalfReif prop = new PropXltCHalfReif(x, 5, b);
+        mo.post(new Constraint("test", prop));
+        HashMap<IntVar, IntIterableRangeSet> lits =
+                execute(mo.getSolver(), i -> b.instantiateTo(1, Cause.Null), prop, x);
+        Assert.assertTrue(lits.containsKey(b));
+        Assert.assertTrue(lits.containsKey(x));
+        IntIterableRangeSet rng = new IntIterableRangeSet(0);
+        Assert.assertEquals(lits.get(b), rng);
+        rng.clear();
+        rng.addBetween(-999, 4);
+        Assert.assertEquals(lits.get(x), rng);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNoFilteringWhenFalse() throws ContradictionException {
+        Model mo = new Model();
+        IntVar x = mo.intVar("x", -999, 999);
+        BoolVar b = mo.boolVar("b");
+        mo.post(new Constraint("test", new PropXltCHalfReif(x, 5, b)));
+        mo.getSolver().propagate();
+        x.updateUpperBound(3, Cause.Null);
+        mo.getSolver().propagate();
+        // the relation is entailed but b is left free
+        Assert.assertFalse(b.isInstantiated());
+        b.setToFalse(Cause.Null);
+        mo.getSolver().propagate();
+        Assert.assertEquals(x.getLB(), -999);
+        Assert.assertEquals(x.getUB(), 3);
+    }
+
+}
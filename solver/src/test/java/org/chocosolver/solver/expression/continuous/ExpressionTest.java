@@ -13,10 +13,13 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.expression.continuous.relational.CReExpression;
+import org.chocosolver.solver.expression.continuous.relational.PropEquation;
 import org.chocosolver.solver.variables.RealVar;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
+
 /**
  *
  * <p>
@@ -207,16 +210,16 @@ public class ExpressionTest {
         eval(model, x.neg().eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test16() {
         Model model = new Model();
         RealVar x = model.realVar("x", -2, 2, 0.1d);
         RealVar y = model.realVar("y", 4, 5, 0.1d);
-        // note: pow(2.0d) does not recognize that d is exactly an even integer
-        eval(model, x.pow(2.0d).eq(y), 1);
+        // See ISSUE #702, HC4 now handles pow with an integer exponent natively
+        eval(model, x.pow(2.0d).eq(y), 2);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test17() {
         Model model = new Model();
         RealVar x = model.realVar("x", -2, 2, 0.1d);
@@ -232,7 +235,7 @@ public class ExpressionTest {
         eval(model, x.atan2(3).eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test19() {
         Model model = new Model();
         RealVar x = model.realVar("x", 1, 10, 0.1d);
@@ -297,7 +300,7 @@ public class ExpressionTest {
         eval(model, x.tan().eq(y), 2);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test24() {
         Model model = new Model();
         RealVar x = model.realVar("x", -10, 10, 0.1d);
@@ -305,7 +308,7 @@ public class ExpressionTest {
         eval(model, x.acos().eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test25() {
         Model model = new Model();
         RealVar x = model.realVar("x", -10, 10, 0.1d);
@@ -313,7 +316,7 @@ public class ExpressionTest {
         eval(model, x.asin().eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test26() {
         Model model = new Model();
         RealVar x = model.realVar("x", 0, 10, 0.1d);
@@ -321,7 +324,7 @@ public class ExpressionTest {
         eval(model, x.atan().eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test27() {
         Model model = new Model();
         RealVar x = model.realVar("x", 0, 5, 0.1d);
@@ -329,7 +332,7 @@ public class ExpressionTest {
         eval(model, x.cosh().eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test27a() {
         Model model = new Model();
         RealVar x = model.realVar("x", 0, 5, 0.1d);
@@ -337,7 +340,7 @@ public class ExpressionTest {
         eval(model, x.cosh().eq(y), 0);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test28() {
         Model model = new Model();
         RealVar x = model.realVar("x", 0, 5, 0.1d);
@@ -345,7 +348,7 @@ public class ExpressionTest {
         eval(model, x.sinh().eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test28a() {
         Model model = new Model();
         RealVar x = model.realVar("x", 0, 5, 0.1d);
@@ -353,7 +356,7 @@ public class ExpressionTest {
         eval(model, x.sinh().eq(y), 0);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test29() {
         Model model = new Model();
         RealVar x = model.realVar("x", 0, 5, 0.1d);
@@ -361,7 +364,7 @@ public class ExpressionTest {
         eval(model, x.tanh().eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test29a() {
         Model model = new Model();
         RealVar x = model.realVar("x", 0, 5, 0.1d);
@@ -369,7 +372,7 @@ public class ExpressionTest {
         eval(model, x.tanh().eq(y), 0);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test30() {
         Model model = new Model();
         RealVar x = model.realVar("x", -5, 5, 0.1d);
@@ -377,7 +380,7 @@ public class ExpressionTest {
         eval(model, x.acosh().eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test30a() {
         Model model = new Model();
         RealVar x = model.realVar("x", -5, 5, 0.1d);
@@ -385,7 +388,7 @@ public class ExpressionTest {
         eval(model, x.acosh().eq(y), 0);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test31() {
         Model model = new Model();
         RealVar x = model.realVar("x", 5, 5, 0.1d);
@@ -393,7 +396,7 @@ public class ExpressionTest {
         eval(model, x.asinh().eq(y), 1);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test31a() {
         Model model = new Model();
         RealVar x = model.realVar("x", 2, 3, 0.1d);
@@ -401,7 +404,7 @@ public class ExpressionTest {
         eval(model, x.asinh().eq(y), 0);
     }
 
-    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    @Test(groups = "1s", timeOut = 60000)
     public void test32() {
         Model model = new Model();
         RealVar x = model.realVar("x", 0, 1, 0.1d);
@@ -409,6 +412,16 @@ public class ExpressionTest {
         eval(model, x.atanh().eq(y), 1);
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCubBounds() {
+        Model model = new Model();
+        RealVar x = model.realVar("x", -2, -1, 0.1d);
+        RealVar y = x.cub().realVar(0.1d);
+        Assert.assertEquals(y.getLB(), -8., 1.e-9);
+        Assert.assertEquals(y.getUB(), -1., 1.e-9);
+        eval(model, x.cub().eq(-1), 1);
+    }
+
     @Test(groups = "1s")
     public void testAR1() {
         Model model = new Model("Environment Generation");
@@ -423,4 +436,31 @@ public class ExpressionTest {
         Solver solver = model.getSolver();
         Assert.assertFalse(solver.solve());
     }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNativeDecomposition1() {
+        Model model = new Model();
+        RealVar x = model.realVar("x", -5, 5, 1.E-3);
+        RealVar y = x.exp().realVar(1.E-3);
+        y.eq(2.).equation().post();
+        Assert.assertTrue(Arrays.stream(model.getCstrs())
+                .flatMap(c -> Arrays.stream(c.getPropagators()))
+                .allMatch(p -> p instanceof PropEquation));
+        Assert.assertTrue(model.getSolver().solve());
+        Assert.assertEquals(x.getLB(), Math.log(2.), 1.E-3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNativeDecomposition2() {
+        Model model = new Model();
+        RealVar x = model.realVar("x", 0, 2, 1.E-3);
+        RealVar y = model.realVar("y", 0, 2, 1.E-3);
+        // x^2 + y^2 = 2 and x = y
+        RealVar s = x.pow(2).add(y.sqr()).realVar(1.E-3);
+        s.eq(2.).equation().post();
+        x.eq(y).equation().post();
+        Assert.assertTrue(model.getSolver().solve());
+        Assert.assertEquals(x.getLB(), 1., 1.E-3);
+        Assert.assertEquals(y.getLB(), 1., 1.E-3);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.expression.discrete;
 
+import org.chocosolver.solver.DefaultSettings;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.expression.discrete.arithmetic.ArExpression;
@@ -19,6 +20,7 @@ import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
 import java.util.stream.IntStream;
 
 /**
@@ -627,4 +629,71 @@ public class ExpressionTest {
         Assert.assertEquals(z.getUB(), 2);
         Assert.assertEquals(z.getDomainSize(), 2);
     }
+
+    private static int nbVariables(Model model) {
+        return (int) Arrays.stream(model.getVars()).filter(v -> !v.isAConstant()).count();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSharing1() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 5);
+        IntVar y = model.intVar("y", 0, 5);
+        IntVar z = model.intVar("z", 0, 5);
+        IntVar d1 = x.sub(y).abs().intVar();
+        IntVar d2 = x.sub(y).abs().intVar();
+        Assert.assertSame(d1, d2);
+        Assert.assertSame(x.mul(y).intVar(), y.mul(x).intVar());
+        Assert.assertNotSame(x.sub(y).intVar(), y.sub(x).intVar());
+        Assert.assertSame(x.lt(z).or(y.eq(z)).boolVar(), x.lt(z).or(z.eq(y)).boolVar());
+        Assert.assertTrue(model.getExpressionStore().getNbHits() >= 4);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSharing2() {
+        long[] nbSols = new long[2];
+        int[] nbVars = new int[2];
+        for (int k = 0; k < 2; k++) {
+            Model model = new Model(new DefaultSettings().setEnableExpressionSharing(k == 0));
+            IntVar[] x = model.intVarArray("x", 4, 0, 3);
+            for (int i = 0; i < 3; i++) {
+                x[i].sub(x[i + 1]).abs().ge(1).post();
+                x[i].sub(x[i + 1]).abs().le(2).post();
+            }
+            x[0].sub(x[1]).abs().ne(x[2].sub(x[3]).abs()).post();
+            nbVars[k] = nbVariables(model);
+            nbSols[k] = model.getSolver().streamSolutions().count();
+        }
+        Assert.assertEquals(nbSols[0], nbSols[1]);
+        Assert.assertTrue(nbVars[0] < nbVars[1]);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFlattening1() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 3);
+        x[0].add(x[1]).sub(x[2].mul(2)).add(x[3].neg()).add(1).eq(x[0].mul(3)).post();
+        Assert.assertEquals(nbVariables(model), 4);
+        Assert.assertEquals(model.getNbCstrs(), 1);
+        Assert.assertEquals(model.getSolver().streamSolutions().count(),
+                IntStream.range(0, 256).filter(t -> {
+                    int a = t & 3, b = (t >> 2) & 3, c = (t >> 4) & 3, d = (t >> 6) & 3;
+                    return a + b - 2 * c - d + 1 == 3 * a;
+                }).count());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFlattening2() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 3);
+        IntVar s = x[0].add(x[1]).add(x[2].sub(x[3])).intVar();
+        // one variable for the sum, no intermediate ones
+        Assert.assertEquals(nbVariables(model), 5);
+        Assert.assertEquals(model.getNbCstrs(), 1);
+        Assert.assertEquals(s.getLB(), -3);
+        Assert.assertEquals(s.getUB(), 9);
+        Assert.assertSame(x[1].add(x[0]).add(x[2].sub(x[3])).intVar(), s);
+        s.eq(8).post();
+        Assert.assertEquals(model.getSolver().streamSolutions().count(), 4);
+    }
 }
@@ -15,6 +15,7 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.binary.PropGreaterOrEqualX_YC;
+import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.constraints.nary.cumulative.Cumulative;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.loop.learn.LearnSignedClauses;
@@ -197,8 +198,9 @@ public class EventRecorderTest {
 
 
         assertFalse(model.getSolver().solve());
-        assertEquals(model.getSolver().getNodeCount(),  5);
-        assertEquals(model.getSolver().getFailCount(), 2);
+        // p[9] = p[8] and p[9] != p[8] share their indicator, bs[1] is the negation of bs[0]
+        assertEquals(model.getSolver().getNodeCount(),  3);
+        assertEquals(model.getSolver().getFailCount(), 1);
     }
 
 
@@ -802,6 +804,88 @@ public class EventRecorderTest {
         solver.findSolution();
     }
 
+    @Test(groups = {"1s", "expl"}, timeOut = 60000)
+    public void testAllDiffBC1() {
+        for (int n = 3; n < 8; n++) {
+            Model model = new Model();
+            IntVar[] vars = model.intVarArray("p", n + 1, 0, n - 1, true);
+            model.allDifferent(vars, "BC").post();
+            Solver solver = model.getSolver();
+            solver.setSearch(inputOrderLBSearch(vars));
+            solver.setLearningSignedClauses();
+            assertFalse(solver.solve());
+        }
+    }
+
+    @Test(groups = {"1s", "expl"}, timeOut = 60000)
+    public void testAllDiffBC2() {
+        long[] nbSols = new long[2];
+        for (int k = 0; k < 2; k++) {
+            Model model = new Model();
+            IntVar[] vars = model.intVarArray("p", 6, 0, 6, true);
+            model.allDifferent(vars, "BC").post();
+            model.arithm(vars[0], "+", vars[1], "=", vars[2]).post();
+            model.arithm(vars[3], "<", vars[4]).post();
+            Solver solver = model.getSolver();
+            solver.setSearch(inputOrderLBSearch(vars));
+            if (k == 1) {
+                solver.setLearningSignedClauses();
+            }
+            nbSols[k] = solver.streamSolutions().count();
+        }
+        assertEquals(nbSols[1], nbSols[0]);
+    }
+
+    @Test(groups = {"1s", "expl"}, timeOut = 60000)
+    public void testTableCT1() {
+        java.util.Random rnd = new java.util.Random(0);
+        for (int seed = 0; seed < 10; seed++) {
+            long[] nbSols = new long[2];
+            Tuples tuples = new Tuples(true);
+            for (int t = 0; t < 40; t++) {
+                tuples.add(rnd.nextInt(5), rnd.nextInt(5), rnd.nextInt(5), rnd.nextInt(5));
+            }
+            for (int k = 0; k < 2; k++) {
+                Model model = new Model();
+                IntVar[] vars = model.intVarArray("p", 5, 0, 4, false);
+                model.table(copyOfRange(vars, 0, 4), tuples, "CT+").post();
+                model.table(copyOfRange(vars, 1, 5), tuples, "CT+").post();
+                model.allDifferent(copyOfRange(vars, 0, 3)).post();
+                Solver solver = model.getSolver();
+                solver.setSearch(inputOrderLBSearch(vars));
+                if (k == 1) {
+                    solver.setLearningSignedClauses();
+                }
+                nbSols[k] = solver.streamSolutions().count();
+            }
+            assertEquals(nbSols[1], nbSols[0], "seed: " + seed);
+        }
+    }
+
+    @Test(groups = {"1s", "expl"}, timeOut = 60000)
+    public void testCumul2() {
+        long[] nbSols = new long[2];
+        for (int k = 0; k < 2; k++) {
+            Model model = new Model();
+            int n = 5;
+            IntVar[] starts = model.intVarArray("S", n, 0, 6, true);
+            Task[] tasks = new Task[n];
+            IntVar[] heights = new IntVar[n];
+            for (int i = 0; i < n; i++) {
+                tasks[i] = new Task(starts[i], 1 + i % 3);
+                heights[i] = model.intVar(1 + (i + 1) % 2);
+            }
+            model.cumulative(tasks, heights, model.intVar(3), false, Cumulative.Filter.TIME).post();
+            Solver solver = model.getSolver();
+            solver.setSearch(inputOrderLBSearch(starts));
+            if (k == 1) {
+                solver.setLearningSignedClauses();
+            }
+            nbSols[k] = solver.streamSolutions().count();
+        }
+        assertEquals(nbSols[1], nbSols[0]);
+    }
+
     @DataProvider(name = "rcpspP")
     public Object[][] rcpspP(){
         return new Object[][]{
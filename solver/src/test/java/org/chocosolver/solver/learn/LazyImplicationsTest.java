@@ -13,6 +13,8 @@ import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.limits.BacktrackCounter;
+import org.chocosolver.solver.search.restart.MonotonicRestartStrategy;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
@@ -42,7 +44,7 @@ public class LazyImplicationsTest {
         while (solver.solve()) {
             for (IntVar q : qs) {
                 int i = aGI.rootEntries.get(q).p;
-                IntIterableRangeSet set = aGI.entries[i].d;
+                IntIterableRangeSet set = aGI.getDomainAt(i);
                 Assert.assertTrue(set.contains(q.getValue()));
                 Assert.assertEquals(set.size(), 1);
             }
@@ -87,5 +89,74 @@ public class LazyImplicationsTest {
         model.sum(ArrayUtils.append(x), "=", obj).post();
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void test3() throws ContradictionException {
+        boolean lazy = XParameters.LAZY_DOMAINS;
+        try {
+            LazyImplications[] igs = new LazyImplications[2];
+            for (int k = 0; k < 2; k++) {
+                XParameters.LAZY_DOMAINS = k == 1;
+                Model model = new Model();
+                IntVar x = model.intVar("x", 0, 20, false);
+                IntVar y = model.intVar("y", 0, 20, true);
+                igs[k] = new LazyImplications(model);
+                igs[k].pushEvent(x, Cause.Null, IntEventType.REMOVE, 5, -1, -1);
+                igs[k].pushEvent(y, Cause.Null, IntEventType.INCLOW, 3, 0, -1);
+                igs[k].pushEvent(x, Cause.Null, IntEventType.INCLOW, 2, 0, -1);
+                igs[k].pushEvent(x, Cause.Null, IntEventType.DECUPP, 12, 20, -1);
+                igs[k].pushEvent(y, Cause.Null, IntEventType.DECUPP, 9, 20, -1);
+                igs[k].pushEvent(x, Cause.Null, IntEventType.REMOVE, 7, -1, -1);
+                igs[k].pushEvent(x, Cause.Null, IntEventType.INSTANTIATE, 8, 2, 12);
+            }
+            Assert.assertEquals(igs[1].size(), igs[0].size());
+            // read domains in reverse order, to compute them on demand from the last one
+            for (int i = igs[0].size() - 1; i >= 0; i--) {
+                Assert.assertEquals(igs[1].getDomainAt(i).toString(), igs[0].getDomainAt(i).toString(), "node " + i);
+            }
+            IntIterableRangeSet dom = igs[1].getDomainAt(igs[1].size() - 2);
+            Assert.assertEquals(dom.size(), 9);
+            Assert.assertFalse(dom.contains(5));
+            Assert.assertFalse(dom.contains(7));
+            Assert.assertEquals(dom.min(), 2);
+            Assert.assertEquals(dom.max(), 12);
+        } finally {
+            XParameters.LAZY_DOMAINS = lazy;
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void test4() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 5000, false);
+        LazyImplications mIG = new LazyImplications(model);
+        model.getEnvironment().worldPush();
+        for (int v = 0; v < 4000; v++) {
+            mIG.pushEvent(x, Cause.Null, IntEventType.REMOVE, v, -1, -1);
+        }
+        Assert.assertEquals(mIG.size(), 4001);
+        Assert.assertEquals(model.getSolver().getMeasures().getImplicationGraphPeakSize(), 4001);
+        model.getEnvironment().worldPop();
+        mIG.release();
+        Assert.assertEquals(mIG.size(), 1);
+        model.getEnvironment().worldPush();
+        for (int v = 0; v < 3000; v += 2) {
+            mIG.pushEvent(x, Cause.Null, IntEventType.REMOVE, v, -1, -1);
+        }
+        Assert.assertEquals(mIG.size(), 1501);
+        Assert.assertEquals(mIG.getDomainAt(1500).min(), 1);
+        Assert.assertEquals(mIG.getDomainAt(1500).size(), 5001 - 1500);
+        Assert.assertEquals(model.getSolver().getMeasures().getImplicationGraphPeakSize(), 4001);
+    }
 
-}
\ No newline at end of file
+    @Test(groups = "1s", timeOut = 60000)
+    public void test5() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        Solver solver = model.getSolver();
+        solver.setLearningSignedClauses();
+        solver.setRestarts(new BacktrackCounter(model, 0), new MonotonicRestartStrategy(5), 100);
+        Assert.assertTrue(solver.solve());
+        Assert.assertTrue(solver.getMeasures().getImplicationGraphPeakSize() > model.getNbVars());
+        solver.reset();
+        Assert.assertEquals(solver.getMeasures().getImplicationGraphPeakSize(), 0);
+    }
+}
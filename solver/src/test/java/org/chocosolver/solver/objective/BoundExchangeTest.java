@@ -0,0 +1,135 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.Solver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.chocosolver.util.ProblemMaker.makeGolombRuler;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class BoundExchangeTest {
+
+    private static Path tempFile() throws IOException {
+        Path file = Files.createTempFile("bounds", ".bin");
+        file.toFile().deleteOnExit();
+        return file;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testMapped() throws IOException {
+        Path file = tempFile();
+        try (IBoundExchange e1 = new MappedBoundExchange(file, ResolutionPolicy.MINIMIZE);
+             IBoundExchange e2 = new MappedBoundExchange(file, ResolutionPolicy.MINIMIZE)) {
+            Assert.assertTrue(Double.isNaN(e1.fetch()));
+            e1.publish(10);
+            Assert.assertEquals(e2.fetch(), 10.);
+            e2.publish(12);
+            Assert.assertEquals(e1.fetch(), 10.);
+            e2.publish(0);
+            Assert.assertEquals(e1.fetch(), 0.);
+        }
+        file = tempFile();
+        try (IBoundExchange e1 = new MappedBoundExchange(file, ResolutionPolicy.MAXIMIZE);
+             IBoundExchange e2 = new MappedBoundExchange(file, ResolutionPolicy.MAXIMIZE)) {
+            e1.publish(-3.5);
+            e2.publish(-4);
+            Assert.assertEquals(e2.fetch(), -3.5);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSocket() throws InterruptedException {
+        try (SocketBoundExchange e1 = new SocketBoundExchange(0, ResolutionPolicy.MINIMIZE);
+             SocketBoundExchange e2 = new SocketBoundExchange(0, ResolutionPolicy.MINIMIZE, e1.getPort())) {
+            e1.addPeer(e2.getPort());
+            e2.publish(7);
+            while (Double.isNaN(e1.fetch())) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(e1.fetch(), 7.);
+            e1.publish(9);
+            Assert.assertEquals(e1.fetch(), 7.);
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testCut() throws IOException {
+        Path file = tempFile();
+        Model m1 = makeGolombRuler(7);
+        Solver s1 = m1.getSolver();
+        IBoundExchange e1 = new MappedBoundExchange(file, ResolutionPolicy.MINIMIZE);
+        s1.setBoundSharing(e1, 1);
+        while (s1.solve()) ;
+        Assert.assertEquals(s1.getBestSolutionValue().intValue(), 25);
+        Assert.assertEquals(e1.fetch(), 25.);
+
+        Model m2 = makeGolombRuler(7);
+        Solver s2 = m2.getSolver();
+        s2.setBoundSharing(new MappedBoundExchange(file, ResolutionPolicy.MINIMIZE), 1);
+        while (s2.solve()) ;
+        // the optimum is known from the start
+        Assert.assertEquals(s2.getSolutionCount(), 0);
+        Assert.assertEquals(s2.getBestSolutionValue().intValue(), 25);
+        Assert.assertTrue(s2.getNodeCount() < s1.getNodeCount());
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testProcesses() throws IOException, InterruptedException {
+        Path file = tempFile();
+        new MappedBoundExchange(file, ResolutionPolicy.MINIMIZE).publish(25);
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        String cp = System.getProperty("java.class.path");
+        if (System.getProperty("jdk.module.path") != null) {
+            // when tests are run on module path
+            cp += File.pathSeparator + System.getProperty("jdk.module.path");
+        }
+        Process p = new ProcessBuilder(java, "-cp", cp, Golomb.class.getName(), file.toString())
+                .redirectErrorStream(true)
+                .start();
+        String line;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(p.getInputStream()))) {
+            line = reader.readLine();
+        }
+        Assert.assertEquals(p.waitFor(), 0, line);
+        // the other process finds no solution but ends with the shared optimum
+        Assert.assertEquals(line, "0 25");
+    }
+
+    /**
+     * Solve a Golomb ruler, sharing bounds through the file given in argument,
+     * and print the number of solutions and the best value.
+     */
+    public static class Golomb {
+        public static void main(String[] args) {
+            Model model = makeGolombRuler(7);
+            Solver solver = model.getSolver();
+            solver.setBoundSharing(new MappedBoundExchange(Paths.get(args[0]), ResolutionPolicy.MINIMIZE), 1);
+            while (solver.solve()) ;
+            System.out.println(solver.getSolutionCount() + " " + solver.getBestSolutionValue());
+        }
+    }
+}
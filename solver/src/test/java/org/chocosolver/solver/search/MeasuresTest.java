@@ -10,11 +10,17 @@
 package org.chocosolver.solver.search;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.measure.IMeasures;
 import org.chocosolver.solver.search.measure.Measures;
 import org.chocosolver.solver.search.measure.MeasuresRecorder;
+import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.decision.DecisionMakerTest;
+import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -146,4 +152,67 @@ public class MeasuresTest {
         Assert.assertTrue(model.getSolver().getReadingTimeCountInNanoSeconds() > 0);
         Assert.assertTrue(model.getSolver().getReadingTimeCount() > 0.0);
     }
+
+    /**
+     * @return variables of a complete binary search tree of depth 10, without any solution
+     */
+    private static IntVar[] noSolution(Model model) {
+        BoolVar[] bs = model.boolVarArray("b", 10);
+        new Constraint("FAIL", new Propagator<BoolVar>(bs) {
+            @Override
+            public void propagate(int evtmask) throws ContradictionException {
+                if (isCompletelyInstantiated()) {
+                    fails();
+                }
+            }
+
+            @Override
+            public ESat isEntailed() {
+                return isCompletelyInstantiated() ? ESat.FALSE : ESat.UNDEFINED;
+            }
+        }).post();
+        return bs;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void treeSizeEstimateTest() {
+        Model model = new Model("Test");
+        IntVar[] bs = noSolution(model);
+        model.getSolver().setSearch(Search.inputOrderLBSearch(bs));
+        Assert.assertEquals(model.getSolver().getSearchProgress(), 0., 1e-9);
+        model.getSolver().solve();
+        Assert.assertEquals(model.getSolver().getSearchProgress(), 1., 1e-9);
+        Assert.assertEquals(model.getSolver().getTreeSizeEstimate(), 2047., 1e-6);
+        Assert.assertEquals(model.getSolver().getLeafDepthTreeSizeEstimate(), 2047., 1e-6);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void treeSizeProgressTest() {
+        Model model = new Model("Test");
+        IntVar[] bs = noSolution(model);
+        model.getSolver().setSearch(Search.inputOrderLBSearch(bs));
+        model.getSolver().limitFail(512);
+        model.getSolver().solve();
+        Assert.assertEquals(model.getSolver().getSearchProgress(), .5, 1e-9);
+        Assert.assertEquals(model.getSolver().getTreeSizeEstimate(), 2047., 1e-6);
+        // without restart, the time count since the last restart is the time count
+        IMeasures snapshot = new Measures(model.getSolver().getMeasures());
+        Assert.assertEquals(snapshot.getTimeCountSinceLastRestartInNanoSeconds(), snapshot.getTimeCountInNanoSeconds());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void timeSinceLastRestartTest() {
+        Model model = new Model("Test");
+        IntVar[] xs = model.intVarArray("X", 4, 0, 3);
+        model.allDifferent(xs).post();
+        model.getSolver().setRestartOnSolutions();
+        model.getSolver().limitSolution(5);
+        while (model.getSolver().solve()) {
+            Assert.assertTrue(model.getSolver().getTimeCountSinceLastRestartInNanoSeconds()
+                    <= model.getSolver().getTimeCountInNanoSeconds());
+        }
+        Assert.assertTrue(model.getSolver().getRestartCount() > 0);
+        Assert.assertTrue(model.getSolver().getTimeCountSinceLastRestartInNanoSeconds()
+                < model.getSolver().getTimeCountInNanoSeconds());
+    }
 }
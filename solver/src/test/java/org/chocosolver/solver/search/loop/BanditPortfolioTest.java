@@ -0,0 +1,114 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2021, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop;
+
+import org.chocosolver.cutoffseq.LubyCutoffStrategy;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.limits.ICounter;
+import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
+import org.chocosolver.solver.search.loop.move.MoveBanditPortfolio;
+import org.chocosolver.solver.search.loop.move.MoveBinaryDFS;
+import org.chocosolver.solver.search.loop.move.MoveLNS;
+import org.chocosolver.solver.search.restart.MonotonicRestartStrategy;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.bandit.MOSS;
+import org.chocosolver.util.bandit.UCB1;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class BanditPortfolioTest {
+
+    private static IntVar[] queens(Model model, int n) {
+        IntVar[] vars = model.intVarArray("Q", n, 1, n);
+        model.allDifferent(vars).post();
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                int k = j - i;
+                model.arithm(vars[i], "!=", vars[j], "+", -k).post();
+                model.arithm(vars[i], "!=", vars[j], "+", k).post();
+            }
+        }
+        return vars;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAllSolutions() {
+        Model model = new Model();
+        IntVar[] vars = queens(model, 8);
+        Solver solver = model.getSolver();
+        MoveBanditPortfolio portfolio = new MoveBanditPortfolio(
+                new UCB1(2),
+                new FailCounter(model, 0),
+                new LubyCutoffStrategy(10),
+                new MoveBinaryDFS(Search.inputOrderLBSearch(vars)),
+                new MoveBinaryDFS(Search.domOverWDegSearch(vars)));
+        solver.setMove(portfolio);
+        solver.setNoGoodRecordingFromSolutions(vars);
+        while (solver.solve()) ;
+        Assert.assertEquals(solver.getSolutionCount(), 92);
+        Assert.assertTrue(solver.getRestartCount() > 0);
+        Assert.assertTrue(portfolio.getSliceCount(0) > 0);
+        Assert.assertTrue(portfolio.getSliceCount(1) > 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOptimization() {
+        int[] best = new int[2];
+        for (int k = 0; k < 2; k++) {
+            Model model = new Model();
+            IntVar[] vars = queens(model, 10);
+            IntVar obj = model.intVar("obj", 0, 100);
+            model.sum(new IntVar[]{vars[0], vars[3], vars[7]}, "=", obj).post();
+            model.setObjective(Model.MINIMIZE, obj);
+            Solver solver = model.getSolver();
+            if (k == 0) {
+                solver.setSearch(Search.inputOrderLBSearch(vars));
+            } else {
+                solver.setBanditPortfolio(
+                        new MOSS(3),
+                        new FailCounter(model, 0),
+                        new LubyCutoffStrategy(20),
+                        new MoveBinaryDFS(Search.conflictHistorySearch(vars)),
+                        new MoveBinaryDFS(Search.domOverWDegSearch(vars)),
+                        new MoveLNS(new MoveBinaryDFS(Search.randomSearch(vars, 0)),
+                                new RandomNeighborhood(vars, 4, 0L),
+                                ICounter.Impl.None));
+            }
+            while (solver.solve()) ;
+            Assert.assertTrue(solver.isObjectiveOptimal());
+            best[k] = solver.getBestSolutionValue().intValue();
+        }
+        Assert.assertEquals(best[1], best[0]);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSingleArm() {
+        Model model = new Model();
+        IntVar[] vars = queens(model, 6);
+        Solver solver = model.getSolver();
+        solver.setBanditPortfolio(
+                new UCB1(1),
+                new FailCounter(model, 0),
+                new MonotonicRestartStrategy(1_000),
+                new MoveBinaryDFS(Search.inputOrderLBSearch(vars)));
+        while (solver.solve()) ;
+        Assert.assertEquals(solver.getSolutionCount(), 4);
+        Assert.assertEquals(solver.getRestartCount(), 0);
+    }
+}
@@ -13,21 +13,32 @@ import org.chocosolver.cutoffseq.LubyCutoffStrategy;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.limits.NodeCounter;
 import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
 import org.chocosolver.solver.search.loop.move.MoveBinaryDFS;
 import org.chocosolver.solver.search.loop.move.MoveBinaryLDS;
+import org.chocosolver.solver.search.loop.move.OpenNodeStore;
 import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
 import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.decision.DecisionMaker;
+import org.chocosolver.solver.search.strategy.decision.DecisionPath;
+import org.chocosolver.solver.search.strategy.decision.IntDecision;
+import org.chocosolver.solver.search.strategy.decision.SetDecision;
 import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
 import org.chocosolver.solver.search.strategy.strategy.IntStrategy;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.SetVar;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static org.chocosolver.solver.search.strategy.Search.*;
 import static org.chocosolver.util.ProblemMaker.makeGolombRuler;
@@ -115,6 +126,74 @@ public class SolverTest {
         assertEquals(model.getSolver().getNodeCount(), 5155);
     }
 
+    @Test(groups = "10s", timeOut = 60000)
+    public void test2HBFS() {
+        Model model = makeGolombRuler(8);
+        Solver r = model.getSolver();
+        r.setSearch(inputOrderLBSearch(model.retrieveIntVars(false)));
+        OpenNodeStore store = new OpenNodeStore(120);
+        r.setHBFS(.05, .1, 32, store);
+        while (model.getSolver().solve()) ;
+        Assert.assertTrue(r.isObjectiveOptimal());
+        assertEquals(r.getBestSolutionValue().intValue(), 34);
+        Assert.assertTrue(store.getNbEvicted() > 0);
+        Assert.assertTrue(store.getPeakWords() <= 120);
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void test3HBFS() throws IOException {
+        Path file = Files.createTempFile("hbfs", ".bin");
+        file.toFile().deleteOnExit();
+        Model model = makeGolombRuler(8);
+        Solver r = model.getSolver();
+        r.setSearch(inputOrderLBSearch(model.retrieveIntVars(false)));
+        OpenNodeStore store = new OpenNodeStore(1 << 16, file);
+        r.setHBFS(.05, .1, 32, store);
+        while (model.getSolver().solve()) ;
+        // same as test1HBFS
+        assertEquals(model.getSolver().getSolutionCount(), 7);
+        assertEquals(model.getSolver().getNodeCount(), 5155);
+        Assert.assertTrue(store.isMapped());
+        assertEquals(store.getNbEvicted(), 0);
+        Assert.assertTrue(store.getNbRestored() > 0);
+        Assert.assertTrue(store.getNbRecreatedDecisions() >= store.getNbRestored());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOpenNodeStoreSetDecision() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 3);
+        SetVar s = model.setVar("s", new int[0], new int[]{0, 1, 2, 3});
+        DecisionPath path = model.getSolver().getDecisionPath();
+        DecisionMaker maker = new DecisionMaker();
+        IntDecision d1 = maker.makeIntDecision(x, DecisionOperatorFactory.makeIntEq(), 1);
+        SetDecision d2 = maker.makeSetDecision(s, DecisionOperatorFactory.makeSetForce(), 2);
+        path.pushDecision(d1);
+        d1.buildNext();
+        path.apply();
+        path.pushDecision(d2);
+        d2.buildNext();
+        path.apply();
+        OpenNodeStore store = new OpenNodeStore(120);
+        store.init(true);
+        Assert.assertTrue(store.push(d2, path, 0, 3));
+        Decision<?>[] open = store.poll();
+        Assert.assertEquals(open.length, 2);
+        // decisions are restored with one try more
+        Assert.assertTrue(open[0] instanceof IntDecision);
+        Assert.assertEquals(open[0].getDecisionVariable(), x);
+        Assert.assertEquals(open[0].getDecisionValue(), 1);
+        Assert.assertEquals(open[0].triesLeft(), d1.triesLeft() + 1);
+        Assert.assertTrue(open[1] instanceof SetDecision);
+        Assert.assertNotSame(open[1], d2);
+        SetDecision r2 = (SetDecision) open[1];
+        Assert.assertEquals(r2.getDecisionVariable(), s);
+        Assert.assertEquals(r2.getDecisionValue().intValue(), 2);
+        Assert.assertEquals(r2.getDecOp(), d2.getDecOp());
+        Assert.assertEquals(r2.triesLeft(), d2.triesLeft() + 1);
+        Assert.assertTrue(store.isEmpty());
+    }
+
     @Test(groups = "1s", timeOut = 60000)
     public void test2DFS() {
         Model model = makeNQueenWithOneAlldifferent(8);
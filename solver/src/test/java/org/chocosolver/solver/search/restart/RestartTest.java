@@ -10,12 +10,25 @@
 package org.chocosolver.solver.search.restart;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.search.limits.FailCounter;
 import org.chocosolver.solver.search.limits.NodeCounter;
+import org.chocosolver.solver.search.loop.monitors.IMonitorDownBranch;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.decision.IntDecision;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainPhase;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainRandom;
+import org.chocosolver.solver.search.strategy.selectors.variables.FirstFail;
+import org.chocosolver.solver.search.strategy.selectors.variables.InputOrder;
 import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
 import static org.testng.Assert.assertEquals;
 
@@ -114,4 +127,86 @@ public class RestartTest {
 //        Assert.assertEquals(solver.getSolutionCount(), 92);
         assertEquals(model.getSolver().getRestartCount(), 2);
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDynamicRestartOnDepth() {
+        Model model = buildQ(8);
+        IntVar[] vars = model.retrieveIntVars(true);
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.intVarSearch(new FirstFail(model),
+                new IntDomainPhase(model, new IntDomainMin()), vars));
+        solver.setNoGoodRecordingFromSolutions(vars);
+        solver.setDynamicRestart(DynamicRestartCriterion.depth(solver), Integer.MAX_VALUE);
+        while (solver.solve()) ;
+        assertEquals(solver.getSolutionCount(), 92);
+        Assert.assertTrue(solver.getRestartCount() > 0);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDynamicRestartOnLBD() {
+        // colouring a random graph with 4 colours, which is impossible because of a 5-clique
+        Model model = new Model();
+        int n = 40;
+        IntVar[] vars = model.intVarArray("c", n, 0, 3);
+        boolean[][] edges = new boolean[n][n];
+        Random rnd = new Random(4);
+        for (int k = 0; k < 2 * n; k++) {
+            int i = rnd.nextInt(n), j = rnd.nextInt(n);
+            edges[Math.min(i, j)][Math.max(i, j)] = i != j;
+        }
+        for (int i = n - 5; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                edges[i][j] = true;
+            }
+        }
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (edges[i][j]) {
+                    model.arithm(vars[i], "!=", vars[j]).post();
+                }
+            }
+        }
+        Solver solver = model.getSolver();
+        solver.setSearch(inputOrderLBSearch(vars));
+        solver.setLearningSignedClauses();
+        solver.setDynamicRestart(DynamicRestartCriterion.lbd(solver), Integer.MAX_VALUE);
+        Assert.assertFalse(solver.solve());
+        Assert.assertTrue(solver.getFailCount() > 0);
+        Assert.assertTrue(solver.getRestartCount() > 0);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testPhaseSaving() {
+        Model model = buildQ(8);
+        IntVar[] vars = model.retrieveIntVars(true);
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.intVarSearch(new InputOrder<>(model),
+                new IntDomainPhase(model, new IntDomainRandom(0)), vars));
+        solver.setRestartOnSolutions();
+        Assert.assertTrue(solver.solve());
+        int[] first = new int[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            first[i] = vars[i].getValue();
+        }
+        // after the restart, each decision branches on the value of the variable in the first solution
+        int[] replayed = new int[1];
+        solver.plugMonitor(new IMonitorDownBranch() {
+            @Override
+            public void beforeDownBranch(boolean left) {
+                if (left && solver.getRestartCount() > 0) {
+                    IntDecision dec = (IntDecision) solver.getDecisionPath().getLastDecision();
+                    int i = Arrays.asList(vars).indexOf(dec.getDecisionVariable());
+                    assertEquals(dec.getDecisionValue().intValue(), first[i]);
+                    replayed[0]++;
+                }
+            }
+        });
+        // the restart brings back the same solution, since phases are saved
+        Assert.assertTrue(solver.solve());
+        Assert.assertTrue(solver.getRestartCount() > 0);
+        Assert.assertTrue(replayed[0] > 0);
+        for (int i = 0; i < vars.length; i++) {
+            assertEquals(vars[i].getValue(), first[i]);
+        }
+    }
 }
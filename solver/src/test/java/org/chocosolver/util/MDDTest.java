@@ -17,7 +17,11 @@ import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Random;
 
 /**
  * Created by cprudhom on 04/11/14.
@@ -198,4 +202,73 @@ public class MDDTest {
         Assert.assertEquals(mdd.getDiagram(), new int[]{3, 3, 11, 0, 0, 6, 0, 0, -1, 0, 0, 6, 0, 0});
     }
 
+    private static Tuples randomTuples(int n, int d, int nbTuples, long seed) {
+        Random rnd = new Random(seed);
+        Tuples tuples = new Tuples();
+        for (int t = 0; t < nbTuples; t++) {
+            int[] tuple = new int[n];
+            for (int i = 0; i < n; i++) {
+                // few values on the last variables, so that sub-MDDs are shared
+                tuple[i] = rnd.nextInt(i < n - 2 ? d : 2) - 1;
+            }
+            tuples.add(tuple);
+        }
+        return tuples;
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testParallel() {
+        for (int seed = 0; seed < 20; seed++) {
+            Model model = new Model();
+            IntVar[] vars = model.intVarArray("X", 5, -1, 3, false);
+            Tuples tuples = randomTuples(5, 5, 200, seed);
+            MultivaluedDecisionDiagram mdd = new MultivaluedDecisionDiagram(vars, tuples);
+            MultivaluedDecisionDiagram pmdd = new MultivaluedDecisionDiagram(vars, tuples, 4);
+            // both are reduced
+            Assert.assertEquals(pmdd.getDiagram().length, mdd.getDiagram().length);
+            int[] tuple = new int[5];
+            for (int k = 0; k < 5 * 5 * 5 * 5 * 5; k++) {
+                for (int i = 0, r = k; i < 5; i++, r /= 5) {
+                    tuple[i] = r % 5 - 1;
+                }
+                Assert.assertEquals(pmdd.exists(tuple), mdd.exists(tuple), Arrays.toString(tuple));
+            }
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testLarge() {
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("X", 10, -1, 8, false);
+        Tuples tuples = randomTuples(10, 10, 200_000, 0);
+        MultivaluedDecisionDiagram mdd = new MultivaluedDecisionDiagram(vars, tuples, 4);
+        // the last two layers are shared
+        Assert.assertTrue(mdd.getDiagram().length < 200_000 * 10);
+        for (int t = 0; t < tuples.nbTuples(); t += 100) {
+            Assert.assertTrue(mdd.exists(tuples.get(t)));
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testSaveLoad() throws IOException {
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("X", 5, -1, 3, false);
+        MultivaluedDecisionDiagram mdd = new MultivaluedDecisionDiagram(vars, randomTuples(5, 5, 200, 0));
+        Path file = Files.createTempFile("mdd", ".bin");
+        file.toFile().deleteOnExit();
+        mdd.save(file);
+        MultivaluedDecisionDiagram lmdd = MultivaluedDecisionDiagram.load(file);
+        Assert.assertEquals(lmdd.getDiagram(), mdd.getDiagram());
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(lmdd.getOffset(i), mdd.getOffset(i));
+            Assert.assertEquals(lmdd.getNodeSize(i), mdd.getNodeSize(i));
+        }
+        model.mddc(vars, mdd).post();
+        long nbSols = model.getSolver().streamSolutions().count();
+        Model model2 = new Model();
+        IntVar[] vars2 = model2.intVarArray("X", 5, -1, 3, false);
+        model2.mddc(vars2, lmdd).post();
+        Assert.assertEquals(model2.getSolver().streamSolutions().count(), nbSols);
+    }
+
 }